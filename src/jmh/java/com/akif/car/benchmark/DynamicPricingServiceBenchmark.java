@@ -0,0 +1,85 @@
+package com.akif.car.benchmark;
+
+import com.akif.car.domain.Car;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.impl.DynamicPricingServiceImpl;
+import com.akif.rental.internal.config.PricingConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end quote cost through {@link DynamicPricingServiceImpl} with all five strategies. With
+ * {@code quoteCache=cold} the cache holds nothing, so every call runs the engine; with {@code warm}
+ * it is sized to keep every rotated quote, so after warmup every call is a cache hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicPricingServiceBenchmark {
+
+    @Param({"1", "7", "30", "90"})
+    public int rentalDays;
+
+    @Param({"cold", "warm"})
+    public String quoteCache;
+
+    private DynamicPricingServiceImpl service;
+    private List<Car> fleet;
+    private LocalDate[] startDates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PricingConfig config = PricingFixtures.config();
+        if ("cold".equals(quoteCache)) {
+            config.getQuoteCache().setMaximumSize(0);
+        } else {
+            config.getQuoteCache().setTtlSeconds(3600);
+            config.getQuoteCache().setMaximumSize((long) PricingFixtures.FLEET_SIZE * PricingFixtures.startDates().length);
+        }
+        fleet = PricingFixtures.fleet();
+        service = new DynamicPricingServiceImpl(
+                PricingFixtures.strategies(config, PricingFixtures.demandAggregator(fleet)),
+                PricingFixtures.carRepository(fleet),
+                config,
+                new PriceQuoteCache(config));
+        startDates = PricingFixtures.startDates();
+    }
+
+    @Benchmark
+    public PricingResult calculatePrice() {
+        LocalDate start = nextStartDate();
+        long carId = 1 + next % PricingFixtures.FLEET_SIZE;
+        return service.calculatePrice(carId, start, start.plusDays(rentalDays - 1L), PricingFixtures.BOOKING_DATE);
+    }
+
+    @Benchmark
+    public Map<Long, PricingResult> calculatePricesForFleet() {
+        LocalDate start = nextStartDate();
+        return service.calculatePrices(fleet, start, start.plusDays(rentalDays - 1L), PricingFixtures.BOOKING_DATE);
+    }
+
+    private LocalDate nextStartDate() {
+        LocalDate start = startDates[next];
+        next = next + 1 == startDates.length ? 0 : next + 1;
+        return start;
+    }
+}
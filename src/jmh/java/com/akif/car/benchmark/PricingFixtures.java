@@ -0,0 +1,111 @@
+package com.akif.car.benchmark;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import com.akif.car.internal.service.pricing.strategy.DemandPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.DurationDiscountStrategy;
+import com.akif.car.internal.service.pricing.strategy.EarlyBookingStrategy;
+import com.akif.car.internal.service.pricing.strategy.SeasonPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.WeekendPricingStrategy;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.config.PricingConfig;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Shared fixtures for the pricing benchmarks: default pricing config, a 200-car fleet across four
+ * body types with a year of seeded bookings, and a car repository stub that never touches a database.
+ */
+final class PricingFixtures {
+
+    static final int FLEET_SIZE = 200;
+    static final List<String> BODY_TYPES = List.of("SUV", "Sedan", "Hatchback", "Van");
+    /** Quotes are booked today so every window falls inside the precomputed pricing calendar. */
+    static final LocalDate BOOKING_DATE = LocalDate.now();
+
+    private PricingFixtures() {
+    }
+
+    static PricingConfig config() {
+        return new PricingConfig();
+    }
+
+    static List<Car> fleet() {
+        List<Car> cars = new ArrayList<>(FLEET_SIZE);
+        for (long id = 1; id <= FLEET_SIZE; id++) {
+            cars.add(Car.builder()
+                    .id(id)
+                    .price(BigDecimal.valueOf(400 + (id % 20) * 50))
+                    .bodyType(BODY_TYPES.get((int) (id % BODY_TYPES.size())))
+                    .carStatusType(CarStatusType.AVAILABLE)
+                    .build());
+        }
+        return cars;
+    }
+
+    static FleetDemandAggregator demandAggregator(List<Car> cars) {
+        Random random = new Random(42);
+        List<Rental> rentals = new ArrayList<>();
+        long rentalId = 1;
+        for (Car car : cars) {
+            LocalDate cursor = BOOKING_DATE.plusDays(random.nextInt(10));
+            while (cursor.isBefore(BOOKING_DATE.plusDays(365))) {
+                LocalDate end = cursor.plusDays(1 + random.nextInt(10));
+                Rental rental = new Rental();
+                rental.setId(rentalId++);
+                rental.setCarId(car.getId());
+                rental.setStartDate(cursor);
+                rental.setEndDate(end);
+                rentals.add(rental);
+                cursor = end.plusDays(1 + random.nextInt(14));
+            }
+        }
+
+        FleetDemandAggregator aggregator = new FleetDemandAggregator(carRepository(cars), null);
+        aggregator.rebuild(cars, rentals, BOOKING_DATE);
+        return aggregator;
+    }
+
+    static List<PricingStrategy> strategies(PricingConfig config, FleetDemandAggregator aggregator) {
+        PricingCalendar calendar = new PricingCalendar(config);
+        return List.of(
+                new SeasonPricingStrategy(config, calendar),
+                new EarlyBookingStrategy(config),
+                new DurationDiscountStrategy(config),
+                new WeekendPricingStrategy(config, calendar),
+                new DemandPricingStrategy(config, aggregator)
+        );
+    }
+
+    static CarRepository carRepository(List<Car> cars) {
+        return (CarRepository) Proxy.newProxyInstance(
+                CarRepository.class.getClassLoader(),
+                new Class<?>[]{CarRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByIdAndIsDeletedFalse" -> Optional.ofNullable(cars.get((int) ((Long) args[0] - 1)));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "CarRepositoryStub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /** Start dates spread over a year so every season, weekday and lead time is exercised. */
+    static LocalDate[] startDates() {
+        LocalDate[] dates = new LocalDate[365];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = BOOKING_DATE.plusDays(i);
+        }
+        return dates;
+    }
+}
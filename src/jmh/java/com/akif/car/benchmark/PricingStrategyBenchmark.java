@@ -0,0 +1,73 @@
+package com.akif.car.benchmark;
+
+import com.akif.car.domain.Car;
+import com.akif.car.internal.dto.pricing.PriceModifier;
+import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.rental.internal.config.PricingConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single pricing strategy for one quote. Each invocation prices the next start date of a
+ * year-long rotation so seasonal, weekend and lead-time branches are all taken.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingStrategyBenchmark {
+
+    @Param({"Season Pricing", "Weekend Pricing", "Early Booking", "Duration Discount", "Demand Pricing"})
+    public String strategyName;
+
+    @Param({"1", "7", "30", "90"})
+    public int rentalDays;
+
+    private PricingStrategy strategy;
+    private PricingContext[] contexts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        PricingConfig config = PricingFixtures.config();
+        List<Car> fleet = PricingFixtures.fleet();
+        strategy = PricingFixtures.strategies(config, PricingFixtures.demandAggregator(fleet)).stream()
+                .filter(candidate -> candidate.getStrategyName().equals(strategyName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown strategy: " + strategyName));
+
+        Car car = fleet.get(0);
+        contexts = new PricingContext[365];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = PricingContext.create(
+                    car.getId(),
+                    car.getPrice(),
+                    PricingFixtures.startDates()[i],
+                    PricingFixtures.startDates()[i].plusDays(rentalDays - 1L),
+                    PricingFixtures.BOOKING_DATE,
+                    car.getBodyType());
+        }
+    }
+
+    @Benchmark
+    public PriceModifier calculate() {
+        PricingContext context = contexts[next];
+        next = next + 1 == contexts.length ? 0 : next + 1;
+        return strategy.calculate(context);
+    }
+}
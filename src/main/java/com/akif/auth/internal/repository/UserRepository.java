@@ -1,6 +1,7 @@
 package com.akif.auth.internal.repository;
 
 import com.akif.auth.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,6 +10,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
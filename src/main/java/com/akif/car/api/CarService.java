@@ -108,6 +108,8 @@ public interface CarService {
 
     int countTotalActiveCars();
 
+    List<CarDto> getActiveCarDtos();
+
     FilterOptionsResponse getFilterOptions();
 }
 
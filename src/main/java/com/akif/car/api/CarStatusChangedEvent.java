@@ -0,0 +1,44 @@
+package com.akif.car.api;
+
+import com.akif.car.domain.enums.CarStatusType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CarStatusChangedEvent extends ApplicationEvent {
+
+    private final Long carId;
+    private final CarStatusType previousStatus;
+    private final CarStatusType newStatus;
+    private final LocalDateTime occurredAt;
+
+    public CarStatusChangedEvent(Object source,
+                                 Long carId,
+                                 CarStatusType previousStatus,
+                                 CarStatusType newStatus,
+                                 LocalDateTime occurredAt) {
+        super(source);
+        this.carId = carId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public boolean availabilityChanged() {
+        return isBlocking(previousStatus) != isBlocking(newStatus);
+    }
+
+    private static boolean isBlocking(CarStatusType status) {
+        if (status == null) {
+            return true;
+        }
+        for (CarStatusType blocking : CarStatusType.getUnavailableStatuses()) {
+            if (blocking == status) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.akif.car.api;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CarUpdatedEvent extends ApplicationEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        PRICE_CHANGED,
+        DELETED,
+        RESTORED
+    }
+
+    private final Long carId;
+    private final ChangeType changeType;
+    private final LocalDateTime occurredAt;
+
+    public CarUpdatedEvent(Object source, Long carId, ChangeType changeType, LocalDateTime occurredAt) {
+        super(source);
+        this.carId = carId;
+        this.changeType = changeType;
+        this.occurredAt = occurredAt;
+    }
+
+    public boolean isRemoval() {
+        return changeType == ChangeType.DELETED;
+    }
+}
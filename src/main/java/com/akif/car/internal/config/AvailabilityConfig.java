@@ -0,0 +1,29 @@
+package com.akif.car.internal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "availability")
+public class AvailabilityConfig {
+
+    private SearchCacheConfig searchCache = new SearchCacheConfig();
+    private SimilarIndexConfig similarIndex = new SimilarIndexConfig();
+
+    @Getter
+    @Setter
+    public static class SearchCacheConfig {
+        private long ttlSeconds = 300;
+        private long maximumSize = 2000;
+    }
+
+    @Getter
+    @Setter
+    public static class SimilarIndexConfig {
+        private long rebuildIntervalMs = 600000;
+    }
+}
@@ -0,0 +1,21 @@
+package com.akif.car.internal.dto.pricing;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FlexibleDateOption(
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    BigDecimal effectiveDailyPrice,
+    BigDecimal finalPrice,
+    BigDecimal savingsVsPreferred
+) {}
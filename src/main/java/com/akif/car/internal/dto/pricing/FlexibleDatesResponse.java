@@ -0,0 +1,28 @@
+package com.akif.car.internal.dto.pricing;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FlexibleDatesResponse(
+
+    Long carId,
+    Integer rentalDays,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate preferredStartDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate searchStartDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate searchEndDate,
+
+    BigDecimal preferredPrice,
+    Integer availableStartDates,
+    List<FlexibleDateOption> options
+) {}
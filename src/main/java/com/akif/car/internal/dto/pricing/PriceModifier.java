@@ -1,14 +1,26 @@
 package com.akif.car.internal.dto.pricing;
 
+import com.akif.shared.money.MoneyMath;
+
 import java.math.BigDecimal;
 
+/**
+ * A strategy's multiplier for one quote. {@code scaledMultiplier} is the same value in
+ * {@link MoneyMath} fixed point, or {@link MoneyMath#NOT_REPRESENTABLE}, so the pricing kernel never
+ * has to convert the {@code BigDecimal} per quote.
+ */
 public record PriceModifier(
     String strategyName,
     BigDecimal multiplier,
     String description,
-    boolean isDiscount
+    boolean isDiscount,
+    long scaledMultiplier
 ) {
 
+    public PriceModifier(String strategyName, BigDecimal multiplier, String description, boolean isDiscount) {
+        this(strategyName, multiplier, description, isDiscount, MoneyMath.toMultiplier(multiplier));
+    }
+
     public static PriceModifier discount(String strategyName, BigDecimal multiplier, String description) {
         return new PriceModifier(strategyName, multiplier, description, true);
     }
@@ -18,6 +30,6 @@ public record PriceModifier(
     }
 
     public static PriceModifier neutral(String strategyName, String description) {
-        return new PriceModifier(strategyName, BigDecimal.ONE, description, false);
+        return new PriceModifier(strategyName, BigDecimal.ONE, description, false, MoneyMath.MULTIPLIER_ONE);
     }
 }
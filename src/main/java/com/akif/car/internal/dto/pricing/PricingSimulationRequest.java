@@ -0,0 +1,31 @@
+package com.akif.car.internal.dto.pricing;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record PricingSimulationRequest(
+
+    Map<String, String> overrides,
+
+    @NotNull(message = "Start date cannot be null")
+    @FutureOrPresent(message = "Start date must be today or in the future")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @NotNull(message = "Horizon cannot be null")
+    @Min(value = 1, message = "Horizon must be at least 1 day")
+    Integer horizonDays,
+
+    @NotEmpty(message = "At least one trip length is required")
+    List<@NotNull @Min(value = 1, message = "Trip length must be at least 1 day")
+        @Max(value = 90, message = "Trip length cannot exceed 90 days") Integer> tripLengths
+
+) {}
@@ -0,0 +1,23 @@
+package com.akif.car.internal.dto.pricing;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record PricingSimulationResponse(
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    Map<String, String> overrides,
+    int cars,
+    List<Integer> tripLengths,
+    List<RevenueDelta> totals,
+    List<RevenueDelta> byTripLength,
+    List<RevenueDelta> byBodyType
+) {}
@@ -0,0 +1,15 @@
+package com.akif.car.internal.dto.pricing;
+
+import com.akif.shared.enums.CurrencyType;
+
+import java.math.BigDecimal;
+
+public record RevenueDelta(
+    String group,
+    CurrencyType currency,
+    long quotes,
+    BigDecimal baselineRevenue,
+    BigDecimal candidateRevenue,
+    BigDecimal revenueDelta,
+    BigDecimal deltaPercent
+) {}
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 
@@ -26,6 +27,8 @@ public class PricingResponse {
     private BigDecimal combinedMultiplier;
     private Integer rentalDays;
     private List<ModifierDto> appliedModifiers;
+    private String quoteToken;
+    private Instant quoteExpiresAt;
 
     @Data
     @Builder
@@ -0,0 +1,67 @@
+package com.akif.car.internal.listener;
+
+import com.akif.car.api.CarStatusChangedEvent;
+import com.akif.car.api.CarUpdatedEvent;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchCache;
+import com.akif.rental.api.BookingHoldChangedEvent;
+import com.akif.rental.api.RentalCancelledEvent;
+import com.akif.rental.api.RentalConfirmedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilitySearchCacheListener {
+
+    private final AvailabilitySearchCache availabilitySearchCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalConfirmed(RentalConfirmedEvent event) {
+        log.debug("Received RentalConfirmedEvent for rental: {}. Evicting availability searches overlapping {} to {}.",
+                event.getRentalId(), event.getPickupDate(), event.getReturnDate());
+        availabilitySearchCache.evictOverlapping(event.getPickupDate(), event.getReturnDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalCancelled(RentalCancelledEvent event) {
+        if (event.getPickupDate() == null || event.getReturnDate() == null) {
+            log.debug("Received RentalCancelledEvent for rental: {} without dates. Evicting all availability searches.",
+                    event.getRentalId());
+            availabilitySearchCache.invalidateAll();
+            return;
+        }
+
+        log.debug("Received RentalCancelledEvent for rental: {}. Evicting availability searches overlapping {} to {}.",
+                event.getRentalId(), event.getPickupDate(), event.getReturnDate());
+        availabilitySearchCache.evictOverlapping(event.getPickupDate(), event.getReturnDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookingHoldChanged(BookingHoldChangedEvent event) {
+        log.debug("Received BookingHoldChangedEvent for hold: {} on car: {} ({}). Evicting availability searches overlapping {} to {}.",
+                event.getHoldId(), event.getCarId(), event.isActive() ? "placed" : "released",
+                event.getStartDate(), event.getEndDate());
+        availabilitySearchCache.evictOverlapping(event.getStartDate(), event.getEndDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarStatusChanged(CarStatusChangedEvent event) {
+        if (!event.availabilityChanged()) {
+            return;
+        }
+
+        log.debug("Received CarStatusChangedEvent for car: {} ({} -> {}). Evicting all availability searches.",
+                event.getCarId(), event.getPreviousStatus(), event.getNewStatus());
+        availabilitySearchCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarUpdated(CarUpdatedEvent event) {
+        log.debug("Received CarUpdatedEvent for car: {} ({}). Evicting all availability searches.",
+                event.getCarId(), event.getChangeType());
+        availabilitySearchCache.invalidateAll();
+    }
+}
@@ -0,0 +1,73 @@
+package com.akif.car.internal.listener;
+
+import com.akif.car.api.CarStatusChangedEvent;
+import com.akif.car.api.CarUpdatedEvent;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import com.akif.rental.api.RentalCancelledEvent;
+import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.rental.api.RentalReturnedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FleetDemandListener {
+
+    private final FleetDemandAggregator fleetDemandAggregator;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        log.debug("Application ready. Building fleet demand.");
+        fleetDemandAggregator.rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalConfirmed(RentalConfirmedEvent event) {
+        if (event.getCarId() == null) {
+            return;
+        }
+
+        log.debug("Received RentalConfirmedEvent for rental: {}. Recording booking {} to {}.",
+                event.getRentalId(), event.getPickupDate(), event.getReturnDate());
+        fleetDemandAggregator.recordBooking(
+                event.getRentalId(), event.getCarId(), event.getPickupDate(), event.getReturnDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalCancelled(RentalCancelledEvent event) {
+        log.debug("Received RentalCancelledEvent for rental: {}. Releasing its booking.", event.getRentalId());
+        fleetDemandAggregator.releaseBooking(event.getRentalId(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalReturned(RentalReturnedEvent event) {
+        log.debug("Received RentalReturnedEvent for rental: {}. Releasing its booking after {}.",
+                event.getRentalId(), event.getActualReturnTime());
+        fleetDemandAggregator.releaseBooking(
+                event.getRentalId(), event.getActualReturnTime().toLocalDate().plusDays(1));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarUpdated(CarUpdatedEvent event) {
+        log.debug("Received CarUpdatedEvent for car: {} ({}). Refreshing fleet demand.",
+                event.getCarId(), event.getChangeType());
+        fleetDemandAggregator.refreshCar(event.getCarId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarStatusChanged(CarStatusChangedEvent event) {
+        if (event.getPreviousStatus() != CarStatusType.SOLD && event.getNewStatus() != CarStatusType.SOLD) {
+            return;
+        }
+
+        log.debug("Received CarStatusChangedEvent for car: {} ({} -> {}). Refreshing fleet demand.",
+                event.getCarId(), event.getPreviousStatus(), event.getNewStatus());
+        fleetDemandAggregator.refreshCar(event.getCarId());
+    }
+}
@@ -0,0 +1,54 @@
+package com.akif.car.internal.listener;
+
+import com.akif.car.api.CarStatusChangedEvent;
+import com.akif.car.api.CarUpdatedEvent;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.rental.api.RentalCancelledEvent;
+import com.akif.rental.api.RentalConfirmedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceQuoteCacheListener {
+
+    private final PriceQuoteCache priceQuoteCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalConfirmed(RentalConfirmedEvent event) {
+        log.debug("Received RentalConfirmedEvent for rental: {}. Evicting price quotes overlapping {} to {}.",
+                event.getRentalId(), event.getPickupDate(), event.getReturnDate());
+        priceQuoteCache.evictOverlapping(null, event.getPickupDate(), event.getReturnDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalCancelled(RentalCancelledEvent event) {
+        if (event.getPickupDate() == null || event.getReturnDate() == null) {
+            log.debug("Received RentalCancelledEvent for rental: {} without dates. Evicting all price quotes.",
+                    event.getRentalId());
+            priceQuoteCache.invalidateAll();
+            return;
+        }
+
+        log.debug("Received RentalCancelledEvent for rental: {}. Evicting price quotes overlapping {} to {}.",
+                event.getRentalId(), event.getPickupDate(), event.getReturnDate());
+        priceQuoteCache.evictOverlapping(null, event.getPickupDate(), event.getReturnDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarStatusChanged(CarStatusChangedEvent event) {
+        log.debug("Received CarStatusChangedEvent for car: {} ({} -> {}). Evicting its price quotes.",
+                event.getCarId(), event.getPreviousStatus(), event.getNewStatus());
+        priceQuoteCache.evictCar(event.getCarId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarUpdated(CarUpdatedEvent event) {
+        log.debug("Received CarUpdatedEvent for car: {} ({}). Evicting its price quotes.",
+                event.getCarId(), event.getChangeType());
+        priceQuoteCache.evictCar(event.getCarId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.akif.car.internal.listener;
+
+import com.akif.car.api.CarStatusChangedEvent;
+import com.akif.car.api.CarUpdatedEvent;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarCarIndexListener {
+
+    private final SimilarCarIndex similarCarIndex;
+    private final CarRepository carRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        log.debug("Application ready. Building similar car index.");
+        similarCarIndex.rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarUpdated(CarUpdatedEvent event) {
+        log.debug("Received CarUpdatedEvent for car: {} ({}). Refreshing similar car index.",
+                event.getCarId(), event.getChangeType());
+        refresh(event.getCarId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCarStatusChanged(CarStatusChangedEvent event) {
+        if (!event.availabilityChanged()) {
+            return;
+        }
+
+        log.debug("Received CarStatusChangedEvent for car: {} ({} -> {}). Refreshing similar car index.",
+                event.getCarId(), event.getPreviousStatus(), event.getNewStatus());
+        refresh(event.getCarId());
+    }
+
+    private void refresh(Long carId) {
+        carRepository.findByIdAndIsDeletedFalse(carId)
+                .ifPresentOrElse(similarCarIndex::upsert, () -> similarCarIndex.remove(carId));
+    }
+}
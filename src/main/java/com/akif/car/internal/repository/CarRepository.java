@@ -14,6 +14,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +44,8 @@ public interface CarRepository extends JpaRepository<Car, Long> {
 
     @EntityGraph(attributePaths = {})
     Page<Car> findByIsDeletedFalse(Pageable pageable);
+
+    List<Car> findByIsDeletedFalseOrderById();
     long countByIsDeletedFalse();
 
     Optional<Car> findByIdAndIsDeletedFalse(Long id);
@@ -122,6 +125,12 @@ public interface CarRepository extends JpaRepository<Car, Long> {
             "   r.status IN (com.akif.rental.domain.enums.RentalStatus.CONFIRMED, com.akif.rental.domain.enums.RentalStatus.IN_USE) AND " +
             "   r.isDeleted = false AND " +
             "   r.startDate <= :endDate AND r.endDate >= :startDate" +
+            ") AND " +
+            "NOT EXISTS (" +
+            "   SELECT h FROM BookingHold h WHERE " +
+            "   h.carId = c.id AND " +
+            "   h.expiresAt > :now AND " +
+            "   h.startDate <= :endDate AND h.endDate >= :startDate" +
             ")")
     Page<Car> findAvailableCarsForDateRange(
             @Param("startDate") LocalDate startDate,
@@ -137,6 +146,7 @@ public interface CarRepository extends JpaRepository<Car, Long> {
             @Param("maxPrice") BigDecimal maxPrice,
             @Param("minProductionYear") Integer minProductionYear,
             @Param("maxProductionYear") Integer maxProductionYear,
+            @Param("now") LocalDateTime now,
             Pageable pageable);
 
     @Query("SELECT c FROM Car c WHERE " +
@@ -0,0 +1,27 @@
+package com.akif.car.internal.scheduler;
+
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FleetDemandScheduler {
+
+    private final FleetDemandAggregator fleetDemandAggregator;
+
+    @Scheduled(
+            fixedRateString = "${pricing.demand.rebuild-interval-ms:3600000}",
+            initialDelayString = "${pricing.demand.rebuild-interval-ms:3600000}")
+    public void rebuildDemand() {
+        log.debug("Scheduled fleet demand rebuild started");
+        try {
+            fleetDemandAggregator.rebuild();
+        } catch (Exception e) {
+            log.error("Scheduled fleet demand rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
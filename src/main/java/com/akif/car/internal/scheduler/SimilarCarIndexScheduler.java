@@ -0,0 +1,27 @@
+package com.akif.car.internal.scheduler;
+
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarCarIndexScheduler {
+
+    private final SimilarCarIndex similarCarIndex;
+
+    @Scheduled(
+            fixedRateString = "${availability.similar-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${availability.similar-index.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        log.debug("Scheduled similar car index rebuild started");
+        try {
+            similarCarIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Scheduled similar car index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
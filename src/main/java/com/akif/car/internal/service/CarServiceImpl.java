@@ -2,6 +2,8 @@ package com.akif.car.internal.service;
 
 import com.akif.car.api.CarDto;
 import com.akif.car.api.CarService;
+import com.akif.car.api.CarStatusChangedEvent;
+import com.akif.car.api.CarUpdatedEvent;
 import com.akif.car.api.FilterOptionsResponse;
 import com.akif.car.internal.dto.response.CarListResponse;
 import com.akif.car.api.CarSummaryResponse;
@@ -18,6 +20,7 @@ import com.akif.car.internal.repository.CarRepository;
 import com.akif.shared.exception.InvalidStatusTransitionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.cache.annotation.Cacheable;
@@ -43,6 +46,7 @@ public class CarServiceImpl implements CarService {
 
     private final CarRepository carRepository;
     private final CarMapper carMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -108,6 +112,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishCarUpdate(savedCar.getId(), CarUpdatedEvent.ChangeType.CREATED);
 
         logCarCreationSuccess(result);
         return result;
@@ -142,6 +147,7 @@ public class CarServiceImpl implements CarService {
 
         Car updatedCar = carRepository.save(existingCar);
         CarResponse result = carMapper.toDto(updatedCar);
+        publishCarUpdate(updatedCar.getId(), CarUpdatedEvent.ChangeType.UPDATED);
 
         logCarUpdateSuccess(result);
         return result;
@@ -161,6 +167,7 @@ public class CarServiceImpl implements CarService {
 
         Car car = findCarById(id);
         carRepository.delete(car);
+        publishCarUpdate(id, CarUpdatedEvent.ChangeType.DELETED);
 
         log.info("Successfully deleted car: ID={}", id);
     }
@@ -181,6 +188,7 @@ public class CarServiceImpl implements CarService {
         car.setUpdateTime(LocalDateTime.now());
 
         carRepository.save(car);
+        publishCarUpdate(id, CarUpdatedEvent.ChangeType.DELETED);
         log.info("Successfully soft deleted car: ID={}", id);
     }
 
@@ -201,6 +209,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishCarUpdate(savedCar.getId(), CarUpdatedEvent.ChangeType.RESTORED);
 
         log.info("Successfully restored car: ID={}", id);
         return result;
@@ -379,6 +388,7 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
 
         if (!car.canBeSold()) {
             log.warn("Car {} cannot be sold, current status: {}", car.getId(), car.getCarStatusType());
@@ -390,6 +400,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully sold car: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -407,6 +418,7 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
 
         if (!car.canBeReserved()) {
             log.warn("Car {} cannot be reserved, current status: {}", car.getId(), car.getCarStatusType());
@@ -418,6 +430,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully reserved car: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -435,6 +448,7 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
 
         if (car.getCarStatusType() != CarStatusType.RESERVED) {
             log.warn("Car {} is not reserved, current status: {}", car.getId(), car.getCarStatusType());
@@ -446,6 +460,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully cancelled reservation for car: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -463,6 +478,7 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
 
         if (car.getCarStatusType() != CarStatusType.RESERVED) {
             log.warn("Car {} is not reserved, current status: {}", car.getId(), car.getCarStatusType());
@@ -474,6 +490,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully released car after rental: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -491,11 +508,13 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
         car.markAsMaintenance();
         car.setUpdateTime(LocalDateTime.now());
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully marked car as maintenance: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -513,11 +532,13 @@ public class CarServiceImpl implements CarService {
         validateCarId(id);
 
         Car car = findCarById(id);
+        CarStatusType previousStatus = car.getCarStatusType();
         car.markAsAvailable();
         car.setUpdateTime(LocalDateTime.now());
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), previousStatus, savedCar.getCarStatusType());
 
         log.info("Successfully marked car as available: ID={}, License Plate={}", result.getId(), result.getLicensePlate());
         return result;
@@ -545,6 +566,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishStatusChange(savedCar.getId(), oldStatus, newStatus);
 
         log.info("Successfully updated car status: ID={}, {} -> {}", result.getId(), oldStatus, newStatus);
         return result;
@@ -566,6 +588,7 @@ public class CarServiceImpl implements CarService {
 
         Car savedCar = carRepository.save(car);
         CarResponse result = carMapper.toDto(savedCar);
+        publishCarUpdate(savedCar.getId(), CarUpdatedEvent.ChangeType.PRICE_CHANGED);
 
         log.info("Successfully updated car price: ID={}, {} -> {}", result.getId(), oldPrice, result.getPrice());
         return result;
@@ -800,6 +823,13 @@ public class CarServiceImpl implements CarService {
         return (int) carRepository.countByIsDeletedFalse();
     }
 
+    @Override
+    public List<CarDto> getActiveCarDtos() {
+        return carRepository.findByIsDeletedFalseOrderById().stream()
+                .map(carMapper::toCarDto)
+                .toList();
+    }
+
 
     private void logCarRetrievalSuccess(CarResponse result) {
         log.info("Successfully retrieved car (ID: {}, Plate: {})",
@@ -830,6 +860,19 @@ public class CarServiceImpl implements CarService {
 
 
 
+    private void publishStatusChange(Long carId, CarStatusType previousStatus, CarStatusType newStatus) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        eventPublisher.publishEvent(new CarStatusChangedEvent(this, carId, previousStatus, newStatus, LocalDateTime.now()));
+        log.debug("Published CarStatusChangedEvent for car: {}, {} -> {}", carId, previousStatus, newStatus);
+    }
+
+    private void publishCarUpdate(Long carId, CarUpdatedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new CarUpdatedEvent(this, carId, changeType, LocalDateTime.now()));
+        log.debug("Published CarUpdatedEvent for car: {}, change: {}", carId, changeType);
+    }
+
     private void validateCarId(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid car ID: " + id);
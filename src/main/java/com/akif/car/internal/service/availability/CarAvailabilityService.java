@@ -1,5 +1,6 @@
 package com.akif.car.internal.service.availability;
 
+import com.akif.car.domain.Car;
 import com.akif.car.internal.dto.availability.AvailabilitySearchRequest;
 import com.akif.car.internal.dto.availability.AvailabilitySearchResponse;
 import com.akif.car.internal.dto.availability.CarAvailabilityCalendarDto;
@@ -14,6 +15,12 @@ public interface CarAvailabilityService {
 
     boolean isCarAvailable(Long carId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Batch form of {@link #isCarAvailable}: keeps the cars, in their given order, that are not in a
+     * blocking status and have no overlapping rental, using a single grouped rental query.
+     */
+    List<Car> filterAvailableCars(List<Car> cars, LocalDate startDate, LocalDate endDate);
+
     CarAvailabilityCalendarDto getCarAvailabilityCalendar(Long carId, YearMonth month);
 
     List<LocalDate> getUnavailableDates(Long carId, LocalDate startDate, LocalDate endDate);
@@ -0,0 +1,140 @@
+package com.akif.car.internal.service.availability.cache;
+
+import com.akif.car.internal.config.AvailabilityConfig;
+import com.akif.car.internal.dto.availability.AvailabilitySearchResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caches availability search responses by normalized request and indexes each entry by the
+ * date window it covers, so rental changes only evict searches whose window overlaps them.
+ * A search being loaded is registered while it runs; an eviction overlapping its window marks it
+ * stale, and a stale result is dropped again right after it is stored. Index entries are removed
+ * only when the cache reports the entry gone, so the index never loses a live entry.
+ */
+@Slf4j
+@Component
+public class AvailabilitySearchCache {
+
+    private final Cache<AvailabilitySearchKey, AvailabilitySearchResponse> cache;
+    private final ConcurrentSkipListMap<LocalDate, Set<AvailabilitySearchKey>> keysByStartDate = new ConcurrentSkipListMap<>();
+    private final AtomicInteger maxWindowDays = new AtomicInteger();
+    private final Set<PendingLoad> pendingLoads = ConcurrentHashMap.newKeySet();
+
+    public AvailabilitySearchCache(AvailabilityConfig config) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(config.getSearchCache().getTtlSeconds()))
+                .maximumSize(config.getSearchCache().getMaximumSize())
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    public AvailabilitySearchResponse get(AvailabilitySearchKey key, Supplier<AvailabilitySearchResponse> loader) {
+        AvailabilitySearchResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Availability search cache hit for window {} to {}", key.startDate(), key.endDate());
+            return cached;
+        }
+
+        PendingLoad pending = new PendingLoad(key);
+        pendingLoads.add(pending);
+        AvailabilitySearchResponse response;
+        try {
+            response = loader.get();
+            cache.put(key, response);
+            index(key);
+        } finally {
+            pendingLoads.remove(pending);
+        }
+
+        // Evictions that ran before the put could not see the entry, so drop it on their behalf
+        if (pending.stale) {
+            cache.invalidate(key);
+            log.debug("Dropped availability search cache entry, an overlapping eviction happened during load");
+        }
+        return response;
+    }
+
+    public void evictOverlapping(LocalDate startDate, LocalDate endDate) {
+        for (PendingLoad pending : pendingLoads) {
+            if (pending.key.overlaps(startDate, endDate)) {
+                pending.stale = true;
+            }
+        }
+
+        LocalDate earliestStart = startDate.minusDays(maxWindowDays.get());
+        NavigableMap<LocalDate, Set<AvailabilitySearchKey>> candidates =
+                keysByStartDate.subMap(earliestStart, true, endDate, true);
+
+        List<AvailabilitySearchKey> overlapping = new ArrayList<>();
+        for (Set<AvailabilitySearchKey> keys : candidates.values()) {
+            for (AvailabilitySearchKey key : keys) {
+                if (key.overlaps(startDate, endDate)) {
+                    overlapping.add(key);
+                }
+            }
+        }
+
+        cache.invalidateAll(overlapping);
+
+        log.debug("Evicted {} availability search entries overlapping {} to {}", overlapping.size(), startDate, endDate);
+    }
+
+    public void invalidateAll() {
+        pendingLoads.forEach(pending -> pending.stale = true);
+        cache.invalidateAll();
+        log.debug("Evicted all availability search entries");
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void index(AvailabilitySearchKey key) {
+        int windowDays = (int) ChronoUnit.DAYS.between(key.startDate(), key.endDate());
+        maxWindowDays.accumulateAndGet(windowDays, Math::max);
+        keysByStartDate.computeIfAbsent(key.startDate(), date -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void onRemoval(AvailabilitySearchKey key, AvailabilitySearchResponse value, RemovalCause cause) {
+        if (key == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        Set<AvailabilitySearchKey> keys = keysByStartDate.get(key.startDate());
+        if (keys != null) {
+            keys.remove(key);
+            // The same search may have been stored again since this entry was removed
+            if (cache.asMap().containsKey(key)) {
+                keys.add(key);
+            }
+        }
+    }
+
+    private static final class PendingLoad {
+
+        private final AvailabilitySearchKey key;
+        private volatile boolean stale;
+
+        private PendingLoad(AvailabilitySearchKey key) {
+            this.key = key;
+        }
+    }
+}
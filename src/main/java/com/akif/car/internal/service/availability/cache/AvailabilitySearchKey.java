@@ -0,0 +1,68 @@
+package com.akif.car.internal.service.availability.cache;
+
+import com.akif.car.internal.dto.availability.AvailabilitySearchRequest;
+import com.akif.shared.enums.CurrencyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+public record AvailabilitySearchKey(
+    LocalDate bookingDate,
+    LocalDate startDate,
+    LocalDate endDate,
+    String brand,
+    String model,
+    String fuelType,
+    String transmissionType,
+    String bodyType,
+    Integer minSeats,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    Integer minProductionYear,
+    Integer maxProductionYear,
+    CurrencyType targetCurrency,
+    String sortBy,
+    String sortDirection,
+    int page,
+    int size
+) {
+
+    public static AvailabilitySearchKey of(AvailabilitySearchRequest request, LocalDate bookingDate) {
+        return new AvailabilitySearchKey(
+            bookingDate,
+            request.getStartDate(),
+            request.getEndDate(),
+            normalize(request.getBrand()),
+            normalize(request.getModel()),
+            normalize(request.getFuelType()),
+            normalize(request.getTransmissionType()),
+            normalize(request.getBodyType()),
+            request.getMinSeats(),
+            normalize(request.getMinPrice()),
+            normalize(request.getMaxPrice()),
+            request.getMinProductionYear(),
+            request.getMaxProductionYear(),
+            request.getTargetCurrency(),
+            request.getSortBy() != null ? request.getSortBy() : "price",
+            "desc".equalsIgnoreCase(request.getSortDirection()) ? "desc" : "asc",
+            request.getPage() != null ? request.getPage() : 0,
+            request.getSize() != null ? request.getSize() : 20
+        );
+    }
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
+}
@@ -16,8 +16,12 @@ import com.akif.rental.internal.exception.RentalValidationException;
 import com.akif.car.domain.Car;
 import com.akif.rental.domain.model.Rental;
 import com.akif.car.internal.repository.CarRepository;
+import com.akif.rental.internal.repository.BookingHoldRepository;
 import com.akif.rental.internal.repository.RentalRepository;
 import com.akif.car.internal.service.availability.CarAvailabilityService;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchCache;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchKey;
+import com.akif.car.internal.service.availability.ranking.TopNSelector;
 import com.akif.currency.api.CurrencyConversionService;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
 import com.akif.car.internal.dto.pricing.PriceModifier;
@@ -33,11 +37,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -47,8 +56,10 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
 
     private final CarRepository carRepository;
     private final RentalRepository rentalRepository;
+    private final BookingHoldRepository bookingHoldRepository;
     private final DynamicPricingService dynamicPricingService;
     private final CurrencyConversionService currencyConversionService;
+    private final AvailabilitySearchCache availabilitySearchCache;
 
     @Override
     public AvailabilitySearchResponse searchAvailableCars(AvailabilitySearchRequest request) {
@@ -58,31 +69,30 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
 
         validatePageSize(request.getSize());
 
+        AvailabilitySearchKey cacheKey = AvailabilitySearchKey.of(request, LocalDate.now());
+        return availabilitySearchCache.get(cacheKey, () -> executeSearch(request));
+    }
+
+    private AvailabilitySearchResponse executeSearch(AvailabilitySearchRequest request) {
+        if (isSortedByPrice(request)) {
+            return executePriceSortedSearch(request);
+        }
+
         Pageable pageable = createPageable(request);
 
-        List<CarStatusType> blockingStatuses = Arrays.asList(CarStatusType.getUnavailableStatuses());
+        Page<Car> availableCars = findCandidates(request, pageable);
+
+        int rentalDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
 
-        Page<Car> availableCars = carRepository.findAvailableCarsForDateRange(
+        Map<Long, PricingResult> pricingResults = dynamicPricingService.calculatePrices(
+                availableCars.getContent(),
                 request.getStartDate(),
                 request.getEndDate(),
-                blockingStatuses,
-                request.getBrand(),
-                request.getModel(),
-                request.getFuelType(),
-                request.getTransmissionType(),
-                request.getBodyType(),
-                request.getMinSeats(),
-                request.getMinPrice(),
-                request.getMaxPrice(),
-                request.getMinProductionYear(),
-                request.getMaxProductionYear(),
-                pageable
+                LocalDate.now()
         );
 
-        int rentalDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
-
         List<AvailableCarDto> carDtos = availableCars.getContent().stream()
-                .map(car -> convertToAvailableCarDto(car, request.getStartDate(), request.getEndDate(), request.getTargetCurrency()))
+                .map(car -> convertToAvailableCarDto(car, pricingResults.get(car.getId()), request.getTargetCurrency()))
                 .toList();
 
         AvailabilitySearchResponse response = new AvailabilitySearchResponse(
@@ -102,6 +112,84 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
         return response;
     }
 
+    /**
+     * Orders by the price the user actually pays rather than the raw daily rate. Every candidate is
+     * priced in one batch (window multipliers computed once, demand from a single grouped query),
+     * then only the requested page is selected and converted.
+     */
+    private AvailabilitySearchResponse executePriceSortedSearch(AvailabilitySearchRequest request) {
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : 20;
+        boolean descending = "desc".equalsIgnoreCase(request.getSortDirection());
+
+        List<Car> candidates = findCandidates(request, Pageable.unpaged()).getContent();
+
+        int rentalDays = (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+
+        Map<Long, PricingResult> pricingResults = dynamicPricingService.calculatePrices(
+                candidates,
+                request.getStartDate(),
+                request.getEndDate(),
+                LocalDate.now()
+        );
+
+        Comparator<Car> byEffectivePrice = Comparator.comparing(
+                (Car car) -> pricingResults.get(car.getId()).finalPrice());
+        if (descending) {
+            byEffectivePrice = byEffectivePrice.reversed();
+        }
+        byEffectivePrice = byEffectivePrice.thenComparing(Car::getId);
+
+        long offset = (long) page * size;
+        List<Car> pageCars = offset >= candidates.size()
+                ? List.of()
+                : TopNSelector.select(candidates, byEffectivePrice, (int) offset, size);
+
+        List<AvailableCarDto> carDtos = pageCars.stream()
+                .map(car -> convertToAvailableCarDto(car, pricingResults.get(car.getId()), request.getTargetCurrency()))
+                .toList();
+
+        int totalPages = (candidates.size() + size - 1) / size;
+
+        AvailabilitySearchResponse response = new AvailabilitySearchResponse(
+                carDtos,
+                (long) candidates.size(),
+                totalPages,
+                page,
+                size,
+                request.getStartDate(),
+                request.getEndDate(),
+                rentalDays
+        );
+
+        log.info("Found {} available cars for date range {} to {} (sorted by effective price)",
+                response.totalElements(), request.getStartDate(), request.getEndDate());
+
+        return response;
+    }
+
+    private Page<Car> findCandidates(AvailabilitySearchRequest request, Pageable pageable) {
+        List<CarStatusType> blockingStatuses = Arrays.asList(CarStatusType.getUnavailableStatuses());
+
+        return carRepository.findAvailableCarsForDateRange(
+                request.getStartDate(),
+                request.getEndDate(),
+                blockingStatuses,
+                request.getBrand(),
+                request.getModel(),
+                request.getFuelType(),
+                request.getTransmissionType(),
+                request.getBodyType(),
+                request.getMinSeats(),
+                request.getMinPrice(),
+                request.getMaxPrice(),
+                request.getMinProductionYear(),
+                request.getMaxProductionYear(),
+                LocalDateTime.now(),
+                pageable
+        );
+    }
+
     @Override
     public boolean isCarAvailable(Long carId, LocalDate startDate, LocalDate endDate) {
         log.debug("Checking availability for car: {} from {} to {}", carId, startDate, endDate);
@@ -115,12 +203,42 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
         }
 
         long overlappingCount = rentalRepository.countOverlappingRentals(carId, startDate, endDate);
-        boolean available = overlappingCount == 0;
+        long activeHolds = overlappingCount == 0
+                ? bookingHoldRepository.countActiveHolds(carId, startDate, endDate, LocalDateTime.now())
+                : 0;
+        boolean available = overlappingCount == 0 && activeHolds == 0;
 
-        log.debug("Car {} availability: {} (overlapping rentals: {})", carId, available, overlappingCount);
+        log.debug("Car {} availability: {} (overlapping rentals: {}, active holds: {})",
+                carId, available, overlappingCount, activeHolds);
         return available;
     }
 
+    @Override
+    public List<Car> filterAvailableCars(List<Car> cars, LocalDate startDate, LocalDate endDate) {
+        List<CarStatusType> blockingStatuses = Arrays.asList(CarStatusType.getUnavailableStatuses());
+
+        List<Car> candidates = cars.stream()
+                .filter(car -> !blockingStatuses.contains(car.getCarStatusType()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> bookedCarIds = new HashSet<>();
+        List<Long> carIds = candidates.stream().map(Car::getId).toList();
+        for (Object[] row : rentalRepository.countOverlappingRentalsByCarIds(carIds, startDate, endDate)) {
+            bookedCarIds.add((Long) row[0]);
+        }
+        bookedCarIds.addAll(bookingHoldRepository.findHeldCarIds(carIds, startDate, endDate, LocalDateTime.now()));
+
+        log.debug("Batch availability check: {} of {} candidate cars booked or held from {} to {}",
+                bookedCarIds.size(), candidates.size(), startDate, endDate);
+
+        return candidates.stream()
+                .filter(car -> !bookedCarIds.contains(car.getId()))
+                .toList();
+    }
+
     @Override
     public CarAvailabilityCalendarDto getCarAvailabilityCalendar(Long carId, YearMonth month) {
         log.debug("Getting availability calendar for car: {} for month: {}", carId, month);
@@ -269,6 +387,10 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
         }
     }
 
+    private boolean isSortedByPrice(AvailabilitySearchRequest request) {
+        return request.getSortBy() == null || "price".equalsIgnoreCase(request.getSortBy());
+    }
+
     private Pageable createPageable(AvailabilitySearchRequest request) {
         String sortBy = request.getSortBy() != null ? request.getSortBy() : "price";
         String sortDirection = request.getSortDirection() != null ? request.getSortDirection() : "asc";
@@ -282,14 +404,7 @@ public class CarAvailabilityServiceImpl implements CarAvailabilityService {
         return PageRequest.of(page, size, sort);
     }
 
-    private AvailableCarDto convertToAvailableCarDto(Car car, LocalDate startDate, LocalDate endDate, CurrencyType targetCurrency) {
-        PricingResult pricingResult = dynamicPricingService.calculatePrice(
-                car.getId(),
-                startDate,
-                endDate,
-                LocalDate.now()
-        );
-
+    private AvailableCarDto convertToAvailableCarDto(Car car, PricingResult pricingResult, CurrencyType targetCurrency) {
         List<String> appliedDiscounts = pricingResult.appliedModifiers().stream()
                 .map(PriceModifier::description)
                 .toList();
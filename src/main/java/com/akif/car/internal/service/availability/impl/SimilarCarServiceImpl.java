@@ -1,27 +1,26 @@
 package com.akif.car.internal.service.availability.impl;
 
 import com.akif.car.internal.dto.availability.SimilarCarDto;
-import com.akif.car.domain.enums.CarStatusType;
 import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.domain.Car;
 import com.akif.car.internal.repository.CarRepository;
 import com.akif.car.internal.service.availability.CarAvailabilityService;
 import com.akif.car.internal.service.availability.SimilarCarService;
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
 import com.akif.car.internal.dto.pricing.PricingResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +31,7 @@ public class SimilarCarServiceImpl implements SimilarCarService {
     private final CarRepository carRepository;
     private final CarAvailabilityService carAvailabilityService;
     private final DynamicPricingService dynamicPricingService;
+    private final SimilarCarIndex similarCarIndex;
 
     @Override
     public List<SimilarCarDto> findSimilarAvailableCars(Long carId, LocalDate startDate, LocalDate endDate, int limit) {
@@ -41,68 +41,46 @@ public class SimilarCarServiceImpl implements SimilarCarService {
         Car referenceCar = carRepository.findByIdAndIsDeletedFalse(carId)
                 .orElseThrow(() -> new CarNotFoundException(carId));
 
-        BigDecimal referencePrice = referenceCar.getPrice();
-        BigDecimal minPrice = referencePrice.multiply(BigDecimal.valueOf(0.8));
-        BigDecimal maxPrice = referencePrice.multiply(BigDecimal.valueOf(1.2));
-
-        log.debug("Reference car: {} {}, price: {}, range: {} - {}", 
-                referenceCar.getBrand(), referenceCar.getModel(), referencePrice, minPrice, maxPrice);
-
-        List<CarStatusType> blockingStatuses = Arrays.asList(CarStatusType.getUnavailableStatuses());
-        Pageable pageable = PageRequest.of(0, limit * 3);
-        
-        Page<Car> similarCarsPage = carRepository.findSimilarCars(
-                referenceCar.getBodyType(),
-                minPrice,
-                maxPrice,
-                carId,
-                blockingStatuses,
-                pageable
-        );
-
-        List<SimilarCarDto> similarCars = new ArrayList<>();
+        if (!similarCarIndex.contains(carId)) {
+            similarCarIndex.upsert(referenceCar);
+        }
 
-        for (Car car : similarCarsPage.getContent()) {
-            if (similarCars.size() >= limit) {
-                break;
-            }
+        int candidateCount = limit * 3;
+        List<SimilarCarIndex.Neighbor> neighbors = similarCarIndex.findNearest(carId, candidateCount);
+        List<Car> availableCars = findAvailableNeighbors(neighbors, startDate, endDate);
 
-            boolean available = carAvailabilityService.isCarAvailable(car.getId(), startDate, endDate);
-            if (!available) {
-                log.debug("Car {} is not available, skipping", car.getId());
-                continue;
-            }
+        while (availableCars.size() < limit && neighbors.size() == candidateCount) {
+            candidateCount *= 2;
+            neighbors = similarCarIndex.findNearest(carId, candidateCount);
+            availableCars = findAvailableNeighbors(neighbors, startDate, endDate);
+        }
 
-            int similarityScore = 0;
-            List<String> similarityReasons = new ArrayList<>();
+        log.debug("Reference car: {} {}, {} nearest neighbours, {} available",
+                referenceCar.getBrand(), referenceCar.getModel(), neighbors.size(), availableCars.size());
 
-            if (referenceCar.getBodyType() != null && 
-                referenceCar.getBodyType().equalsIgnoreCase(car.getBodyType())) {
-                similarityScore += 50;
-                similarityReasons.add("Same body type");
-            }
+        List<Car> selectedCars = availableCars.size() > limit ? availableCars.subList(0, limit) : availableCars;
+        if (selectedCars.isEmpty()) {
+            log.info("Found 0 similar available cars for car: {}", carId);
+            return List.of();
+        }
 
-            if (referenceCar.getBrand() != null && 
-                referenceCar.getBrand().equalsIgnoreCase(car.getBrand())) {
-                similarityScore += 30;
-                similarityReasons.add("Same brand");
-            }
+        Map<Long, Integer> scoreByCarId = new HashMap<>();
+        for (SimilarCarIndex.Neighbor neighbor : neighbors) {
+            scoreByCarId.put(neighbor.carId(), neighbor.similarityScore());
+        }
 
-            if (car.getPrice() != null && 
-                car.getPrice().compareTo(minPrice) >= 0 && 
-                car.getPrice().compareTo(maxPrice) <= 0) {
-                similarityScore += 20;
-                similarityReasons.add("Similar price");
-            }
+        Map<Long, PricingResult> pricingResults = dynamicPricingService.calculatePrices(
+                selectedCars,
+                startDate,
+                endDate,
+                LocalDate.now()
+        );
 
-            PricingResult pricingResult = dynamicPricingService.calculatePrice(
-                    car.getId(),
-                    startDate,
-                    endDate,
-                    LocalDate.now()
-            );
+        List<SimilarCarDto> similarCars = new ArrayList<>(selectedCars.size());
+        for (Car car : selectedCars) {
+            PricingResult pricingResult = pricingResults.get(car.getId());
 
-            SimilarCarDto similarCarDto = new SimilarCarDto(
+            similarCars.add(new SimilarCarDto(
                     car.getId(),
                     car.getBrand(),
                     car.getModel(),
@@ -112,16 +90,56 @@ public class SimilarCarServiceImpl implements SimilarCarService {
                     pricingResult.finalPrice(),
                     car.getCurrencyType(),
                     car.getImageUrl(),
-                    similarityReasons,
-                    similarityScore
-            );
-
-            similarCars.add(similarCarDto);
+                    buildSimilarityReasons(referenceCar, car),
+                    scoreByCarId.get(car.getId())
+            ));
         }
 
-        similarCars.sort((a, b) -> b.similarityScore().compareTo(a.similarityScore()));
-
         log.info("Found {} similar available cars for car: {}", similarCars.size(), carId);
         return similarCars;
     }
+
+    private List<Car> findAvailableNeighbors(List<SimilarCarIndex.Neighbor> neighbors, LocalDate startDate, LocalDate endDate) {
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> neighborIds = neighbors.stream().map(SimilarCarIndex.Neighbor::carId).toList();
+        Map<Long, Car> carsById = new HashMap<>();
+        for (Car car : carRepository.findAllById(neighborIds)) {
+            if (!Boolean.TRUE.equals(car.getIsDeleted())) {
+                carsById.put(car.getId(), car);
+            }
+        }
+
+        List<Car> orderedCars = neighborIds.stream()
+                .map(carsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return carAvailabilityService.filterAvailableCars(orderedCars, startDate, endDate);
+    }
+
+    private List<String> buildSimilarityReasons(Car referenceCar, Car car) {
+        List<String> similarityReasons = new ArrayList<>();
+
+        if (referenceCar.getBodyType() != null && 
+            referenceCar.getBodyType().equalsIgnoreCase(car.getBodyType())) {
+            similarityReasons.add("Same body type");
+        }
+
+        if (referenceCar.getBrand() != null && 
+            referenceCar.getBrand().equalsIgnoreCase(car.getBrand())) {
+            similarityReasons.add("Same brand");
+        }
+
+        BigDecimal referencePrice = referenceCar.getPrice();
+        if (referencePrice != null && car.getPrice() != null &&
+            car.getPrice().compareTo(referencePrice.multiply(BigDecimal.valueOf(0.8))) >= 0 && 
+            car.getPrice().compareTo(referencePrice.multiply(BigDecimal.valueOf(1.2))) <= 0) {
+            similarityReasons.add("Similar price");
+        }
+
+        return similarityReasons;
+    }
 }
@@ -0,0 +1,40 @@
+package com.akif.car.internal.service.availability.ranking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Partial heap sort: keeps only the best {@code offset + limit} elements in a bounded max-heap,
+ * so selecting one page out of n candidates costs O(n log k) instead of sorting everything.
+ */
+public final class TopNSelector {
+
+    private TopNSelector() {
+    }
+
+    public static <T> List<T> select(Collection<T> candidates, Comparator<? super T> order, int offset, int limit) {
+        if (limit <= 0 || offset >= candidates.size()) {
+            return List.of();
+        }
+
+        int keep = (int) Math.min((long) offset + limit, candidates.size());
+        PriorityQueue<T> heap = new PriorityQueue<>(keep + 1, Collections.reverseOrder(order));
+
+        for (T candidate : candidates) {
+            if (heap.size() < keep) {
+                heap.offer(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+
+        List<T> best = new ArrayList<>(heap);
+        best.sort(order);
+        return best.subList(offset, best.size());
+    }
+}
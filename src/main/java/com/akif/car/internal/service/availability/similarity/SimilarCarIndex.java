@@ -0,0 +1,264 @@
+package com.akif.car.internal.service.availability.similarity;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory k-nearest-neighbour index over the active fleet. Each car is encoded as a weighted
+ * feature vector (normalized price, year and seats plus one-hot body type, brand, fuel and
+ * transmission) stored row-major in a single float array and scanned brute force.
+ * Readers use an immutable snapshot; writers rebuild it from the retained raw features.
+ */
+@Slf4j
+@Component
+public class SimilarCarIndex {
+
+    private static final float PRICE_WEIGHT = 1.0f;
+    private static final float YEAR_WEIGHT = 0.6f;
+    private static final float SEATS_WEIGHT = 0.4f;
+    private static final float BODY_TYPE_WEIGHT = 1.0f;
+    private static final float BRAND_WEIGHT = 0.7f;
+    private static final float FUEL_TYPE_WEIGHT = 0.5f;
+    private static final float TRANSMISSION_WEIGHT = 0.4f;
+
+    private static final float MAX_SQUARED_DISTANCE =
+            PRICE_WEIGHT * PRICE_WEIGHT + YEAR_WEIGHT * YEAR_WEIGHT + SEATS_WEIGHT * SEATS_WEIGHT
+            + BODY_TYPE_WEIGHT * BODY_TYPE_WEIGHT + BRAND_WEIGHT * BRAND_WEIGHT
+            + FUEL_TYPE_WEIGHT * FUEL_TYPE_WEIGHT + TRANSMISSION_WEIGHT * TRANSMISSION_WEIGHT;
+
+    private static final float ONE_HOT_SCALE = (float) (1.0 / Math.sqrt(2.0));
+
+    private final CarRepository carRepository;
+    private final Map<Long, CarFeatures> features = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public SimilarCarIndex(CarRepository carRepository) {
+        this.carRepository = carRepository;
+    }
+
+    public record Neighbor(Long carId, float distance, int similarityScore) {}
+
+    public List<Neighbor> findNearest(Long carId, int k) {
+        Snapshot current = snapshot;
+        Integer queryRow = current.rowByCarId.get(carId);
+        if (queryRow == null || k <= 0) {
+            return List.of();
+        }
+
+        int dimension = current.dimension;
+        float[] vectors = current.vectors;
+        int queryOffset = queryRow * dimension;
+
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Candidate::squaredDistance).reversed());
+
+        for (int row = 0; row < current.carIds.length; row++) {
+            if (row == queryRow || !current.bookable[row]) {
+                continue;
+            }
+
+            int offset = row * dimension;
+            float squaredDistance = 0f;
+            for (int i = 0; i < dimension; i++) {
+                float diff = vectors[offset + i] - vectors[queryOffset + i];
+                squaredDistance += diff * diff;
+            }
+
+            if (nearest.size() < k) {
+                nearest.offer(new Candidate(row, squaredDistance));
+            } else if (squaredDistance < nearest.peek().squaredDistance()) {
+                nearest.poll();
+                nearest.offer(new Candidate(row, squaredDistance));
+            }
+        }
+
+        return nearest.stream()
+                .map(candidate -> toNeighbor(current.carIds[candidate.row()], candidate.squaredDistance()))
+                .sorted(Comparator.comparingDouble(Neighbor::distance).thenComparing(Neighbor::carId))
+                .toList();
+    }
+
+    public boolean contains(Long carId) {
+        return snapshot.rowByCarId.containsKey(carId);
+    }
+
+    public int size() {
+        return snapshot.carIds.length;
+    }
+
+    public synchronized void rebuild() {
+        List<Car> cars = carRepository.findByIsDeletedFalse(Pageable.unpaged()).getContent();
+        rebuild(cars);
+    }
+
+    public synchronized void rebuild(List<Car> cars) {
+        features.clear();
+        for (Car car : cars) {
+            features.put(car.getId(), CarFeatures.of(car));
+        }
+        snapshot = Snapshot.build(features);
+        log.info("Rebuilt similar car index with {} cars ({} dimensions)", snapshot.carIds.length, snapshot.dimension);
+    }
+
+    public synchronized void upsert(Car car) {
+        features.put(car.getId(), CarFeatures.of(car));
+        snapshot = Snapshot.build(features);
+        log.debug("Refreshed similar car index entry for car: {}", car.getId());
+    }
+
+    public synchronized void remove(Long carId) {
+        if (features.remove(carId) != null) {
+            snapshot = Snapshot.build(features);
+            log.debug("Removed car {} from similar car index", carId);
+        }
+    }
+
+    private static Neighbor toNeighbor(Long carId, float squaredDistance) {
+        float distance = (float) Math.sqrt(squaredDistance);
+        int score = Math.round(100f * (1f - (float) Math.sqrt(squaredDistance / MAX_SQUARED_DISTANCE)));
+        return new Neighbor(carId, distance, Math.max(0, score));
+    }
+
+    private record Candidate(int row, float squaredDistance) {}
+
+    private record CarFeatures(
+            Long carId,
+            double price,
+            int productionYear,
+            int seats,
+            String bodyType,
+            String brand,
+            String fuelType,
+            String transmissionType,
+            boolean bookable
+    ) {
+
+        static CarFeatures of(Car car) {
+            return new CarFeatures(
+                    car.getId(),
+                    car.getPrice() != null ? car.getPrice().doubleValue() : 0d,
+                    car.getProductionYear() != null ? car.getProductionYear() : 0,
+                    car.getSeats() != null ? car.getSeats() : 0,
+                    normalize(car.getBodyType()),
+                    normalize(car.getBrand()),
+                    normalize(car.getFuelType()),
+                    normalize(car.getTransmissionType()),
+                    !Arrays.asList(CarStatusType.getUnavailableStatuses()).contains(car.getCarStatusType())
+            );
+        }
+
+        private static String normalize(String value) {
+            return value == null || value.isBlank() ? "" : value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new boolean[0], new float[0], 0, Map.of());
+
+        final long[] carIds;
+        final boolean[] bookable;
+        final float[] vectors;
+        final int dimension;
+        final Map<Long, Integer> rowByCarId;
+
+        private Snapshot(long[] carIds, boolean[] bookable, float[] vectors, int dimension, Map<Long, Integer> rowByCarId) {
+            this.carIds = carIds;
+            this.bookable = bookable;
+            this.vectors = vectors;
+            this.dimension = dimension;
+            this.rowByCarId = rowByCarId;
+        }
+
+        static Snapshot build(Map<Long, CarFeatures> featuresByCarId) {
+            if (featuresByCarId.isEmpty()) {
+                return EMPTY;
+            }
+
+            List<CarFeatures> rows = new ArrayList<>(featuresByCarId.values());
+            rows.sort(Comparator.comparing(CarFeatures::carId));
+
+            Map<String, Integer> bodyTypes = vocabulary(rows, CarFeatures::bodyType);
+            Map<String, Integer> brands = vocabulary(rows, CarFeatures::brand);
+            Map<String, Integer> fuelTypes = vocabulary(rows, CarFeatures::fuelType);
+            Map<String, Integer> transmissions = vocabulary(rows, CarFeatures::transmissionType);
+
+            Range logPrice = Range.of(rows, f -> Math.log1p(f.price()));
+            Range year = Range.of(rows, CarFeatures::productionYear);
+            Range seats = Range.of(rows, CarFeatures::seats);
+
+            int bodyOffset = 3;
+            int brandOffset = bodyOffset + bodyTypes.size();
+            int fuelOffset = brandOffset + brands.size();
+            int transmissionOffset = fuelOffset + fuelTypes.size();
+            int dimension = transmissionOffset + transmissions.size();
+
+            long[] carIds = new long[rows.size()];
+            boolean[] bookable = new boolean[rows.size()];
+            float[] vectors = new float[rows.size() * dimension];
+            Map<Long, Integer> rowByCarId = new HashMap<>(rows.size() * 2);
+
+            for (int row = 0; row < rows.size(); row++) {
+                CarFeatures car = rows.get(row);
+                int base = row * dimension;
+
+                carIds[row] = car.carId();
+                bookable[row] = car.bookable();
+                rowByCarId.put(car.carId(), row);
+
+                vectors[base] = PRICE_WEIGHT * logPrice.scale(Math.log1p(car.price()));
+                vectors[base + 1] = YEAR_WEIGHT * year.scale(car.productionYear());
+                vectors[base + 2] = SEATS_WEIGHT * seats.scale(car.seats());
+                vectors[base + bodyOffset + bodyTypes.get(car.bodyType())] = BODY_TYPE_WEIGHT * ONE_HOT_SCALE;
+                vectors[base + brandOffset + brands.get(car.brand())] = BRAND_WEIGHT * ONE_HOT_SCALE;
+                vectors[base + fuelOffset + fuelTypes.get(car.fuelType())] = FUEL_TYPE_WEIGHT * ONE_HOT_SCALE;
+                vectors[base + transmissionOffset + transmissions.get(car.transmissionType())] = TRANSMISSION_WEIGHT * ONE_HOT_SCALE;
+            }
+
+            return new Snapshot(carIds, bookable, vectors, dimension, Collections.unmodifiableMap(rowByCarId));
+        }
+
+        private static Map<String, Integer> vocabulary(List<CarFeatures> rows, Function<CarFeatures, String> attribute) {
+            Map<String, Integer> vocabulary = new LinkedHashMap<>();
+            for (CarFeatures row : rows) {
+                vocabulary.putIfAbsent(attribute.apply(row), vocabulary.size());
+            }
+            return vocabulary;
+        }
+    }
+
+    private record Range(double min, double max) {
+
+        static Range of(List<CarFeatures> rows, ToDoubleFunction<CarFeatures> attribute) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (CarFeatures row : rows) {
+                double value = attribute.applyAsDouble(row);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            return new Range(min, max);
+        }
+
+        float scale(double value) {
+            return max > min ? (float) ((value - min) / (max - min)) : 0f;
+        }
+    }
+}
@@ -1,15 +1,50 @@
 package com.akif.car.internal.service.pricing;
 
+import com.akif.car.domain.Car;
 import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.rental.internal.config.PricingConfig;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 public interface DynamicPricingService {
 
     PricingResult calculatePrice(Long carId, LocalDate startDate, LocalDate endDate, LocalDate bookingDate);
 
+    /**
+     * Prices a car the caller has already loaded, sharing the quote cache with
+     * {@link #calculatePrice(Long, LocalDate, LocalDate, LocalDate)} without reloading the car.
+     */
+    PricingResult calculatePrice(Car car, LocalDate startDate, LocalDate endDate, LocalDate bookingDate);
+
+    /**
+     * Prices already-loaded cars for a shared date range, running each strategy once over the batch.
+     * The returned map is keyed by car ID and preserves the order of {@code cars}.
+     */
+    Map<Long, PricingResult> calculatePrices(List<Car> cars, LocalDate startDate, LocalDate endDate, LocalDate bookingDate);
+
+    /**
+     * Prices one car for several start dates with the same rental length, running each strategy
+     * once over all windows. Results are in the order of {@code startDates}.
+     */
+    List<PricingResult> calculateWindowPrices(Car car, List<LocalDate> startDates, int rentalDays, LocalDate bookingDate);
+
     PricingResult previewPrice(Long carId, LocalDate startDate, LocalDate endDate);
 
     List<PricingStrategy> getEnabledStrategies();
+
+    /**
+     * Returns the config the current pipeline prices with. It is never modified, so a caller
+     * reading several values from it sees one consistent set.
+     */
+    PricingConfig getActiveConfig();
+
+    /**
+     * Compiles the strategies against a freshly bound config and the calendar built from it and
+     * swaps them in as one pipeline. Quotes already in flight finish on the previous pipeline.
+     * Neither argument may be modified afterwards.
+     */
+    void publish(PricingConfig reloadedConfig, PricingCalendar reloadedCalendar);
 }
@@ -0,0 +1,14 @@
+package com.akif.car.internal.service.pricing;
+
+import com.akif.car.internal.dto.pricing.FlexibleDatesResponse;
+
+import java.time.LocalDate;
+
+public interface FlexibleDatesService {
+
+    /**
+     * Finds the cheapest available start dates for a car within {@code flexDays} of the preferred
+     * start, for a fixed rental length. Options are ordered by final price, then start date.
+     */
+    FlexibleDatesResponse findCheapestWindows(Long carId, LocalDate preferredStartDate, int rentalDays, int flexDays, int limit);
+}
@@ -0,0 +1,14 @@
+package com.akif.car.internal.service.pricing;
+
+import com.akif.car.internal.dto.pricing.PricingSimulationRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationResponse;
+
+public interface PricingSimulationService {
+
+    /**
+     * Prices every active car for each trip length starting on each day of the horizon, once with
+     * the live pricing config and once with the requested overrides applied, and returns the
+     * summed quote revenue of both. The live config and quote cache are not touched.
+     */
+    PricingSimulationResponse simulate(PricingSimulationRequest request);
+}
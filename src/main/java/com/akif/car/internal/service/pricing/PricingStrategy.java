@@ -2,11 +2,55 @@ package com.akif.car.internal.service.pricing;
 
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.rental.internal.config.PricingConfig;
+
+import java.util.List;
 
 public interface PricingStrategy {
 
     PriceModifier calculate(PricingContext context);
 
+    /**
+     * Prices a batch of contexts that share the same date window and booking date.
+     * Returns one modifier per context, in the same order.
+     */
+    default List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        return contexts.stream()
+            .map(this::calculate)
+            .toList();
+    }
+
+    /**
+     * Prices one car over several candidate windows of equal length, e.g. for flexible-date search.
+     * Returns one modifier per window, in the same order. Strategies backed by per-day data or a
+     * database query override this to avoid repeating that work for every window.
+     */
+    default List<PriceModifier> calculateWindows(List<PricingContext> windows) {
+        return windows.stream()
+            .map(this::calculate)
+            .toList();
+    }
+
+    /**
+     * Returns an immutable copy of this strategy with the config values it reads captured at call
+     * time. The pricing pipeline compiles its stages at first use and on config reload and holds
+     * them itself; this strategy is left unchanged and keeps reading {@code PricingConfig} directly
+     * on every call. Strategies without config-derived state return themselves.
+     */
+    default PricingStrategy compile() {
+        return this;
+    }
+
+    /**
+     * Returns a copy of this strategy that reads the given config and calendar instead of the live
+     * ones, so a candidate config can be priced without affecting quoting. Strategies that do not
+     * depend on either return themselves.
+     */
+    default PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return this;
+    }
+
     String getStrategyName();
 
     boolean isEnabled();
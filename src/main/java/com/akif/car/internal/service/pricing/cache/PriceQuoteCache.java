@@ -0,0 +1,160 @@
+package com.akif.car.internal.service.pricing.cache;
+
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.rental.internal.config.PricingConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of price quotes keyed by car, rental window and booking date. Entries are
+ * indexed by car and by window start so a price or status change evicts one car's quotes and a
+ * rental confirmation or cancellation evicts only the quotes whose window overlaps the rental.
+ */
+@Slf4j
+@Component
+public class PriceQuoteCache {
+
+    private final Cache<PriceQuoteKey, PricingResult> cache;
+    private final ConcurrentHashMap<Long, Set<PriceQuoteKey>> keysByCarId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<LocalDate, Set<PriceQuoteKey>> keysByStartDate = new ConcurrentSkipListMap<>();
+    private final AtomicInteger maxWindowDays = new AtomicInteger();
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    public PriceQuoteCache(PricingConfig config) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(config.getQuoteCache().getTtlSeconds()))
+                .maximumSize(config.getQuoteCache().getMaximumSize())
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    public PricingResult get(PriceQuoteKey key, Supplier<PricingResult> loader) {
+        PricingResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Price quote cache hit for car: {}, {} to {}", key.carId(), key.startDate(), key.endDate());
+            return cached;
+        }
+
+        long epoch = invalidationEpoch.get();
+        PricingResult result = loader.get();
+        store(Map.of(key, result), epoch);
+        return result;
+    }
+
+    public Map<PriceQuoteKey, PricingResult> getAll(
+            Collection<PriceQuoteKey> keys,
+            Function<List<PriceQuoteKey>, Map<PriceQuoteKey, PricingResult>> loader) {
+        Map<PriceQuoteKey, PricingResult> results = new HashMap<>(cache.getAllPresent(keys));
+
+        List<PriceQuoteKey> missing = keys.stream()
+                .filter(key -> !results.containsKey(key))
+                .toList();
+        if (missing.isEmpty()) {
+            log.debug("Price quote cache hit for all {} quotes", keys.size());
+            return results;
+        }
+
+        long epoch = invalidationEpoch.get();
+        Map<PriceQuoteKey, PricingResult> loaded = loader.apply(missing);
+        store(loaded, epoch);
+        results.putAll(loaded);
+
+        log.debug("Price quote cache served {} of {} quotes", keys.size() - missing.size(), keys.size());
+        return results;
+    }
+
+    public void evictCar(Long carId) {
+        invalidationEpoch.incrementAndGet();
+
+        Set<PriceQuoteKey> keys = keysByCarId.remove(carId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+            log.debug("Evicted {} price quotes for car: {}", keys.size(), carId);
+        }
+    }
+
+    public void evictOverlapping(Long carId, LocalDate startDate, LocalDate endDate) {
+        invalidationEpoch.incrementAndGet();
+
+        LocalDate earliestStart = startDate.minusDays(maxWindowDays.get());
+        NavigableMap<LocalDate, Set<PriceQuoteKey>> candidates =
+                keysByStartDate.subMap(earliestStart, true, endDate, true);
+
+        List<PriceQuoteKey> overlapping = new ArrayList<>();
+        for (Set<PriceQuoteKey> keys : candidates.values()) {
+            for (PriceQuoteKey key : keys) {
+                if ((carId == null || carId.equals(key.carId())) && key.overlaps(startDate, endDate)) {
+                    overlapping.add(key);
+                }
+            }
+        }
+
+        cache.invalidateAll(overlapping);
+        keysByStartDate.headMap(LocalDate.now()).clear();
+
+        log.debug("Evicted {} price quotes overlapping {} to {}", overlapping.size(), startDate, endDate);
+    }
+
+    public void invalidateAll() {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Evicted all price quotes");
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void store(Map<PriceQuoteKey, PricingResult> results, long epoch) {
+        if (invalidationEpoch.get() != epoch) {
+            log.debug("Skipping price quote cache write, invalidation happened during load");
+            return;
+        }
+        results.keySet().forEach(this::index);
+        cache.putAll(results);
+    }
+
+    private void index(PriceQuoteKey key) {
+        int windowDays = (int) ChronoUnit.DAYS.between(key.startDate(), key.endDate());
+        maxWindowDays.accumulateAndGet(windowDays, Math::max);
+        keysByCarId.computeIfAbsent(key.carId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        keysByStartDate.computeIfAbsent(key.startDate(), date -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void onRemoval(PriceQuoteKey key, PricingResult value, RemovalCause cause) {
+        if (key == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        Set<PriceQuoteKey> byCar = keysByCarId.get(key.carId());
+        if (byCar != null) {
+            byCar.remove(key);
+        }
+        Set<PriceQuoteKey> byStartDate = keysByStartDate.get(key.startDate());
+        if (byStartDate != null) {
+            byStartDate.remove(key);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.akif.car.internal.service.pricing.cache;
+
+import java.time.LocalDate;
+
+public record PriceQuoteKey(
+    Long carId,
+    LocalDate startDate,
+    LocalDate endDate,
+    LocalDate bookingDate
+) {
+
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+}
@@ -0,0 +1,183 @@
+package com.akif.car.internal.service.pricing.calendar;
+
+import com.akif.rental.internal.config.PricingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+
+/**
+ * Day-indexed calendar of the date-driven pricing inputs. Peak, off-peak and weekend days are
+ * precomputed into prefix-sum arrays over the booking horizon, so counting them for any rental
+ * window is two array reads. The calendar is rebuilt when the season or weekend configuration
+ * it was built from changes, or when a lookup falls in the horizon but outside the current build.
+ * Every lookup takes its season and weekend settings from the one snapshot it is served from, and
+ * a reloaded config gets a calendar of its own rather than being written into this one's.
+ */
+@Slf4j
+@Component
+public class PricingCalendar {
+
+    static final int LOOKBACK_DAYS = 31;
+    static final int HORIZON_DAYS = 2 * 366;
+
+    private final PricingConfig config;
+    private volatile Snapshot snapshot;
+
+    public PricingCalendar(PricingConfig config) {
+        this.config = config;
+    }
+
+    public int countPeakDays(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshotFor(startDate, endDate);
+        if (!current.covers(startDate, endDate)) {
+            return countDirectly(startDate, endDate, current.peakStart(), current.peakEnd());
+        }
+        return current.count(current.peakPrefix, startDate, endDate);
+    }
+
+    public int countOffpeakDays(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshotFor(startDate, endDate);
+        if (!current.covers(startDate, endDate)) {
+            return countDirectly(startDate, endDate, current.offpeakStart(), current.offpeakEnd());
+        }
+        return current.count(current.offpeakPrefix, startDate, endDate);
+    }
+
+    public int countWeekendDays(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshotFor(startDate, endDate);
+        if (!current.covers(startDate, endDate)) {
+            return countWeekendDaysDirectly(startDate, endDate, current.weekendDays());
+        }
+        return current.count(current.weekendPrefix, startDate, endDate);
+    }
+
+    public void rebuild() {
+        rebuild(LocalDate.now().minusDays(LOOKBACK_DAYS));
+    }
+
+    public synchronized void rebuild(LocalDate origin) {
+        snapshot = Snapshot.build(config, origin, LOOKBACK_DAYS + HORIZON_DAYS);
+        log.info("Rebuilt pricing calendar from {} to {}", origin, origin.plusDays(LOOKBACK_DAYS + HORIZON_DAYS - 1L));
+    }
+
+    public static boolean isDateInSeason(LocalDate date, MonthDay seasonStart, MonthDay seasonEnd) {
+        MonthDay dateMonthDay = MonthDay.from(date);
+
+        if (seasonStart.isAfter(seasonEnd)) {
+            return dateMonthDay.compareTo(seasonStart) >= 0 || dateMonthDay.compareTo(seasonEnd) <= 0;
+        }
+
+        return dateMonthDay.compareTo(seasonStart) >= 0 && dateMonthDay.compareTo(seasonEnd) <= 0;
+    }
+
+    private Snapshot snapshotFor(LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot;
+        if (current != null && current.matches(config) && current.covers(startDate, endDate)) {
+            return current;
+        }
+
+        LocalDate horizonStart = LocalDate.now().minusDays(LOOKBACK_DAYS);
+        boolean inHorizon = !startDate.isBefore(horizonStart)
+            && endDate.isBefore(horizonStart.plusDays(LOOKBACK_DAYS + HORIZON_DAYS));
+
+        if (current != null && current.matches(config) && !inHorizon) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || !current.matches(config) || (inHorizon && !current.covers(startDate, endDate))) {
+                rebuild(inHorizon || current == null ? horizonStart : current.origin());
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static int countDirectly(LocalDate startDate, LocalDate endDate, MonthDay seasonStart, MonthDay seasonEnd) {
+        int count = 0;
+        for (LocalDate current = startDate; !current.isAfter(endDate); current = current.plusDays(1)) {
+            if (isDateInSeason(current, seasonStart, seasonEnd)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countWeekendDaysDirectly(LocalDate startDate, LocalDate endDate, List<DayOfWeek> weekendDays) {
+        int count = 0;
+        for (LocalDate current = startDate; !current.isAfter(endDate); current = current.plusDays(1)) {
+            if (weekendDays.contains(current.getDayOfWeek())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private record Snapshot(
+        long originEpochDay,
+        int[] peakPrefix,
+        int[] offpeakPrefix,
+        int[] weekendPrefix,
+        MonthDay peakStart,
+        MonthDay peakEnd,
+        MonthDay offpeakStart,
+        MonthDay offpeakEnd,
+        List<DayOfWeek> weekendDays
+    ) {
+
+        static Snapshot build(PricingConfig config, LocalDate origin, int days) {
+            PricingConfig.SeasonPeriod peak = config.getSeason().getPeak();
+            PricingConfig.SeasonPeriod offpeak = config.getSeason().getOffpeak();
+            List<DayOfWeek> weekendDays = List.copyOf(config.getWeekend().getDays());
+
+            int[] peakPrefix = new int[days + 1];
+            int[] offpeakPrefix = new int[days + 1];
+            int[] weekendPrefix = new int[days + 1];
+
+            LocalDate current = origin;
+            for (int day = 0; day < days; day++) {
+                peakPrefix[day + 1] = peakPrefix[day]
+                    + (isDateInSeason(current, peak.getStart(), peak.getEnd()) ? 1 : 0);
+                offpeakPrefix[day + 1] = offpeakPrefix[day]
+                    + (isDateInSeason(current, offpeak.getStart(), offpeak.getEnd()) ? 1 : 0);
+                weekendPrefix[day + 1] = weekendPrefix[day]
+                    + (weekendDays.contains(current.getDayOfWeek()) ? 1 : 0);
+                current = current.plusDays(1);
+            }
+
+            return new Snapshot(origin.toEpochDay(), peakPrefix, offpeakPrefix, weekendPrefix,
+                peak.getStart(), peak.getEnd(), offpeak.getStart(), offpeak.getEnd(), weekendDays);
+        }
+
+        LocalDate origin() {
+            return LocalDate.ofEpochDay(originEpochDay);
+        }
+
+        boolean covers(LocalDate startDate, LocalDate endDate) {
+            long from = startDate.toEpochDay() - originEpochDay;
+            long to = endDate.toEpochDay() - originEpochDay;
+            return from >= 0 && to < peakPrefix.length - 1;
+        }
+
+        boolean matches(PricingConfig config) {
+            PricingConfig.SeasonPeriod peak = config.getSeason().getPeak();
+            PricingConfig.SeasonPeriod offpeak = config.getSeason().getOffpeak();
+            return peakStart.equals(peak.getStart())
+                && peakEnd.equals(peak.getEnd())
+                && offpeakStart.equals(offpeak.getStart())
+                && offpeakEnd.equals(offpeak.getEnd())
+                && weekendDays.equals(config.getWeekend().getDays());
+        }
+
+        int count(int[] prefix, LocalDate startDate, LocalDate endDate) {
+            int from = (int) (startDate.toEpochDay() - originEpochDay);
+            int to = (int) (endDate.toEpochDay() - originEpochDay) + 1;
+            return to > from ? prefix[to] - prefix[from] : 0;
+        }
+    }
+}
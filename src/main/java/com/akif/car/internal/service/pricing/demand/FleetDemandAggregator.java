@@ -0,0 +1,264 @@
+package com.akif.car.internal.service.pricing.demand;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.repository.RentalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Fleet-wide demand signal for pricing. Keeps, per day over the booking horizon, the number of
+ * booked cars for the whole fleet and for each body type in primitive arrays, so occupancy for a
+ * rental window is a scan over its days with no queries. Bookings are applied and released
+ * incrementally from rental events; {@link #rebuild()} reloads everything from the database.
+ * Readers see an immutable {@link Snapshot}: events copy only the arrays they change and publish a
+ * new snapshot, and events that arrive while a rebuild is loading are replayed onto the rebuilt
+ * state before it is swapped in.
+ */
+@Slf4j
+@Component
+public class FleetDemandAggregator {
+
+    static final int HORIZON_DAYS = 2 * 366;
+
+    private static final String UNKNOWN_CATEGORY = "UNKNOWN";
+
+    private final CarRepository carRepository;
+    private final RentalRepository rentalRepository;
+    private final Object rebuildLock = new Object();
+    private DemandState state = new DemandState(LocalDate.now().toEpochDay());
+    private List<Consumer<DemandState>> eventsDuringRebuild;
+    private volatile Snapshot snapshot = state.publish();
+
+    public FleetDemandAggregator(CarRepository carRepository, RentalRepository rentalRepository) {
+        this.carRepository = carRepository;
+        this.rentalRepository = rentalRepository;
+    }
+
+    /**
+     * Average share of cars booked per day over the window, for the body type when the fleet has
+     * cars of that type and for the whole fleet otherwise.
+     */
+    public int occupancyPercent(String bodyType, LocalDate startDate, LocalDate endDate) {
+        Snapshot current = snapshot;
+
+        Integer category = current.categoryIndex().get(normalize(bodyType));
+        boolean byCategory = category != null && current.carsByCategory()[category] > 0;
+        int fleetSize = byCategory ? current.carsByCategory()[category] : current.fleetSize();
+        int[] booked = byCategory ? current.bookedByCategory().get(category) : current.fleetBooked();
+
+        if (fleetSize == 0) {
+            return 0;
+        }
+
+        long from = startDate.toEpochDay() - current.originEpochDay();
+        long to = endDate.toEpochDay() - current.originEpochDay();
+        long bookedCarDays = 0;
+        for (long day = Math.max(0, from); day <= Math.min(to, HORIZON_DAYS - 1L); day++) {
+            bookedCarDays += booked[(int) day];
+        }
+
+        long capacity = (long) fleetSize * (to - from + 1);
+        return capacity > 0 ? (int) Math.min(100, bookedCarDays * 100 / capacity) : 0;
+    }
+
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                eventsDuringRebuild = new ArrayList<>();
+            }
+            try {
+                List<Car> cars = carRepository.findByIsDeletedFalse(Pageable.unpaged()).getContent();
+                List<Rental> rentals = rentalRepository.findRentalsEndingOnOrAfter(
+                        LocalDate.now(), List.of(RentalStatus.CONFIRMED, RentalStatus.IN_USE));
+                rebuild(cars, rentals, LocalDate.now());
+            } finally {
+                synchronized (this) {
+                    eventsDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public synchronized void rebuild(List<Car> cars, List<Rental> rentals, LocalDate origin) {
+        DemandState rebuilt = new DemandState(origin.toEpochDay());
+        for (Car car : cars) {
+            rebuilt.addCar(car);
+        }
+        for (Rental rental : rentals) {
+            rebuilt.book(rental.getId(), rental.getCarId(), rental.getStartDate(), rental.getEndDate());
+        }
+        int replayed = 0;
+        if (eventsDuringRebuild != null) {
+            eventsDuringRebuild.forEach(event -> event.accept(rebuilt));
+            replayed = eventsDuringRebuild.size();
+            eventsDuringRebuild.clear();
+        }
+        state = rebuilt;
+        snapshot = rebuilt.publish();
+        log.info("Rebuilt fleet demand from {} cars and {} active rentals, replayed {} events",
+                rebuilt.fleetSize, rentals.size(), replayed);
+    }
+
+    public void recordBooking(Long rentalId, Long carId, LocalDate startDate, LocalDate endDate) {
+        apply(current -> {
+            if (!current.categoryByCar.containsKey(carId)) {
+                carRepository.findByIdAndIsDeletedFalse(carId).ifPresent(current::addCar);
+            }
+            current.book(rentalId, carId, startDate, endDate);
+        });
+    }
+
+    public void releaseBooking(Long rentalId, LocalDate releaseFrom) {
+        apply(current -> current.release(rentalId, releaseFrom));
+    }
+
+    public void refreshCar(Long carId) {
+        apply(current -> {
+            current.removeCar(carId);
+            carRepository.findByIdAndIsDeletedFalse(carId).ifPresent(current::addCar);
+        });
+    }
+
+    private synchronized void apply(Consumer<DemandState> event) {
+        event.accept(state);
+        snapshot = state.publish();
+        if (eventsDuringRebuild != null) {
+            eventsDuringRebuild.add(event);
+        }
+    }
+
+    private static String normalize(String bodyType) {
+        return bodyType == null || bodyType.isBlank() ? UNKNOWN_CATEGORY : bodyType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Booking(Long carId, int category, long startEpochDay, long endEpochDay) {}
+
+    /**
+     * What readers see. Nothing reachable from a snapshot is written after it is published.
+     */
+    private record Snapshot(long originEpochDay,
+                            int[] fleetBooked,
+                            List<int[]> bookedByCategory,
+                            Map<String, Integer> categoryIndex,
+                            int[] carsByCategory,
+                            int fleetSize) {}
+
+    /**
+     * Writer-side state, only touched while holding the aggregator's lock. Until the first
+     * {@link #publish()} arrays are updated in place; afterwards every change replaces the arrays,
+     * list and map it touches, so earlier snapshots keep their own copies.
+     */
+    private static final class DemandState {
+
+        final long originEpochDay;
+        int[] fleetBooked = new int[HORIZON_DAYS];
+        List<int[]> bookedByCategory = List.of();
+        Map<String, Integer> categoryIndex = Map.of();
+        int[] carsByCategory = new int[0];
+        int fleetSize;
+        boolean published;
+
+        final Map<Long, Integer> categoryByCar = new HashMap<>();
+        final Map<Long, Booking> bookings = new HashMap<>();
+
+        DemandState(long originEpochDay) {
+            this.originEpochDay = originEpochDay;
+        }
+
+        Snapshot publish() {
+            published = true;
+            return new Snapshot(originEpochDay, fleetBooked, bookedByCategory, categoryIndex, carsByCategory, fleetSize);
+        }
+
+        void addCar(Car car) {
+            if (car.getCarStatusType() == CarStatusType.SOLD || categoryByCar.containsKey(car.getId())) {
+                return;
+            }
+            int category = categoryOf(normalize(car.getBodyType()));
+            categoryByCar.put(car.getId(), category);
+            carsByCategory = carsByCategory.clone();
+            carsByCategory[category]++;
+            fleetSize++;
+        }
+
+        void removeCar(Long carId) {
+            Integer category = categoryByCar.remove(carId);
+            if (category != null) {
+                carsByCategory = carsByCategory.clone();
+                carsByCategory[category]--;
+                fleetSize--;
+            }
+        }
+
+        void book(Long rentalId, Long carId, LocalDate startDate, LocalDate endDate) {
+            Integer category = categoryByCar.get(carId);
+            if (rentalId == null || category == null || bookings.containsKey(rentalId)) {
+                return;
+            }
+            Booking booking = new Booking(carId, category, startDate.toEpochDay(), endDate.toEpochDay());
+            bookings.put(rentalId, booking);
+            apply(booking, booking.startEpochDay(), 1);
+        }
+
+        void release(Long rentalId, LocalDate releaseFrom) {
+            Booking booking = bookings.remove(rentalId);
+            if (booking == null) {
+                return;
+            }
+            long from = releaseFrom != null ? Math.max(booking.startEpochDay(), releaseFrom.toEpochDay()) : booking.startEpochDay();
+            apply(booking, from, -1);
+        }
+
+        private void apply(Booking booking, long fromEpochDay, int delta) {
+            long from = Math.max(0, fromEpochDay - originEpochDay);
+            long to = Math.min(HORIZON_DAYS - 1L, booking.endEpochDay() - originEpochDay);
+            if (from > to) {
+                return;
+            }
+
+            int[] byCategory = bookedByCategory.get(booking.category());
+            if (published) {
+                fleetBooked = fleetBooked.clone();
+                byCategory = byCategory.clone();
+                List<int[]> categories = new ArrayList<>(bookedByCategory);
+                categories.set(booking.category(), byCategory);
+                bookedByCategory = Collections.unmodifiableList(categories);
+            }
+            for (long day = from; day <= to; day++) {
+                fleetBooked[(int) day] += delta;
+                byCategory[(int) day] += delta;
+            }
+        }
+
+        private int categoryOf(String bodyType) {
+            Integer existing = categoryIndex.get(bodyType);
+            if (existing != null) {
+                return existing;
+            }
+            int index = bookedByCategory.size();
+            List<int[]> categories = new ArrayList<>(bookedByCategory);
+            categories.add(new int[HORIZON_DAYS]);
+            bookedByCategory = Collections.unmodifiableList(categories);
+            carsByCategory = Arrays.copyOf(carsByCategory, index + 1);
+            Map<String, Integer> indexes = new HashMap<>(categoryIndex);
+            indexes.put(bodyType, index);
+            categoryIndex = Collections.unmodifiableMap(indexes);
+            return index;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.dto.pricing.PricingResult;
 import com.akif.car.internal.dto.pricing.*;
 import com.akif.car.internal.service.pricing.*;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteKey;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
 import com.akif.rental.internal.config.PricingConfig;
 import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.domain.Car;
@@ -13,13 +16,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -29,18 +32,99 @@ public class DynamicPricingServiceImpl implements DynamicPricingService {
     private final List<PricingStrategy> allStrategies;
     private final CarRepository carRepository;
     private final PricingConfig config;
+    private final PriceQuoteCache priceQuoteCache;
+    private final AtomicReference<PricingPipeline> pipeline = new AtomicReference<>();
 
     @Override
     public PricingResult calculatePrice(Long carId, LocalDate startDate, LocalDate endDate, LocalDate bookingDate) {
         log.debug("Calculating price for car: {}, dates: {} to {}, booking: {}", 
             carId, startDate, endDate, bookingDate);
 
-        Car car = carRepository.findByIdAndIsDeletedFalse(carId)
-            .orElseThrow(() -> new CarNotFoundException(carId));
+        return priceQuoteCache.get(new PriceQuoteKey(carId, startDate, endDate, bookingDate), () -> {
+            Car car = carRepository.findByIdAndIsDeletedFalse(carId)
+                .orElseThrow(() -> new CarNotFoundException(carId));
 
-        PricingContext context = createContext(car, startDate, endDate, bookingDate);
-        
-        return calculatePriceWithContext(context);
+            PricingContext context = createContext(car, startDate, endDate, bookingDate);
+
+            return calculatePriceWithContext(context);
+        });
+    }
+
+    @Override
+    public PricingResult calculatePrice(Car car, LocalDate startDate, LocalDate endDate, LocalDate bookingDate) {
+        log.debug("Calculating price for loaded car: {}, dates: {} to {}, booking: {}",
+            car.getId(), startDate, endDate, bookingDate);
+
+        return priceQuoteCache.get(new PriceQuoteKey(car.getId(), startDate, endDate, bookingDate),
+            () -> calculatePriceWithContext(createContext(car, startDate, endDate, bookingDate)));
+    }
+
+    @Override
+    public Map<Long, PricingResult> calculatePrices(List<Car> cars, LocalDate startDate, LocalDate endDate, LocalDate bookingDate) {
+        log.debug("Calculating batch prices for {} cars, dates: {} to {}, booking: {}",
+            cars.size(), startDate, endDate, bookingDate);
+
+        if (cars.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Car> carsById = new LinkedHashMap<>();
+        for (Car car : cars) {
+            carsById.put(car.getId(), car);
+        }
+
+        List<PriceQuoteKey> keys = carsById.keySet().stream()
+            .map(carId -> new PriceQuoteKey(carId, startDate, endDate, bookingDate))
+            .toList();
+
+        Map<PriceQuoteKey, PricingResult> quotes = priceQuoteCache.getAll(keys, missing -> calculateBatch(
+            missing.stream().map(key -> createContext(carsById.get(key.carId()), startDate, endDate, bookingDate)).toList()
+        ));
+
+        Map<Long, PricingResult> results = new LinkedHashMap<>();
+        for (PriceQuoteKey key : keys) {
+            results.put(key.carId(), quotes.get(key));
+        }
+
+        log.info("Batch price calculation complete for {} cars", results.size());
+        return results;
+    }
+
+    private Map<PriceQuoteKey, PricingResult> calculateBatch(List<PricingContext> contexts) {
+        PricingPipeline current = pipeline();
+        PricingStrategy[] strategies = current.strategies;
+        List<List<PriceModifier>> modifiersByStrategy = new ArrayList<>(strategies.length);
+        for (PricingStrategy strategy : strategies) {
+            modifiersByStrategy.add(strategy.calculateBatch(contexts));
+        }
+
+        Map<PriceQuoteKey, PricingResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < contexts.size(); i++) {
+            List<PriceModifier> appliedModifiers = new ArrayList<>(strategies.length);
+            for (List<PriceModifier> strategyModifiers : modifiersByStrategy) {
+                appliedModifiers.add(strategyModifiers.get(i));
+            }
+            PricingContext context = contexts.get(i);
+            PriceQuoteKey key = new PriceQuoteKey(context.carId(), context.startDate(), context.endDate(), context.bookingDate());
+            results.put(key, current.buildResult(context, appliedModifiers));
+        }
+        return results;
+    }
+
+    @Override
+    public List<PricingResult> calculateWindowPrices(Car car, List<LocalDate> startDates, int rentalDays, LocalDate bookingDate) {
+        log.debug("Calculating window prices for car: {}, {} start dates, {} days each",
+            car.getId(), startDates.size(), rentalDays);
+
+        if (startDates.isEmpty()) {
+            return List.of();
+        }
+
+        List<PricingContext> windows = startDates.stream()
+            .map(startDate -> createContext(car, startDate, startDate.plusDays(rentalDays - 1L), bookingDate))
+            .toList();
+
+        return pipeline().priceWindows(windows);
     }
 
     @Override
@@ -50,24 +134,44 @@ public class DynamicPricingServiceImpl implements DynamicPricingService {
 
     @Override
     public List<PricingStrategy> getEnabledStrategies() {
-        return allStrategies.stream()
-            .filter(PricingStrategy::isEnabled)
-            .sorted(Comparator.comparingInt(PricingStrategy::getOrder))
+        return pipeline().strategyList;
+    }
+
+    @Override
+    public PricingConfig getActiveConfig() {
+        return pipeline().config;
+    }
+
+    @Override
+    public void publish(PricingConfig reloadedConfig, PricingCalendar reloadedCalendar) {
+        List<PricingStrategy> strategies = allStrategies.stream()
+            .map(strategy -> strategy.forConfig(reloadedConfig, reloadedCalendar))
             .toList();
+        PricingPipeline reloaded = PricingPipeline.compile(strategies, reloadedConfig);
+        pipeline.set(reloaded);
+        log.info("Compiled pricing pipeline with {} enabled strategies", reloaded.strategies.length);
+    }
+
+    private PricingPipeline pipeline() {
+        PricingPipeline current = pipeline.get();
+        if (current == null) {
+            pipeline.compareAndSet(null, PricingPipeline.compile(allStrategies, config));
+            current = pipeline.get();
+        }
+        return current;
     }
 
     private PricingResult calculatePriceWithContext(PricingContext context) {
-        List<PricingStrategy> enabledStrategies = getEnabledStrategies();
-        
-        log.debug("Applying {} enabled strategies", enabledStrategies.size());
+        PricingPipeline current = pipeline();
+        PricingStrategy[] strategies = current.strategies;
+
+        log.debug("Applying {} enabled strategies", strategies.length);
 
-        List<PriceModifier> appliedModifiers = new ArrayList<>();
-        BigDecimal combinedMultiplier = BigDecimal.ONE;
+        List<PriceModifier> appliedModifiers = new ArrayList<>(strategies.length);
 
-        for (PricingStrategy strategy : enabledStrategies) {
+        for (PricingStrategy strategy : strategies) {
             PriceModifier modifier = strategy.calculate(context);
             appliedModifiers.add(modifier);
-            combinedMultiplier = combinedMultiplier.multiply(modifier.multiplier());
             
             log.debug("Applied {}: {} ({})", 
                 strategy.getStrategyName(), 
@@ -75,50 +179,15 @@ public class DynamicPricingServiceImpl implements DynamicPricingService {
                 modifier.description());
         }
 
-        BigDecimal baseTotalPrice = context.basePrice()
-            .multiply(BigDecimal.valueOf(context.rentalDays()));
-
-        BigDecimal calculatedPrice = baseTotalPrice.multiply(combinedMultiplier)
-            .setScale(2, RoundingMode.HALF_UP);
-
-        BigDecimal finalPrice = applyPriceCaps(calculatedPrice, context.rentalDays());
-
-        log.info("Price calculation complete: base={}, combined={}, final={}", 
-            baseTotalPrice, calculatedPrice, finalPrice);
-
-        return PricingResult.builder()
-            .basePrice(context.basePrice())
-            .rentalDays(context.rentalDays())
-            .appliedModifiers(appliedModifiers)
-            .combinedMultiplier(combinedMultiplier)
-            .finalPrice(finalPrice)
-            .build();
-    }
+        PricingResult result = current.buildResult(context, appliedModifiers);
 
-    private BigDecimal applyPriceCaps(BigDecimal calculatedPrice, int rentalDays) {
-        BigDecimal dailyPrice = calculatedPrice.divide(
-            BigDecimal.valueOf(rentalDays), 
-            2, 
-            RoundingMode.HALF_UP
-        );
-
-        BigDecimal minDailyPrice = config.getMinDailyPrice();
-        BigDecimal maxDailyPrice = config.getMaxDailyPrice();
-
-        if (dailyPrice.compareTo(minDailyPrice) < 0) {
-            log.warn("Daily price {} below minimum {}, applying cap", dailyPrice, minDailyPrice);
-            return minDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
-        }
-
-        if (dailyPrice.compareTo(maxDailyPrice) > 0) {
-            log.warn("Daily price {} above maximum {}, applying cap", dailyPrice, maxDailyPrice);
-            return maxDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
-        }
+        log.info("Price calculation complete: base={}, final={}", 
+            result.baseTotalPrice(), result.finalPrice());
 
-        return calculatedPrice;
+        return result;
     }
 
-    private PricingContext createContext(Car car, LocalDate startDate, LocalDate endDate, LocalDate bookingDate) {
+    static PricingContext createContext(Car car, LocalDate startDate, LocalDate endDate, LocalDate bookingDate) {
         int rentalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
         int leadTimeDays = (int) ChronoUnit.DAYS.between(bookingDate, startDate);
 
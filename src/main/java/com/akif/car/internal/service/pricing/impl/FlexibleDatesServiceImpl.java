@@ -0,0 +1,155 @@
+package com.akif.car.internal.service.pricing.impl;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.dto.pricing.FlexibleDateOption;
+import com.akif.car.internal.dto.pricing.FlexibleDatesResponse;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.exception.CarNotFoundException;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.FlexibleDatesService;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.repository.RentalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FlexibleDatesServiceImpl implements FlexibleDatesService {
+
+    private static final int MAX_RENTAL_DAYS = 90;
+    private static final int MAX_FLEX_DAYS = 30;
+    private static final int MAX_LIMIT = 20;
+
+    private final CarRepository carRepository;
+    private final RentalRepository rentalRepository;
+    private final DynamicPricingService dynamicPricingService;
+
+    @Override
+    public FlexibleDatesResponse findCheapestWindows(Long carId, LocalDate preferredStartDate, int rentalDays, int flexDays, int limit) {
+        log.debug("Finding cheapest {}-day windows for car: {} around {} (±{} days)",
+            rentalDays, carId, preferredStartDate, flexDays);
+
+        validateRequest(rentalDays, flexDays, limit);
+
+        LocalDate today = LocalDate.now();
+        LocalDate searchStart = preferredStartDate.minusDays(flexDays);
+        if (searchStart.isBefore(today)) {
+            searchStart = today;
+        }
+        LocalDate searchEnd = preferredStartDate.plusDays(flexDays);
+        if (searchEnd.isBefore(searchStart)) {
+            throw new RentalValidationException("Search window cannot be in the past");
+        }
+
+        Car car = carRepository.findByIdAndIsDeletedFalse(carId)
+            .orElseThrow(() -> new CarNotFoundException(carId));
+
+        if (Arrays.asList(CarStatusType.getUnavailableStatuses()).contains(car.getCarStatusType())) {
+            log.debug("Car {} is unavailable due to status: {}", carId, car.getCarStatusType());
+            return new FlexibleDatesResponse(carId, rentalDays, preferredStartDate, searchStart, searchEnd, null, 0, List.of());
+        }
+
+        List<LocalDate> freeStartDates = findFreeStartDates(carId, searchStart, searchEnd, rentalDays);
+
+        List<PricingResult> prices = dynamicPricingService.calculateWindowPrices(car, freeStartDates, rentalDays, today);
+
+        BigDecimal preferredPrice = null;
+        List<PricedWindow> windows = new ArrayList<>(freeStartDates.size());
+        for (int i = 0; i < freeStartDates.size(); i++) {
+            PricedWindow window = new PricedWindow(freeStartDates.get(i), prices.get(i));
+            windows.add(window);
+            if (window.startDate().equals(preferredStartDate)) {
+                preferredPrice = window.pricing().finalPrice();
+            }
+        }
+
+        windows.sort(Comparator.comparing((PricedWindow window) -> window.pricing().finalPrice())
+            .thenComparing(PricedWindow::startDate));
+
+        BigDecimal referencePrice = preferredPrice;
+        List<FlexibleDateOption> options = windows.stream()
+            .limit(limit)
+            .map(window -> new FlexibleDateOption(
+                window.startDate(),
+                window.startDate().plusDays(rentalDays - 1L),
+                window.pricing().effectiveDailyPrice(),
+                window.pricing().finalPrice(),
+                referencePrice != null ? referencePrice.subtract(window.pricing().finalPrice()) : null
+            ))
+            .toList();
+
+        log.info("Priced {} available start dates for car: {} between {} and {}",
+            freeStartDates.size(), carId, searchStart, searchEnd);
+
+        return new FlexibleDatesResponse(
+            carId,
+            rentalDays,
+            preferredStartDate,
+            searchStart,
+            searchEnd,
+            preferredPrice,
+            freeStartDates.size(),
+            options
+        );
+    }
+
+    private List<LocalDate> findFreeStartDates(Long carId, LocalDate searchStart, LocalDate searchEnd, int rentalDays) {
+        LocalDate horizonEnd = searchEnd.plusDays(rentalDays - 1L);
+        int horizonDays = (int) ChronoUnit.DAYS.between(searchStart, horizonEnd) + 1;
+
+        List<Rental> rentals = rentalRepository.findOverlappingRentalsForCar(
+            carId,
+            searchStart,
+            horizonEnd,
+            Arrays.asList(RentalStatus.CONFIRMED, RentalStatus.IN_USE)
+        );
+
+        BitSet occupied = new BitSet(horizonDays);
+        for (Rental rental : rentals) {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(searchStart, rental.getStartDate()));
+            int to = (int) Math.min(horizonDays - 1, ChronoUnit.DAYS.between(searchStart, rental.getEndDate()));
+            occupied.set(from, to + 1);
+        }
+
+        int candidateCount = (int) ChronoUnit.DAYS.between(searchStart, searchEnd) + 1;
+        List<LocalDate> freeStartDates = new ArrayList<>(candidateCount);
+        for (int offset = 0; offset < candidateCount; offset++) {
+            int nextOccupied = occupied.nextSetBit(offset);
+            if (nextOccupied == -1 || nextOccupied >= offset + rentalDays) {
+                freeStartDates.add(searchStart.plusDays(offset));
+            }
+        }
+        return freeStartDates;
+    }
+
+    private void validateRequest(int rentalDays, int flexDays, int limit) {
+        if (rentalDays < 1 || rentalDays > MAX_RENTAL_DAYS) {
+            throw new RentalValidationException("Rental days must be between 1 and " + MAX_RENTAL_DAYS);
+        }
+        if (flexDays < 0 || flexDays > MAX_FLEX_DAYS) {
+            throw new RentalValidationException("Flex days must be between 0 and " + MAX_FLEX_DAYS);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new RentalValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private record PricedWindow(LocalDate startDate, PricingResult pricing) {}
+}
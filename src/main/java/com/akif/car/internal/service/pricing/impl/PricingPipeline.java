@@ -0,0 +1,195 @@
+package com.akif.car.internal.service.pricing.impl;
+
+import com.akif.car.internal.dto.pricing.PriceModifier;
+import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.shared.money.MoneyMath;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Enabled strategies in execution order plus the price caps, compiled once from
+ * {@link PricingConfig} so quoting loops over a plain array instead of filtering and sorting all
+ * strategies per call. {@link #strategies} holds the compiled stages, which are owned by this
+ * pipeline and never change; {@link #strategyList} holds the strategies they came from and
+ * {@link #config} the config they were compiled against. Replaced as a whole when the config is
+ * reloaded, so a quote prices with one config from start to finish.
+ */
+@Slf4j
+final class PricingPipeline {
+
+    final PricingStrategy[] strategies;
+    final List<PricingStrategy> strategyList;
+    final PricingConfig config;
+    final BigDecimal minDailyPrice;
+    final BigDecimal maxDailyPrice;
+    private final long minDailyMinor;
+    private final long maxDailyMinor;
+
+    private PricingPipeline(PricingStrategy[] strategies, List<PricingStrategy> strategyList, PricingConfig config) {
+        this.strategies = strategies;
+        this.strategyList = strategyList;
+        this.config = config;
+        this.minDailyPrice = config.getMinDailyPrice();
+        this.maxDailyPrice = config.getMaxDailyPrice();
+        this.minDailyMinor = MoneyMath.toMinorUnits(minDailyPrice);
+        this.maxDailyMinor = MoneyMath.toMinorUnits(maxDailyPrice);
+    }
+
+    static PricingPipeline compile(List<PricingStrategy> allStrategies, PricingConfig config) {
+        List<PricingStrategy> enabled = allStrategies.stream()
+            .filter(PricingStrategy::isEnabled)
+            .sorted(Comparator.comparingInt(PricingStrategy::getOrder))
+            .toList();
+
+        PricingStrategy[] stages = enabled.stream()
+            .map(PricingStrategy::compile)
+            .toArray(PricingStrategy[]::new);
+
+        return new PricingPipeline(stages, enabled, config);
+    }
+
+    /**
+     * Prices one car over several windows of equal length, asking each strategy for all windows at
+     * once. Returns one result per window, in the same order.
+     */
+    List<PricingResult> priceWindows(List<PricingContext> windows) {
+        List<List<PriceModifier>> modifiersByStrategy = new ArrayList<>(strategies.length);
+        for (PricingStrategy strategy : strategies) {
+            modifiersByStrategy.add(strategy.calculateWindows(windows));
+        }
+
+        List<PricingResult> results = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            List<PriceModifier> appliedModifiers = new ArrayList<>(strategies.length);
+            for (List<PriceModifier> strategyModifiers : modifiersByStrategy) {
+                appliedModifiers.add(strategyModifiers.get(i));
+            }
+            results.add(buildResult(windows.get(i), appliedModifiers));
+        }
+        return results;
+    }
+
+    PricingResult buildResult(PricingContext context, List<PriceModifier> appliedModifiers) {
+        try {
+            PricingResult result = buildFixedPoint(context, appliedModifiers);
+            if (result != null) {
+                return result;
+            }
+        } catch (ArithmeticException overflow) {
+            log.debug("Price for car {} exceeds the fixed-point range, using BigDecimal", context.carId());
+        }
+        return buildExact(context, appliedModifiers);
+    }
+
+    /**
+     * Prices in minor units. The combined multiplier is kept as an exact long with a variable scale,
+     * trailing zeros stripped per modifier, so rounding happens once, as in {@link #buildExact}.
+     * Returns null when an input has no exact fixed-point form.
+     */
+    private PricingResult buildFixedPoint(PricingContext context, List<PriceModifier> appliedModifiers) {
+        long baseMinor = MoneyMath.toMinorUnits(context.basePrice());
+        if (context.rentalDays() <= 0 || baseMinor == MoneyMath.NOT_REPRESENTABLE
+            || minDailyMinor == MoneyMath.NOT_REPRESENTABLE || maxDailyMinor == MoneyMath.NOT_REPRESENTABLE) {
+            return null;
+        }
+
+        long combinedUnscaled = 1;
+        int combinedScale = 0;
+        int decimalScale = 0;
+        for (int i = 0; i < appliedModifiers.size(); i++) {
+            PriceModifier modifier = appliedModifiers.get(i);
+            long multiplier = modifier.scaledMultiplier();
+            if (multiplier == MoneyMath.NOT_REPRESENTABLE) {
+                return null;
+            }
+            int scale = MoneyMath.MULTIPLIER_SCALE;
+            while (scale > 0 && multiplier % 10 == 0) {
+                multiplier /= 10;
+                scale--;
+            }
+            combinedUnscaled = Math.multiplyExact(combinedUnscaled, multiplier);
+            combinedScale += scale;
+            decimalScale += modifier.multiplier().scale();
+        }
+        if (decimalScale < combinedScale) {
+            return null;
+        }
+
+        int rentalDays = context.rentalDays();
+        long calculatedMinor = MoneyMath.divideHalfUp(
+            Math.multiplyExact(Math.multiplyExact(baseMinor, rentalDays), combinedUnscaled),
+            MoneyMath.powerOfTen(combinedScale)
+        );
+        long dailyMinor = MoneyMath.divideHalfUp(calculatedMinor, rentalDays);
+
+        BigDecimal finalPrice;
+        if (dailyMinor < minDailyMinor) {
+            log.warn("Daily price {} below minimum {}, applying cap", MoneyMath.fromMinorUnits(dailyMinor), minDailyPrice);
+            finalPrice = minDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
+        } else if (dailyMinor > maxDailyMinor) {
+            log.warn("Daily price {} above maximum {}, applying cap", MoneyMath.fromMinorUnits(dailyMinor), maxDailyPrice);
+            finalPrice = maxDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
+        } else {
+            finalPrice = MoneyMath.fromMinorUnits(calculatedMinor);
+        }
+
+        return PricingResult.builder()
+            .basePrice(context.basePrice())
+            .rentalDays(rentalDays)
+            .appliedModifiers(appliedModifiers)
+            .combinedMultiplier(BigDecimal.valueOf(combinedUnscaled, combinedScale).setScale(decimalScale))
+            .finalPrice(finalPrice)
+            .build();
+    }
+
+    private PricingResult buildExact(PricingContext context, List<PriceModifier> appliedModifiers) {
+        BigDecimal combinedMultiplier = BigDecimal.ONE;
+        for (PriceModifier modifier : appliedModifiers) {
+            combinedMultiplier = combinedMultiplier.multiply(modifier.multiplier());
+        }
+
+        BigDecimal baseTotalPrice = context.basePrice()
+            .multiply(BigDecimal.valueOf(context.rentalDays()));
+
+        BigDecimal calculatedPrice = baseTotalPrice.multiply(combinedMultiplier)
+            .setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal finalPrice = applyPriceCaps(calculatedPrice, context.rentalDays());
+
+        return PricingResult.builder()
+            .basePrice(context.basePrice())
+            .rentalDays(context.rentalDays())
+            .appliedModifiers(appliedModifiers)
+            .combinedMultiplier(combinedMultiplier)
+            .finalPrice(finalPrice)
+            .build();
+    }
+
+    private BigDecimal applyPriceCaps(BigDecimal calculatedPrice, int rentalDays) {
+        BigDecimal dailyPrice = calculatedPrice.divide(
+            BigDecimal.valueOf(rentalDays), 
+            2, 
+            RoundingMode.HALF_UP
+        );
+
+        if (dailyPrice.compareTo(minDailyPrice) < 0) {
+            log.warn("Daily price {} below minimum {}, applying cap", dailyPrice, minDailyPrice);
+            return minDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
+        }
+
+        if (dailyPrice.compareTo(maxDailyPrice) > 0) {
+            log.warn("Daily price {} above maximum {}, applying cap", dailyPrice, maxDailyPrice);
+            return maxDailyPrice.multiply(BigDecimal.valueOf(rentalDays));
+        }
+
+        return calculatedPrice;
+    }
+}
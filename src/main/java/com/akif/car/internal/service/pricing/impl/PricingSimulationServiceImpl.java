@@ -0,0 +1,288 @@
+package com.akif.car.internal.service.pricing.impl;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.dto.pricing.PricingSimulationRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationResponse;
+import com.akif.car.internal.dto.pricing.RevenueDelta;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.PricingSimulationService;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.reload.PricingConfigReloader;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.shared.enums.CurrencyType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs what-if pricing over the whole fleet. Baseline and candidate pipelines are compiled from
+ * copies of the strategies bound to the live and candidate config, and the fleet is split across
+ * a dedicated fork-join pool so a large simulation does not compete with request threads for the
+ * common pool. Each car's windows are priced per trip length through the batched window path, so
+ * season and weekend counts come from the prefix-sum calendar. Cars are priced in their own
+ * currency, so revenue is accumulated and reported per currency rather than summed across them.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PricingSimulationServiceImpl implements PricingSimulationService {
+
+    static final int CARS_PER_TASK = 4;
+
+    private static final String TOTAL_GROUP = "ALL";
+
+    private final List<PricingStrategy> allStrategies;
+    private final CarRepository carRepository;
+    private final PricingConfig config;
+    private final DynamicPricingService dynamicPricingService;
+    private final PricingConfigReloader pricingConfigReloader;
+    private final ForkJoinPool pool;
+
+    public PricingSimulationServiceImpl(List<PricingStrategy> allStrategies, CarRepository carRepository,
+                                        PricingConfig config, DynamicPricingService dynamicPricingService,
+                                        PricingConfigReloader pricingConfigReloader) {
+        this.allStrategies = allStrategies;
+        this.carRepository = carRepository;
+        this.config = config;
+        this.dynamicPricingService = dynamicPricingService;
+        this.pricingConfigReloader = pricingConfigReloader;
+        this.pool = new ForkJoinPool(Math.max(1, config.getSimulation().getParallelism()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Override
+    public PricingSimulationResponse simulate(PricingSimulationRequest request) {
+        Map<String, String> overrides = request.overrides() != null ? request.overrides() : Map.of();
+        List<Integer> tripLengths = request.tripLengths().stream().distinct().sorted().toList();
+        validateRequest(request.horizonDays(), tripLengths);
+
+        PricingConfig candidateConfig = pricingConfigReloader.bindCandidate(overrides);
+        PricingCalendar candidateCalendar = new PricingCalendar(candidateConfig);
+        candidateCalendar.rebuild();
+
+        PricingConfig liveConfig = dynamicPricingService.getActiveConfig();
+        PricingPipeline baseline = compile(liveConfig, new PricingCalendar(liveConfig));
+        PricingPipeline candidate = compile(candidateConfig, candidateCalendar);
+
+        List<Car> cars = carRepository.findByIsDeletedFalse(Pageable.unpaged()).getContent().stream()
+            .filter(car -> car.getCarStatusType() != CarStatusType.SOLD)
+            .toList();
+
+        List<LocalDate> startDates = new ArrayList<>(request.horizonDays());
+        for (int day = 0; day < request.horizonDays(); day++) {
+            startDates.add(request.startDate().plusDays(day));
+        }
+
+        log.info("Simulating pricing overrides {} for {} cars, {} start dates, trip lengths {}",
+            overrides, cars.size(), startDates.size(), tripLengths);
+
+        SimulationGrid grid = new SimulationGrid(startDates, tripLengths, LocalDate.now(), baseline, candidate);
+        RevenueTotals totals = pool.invoke(new SimulationTask(cars, 0, cars.size(), grid));
+
+        List<RevenueDelta> totalDeltas = new ArrayList<>(totals.byTripLength.size());
+        List<RevenueDelta> byTripLength = new ArrayList<>();
+        for (int i = 0; i < tripLengths.size(); i++) {
+            String group = String.valueOf(tripLengths.get(i));
+            for (Map.Entry<CurrencyType, RevenueTotals.Accumulator[]> entry : totals.byTripLength.entrySet()) {
+                byTripLength.add(entry.getValue()[i].toDelta(group, entry.getKey()));
+            }
+        }
+        totals.byTripLength.forEach((currency, accumulators) -> {
+            RevenueTotals.Accumulator total = new RevenueTotals.Accumulator();
+            for (RevenueTotals.Accumulator accumulator : accumulators) {
+                total.merge(accumulator);
+            }
+            totalDeltas.add(total.toDelta(TOTAL_GROUP, currency));
+        });
+
+        List<RevenueDelta> byBodyType = new ArrayList<>();
+        totals.byBodyType.forEach((bodyType, byCurrency) ->
+            byCurrency.forEach((currency, accumulator) -> byBodyType.add(accumulator.toDelta(bodyType, currency))));
+
+        for (RevenueDelta total : totalDeltas) {
+            log.info("Pricing simulation complete for {}: {} quotes, baseline={}, candidate={}, delta={}",
+                total.currency(), total.quotes(), total.baselineRevenue(), total.candidateRevenue(), total.revenueDelta());
+        }
+
+        return new PricingSimulationResponse(
+            request.startDate(),
+            startDates.get(startDates.size() - 1),
+            overrides,
+            cars.size(),
+            tripLengths,
+            totalDeltas,
+            byTripLength,
+            byBodyType
+        );
+    }
+
+    private PricingPipeline compile(PricingConfig pricingConfig, PricingCalendar calendar) {
+        List<PricingStrategy> strategies = allStrategies.stream()
+            .map(strategy -> strategy.forConfig(pricingConfig, calendar))
+            .toList();
+        return PricingPipeline.compile(strategies, pricingConfig);
+    }
+
+    private void validateRequest(int horizonDays, List<Integer> tripLengths) {
+        PricingConfig.SimulationConfig limits = config.getSimulation();
+        if (horizonDays > limits.getMaxHorizonDays()) {
+            throw new RentalValidationException("Simulation horizon cannot exceed " + limits.getMaxHorizonDays() + " days");
+        }
+        if (tripLengths.size() > limits.getMaxTripLengths()) {
+            throw new RentalValidationException("Simulation supports at most " + limits.getMaxTripLengths() + " trip lengths");
+        }
+    }
+
+    private record SimulationGrid(
+        List<LocalDate> startDates,
+        List<Integer> tripLengths,
+        LocalDate bookingDate,
+        PricingPipeline baseline,
+        PricingPipeline candidate
+    ) {}
+
+    private static final class SimulationTask extends RecursiveTask<RevenueTotals> {
+
+        private final List<Car> cars;
+        private final int from;
+        private final int to;
+        private final SimulationGrid grid;
+
+        SimulationTask(List<Car> cars, int from, int to, SimulationGrid grid) {
+            this.cars = cars;
+            this.from = from;
+            this.to = to;
+            this.grid = grid;
+        }
+
+        @Override
+        protected RevenueTotals compute() {
+            if (to - from <= CARS_PER_TASK) {
+                RevenueTotals totals = new RevenueTotals(grid.tripLengths().size());
+                for (int i = from; i < to; i++) {
+                    priceCar(cars.get(i), totals);
+                }
+                return totals;
+            }
+
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(cars, from, middle, grid);
+            left.fork();
+            RevenueTotals right = new SimulationTask(cars, middle, to, grid).compute();
+            return left.join().merge(right);
+        }
+
+        private void priceCar(Car car, RevenueTotals totals) {
+            for (int i = 0; i < grid.tripLengths().size(); i++) {
+                int tripLength = grid.tripLengths().get(i);
+                List<PricingContext> windows = new ArrayList<>(grid.startDates().size());
+                for (LocalDate startDate : grid.startDates()) {
+                    windows.add(DynamicPricingServiceImpl.createContext(
+                        car, startDate, startDate.plusDays(tripLength - 1L), grid.bookingDate()));
+                }
+
+                BigDecimal baselineRevenue = sum(grid.baseline().priceWindows(windows));
+                BigDecimal candidateRevenue = sum(grid.candidate().priceWindows(windows));
+
+                totals.forTripLength(car.getCurrencyType(), i).add(windows.size(), baselineRevenue, candidateRevenue);
+                totals.forBodyType(windows.get(0).carCategory(), car.getCurrencyType())
+                    .add(windows.size(), baselineRevenue, candidateRevenue);
+            }
+        }
+
+        private static BigDecimal sum(List<PricingResult> results) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (PricingResult result : results) {
+                total = total.add(result.finalPrice());
+            }
+            return total;
+        }
+    }
+
+    private static final class RevenueTotals {
+
+        final int tripLengths;
+        final Map<CurrencyType, Accumulator[]> byTripLength = new EnumMap<>(CurrencyType.class);
+        final Map<String, Map<CurrencyType, Accumulator>> byBodyType = new TreeMap<>();
+
+        RevenueTotals(int tripLengths) {
+            this.tripLengths = tripLengths;
+        }
+
+        Accumulator forTripLength(CurrencyType currency, int index) {
+            return byTripLength.computeIfAbsent(currency, key -> newAccumulators())[index];
+        }
+
+        Accumulator forBodyType(String bodyType, CurrencyType currency) {
+            return byBodyType.computeIfAbsent(bodyType, key -> new EnumMap<>(CurrencyType.class))
+                .computeIfAbsent(currency, key -> new Accumulator());
+        }
+
+        RevenueTotals merge(RevenueTotals other) {
+            other.byTripLength.forEach((currency, accumulators) -> {
+                for (int i = 0; i < tripLengths; i++) {
+                    forTripLength(currency, i).merge(accumulators[i]);
+                }
+            });
+            other.byBodyType.forEach((bodyType, byCurrency) ->
+                byCurrency.forEach((currency, accumulator) -> forBodyType(bodyType, currency).merge(accumulator)));
+            return this;
+        }
+
+        private Accumulator[] newAccumulators() {
+            Accumulator[] accumulators = new Accumulator[tripLengths];
+            for (int i = 0; i < tripLengths; i++) {
+                accumulators[i] = new Accumulator();
+            }
+            return accumulators;
+        }
+
+        static final class Accumulator {
+
+            long quotes;
+            BigDecimal baseline = BigDecimal.ZERO;
+            BigDecimal candidate = BigDecimal.ZERO;
+
+            void add(long count, BigDecimal baselineRevenue, BigDecimal candidateRevenue) {
+                quotes += count;
+                baseline = baseline.add(baselineRevenue);
+                candidate = candidate.add(candidateRevenue);
+            }
+
+            void merge(Accumulator other) {
+                add(other.quotes, other.baseline, other.candidate);
+            }
+
+            RevenueDelta toDelta(String group, CurrencyType currency) {
+                BigDecimal delta = candidate.subtract(baseline);
+                BigDecimal percent = baseline.signum() == 0
+                    ? BigDecimal.ZERO
+                    : delta.multiply(BigDecimal.valueOf(100)).divide(baseline, 2, RoundingMode.HALF_UP);
+                return new RevenueDelta(group, currency, quotes, baseline, candidate, delta, percent);
+            }
+        }
+    }
+}
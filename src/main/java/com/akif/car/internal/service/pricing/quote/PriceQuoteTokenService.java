@@ -0,0 +1,191 @@
+package com.akif.car.internal.service.pricing.quote;
+
+import com.akif.car.internal.dto.pricing.PriceModifier;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.exception.RentalValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Issues and verifies HMAC-signed price quotes. A token is the base64url binary encoding of the
+ * car, rental window, expiry and the priced result, followed by its HMAC-SHA256 signature, so a
+ * booking can trust the quoted price without recomputing it.
+ */
+@Slf4j
+@Service
+public class PriceQuoteTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String DELIMITER = ".";
+    private static final byte VERSION = 1;
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private final PricingConfig config;
+    private final ThreadLocal<Mac> macs;
+
+    public PriceQuoteTokenService(PricingConfig config) {
+        this.config = config;
+        String secret = config.getQuoteToken().getSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("pricing.quote-token.secret must be set (PRICING_QUOTE_TOKEN_SECRET)");
+        }
+        if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "pricing.quote-token.secret must be at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        SecretKeySpec secretKey = new SecretKeySpec(
+                secret.getBytes(StandardCharsets.UTF_8),
+                HMAC_ALGORITHM
+        );
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize price quote signer", e);
+            }
+        });
+    }
+
+    public record PriceQuoteToken(String token, Instant expiresAt) {}
+
+    public PriceQuoteToken issue(Long carId, LocalDate startDate, LocalDate endDate, PricingResult result) {
+        Instant expiresAt = Instant.now().plusSeconds(config.getQuoteToken().getTtlSeconds());
+        byte[] payload = encode(carId, startDate, endDate, expiresAt, result);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString(payload) + DELIMITER + encoder.encodeToString(sign(payload));
+
+        log.debug("Issued price quote token for car: {}, {} to {}, expires at {}", carId, startDate, endDate, expiresAt);
+        return new PriceQuoteToken(token, expiresAt);
+    }
+
+    /**
+     * Returns the quoted price when the token is valid for the given car and window, or empty when
+     * there is no token or it has expired. Tampered or mismatching tokens are rejected.
+     */
+    public Optional<PricingResult> verify(String token, Long carId, LocalDate startDate, LocalDate endDate) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        int delimiter = token.indexOf(DELIMITER);
+        if (delimiter <= 0 || delimiter != token.lastIndexOf(DELIMITER)) {
+            throw new RentalValidationException("Invalid price quote token");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(0, delimiter));
+            signature = Base64.getUrlDecoder().decode(token.substring(delimiter + 1));
+        } catch (IllegalArgumentException e) {
+            throw new RentalValidationException("Invalid price quote token");
+        }
+
+        if (!MessageDigest.isEqual(signature, sign(payload))) {
+            log.warn("Price quote token signature verification failed for car: {}", carId);
+            throw new RentalValidationException("Invalid price quote token");
+        }
+
+        DecodedQuote quote = decode(payload);
+
+        if (!quote.carId().equals(carId) || !quote.startDate().equals(startDate) || !quote.endDate().equals(endDate)) {
+            throw new RentalValidationException("Price quote does not match the requested car and dates");
+        }
+
+        if (Instant.now().isAfter(quote.expiresAt())) {
+            log.debug("Price quote token for car: {} expired at {}", carId, quote.expiresAt());
+            return Optional.empty();
+        }
+
+        return Optional.of(quote.result());
+    }
+
+    private byte[] sign(byte[] payload) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(payload);
+    }
+
+    private static byte[] encode(Long carId, LocalDate startDate, LocalDate endDate, Instant expiresAt, PricingResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(carId);
+            out.writeLong(startDate.toEpochDay());
+            out.writeLong(endDate.toEpochDay());
+            out.writeLong(expiresAt.getEpochSecond());
+            out.writeUTF(result.basePrice().toPlainString());
+            out.writeInt(result.rentalDays());
+            out.writeUTF(result.combinedMultiplier().toPlainString());
+            out.writeUTF(result.finalPrice().toPlainString());
+            out.writeShort(result.appliedModifiers().size());
+            for (PriceModifier modifier : result.appliedModifiers()) {
+                out.writeUTF(modifier.strategyName());
+                out.writeUTF(modifier.multiplier().toPlainString());
+                out.writeUTF(modifier.description());
+                out.writeBoolean(modifier.isDiscount());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode price quote", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static DecodedQuote decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new RentalValidationException("Unsupported price quote token version");
+            }
+            Long carId = in.readLong();
+            LocalDate startDate = LocalDate.ofEpochDay(in.readLong());
+            LocalDate endDate = LocalDate.ofEpochDay(in.readLong());
+            Instant expiresAt = Instant.ofEpochSecond(in.readLong());
+            BigDecimal basePrice = new BigDecimal(in.readUTF());
+            int rentalDays = in.readInt();
+            BigDecimal combinedMultiplier = new BigDecimal(in.readUTF());
+            BigDecimal finalPrice = new BigDecimal(in.readUTF());
+
+            int modifierCount = in.readShort();
+            List<PriceModifier> modifiers = new ArrayList<>(modifierCount);
+            for (int i = 0; i < modifierCount; i++) {
+                modifiers.add(new PriceModifier(in.readUTF(), new BigDecimal(in.readUTF()), in.readUTF(), in.readBoolean()));
+            }
+
+            PricingResult result = PricingResult.builder()
+                    .basePrice(basePrice)
+                    .rentalDays(rentalDays)
+                    .appliedModifiers(List.copyOf(modifiers))
+                    .combinedMultiplier(combinedMultiplier)
+                    .finalPrice(finalPrice)
+                    .build();
+
+            return new DecodedQuote(carId, startDate, endDate, expiresAt, result);
+        } catch (IOException | NumberFormatException e) {
+            throw new RentalValidationException("Invalid price quote token");
+        }
+    }
+
+    private record DecodedQuote(Long carId, LocalDate startDate, LocalDate endDate, Instant expiresAt, PricingResult result) {}
+}
@@ -0,0 +1,123 @@
+package com.akif.car.internal.service.pricing.reload;
+
+import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.exception.RentalValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.BindHandler;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.bind.handler.NoUnboundElementsBindHandler;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.InvalidConfigurationPropertyNameException;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebinds {@link PricingConfig} at runtime and recompiles everything derived from it. Values are
+ * read from {@code pricing.reload-location} when set, falling back to the application environment,
+ * so operators can edit that file and trigger a reload without a restart. The reloaded config and
+ * its calendar are built on the side and published with the pipeline in one swap; the
+ * {@code PricingConfig} bean keeps its startup values.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PricingConfigReloader {
+
+    private static final String PREFIX = "pricing";
+
+    private final PricingConfig config;
+    private final ConfigurableEnvironment environment;
+    private final ResourceLoader resourceLoader;
+    private final DynamicPricingService dynamicPricingService;
+    private final PriceQuoteCache priceQuoteCache;
+
+    public synchronized List<PricingStrategy> reload() {
+        PricingConfig reloaded = new PricingConfig();
+        binder(List.of()).bind(PREFIX, Bindable.ofInstance(reloaded));
+        reloaded.validate();
+        reloaded.setReloadLocation(config.getReloadLocation());
+
+        PricingCalendar calendar = new PricingCalendar(reloaded);
+        calendar.rebuild();
+        dynamicPricingService.publish(reloaded, calendar);
+        priceQuoteCache.invalidateAll();
+
+        List<PricingStrategy> enabled = dynamicPricingService.getEnabledStrategies();
+        log.info("Reloaded pricing config, {} strategies enabled", enabled.size());
+        return enabled;
+    }
+
+    /**
+     * Binds a standalone config from the same sources as {@link #reload()} with the given
+     * {@code pricing.*} properties taking precedence. The live config is left untouched.
+     */
+    public PricingConfig bindCandidate(Map<String, String> overrides) {
+        MapConfigurationPropertySource overrideSource = new MapConfigurationPropertySource();
+        overrides.forEach((name, value) -> {
+            if (!name.startsWith(PREFIX + ".")) {
+                throw new RentalValidationException("Pricing override must be a " + PREFIX + ".* property: " + name);
+            }
+            try {
+                overrideSource.put(name, value);
+            } catch (InvalidConfigurationPropertyNameException e) {
+                throw new RentalValidationException("Invalid pricing override name: " + name);
+            }
+        });
+
+        PricingConfig candidate = new PricingConfig();
+        try {
+            new Binder(overrideSource).bind(PREFIX, Bindable.ofInstance(new PricingConfig()), new NoUnboundElementsBindHandler(BindHandler.DEFAULT));
+            binder(List.of(overrideSource)).bind(PREFIX, Bindable.ofInstance(candidate));
+        } catch (BindException e) {
+            throw new RentalValidationException("Invalid pricing override: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+        candidate.validate();
+        return candidate;
+    }
+
+    private Binder binder(List<ConfigurationPropertySource> overrides) {
+        List<ConfigurationPropertySource> sources = new ArrayList<>(overrides);
+        String location = config.getReloadLocation();
+        if (location != null && !location.isBlank()) {
+            Resource resource = resourceLoader.getResource(location);
+            if (resource.exists()) {
+                try {
+                    new PropertiesPropertySourceLoader().load("pricingReload", resource)
+                        .forEach(source -> ConfigurationPropertySources.from(source).forEach(sources::add));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read pricing config from " + location, e);
+                }
+            } else {
+                log.warn("Pricing reload location {} does not exist, using application config", location);
+            }
+        }
+        ConfigurationPropertySources.get(environment).forEach(sources::add);
+
+        return new Binder(
+            sources,
+            new PropertySourcesPlaceholdersResolver(environment),
+            ApplicationConversionService.getSharedInstance()
+        );
+    }
+}
@@ -1,46 +1,93 @@
 package com.akif.car.internal.service.pricing.strategy;
 
 import com.akif.rental.internal.config.PricingConfig;
-import com.akif.rental.internal.repository.RentalRepository;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.service.pricing.PricingStrategy;
-import lombok.RequiredArgsConstructor;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import com.akif.shared.money.MoneyMath;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @Order(5)
-@RequiredArgsConstructor
 public class DemandPricingStrategy implements PricingStrategy {
 
     private final PricingConfig config;
-    private final RentalRepository rentalRepository;
+    private final FleetDemandAggregator fleetDemandAggregator;
+    private final Rules compiledRules;
+
+    @Autowired
+    public DemandPricingStrategy(PricingConfig config, FleetDemandAggregator fleetDemandAggregator) {
+        this(config, fleetDemandAggregator, null);
+    }
+
+    private DemandPricingStrategy(PricingConfig config, FleetDemandAggregator fleetDemandAggregator, Rules compiledRules) {
+        this.config = config;
+        this.fleetDemandAggregator = fleetDemandAggregator;
+        this.compiledRules = compiledRules;
+    }
 
     @Override
     public PriceModifier calculate(PricingContext context) {
-
-        long overlappingRentals = rentalRepository.countOverlappingRentals(
-            context.carId(),
+        return toModifier(fleetDemandAggregator.occupancyPercent(
+            context.carCategory(),
             context.startDate(),
             context.endDate()
-        );
+        ));
+    }
+
+    @Override
+    public List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        Map<String, PriceModifier> modifiersByCategory = new HashMap<>();
 
-        int occupancyPercent = (int) Math.min(overlappingRentals * 10, 100);
+        return contexts.stream()
+            .map(context -> modifiersByCategory.computeIfAbsent(context.carCategory(), category -> calculate(context)))
+            .toList();
+    }
 
-        if (occupancyPercent > config.getDemand().getHigh().getThreshold()) {
-            return PriceModifier.surcharge(
+    @Override
+    public PricingStrategy compile() {
+        return new DemandPricingStrategy(config, fleetDemandAggregator, Rules.from(config));
+    }
+
+    @Override
+    public PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return new DemandPricingStrategy(candidateConfig, fleetDemandAggregator);
+    }
+
+    private Rules rules() {
+        Rules rules = compiledRules;
+        return rules != null ? rules : Rules.from(config);
+    }
+
+    private PriceModifier toModifier(int occupancyPercent) {
+        Rules rules = rules();
+
+        if (occupancyPercent > rules.highThreshold()) {
+            return new PriceModifier(
                 getStrategyName(),
-                config.getDemand().getHigh().getMultiplier(),
-                String.format("High demand (%d%% occupancy)", occupancyPercent)
+                rules.highMultiplier(),
+                String.format("High demand (%d%% occupancy)", occupancyPercent),
+                false,
+                rules.scaledHighMultiplier()
             );
         }
 
-        if (occupancyPercent >= config.getDemand().getModerate().getThreshold()) {
-            return PriceModifier.surcharge(
+        if (occupancyPercent >= rules.moderateThreshold()) {
+            return new PriceModifier(
                 getStrategyName(),
-                config.getDemand().getModerate().getMultiplier(),
-                String.format("Moderate demand (%d%% occupancy)", occupancyPercent)
+                rules.moderateMultiplier(),
+                String.format("Moderate demand (%d%% occupancy)", occupancyPercent),
+                false,
+                rules.scaledModerateMultiplier()
             );
         }
 
@@ -64,4 +111,27 @@ public class DemandPricingStrategy implements PricingStrategy {
     public int getOrder() {
         return 5;
     }
+
+    private record Rules(
+        int highThreshold,
+        BigDecimal highMultiplier,
+        long scaledHighMultiplier,
+        int moderateThreshold,
+        BigDecimal moderateMultiplier,
+        long scaledModerateMultiplier
+    ) {
+
+        static Rules from(PricingConfig config) {
+            BigDecimal highMultiplier = config.getDemand().getHigh().getMultiplier();
+            BigDecimal moderateMultiplier = config.getDemand().getModerate().getMultiplier();
+            return new Rules(
+                config.getDemand().getHigh().getThreshold(),
+                highMultiplier,
+                MoneyMath.toMultiplier(highMultiplier),
+                config.getDemand().getModerate().getThreshold(),
+                moderateMultiplier,
+                MoneyMath.toMultiplier(moderateMultiplier)
+            );
+        }
+    }
 }
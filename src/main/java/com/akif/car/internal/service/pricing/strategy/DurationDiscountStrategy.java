@@ -4,56 +4,64 @@ import com.akif.rental.internal.config.PricingConfig;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.service.pricing.PricingStrategy;
-import lombok.RequiredArgsConstructor;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
+
 @Component
 @Order(3)
-@RequiredArgsConstructor
 public class DurationDiscountStrategy implements PricingStrategy {
 
+    private static final String STRATEGY_NAME = "Duration Discount";
+
     private final PricingConfig config;
+    private final Rules compiledRules;
+
+    @Autowired
+    public DurationDiscountStrategy(PricingConfig config) {
+        this(config, null);
+    }
+
+    private DurationDiscountStrategy(PricingConfig config, Rules compiledRules) {
+        this.config = config;
+        this.compiledRules = compiledRules;
+    }
 
     @Override
     public PriceModifier calculate(PricingContext context) {
-        int rentalDays = context.rentalDays();
-
-        if (rentalDays >= config.getDuration().getTier3().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getDuration().getTier3().getMultiplier(),
-                String.format("Long-term rental discount (%d+ days)", 
-                    config.getDuration().getTier3().getDays())
-            );
-        }
+        return rules().forRentalDays(context.rentalDays());
+    }
 
-        if (rentalDays >= config.getDuration().getTier2().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getDuration().getTier2().getMultiplier(),
-                String.format("Extended rental discount (%d-%d days)",
-                    config.getDuration().getTier2().getDays(),
-                    config.getDuration().getTier3().getDays() - 1)
-            );
-        }
+    @Override
+    public PricingStrategy compile() {
+        return new DurationDiscountStrategy(config, Rules.from(config));
+    }
 
-        if (rentalDays >= config.getDuration().getTier1().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getDuration().getTier1().getMultiplier(),
-                String.format("Weekly rental discount (%d-%d days)",
-                    config.getDuration().getTier1().getDays(),
-                    config.getDuration().getTier2().getDays() - 1)
-            );
-        }
+    @Override
+    public PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return new DurationDiscountStrategy(candidateConfig);
+    }
 
-        return PriceModifier.neutral(getStrategyName(), "No duration discount");
+    private Rules rules() {
+        Rules rules = compiledRules;
+        return rules != null ? rules : Rules.from(config);
+    }
+
+    @Override
+    public List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        if (contexts.isEmpty()) {
+            return List.of();
+        }
+        return Collections.nCopies(contexts.size(), calculate(contexts.get(0)));
     }
 
     @Override
     public String getStrategyName() {
-        return "Duration Discount";
+        return STRATEGY_NAME;
     }
 
     @Override
@@ -65,4 +73,47 @@ public class DurationDiscountStrategy implements PricingStrategy {
     public int getOrder() {
         return 3;
     }
+
+    private record Rules(
+        int tier1Days,
+        int tier2Days,
+        int tier3Days,
+        PriceModifier tier1,
+        PriceModifier tier2,
+        PriceModifier tier3,
+        PriceModifier none
+    ) {
+
+        static Rules from(PricingConfig config) {
+            PricingConfig.Tier tier1 = config.getDuration().getTier1();
+            PricingConfig.Tier tier2 = config.getDuration().getTier2();
+            PricingConfig.Tier tier3 = config.getDuration().getTier3();
+
+            return new Rules(
+                tier1.getDays(),
+                tier2.getDays(),
+                tier3.getDays(),
+                PriceModifier.discount(STRATEGY_NAME, tier1.getMultiplier(),
+                    String.format("Weekly rental discount (%d-%d days)", tier1.getDays(), tier2.getDays() - 1)),
+                PriceModifier.discount(STRATEGY_NAME, tier2.getMultiplier(),
+                    String.format("Extended rental discount (%d-%d days)", tier2.getDays(), tier3.getDays() - 1)),
+                PriceModifier.discount(STRATEGY_NAME, tier3.getMultiplier(),
+                    String.format("Long-term rental discount (%d+ days)", tier3.getDays())),
+                PriceModifier.neutral(STRATEGY_NAME, "No duration discount")
+            );
+        }
+
+        PriceModifier forRentalDays(int rentalDays) {
+            if (rentalDays >= tier3Days) {
+                return tier3;
+            }
+            if (rentalDays >= tier2Days) {
+                return tier2;
+            }
+            if (rentalDays >= tier1Days) {
+                return tier1;
+            }
+            return none;
+        }
+    }
 }
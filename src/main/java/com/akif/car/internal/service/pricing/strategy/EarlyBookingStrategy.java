@@ -4,56 +4,64 @@ import com.akif.rental.internal.config.PricingConfig;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.service.pricing.PricingStrategy;
-import lombok.RequiredArgsConstructor;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
+
 @Component
 @Order(2)
-@RequiredArgsConstructor
 public class EarlyBookingStrategy implements PricingStrategy {
 
+    private static final String STRATEGY_NAME = "Early Booking";
+
     private final PricingConfig config;
+    private final Rules compiledRules;
+
+    @Autowired
+    public EarlyBookingStrategy(PricingConfig config) {
+        this(config, null);
+    }
+
+    private EarlyBookingStrategy(PricingConfig config, Rules compiledRules) {
+        this.config = config;
+        this.compiledRules = compiledRules;
+    }
 
     @Override
     public PriceModifier calculate(PricingContext context) {
-        int leadTimeDays = context.leadTimeDays();
-
-        if (leadTimeDays >= config.getEarlyBooking().getTier1().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getEarlyBooking().getTier1().getMultiplier(),
-                String.format("Early booking discount (%d+ days advance)", 
-                    config.getEarlyBooking().getTier1().getDays())
-            );
-        }
+        return rules().forLeadTime(context.leadTimeDays());
+    }
 
-        if (leadTimeDays >= config.getEarlyBooking().getTier2().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getEarlyBooking().getTier2().getMultiplier(),
-                String.format("Early booking discount (%d-%d days advance)",
-                    config.getEarlyBooking().getTier2().getDays(),
-                    config.getEarlyBooking().getTier1().getDays() - 1)
-            );
-        }
+    @Override
+    public PricingStrategy compile() {
+        return new EarlyBookingStrategy(config, Rules.from(config));
+    }
 
-        if (leadTimeDays >= config.getEarlyBooking().getTier3().getDays()) {
-            return PriceModifier.discount(
-                getStrategyName(),
-                config.getEarlyBooking().getTier3().getMultiplier(),
-                String.format("Early booking discount (%d-%d days advance)",
-                    config.getEarlyBooking().getTier3().getDays(),
-                    config.getEarlyBooking().getTier2().getDays() - 1)
-            );
-        }
+    @Override
+    public PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return new EarlyBookingStrategy(candidateConfig);
+    }
 
-        return PriceModifier.neutral(getStrategyName(), "No early booking discount");
+    private Rules rules() {
+        Rules rules = compiledRules;
+        return rules != null ? rules : Rules.from(config);
+    }
+
+    @Override
+    public List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        if (contexts.isEmpty()) {
+            return List.of();
+        }
+        return Collections.nCopies(contexts.size(), calculate(contexts.get(0)));
     }
 
     @Override
     public String getStrategyName() {
-        return "Early Booking";
+        return STRATEGY_NAME;
     }
 
     @Override
@@ -65,4 +73,47 @@ public class EarlyBookingStrategy implements PricingStrategy {
     public int getOrder() {
         return 2;
     }
+
+    private record Rules(
+        int tier1Days,
+        int tier2Days,
+        int tier3Days,
+        PriceModifier tier1,
+        PriceModifier tier2,
+        PriceModifier tier3,
+        PriceModifier none
+    ) {
+
+        static Rules from(PricingConfig config) {
+            PricingConfig.Tier tier1 = config.getEarlyBooking().getTier1();
+            PricingConfig.Tier tier2 = config.getEarlyBooking().getTier2();
+            PricingConfig.Tier tier3 = config.getEarlyBooking().getTier3();
+
+            return new Rules(
+                tier1.getDays(),
+                tier2.getDays(),
+                tier3.getDays(),
+                PriceModifier.discount(STRATEGY_NAME, tier1.getMultiplier(),
+                    String.format("Early booking discount (%d+ days advance)", tier1.getDays())),
+                PriceModifier.discount(STRATEGY_NAME, tier2.getMultiplier(),
+                    String.format("Early booking discount (%d-%d days advance)", tier2.getDays(), tier1.getDays() - 1)),
+                PriceModifier.discount(STRATEGY_NAME, tier3.getMultiplier(),
+                    String.format("Early booking discount (%d-%d days advance)", tier3.getDays(), tier2.getDays() - 1)),
+                PriceModifier.neutral(STRATEGY_NAME, "No early booking discount")
+            );
+        }
+
+        PriceModifier forLeadTime(int leadTimeDays) {
+            if (leadTimeDays >= tier1Days) {
+                return tier1;
+            }
+            if (leadTimeDays >= tier2Days) {
+                return tier2;
+            }
+            if (leadTimeDays >= tier3Days) {
+                return tier3;
+            }
+            return none;
+        }
+    }
 }
@@ -4,58 +4,82 @@ import com.akif.rental.internal.config.PricingConfig;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.service.pricing.PricingStrategy;
-import lombok.RequiredArgsConstructor;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.shared.money.MoneyMath;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.MonthDay;
+import java.util.Collections;
+import java.util.List;
 
 @Component
 @Order(1)
-@RequiredArgsConstructor
 public class SeasonPricingStrategy implements PricingStrategy {
 
+    private static final int WEIGHTED_SCALE = 4;
+    private static final long WEIGHTED_ONE = 10_000;
+    private static final long WEIGHTED_DIVISOR = MoneyMath.MULTIPLIER_ONE / WEIGHTED_ONE;
+
     private final PricingConfig config;
+    private final PricingCalendar pricingCalendar;
+    private final Rules compiledRules;
+
+    @Autowired
+    public SeasonPricingStrategy(PricingConfig config, PricingCalendar pricingCalendar) {
+        this(config, pricingCalendar, null);
+    }
+
+    private SeasonPricingStrategy(PricingConfig config, PricingCalendar pricingCalendar, Rules compiledRules) {
+        this.config = config;
+        this.pricingCalendar = pricingCalendar;
+        this.compiledRules = compiledRules;
+    }
 
     @Override
     public PriceModifier calculate(PricingContext context) {
-        int peakDays = countDaysInSeason(
-            context.startDate(), 
-            context.endDate(),
-            config.getSeason().getPeak().getStart(),
-            config.getSeason().getPeak().getEnd()
-        );
+        int peakDays = pricingCalendar.countPeakDays(context.startDate(), context.endDate());
+        int offpeakDays = pricingCalendar.countOffpeakDays(context.startDate(), context.endDate());
 
-        int offpeakDays = countDaysInSeason(
-            context.startDate(),
-            context.endDate(),
-            config.getSeason().getOffpeak().getStart(),
-            config.getSeason().getOffpeak().getEnd()
-        );
+        return toModifier(peakDays, offpeakDays, context.rentalDays());
+    }
 
-        int totalDays = context.rentalDays();
+    private PriceModifier toModifier(int peakDays, int offpeakDays, int totalDays) {
         int regularDays = totalDays - peakDays - offpeakDays;
 
         if (peakDays == 0 && offpeakDays == 0) {
             return PriceModifier.neutral(getStrategyName(), "Regular season");
         }
 
-        BigDecimal peakMultiplier = config.getSeason().getPeak().getMultiplier();
-        BigDecimal offpeakMultiplier = config.getSeason().getOffpeak().getMultiplier();
-        BigDecimal regularMultiplier = BigDecimal.ONE;
+        String description = buildDescription(peakDays, offpeakDays, regularDays, totalDays);
+
+        Rules rules = rules();
+        if (rules.isFixedPoint()) {
+            try {
+                return toModifier(weightedFixedPoint(rules, peakDays, offpeakDays, regularDays, totalDays), description);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal below
+            }
+        }
+        return toModifier(weightedExact(rules, peakDays, offpeakDays, regularDays, totalDays), description);
+    }
 
-        BigDecimal peakPortion = peakMultiplier.multiply(BigDecimal.valueOf(peakDays));
-        BigDecimal offpeakPortion = offpeakMultiplier.multiply(BigDecimal.valueOf(offpeakDays));
-        BigDecimal regularPortion = regularMultiplier.multiply(BigDecimal.valueOf(regularDays));
+    private PriceModifier toModifier(long weightedMultiplier, String description) {
+        BigDecimal multiplier = BigDecimal.valueOf(weightedMultiplier, WEIGHTED_SCALE);
+        long scaledMultiplier = weightedMultiplier * WEIGHTED_DIVISOR;
 
-        BigDecimal weightedMultiplier = peakPortion.add(offpeakPortion).add(regularPortion)
-            .divide(BigDecimal.valueOf(totalDays), 4, RoundingMode.HALF_UP);
+        if (weightedMultiplier > WEIGHTED_ONE) {
+            return new PriceModifier(getStrategyName(), multiplier, description, false, scaledMultiplier);
+        } else if (weightedMultiplier < WEIGHTED_ONE) {
+            return new PriceModifier(getStrategyName(), multiplier, description, true, scaledMultiplier);
+        }
 
-        String description = buildDescription(peakDays, offpeakDays, regularDays, totalDays);
+        return PriceModifier.neutral(getStrategyName(), description);
+    }
 
+    private PriceModifier toModifier(BigDecimal weightedMultiplier, String description) {
         if (weightedMultiplier.compareTo(BigDecimal.ONE) > 0) {
             return PriceModifier.surcharge(getStrategyName(), weightedMultiplier, description);
         } else if (weightedMultiplier.compareTo(BigDecimal.ONE) < 0) {
@@ -65,28 +89,39 @@ public class SeasonPricingStrategy implements PricingStrategy {
         return PriceModifier.neutral(getStrategyName(), description);
     }
 
-    private int countDaysInSeason(LocalDate startDate, LocalDate endDate, MonthDay seasonStart, MonthDay seasonEnd) {
-        int count = 0;
-        LocalDate current = startDate;
+    private static long weightedFixedPoint(Rules rules, int peakDays, int offpeakDays, int regularDays, int totalDays) {
+        long weightedSum = Math.addExact(
+            Math.addExact(
+                Math.multiplyExact(rules.scaledPeakMultiplier(), peakDays),
+                Math.multiplyExact(rules.scaledOffpeakMultiplier(), offpeakDays)
+            ),
+            Math.multiplyExact(MoneyMath.MULTIPLIER_ONE, regularDays)
+        );
+        return MoneyMath.divideHalfUp(weightedSum, Math.multiplyExact(WEIGHTED_DIVISOR, totalDays));
+    }
 
-        while (!current.isAfter(endDate)) {
-            if (isDateInSeason(current, seasonStart, seasonEnd)) {
-                count++;
-            }
-            current = current.plusDays(1);
-        }
+    private static BigDecimal weightedExact(Rules rules, int peakDays, int offpeakDays, int regularDays, int totalDays) {
+        BigDecimal peakPortion = rules.peakMultiplier().multiply(BigDecimal.valueOf(peakDays));
+        BigDecimal offpeakPortion = rules.offpeakMultiplier().multiply(BigDecimal.valueOf(offpeakDays));
+        BigDecimal regularPortion = BigDecimal.ONE.multiply(BigDecimal.valueOf(regularDays));
 
-        return count;
+        return peakPortion.add(offpeakPortion).add(regularPortion)
+            .divide(BigDecimal.valueOf(totalDays), WEIGHTED_SCALE, RoundingMode.HALF_UP);
     }
 
-    private boolean isDateInSeason(LocalDate date, MonthDay seasonStart, MonthDay seasonEnd) {
-        MonthDay dateMonthDay = MonthDay.from(date);
+    @Override
+    public PricingStrategy compile() {
+        return new SeasonPricingStrategy(config, pricingCalendar, Rules.from(config));
+    }
 
-        if (seasonStart.isAfter(seasonEnd)) {
-            return dateMonthDay.compareTo(seasonStart) >= 0 || dateMonthDay.compareTo(seasonEnd) <= 0;
-        }
+    @Override
+    public PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return new SeasonPricingStrategy(candidateConfig, candidateCalendar);
+    }
 
-        return dateMonthDay.compareTo(seasonStart) >= 0 && dateMonthDay.compareTo(seasonEnd) <= 0;
+    private Rules rules() {
+        Rules rules = compiledRules;
+        return rules != null ? rules : Rules.from(config);
     }
 
     private String buildDescription(int peakDays, int offpeakDays, int regularDays, int totalDays) {
@@ -101,6 +136,14 @@ public class SeasonPricingStrategy implements PricingStrategy {
         return "Regular season";
     }
 
+    @Override
+    public List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        if (contexts.isEmpty()) {
+            return List.of();
+        }
+        return Collections.nCopies(contexts.size(), calculate(contexts.get(0)));
+    }
+
     @Override
     public String getStrategyName() {
         return "Season Pricing";
@@ -115,4 +158,28 @@ public class SeasonPricingStrategy implements PricingStrategy {
     public int getOrder() {
         return 1;
     }
+
+    private record Rules(
+        BigDecimal peakMultiplier,
+        BigDecimal offpeakMultiplier,
+        long scaledPeakMultiplier,
+        long scaledOffpeakMultiplier
+    ) {
+
+        static Rules from(PricingConfig config) {
+            BigDecimal peakMultiplier = config.getSeason().getPeak().getMultiplier();
+            BigDecimal offpeakMultiplier = config.getSeason().getOffpeak().getMultiplier();
+            return new Rules(
+                peakMultiplier,
+                offpeakMultiplier,
+                MoneyMath.toMultiplier(peakMultiplier),
+                MoneyMath.toMultiplier(offpeakMultiplier)
+            );
+        }
+
+        boolean isFixedPoint() {
+            return scaledPeakMultiplier != MoneyMath.NOT_REPRESENTABLE
+                && scaledOffpeakMultiplier != MoneyMath.NOT_REPRESENTABLE;
+        }
+    }
 }
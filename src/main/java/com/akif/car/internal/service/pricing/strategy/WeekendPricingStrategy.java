@@ -4,41 +4,89 @@ import com.akif.rental.internal.config.PricingConfig;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
 import com.akif.car.internal.service.pricing.PricingStrategy;
-import lombok.RequiredArgsConstructor;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.shared.money.MoneyMath;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
 
 @Component
 @Order(4)
-@RequiredArgsConstructor
 public class WeekendPricingStrategy implements PricingStrategy {
 
+    private static final int WEIGHTED_SCALE = 4;
+    private static final long WEIGHTED_ONE = 10_000;
+    private static final long WEIGHTED_DIVISOR = MoneyMath.MULTIPLIER_ONE / WEIGHTED_ONE;
+
     private final PricingConfig config;
+    private final PricingCalendar pricingCalendar;
+    private final Rules compiledRules;
+
+    @Autowired
+    public WeekendPricingStrategy(PricingConfig config, PricingCalendar pricingCalendar) {
+        this(config, pricingCalendar, null);
+    }
+
+    private WeekendPricingStrategy(PricingConfig config, PricingCalendar pricingCalendar, Rules compiledRules) {
+        this.config = config;
+        this.pricingCalendar = pricingCalendar;
+        this.compiledRules = compiledRules;
+    }
 
     @Override
     public PriceModifier calculate(PricingContext context) {
-        int weekendDays = countWeekendDays(context.startDate(), context.endDate());
-        int totalDays = context.rentalDays();
+        int weekendDays = pricingCalendar.countWeekendDays(context.startDate(), context.endDate());
+        return toModifier(weekendDays, context.rentalDays());
+    }
+
+    @Override
+    public PricingStrategy compile() {
+        return new WeekendPricingStrategy(config, pricingCalendar, Rules.from(config));
+    }
 
+    @Override
+    public PricingStrategy forConfig(PricingConfig candidateConfig, PricingCalendar candidateCalendar) {
+        return new WeekendPricingStrategy(candidateConfig, candidateCalendar);
+    }
+
+    private Rules rules() {
+        Rules rules = compiledRules;
+        return rules != null ? rules : Rules.from(config);
+    }
+
+    private PriceModifier toModifier(int weekendDays, int totalDays) {
         if (weekendDays == 0) {
             return PriceModifier.neutral(getStrategyName(), "No weekend days");
         }
 
-        BigDecimal weekendMultiplier = config.getWeekend().getMultiplier();
-        BigDecimal weekdayMultiplier = BigDecimal.ONE;
+        String description = String.format("Weekend pricing (%d/%d days)", weekendDays, totalDays);
 
-        BigDecimal weekendPortion = weekendMultiplier.multiply(BigDecimal.valueOf(weekendDays));
-        BigDecimal weekdayPortion = weekdayMultiplier.multiply(BigDecimal.valueOf(totalDays - weekendDays));
-        BigDecimal weightedMultiplier = weekendPortion.add(weekdayPortion)
-            .divide(BigDecimal.valueOf(totalDays), 4, RoundingMode.HALF_UP);
+        Rules rules = rules();
+        if (rules.scaledMultiplier() != MoneyMath.NOT_REPRESENTABLE) {
+            try {
+                return toModifier(weightedFixedPoint(rules, weekendDays, totalDays), description);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal below
+            }
+        }
+        return toModifier(weightedExact(rules, weekendDays, totalDays), description);
+    }
 
-        String description = String.format("Weekend pricing (%d/%d days)", weekendDays, totalDays);
+    private PriceModifier toModifier(long weightedMultiplier, String description) {
+        if (weightedMultiplier > WEIGHTED_ONE) {
+            return new PriceModifier(getStrategyName(), BigDecimal.valueOf(weightedMultiplier, WEIGHTED_SCALE),
+                description, false, weightedMultiplier * WEIGHTED_DIVISOR);
+        }
+
+        return PriceModifier.neutral(getStrategyName(), description);
+    }
 
+    private PriceModifier toModifier(BigDecimal weightedMultiplier, String description) {
         if (weightedMultiplier.compareTo(BigDecimal.ONE) > 0) {
             return PriceModifier.surcharge(getStrategyName(), weightedMultiplier, description);
         }
@@ -46,19 +94,27 @@ public class WeekendPricingStrategy implements PricingStrategy {
         return PriceModifier.neutral(getStrategyName(), description);
     }
 
-    private int countWeekendDays(LocalDate startDate, LocalDate endDate) {
-        int count = 0;
-        LocalDate current = startDate;
+    private static long weightedFixedPoint(Rules rules, int weekendDays, int totalDays) {
+        long weightedSum = Math.addExact(
+            Math.multiplyExact(rules.scaledMultiplier(), weekendDays),
+            Math.multiplyExact(MoneyMath.MULTIPLIER_ONE, totalDays - weekendDays)
+        );
+        return MoneyMath.divideHalfUp(weightedSum, Math.multiplyExact(WEIGHTED_DIVISOR, totalDays));
+    }
 
-        while (!current.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = current.getDayOfWeek();
-            if (config.getWeekend().getDays().contains(dayOfWeek)) {
-                count++;
-            }
-            current = current.plusDays(1);
-        }
+    private static BigDecimal weightedExact(Rules rules, int weekendDays, int totalDays) {
+        BigDecimal weekendPortion = rules.multiplier().multiply(BigDecimal.valueOf(weekendDays));
+        BigDecimal weekdayPortion = BigDecimal.ONE.multiply(BigDecimal.valueOf(totalDays - weekendDays));
+        return weekendPortion.add(weekdayPortion)
+            .divide(BigDecimal.valueOf(totalDays), WEIGHTED_SCALE, RoundingMode.HALF_UP);
+    }
 
-        return count;
+    @Override
+    public List<PriceModifier> calculateBatch(List<PricingContext> contexts) {
+        if (contexts.isEmpty()) {
+            return List.of();
+        }
+        return Collections.nCopies(contexts.size(), calculate(contexts.get(0)));
     }
 
     @Override
@@ -75,4 +131,12 @@ public class WeekendPricingStrategy implements PricingStrategy {
     public int getOrder() {
         return 4;
     }
+
+    private record Rules(BigDecimal multiplier, long scaledMultiplier) {
+
+        static Rules from(PricingConfig config) {
+            BigDecimal multiplier = config.getWeekend().getMultiplier();
+            return new Rules(multiplier, MoneyMath.toMultiplier(multiplier));
+        }
+    }
 }
@@ -1,16 +1,26 @@
 package com.akif.car.web;
 
 import com.akif.car.internal.dto.response.PricingResponse;
+import com.akif.car.internal.dto.pricing.FlexibleDatesResponse;
 import com.akif.car.internal.dto.pricing.PricingRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationResponse;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.FlexibleDatesService;
 import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.PricingSimulationService;
 import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.quote.PriceQuoteTokenService;
+import com.akif.car.internal.service.pricing.reload.PricingConfigReloader;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -26,6 +36,10 @@ import java.util.Map;
 public class PricingController {
 
     private final DynamicPricingService dynamicPricingService;
+    private final FlexibleDatesService flexibleDatesService;
+    private final PriceQuoteTokenService priceQuoteTokenService;
+    private final PricingConfigReloader pricingConfigReloader;
+    private final PricingSimulationService pricingSimulationService;
 
     @PostMapping("/calculate")
     @Operation(summary = "Calculate rental price", 
@@ -41,7 +55,8 @@ public class PricingController {
             LocalDate.now()
         );
 
-        PricingResponse response = PricingResponse.fromPricingResult(result);
+        PricingResponse response = withQuoteToken(
+            PricingResponse.fromPricingResult(result), request.carId(), request.startDate(), request.endDate(), result);
         
         log.info("Price calculated: base={}, final={}, savings={}", 
             response.getBaseTotalPrice(), response.getFinalPrice(), response.getTotalSavings());
@@ -63,7 +78,31 @@ public class PricingController {
         LocalDate end = LocalDate.parse(endDate);
 
         PricingResult result = dynamicPricingService.previewPrice(carId, start, end);
-        PricingResponse response = PricingResponse.fromPricingResult(result);
+        PricingResponse response = withQuoteToken(PricingResponse.fromPricingResult(result), carId, start, end, result);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/flexible-dates")
+    @Operation(summary = "Find cheapest flexible dates", 
+               description = "Returns the cheapest available start dates for a car within ±flexDays of the preferred start date")
+    public ResponseEntity<FlexibleDatesResponse> findFlexibleDates(
+            @RequestParam Long carId,
+            @RequestParam String preferredStartDate,
+            @RequestParam int rentalDays,
+            @RequestParam(defaultValue = "7") int flexDays,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        log.info("Finding flexible dates for car: {}, preferred start: {}, {} days, ±{} days",
+            carId, preferredStartDate, rentalDays, flexDays);
+
+        FlexibleDatesResponse response = flexibleDatesService.findCheapestWindows(
+            carId,
+            LocalDate.parse(preferredStartDate),
+            rentalDays,
+            flexDays,
+            limit
+        );
 
         return ResponseEntity.ok(response);
     }
@@ -88,4 +127,51 @@ public class PricingController {
 
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reload pricing config",
+               description = "Rebinds pricing config and recompiles the strategy pipeline without a restart (Admin only)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pricing config reloaded, returns the enabled strategies"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<List<Map<String, Object>>> reloadConfig() {
+        log.info("Admin requested pricing config reload");
+
+        List<Map<String, Object>> response = pricingConfigReloader.reload().stream()
+            .map(strategy -> Map.of(
+                "name", (Object) strategy.getStrategyName(),
+                "order", (Object) strategy.getOrder(),
+                "enabled", (Object) strategy.isEnabled()
+            ))
+            .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/simulate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Simulate pricing config",
+               description = "Prices the active fleet over a horizon with candidate pricing overrides and returns revenue deltas against the live config (Admin only)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Simulation completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid overrides, horizon or trip lengths"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin role required")
+    })
+    public ResponseEntity<PricingSimulationResponse> simulate(@Valid @RequestBody PricingSimulationRequest request) {
+        log.info("Admin requested pricing simulation from {} over {} days", request.startDate(), request.horizonDays());
+
+        PricingSimulationResponse response = pricingSimulationService.simulate(request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    private PricingResponse withQuoteToken(PricingResponse response, Long carId, LocalDate startDate,
+                                           LocalDate endDate, PricingResult result) {
+        PriceQuoteTokenService.PriceQuoteToken quote = priceQuoteTokenService.issue(carId, startDate, endDate, result);
+        response.setQuoteToken(quote.token());
+        response.setQuoteExpiresAt(quote.expiresAt());
+        return response;
+    }
 }
@@ -4,10 +4,14 @@ import com.akif.damage.domain.enums.DamageCategory;
 import com.akif.damage.domain.enums.DamageSeverity;
 import com.akif.damage.domain.enums.DamageStatus;
 import com.akif.damage.domain.model.DamageReport;
+import com.akif.shared.export.StreamingExportWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +20,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DamageReportRepository extends JpaRepository<DamageReport, Long> {
@@ -158,4 +163,17 @@ public interface DamageReportRepository extends JpaRepository<DamageReport, Long
             AND d.reportedAt < :cutoffDate
             """)
     int countUnresolvedDisputesOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT d FROM DamageReport d
+            WHERE d.reportedAt >= :start
+            AND d.reportedAt < :end
+            AND d.isDeleted = false
+            ORDER BY d.reportedAt, d.id
+            """)
+    Stream<DamageReport> streamReportedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
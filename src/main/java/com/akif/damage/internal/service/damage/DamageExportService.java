@@ -0,0 +1,10 @@
+package com.akif.damage.internal.service.damage;
+
+import com.akif.shared.export.ExportRequest;
+
+import java.io.OutputStream;
+
+public interface DamageExportService {
+
+    long exportDamages(ExportRequest request, OutputStream out);
+}
@@ -0,0 +1,58 @@
+package com.akif.damage.internal.service.damage.impl;
+
+import com.akif.damage.domain.model.DamageReport;
+import com.akif.damage.internal.repository.DamageReportRepository;
+import com.akif.damage.internal.service.damage.DamageExportService;
+import com.akif.shared.export.ExportColumn;
+import com.akif.shared.export.ExportRequest;
+import com.akif.shared.export.StreamingExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DamageExportServiceImpl implements DamageExportService {
+
+    private static final List<ExportColumn<DamageReport>> COLUMNS = List.of(
+            ExportColumn.of("id", DamageReport::getId),
+            ExportColumn.of("reportedAt", DamageReport::getReportedAt),
+            ExportColumn.of("rentalId", DamageReport::getRentalId),
+            ExportColumn.of("carId", DamageReport::getCarId),
+            ExportColumn.of("carLicensePlate", DamageReport::getCarLicensePlate),
+            ExportColumn.of("customerUserId", DamageReport::getCustomerUserId),
+            ExportColumn.of("customerEmail", DamageReport::getCustomerEmail),
+            ExportColumn.of("description", DamageReport::getDescription),
+            ExportColumn.of("severity", DamageReport::getSeverity),
+            ExportColumn.of("category", DamageReport::getCategory),
+            ExportColumn.of("status", DamageReport::getStatus),
+            ExportColumn.of("repairCostEstimate", DamageReport::getRepairCostEstimate),
+            ExportColumn.of("customerLiability", DamageReport::getCustomerLiability),
+            ExportColumn.of("insuranceCoverage", DamageReport::getInsuranceCoverage),
+            ExportColumn.of("insuranceDeductible", DamageReport::getInsuranceDeductible),
+            ExportColumn.of("paymentId", DamageReport::getPaymentId),
+            ExportColumn.of("paymentStatus", DamageReport::getPaymentStatus),
+            ExportColumn.of("assessedAt", DamageReport::getAssessedAt),
+            ExportColumn.of("resolvedAt", DamageReport::getResolvedAt)
+    );
+
+    private final DamageReportRepository damageReportRepository;
+    private final StreamingExportWriter exportWriter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDamages(ExportRequest request, OutputStream out) {
+        try (Stream<DamageReport> damages = damageReportRepository.streamReportedBetween(
+                request.startInclusive(), request.endExclusive())) {
+            long count = exportWriter.write(damages, COLUMNS, request.format(), out);
+            log.info("Exported {} damage reports from {} to {} as {}", count, request.from(), request.to(), request.format());
+            return count;
+        }
+    }
+}
@@ -6,14 +6,17 @@ import com.akif.damage.api.DamageReportDto;
 import com.akif.damage.domain.enums.DamageCategory;
 import com.akif.damage.domain.enums.DamageSeverity;
 import com.akif.damage.domain.enums.DamageStatus;
+import com.akif.damage.internal.service.damage.DamageExportService;
 import com.akif.damage.internal.service.damage.DamageHistoryService;
 import com.akif.damage.internal.dto.damage.request.DamageSearchFilterDto;
 import com.akif.damage.internal.dto.damage.response.DamageStatisticsDto;
+import com.akif.shared.export.ExportRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -35,6 +39,8 @@ public class DamageHistoryController {
 
     private final DamageHistoryService damageHistoryService;
 
+    private final DamageExportService damageExportService;
+
     private final AuthService authService;
 
     @GetMapping("/api/admin/damages/vehicle/{carId}")
@@ -137,4 +143,21 @@ public class DamageHistoryController {
         DamageStatisticsDto statistics = damageHistoryService.getDamageStatistics(startDate, endDate);
         return ResponseEntity.ok(statistics);
     }
+
+    @GetMapping("/api/admin/damages/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export damages", description = "Stream every damage reported in the date window as CSV or NDJSON (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid date window"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<StreamingResponseBody> exportDamages(
+            @Parameter(description = "Date window (yyyy-MM-dd, inclusive) and format (CSV, NDJSON)")
+            @Valid @ModelAttribute ExportRequest request) {
+
+        log.info("GET /api/admin/damages/export - from: {}, to: {}, format: {}", request.from(), request.to(), request.format());
+        return request.format().attachment(request.fileName("damages"),
+                out -> damageExportService.exportDamages(request, out));
+    }
 }
@@ -2,6 +2,7 @@ package com.akif.dashboard.api;
 
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.FleetStatusDto;
+import com.akif.dashboard.api.dto.FleetUtilizationDto;
 import com.akif.dashboard.api.dto.MonthlyMetricsDto;
 import com.akif.dashboard.api.dto.PendingItemDto;
 import com.akif.dashboard.api.dto.RevenueAnalyticsDto;
@@ -22,6 +23,8 @@ public interface DashboardService {
 
     RevenueAnalyticsDto getRevenueAnalytics();
 
+    FleetUtilizationDto getFleetUtilization(LocalDate startDate, LocalDate endDate);
+
     Page<PendingItemDto> getPendingApprovals(Pageable pageable);
 
     Page<PendingItemDto> getTodaysPickups(Pageable pageable);
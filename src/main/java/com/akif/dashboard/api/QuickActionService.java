@@ -1,7 +1,10 @@
 package com.akif.dashboard.api;
 
+import com.akif.dashboard.api.dto.BulkQuickActionResultDto;
 import com.akif.dashboard.api.dto.QuickActionResultDto;
 
+import java.util.List;
+
 public interface QuickActionService {
 
     QuickActionResultDto approveRental(Long rentalId);
@@ -9,4 +12,10 @@ public interface QuickActionService {
     QuickActionResultDto processPickup(Long rentalId);
 
     QuickActionResultDto processReturn(Long rentalId);
+
+    BulkQuickActionResultDto approveRentals(List<Long> rentalIds);
+
+    BulkQuickActionResultDto processPickups(List<Long> rentalIds);
+
+    BulkQuickActionResultDto processReturns(List<Long> rentalIds);
 }
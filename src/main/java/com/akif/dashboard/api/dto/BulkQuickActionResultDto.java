@@ -0,0 +1,18 @@
+package com.akif.dashboard.api.dto;
+
+import com.akif.rental.api.RentalActionOutcome;
+
+import java.util.List;
+
+public record BulkQuickActionResultDto(
+    int requested,
+    int succeeded,
+    int failed,
+    List<RentalActionOutcome> results,
+    DailySummaryDto updatedSummary
+) {
+    public static BulkQuickActionResultDto of(List<RentalActionOutcome> results, DailySummaryDto summary) {
+        int succeeded = (int) results.stream().filter(RentalActionOutcome::success).count();
+        return new BulkQuickActionResultDto(results.size(), succeeded, results.size() - succeeded, results, summary);
+    }
+}
@@ -0,0 +1,14 @@
+package com.akif.dashboard.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkRentalActionRequest(
+    @NotEmpty(message = "At least one rental ID is required")
+    @Size(max = 1000, message = "At most 1000 rentals can be processed at once")
+    List<@NotNull(message = "Rental IDs cannot be null") Long> rentalIds
+) {
+}
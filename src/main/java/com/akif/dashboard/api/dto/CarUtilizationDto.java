@@ -0,0 +1,16 @@
+package com.akif.dashboard.api.dto;
+
+import java.math.BigDecimal;
+
+public record CarUtilizationDto(
+    Long carId,
+    String licensePlate,
+    String brand,
+    String model,
+    String bodyType,
+    int bookedDays,
+    int idleDays,
+    BigDecimal utilizationRate,
+    int idleGaps,
+    int longestIdleGapDays
+) {}
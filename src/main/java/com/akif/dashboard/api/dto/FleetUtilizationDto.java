@@ -0,0 +1,19 @@
+package com.akif.dashboard.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FleetUtilizationDto(
+    LocalDate startDate,
+    LocalDate endDate,
+    int totalDays,
+    int totalCars,
+    long bookedCarDays,
+    BigDecimal utilizationRate,
+    List<CarUtilizationDto> cars,
+    List<SegmentUtilizationDto> brands,
+    List<SegmentUtilizationDto> bodyTypes,
+    LocalDateTime generatedAt
+) {}
@@ -0,0 +1,11 @@
+package com.akif.dashboard.api.dto;
+
+import java.math.BigDecimal;
+
+public record SegmentUtilizationDto(
+    String segment,
+    int cars,
+    long bookedDays,
+    long availableDays,
+    BigDecimal utilizationRate
+) {}
@@ -0,0 +1,13 @@
+package com.akif.dashboard.internal.exception;
+
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidReportRangeException extends BaseException {
+
+    public static final String ERROR_CODE = "INVALID_REPORT_RANGE";
+
+    public InvalidReportRangeException(String message) {
+        super(ERROR_CODE, message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -2,13 +2,16 @@ package com.akif.dashboard.internal.listener;
 
 import com.akif.damage.api.DamageReportedEvent;
 import com.akif.payment.api.PaymentCapturedEvent;
+import com.akif.rental.api.RentalBatchProcessedEvent;
 import com.akif.rental.api.RentalCancelledEvent;
 import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.shared.event.EventPublicationConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Objects;
 
@@ -21,27 +24,33 @@ public class DashboardEventListener {
     private static final String FLEET_STATUS_CACHE = "fleetStatus";
     private static final String MONTHLY_METRICS_CACHE = "monthlyMetrics";
     private static final String REVENUE_ANALYTICS_CACHE = "revenueAnalytics";
+    private static final String FLEET_UTILIZATION_CACHE = "fleetUtilization";
 
     private final CacheManager cacheManager;
 
-    @EventListener
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.batchId == null")
     public void handleRentalConfirmed(RentalConfirmedEvent event) {
-        log.debug("Received RentalConfirmedEvent for rental: {}. Evicting dailySummary and fleetStatus caches.",
+        log.debug("Received RentalConfirmedEvent for rental: {}. Evicting dailySummary, fleetStatus, and fleetUtilization caches.",
                 event.getRentalId());
         evictCache(DAILY_SUMMARY_CACHE);
         evictCache(FLEET_STATUS_CACHE);
+        evictCache(FLEET_UTILIZATION_CACHE);
     }
 
-    @EventListener
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleRentalCancelled(RentalCancelledEvent event) {
-        log.debug("Received RentalCancelledEvent for rental: {}. Evicting dailySummary, fleetStatus, and monthlyMetrics caches.",
+        log.debug("Received RentalCancelledEvent for rental: {}. Evicting dailySummary, fleetStatus, monthlyMetrics, and fleetUtilization caches.",
                 event.getRentalId());
         evictCache(DAILY_SUMMARY_CACHE);
         evictCache(FLEET_STATUS_CACHE);
         evictCache(MONTHLY_METRICS_CACHE);
+        evictCache(FLEET_UTILIZATION_CACHE);
     }
 
-    @EventListener
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.batchId == null")
     public void handlePaymentCaptured(PaymentCapturedEvent event) {
         log.debug("Received PaymentCapturedEvent for payment: {}, rental: {}. Evicting revenueAnalytics and monthlyMetrics caches.",
                 event.getPaymentId(), event.getRentalId());
@@ -49,7 +58,20 @@ public class DashboardEventListener {
         evictCache(MONTHLY_METRICS_CACHE);
     }
 
-    @EventListener
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalBatchProcessed(RentalBatchProcessedEvent event) {
+        log.debug("Received RentalBatchProcessedEvent for batch: {} with {} rentals. Evicting all dashboard caches.",
+                event.getBatchId(), event.getRentalIds().size());
+        evictCache(DAILY_SUMMARY_CACHE);
+        evictCache(FLEET_STATUS_CACHE);
+        evictCache(MONTHLY_METRICS_CACHE);
+        evictCache(REVENUE_ANALYTICS_CACHE);
+        evictCache(FLEET_UTILIZATION_CACHE);
+    }
+
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageReported(DamageReportedEvent event) {
         log.debug("Received DamageReportedEvent for damage: {}, rental: {}. Evicting dailySummary cache.",
                 event.getDamageReportId(), event.getRentalId());
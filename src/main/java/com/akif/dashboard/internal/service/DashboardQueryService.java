@@ -1,17 +1,23 @@
 package com.akif.dashboard.internal.service;
 
+import com.akif.car.api.CarDto;
 import com.akif.car.api.CarService;
 import com.akif.car.domain.enums.CarStatusType;
 import com.akif.damage.api.DamageService;
+import com.akif.dashboard.api.dto.CarUtilizationDto;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.DailyRevenueDto;
 import com.akif.dashboard.api.dto.FleetStatusDto;
+import com.akif.dashboard.api.dto.FleetUtilizationDto;
 import com.akif.dashboard.api.dto.MonthlyMetricsDto;
 import com.akif.dashboard.api.dto.MonthlyRevenueDto;
 import com.akif.dashboard.api.dto.PendingItemDto;
 import com.akif.dashboard.api.dto.RevenueAnalyticsDto;
 import com.akif.dashboard.api.dto.RevenueBreakdownDto;
+import com.akif.dashboard.api.dto.SegmentUtilizationDto;
+import com.akif.dashboard.internal.service.utilization.FleetUtilizationCalculator;
 import com.akif.payment.api.PaymentService;
+import com.akif.rental.api.BookedIntervals;
 import com.akif.rental.api.RentalResponse;
 import com.akif.rental.api.RentalService;
 import com.akif.rental.domain.enums.RentalStatus;
@@ -26,7 +32,13 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -34,10 +46,13 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DashboardQueryService {
 
+    private static final String UNKNOWN_SEGMENT = "Unknown";
+
     private final RentalService rentalService;
     private final CarService carService;
     private final PaymentService paymentService;
     private final DamageService damageService;
+    private final FleetUtilizationCalculator utilizationCalculator;
 
     public DailySummaryDto fetchDailySummary() {
         log.debug("Fetching daily summary data");
@@ -151,6 +166,84 @@ public class DashboardQueryService {
         return rentals.map(this::toPendingItemDto);
     }
 
+    public FleetUtilizationDto fetchFleetUtilization(LocalDate startDate, LocalDate endDate) {
+        log.debug("Fetching fleet utilization for period: {} to {}", startDate, endDate);
+
+        List<CarDto> cars = carService.getActiveCarDtos();
+        long[] carIds = cars.stream().mapToLong(CarDto::id).toArray();
+        BookedIntervals intervals = rentalService.getBookedIntervals(startDate, endDate);
+        int totalDays = Math.toIntExact(ChronoUnit.DAYS.between(startDate, endDate)) + 1;
+        FleetUtilizationCalculator.Result result = utilizationCalculator.calculate(
+                carIds, intervals, Math.toIntExact(startDate.toEpochDay()), Math.toIntExact(endDate.toEpochDay()));
+
+        List<CarUtilizationDto> carUtilization = new ArrayList<>(cars.size());
+        long bookedCarDays = 0;
+        for (int i = 0; i < cars.size(); i++) {
+            CarDto car = cars.get(i);
+            int booked = result.bookedDays(i);
+            bookedCarDays += booked;
+            carUtilization.add(new CarUtilizationDto(
+                car.id(),
+                car.licensePlate(),
+                car.brand(),
+                car.model(),
+                car.bodyType(),
+                booked,
+                totalDays - booked,
+                calculateUtilizationRate(booked, totalDays),
+                result.idleGaps(i),
+                result.longestIdleGap(i)
+            ));
+        }
+
+        return new FleetUtilizationDto(
+            startDate,
+            endDate,
+            totalDays,
+            cars.size(),
+            bookedCarDays,
+            calculateUtilizationRate(bookedCarDays, (long) cars.size() * totalDays),
+            carUtilization,
+            summarizeSegments(carUtilization, CarUtilizationDto::brand, totalDays),
+            summarizeSegments(carUtilization, CarUtilizationDto::bodyType, totalDays),
+            LocalDateTime.now()
+        );
+    }
+
+    private List<SegmentUtilizationDto> summarizeSegments(List<CarUtilizationDto> cars,
+                                                          Function<CarUtilizationDto, String> segmentOf,
+                                                          int totalDays) {
+        Map<String, long[]> totals = new TreeMap<>();
+        for (CarUtilizationDto car : cars) {
+            String segment = Objects.requireNonNullElse(segmentOf.apply(car), UNKNOWN_SEGMENT);
+            long[] carsAndBookedDays = totals.computeIfAbsent(segment, key -> new long[2]);
+            carsAndBookedDays[0]++;
+            carsAndBookedDays[1] += car.bookedDays();
+        }
+
+        List<SegmentUtilizationDto> segments = new ArrayList<>(totals.size());
+        totals.forEach((segment, carsAndBookedDays) -> {
+            long availableDays = carsAndBookedDays[0] * totalDays;
+            segments.add(new SegmentUtilizationDto(
+                segment,
+                (int) carsAndBookedDays[0],
+                carsAndBookedDays[1],
+                availableDays,
+                calculateUtilizationRate(carsAndBookedDays[1], availableDays)
+            ));
+        });
+        return segments;
+    }
+
+    private BigDecimal calculateUtilizationRate(long bookedDays, long availableDays) {
+        if (availableDays == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(bookedDays)
+            .divide(BigDecimal.valueOf(availableDays), 4, RoundingMode.HALF_UP)
+            .multiply(BigDecimal.valueOf(100));
+    }
+
     private BigDecimal calculateOccupancyRate(int rentedCars, int totalCars) {
         if (totalCars == 0) {
             return BigDecimal.ZERO;
@@ -3,9 +3,11 @@ package com.akif.dashboard.internal.service;
 import com.akif.dashboard.api.DashboardService;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.FleetStatusDto;
+import com.akif.dashboard.api.dto.FleetUtilizationDto;
 import com.akif.dashboard.api.dto.MonthlyMetricsDto;
 import com.akif.dashboard.api.dto.PendingItemDto;
 import com.akif.dashboard.api.dto.RevenueAnalyticsDto;
+import com.akif.dashboard.internal.exception.InvalidReportRangeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +25,8 @@ import java.time.LocalDate;
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
+    static final int MAX_UTILIZATION_RANGE_DAYS = 3660;
+
     private final DashboardQueryService queryService;
 
     @Override
@@ -73,6 +78,23 @@ public class DashboardServiceImpl implements DashboardService {
         return analytics;
     }
 
+    @Override
+    @Cacheable(value = "fleetUtilization", key = "#startDate.toString() + '-' + #endDate.toString()")
+    public FleetUtilizationDto getFleetUtilization(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidReportRangeException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_UTILIZATION_RANGE_DAYS) {
+            throw new InvalidReportRangeException(
+                "Utilization range cannot exceed " + MAX_UTILIZATION_RANGE_DAYS + " days");
+        }
+        log.info("Fetching fleet utilization (cache miss) for: {} to {}", startDate, endDate);
+        FleetUtilizationDto utilization = queryService.fetchFleetUtilization(startDate, endDate);
+        log.info("Fleet utilization: cars={}, bookedCarDays={}, utilization={}%",
+            utilization.totalCars(), utilization.bookedCarDays(), utilization.utilizationRate());
+        return utilization;
+    }
+
     @Override
     public Page<PendingItemDto> getPendingApprovals(Pageable pageable) {
         log.debug("Getting pending approvals (real-time, no cache)");
@@ -1,20 +1,28 @@
 package com.akif.dashboard.internal.service;
 
 import com.akif.dashboard.api.QuickActionService;
+import com.akif.dashboard.api.dto.BulkQuickActionResultDto;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.QuickActionResultDto;
+import com.akif.rental.api.RentalActionOutcome;
+import com.akif.rental.api.RentalBulkService;
 import com.akif.rental.api.RentalResponse;
 import com.akif.rental.api.RentalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class QuickActionServiceImpl implements QuickActionService {
 
+    private static final String QUICK_ACTION_NOTES = "Processed via dashboard quick action";
+
     private final RentalService rentalService;
+    private final RentalBulkService rentalBulkService;
     private final DashboardQueryService dashboardQueryService;
 
     @Override
@@ -37,7 +45,7 @@ public class QuickActionServiceImpl implements QuickActionService {
     public QuickActionResultDto processPickup(Long rentalId) {
         log.info("Processing quick action: pickup rental {}", rentalId);
         
-        RentalResponse response = rentalService.pickupRental(rentalId, "Processed via dashboard quick action");
+        RentalResponse response = rentalService.pickupRental(rentalId, QUICK_ACTION_NOTES);
         DailySummaryDto updatedSummary = dashboardQueryService.fetchDailySummary();
         
         log.info("Rental {} picked up successfully, new status: {}", rentalId, response.status());
@@ -53,7 +61,7 @@ public class QuickActionServiceImpl implements QuickActionService {
     public QuickActionResultDto processReturn(Long rentalId) {
         log.info("Processing quick action: return rental {}", rentalId);
         
-        RentalResponse response = rentalService.returnRental(rentalId, "Processed via dashboard quick action");
+        RentalResponse response = rentalService.returnRental(rentalId, QUICK_ACTION_NOTES);
         DailySummaryDto updatedSummary = dashboardQueryService.fetchDailySummary();
         
         log.info("Rental {} returned successfully, new status: {}", rentalId, response.status());
@@ -64,4 +72,28 @@ public class QuickActionServiceImpl implements QuickActionService {
             updatedSummary
         );
     }
+
+    @Override
+    public BulkQuickActionResultDto approveRentals(List<Long> rentalIds) {
+        log.info("Processing bulk quick action: approve {} rentals", rentalIds.size());
+        return bulkResult("approve", rentalBulkService.confirmRentals(rentalIds));
+    }
+
+    @Override
+    public BulkQuickActionResultDto processPickups(List<Long> rentalIds) {
+        log.info("Processing bulk quick action: pickup {} rentals", rentalIds.size());
+        return bulkResult("pickup", rentalBulkService.pickupRentals(rentalIds, QUICK_ACTION_NOTES));
+    }
+
+    @Override
+    public BulkQuickActionResultDto processReturns(List<Long> rentalIds) {
+        log.info("Processing bulk quick action: return {} rentals", rentalIds.size());
+        return bulkResult("return", rentalBulkService.returnRentals(rentalIds, QUICK_ACTION_NOTES));
+    }
+
+    private BulkQuickActionResultDto bulkResult(String action, List<RentalActionOutcome> outcomes) {
+        BulkQuickActionResultDto result = BulkQuickActionResultDto.of(outcomes, dashboardQueryService.fetchDailySummary());
+        log.info("Bulk {} processed: {} succeeded, {} failed", action, result.succeeded(), result.failed());
+        return result;
+    }
 }
@@ -0,0 +1,140 @@
+package com.akif.dashboard.internal.service.utilization;
+
+import com.akif.rental.api.BookedIntervals;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes booked days and idle gaps per car with one sweep over each car's rental intervals.
+ * Intervals arrive sorted by (carId, start day), so each car's intervals form a contiguous run
+ * that is swept left to right, merging overlaps as it goes. Cars are split into partitions that
+ * run on the common fork-join pool; every partition writes only its own slots of the result arrays.
+ */
+@Component
+public class FleetUtilizationCalculator {
+
+    static final int PARTITION_SIZE = 256;
+
+    public Result calculate(long[] carIds, BookedIntervals intervals, int firstDay, int lastDay) {
+        int[][] runs = runsByCar(carIds, intervals);
+        Result result = new Result(carIds.length);
+        ForkJoinPool.commonPool().invoke(
+                new SweepTask(intervals, runs[0], runs[1], firstDay, lastDay, result, 0, carIds.length));
+        return result;
+    }
+
+    /**
+     * For car {@code i}, its intervals are {@code [runs[0][i], runs[1][i])}. Intervals for cars
+     * outside {@code carIds} (for example deleted cars) are skipped. {@code carIds} must be sorted.
+     */
+    static int[][] runsByCar(long[] carIds, BookedIntervals intervals) {
+        int[] starts = new int[carIds.length];
+        int[] ends = new int[carIds.length];
+        int position = 0;
+        for (int car = 0; car < carIds.length; car++) {
+            while (position < intervals.size() && intervals.carIdAt(position) < carIds[car]) {
+                position++;
+            }
+            starts[car] = position;
+            while (position < intervals.size() && intervals.carIdAt(position) == carIds[car]) {
+                position++;
+            }
+            ends[car] = position;
+        }
+        return new int[][]{starts, ends};
+    }
+
+    static void sweep(BookedIntervals intervals, int from, int to, int firstDay, int lastDay,
+                      Result result, int car) {
+        int nextFreeDay = firstDay;
+        int booked = 0;
+        int gaps = 0;
+        int longestGap = 0;
+        for (int i = from; i < to; i++) {
+            int start = Math.max(intervals.startDayAt(i), firstDay);
+            int end = Math.min(intervals.endDayAt(i), lastDay);
+            if (start > end || end < nextFreeDay) {
+                continue;
+            }
+            if (start > nextFreeDay) {
+                gaps++;
+                longestGap = Math.max(longestGap, start - nextFreeDay);
+            } else {
+                start = nextFreeDay;
+            }
+            booked += end - start + 1;
+            nextFreeDay = end + 1;
+        }
+        if (nextFreeDay <= lastDay) {
+            gaps++;
+            longestGap = Math.max(longestGap, lastDay - nextFreeDay + 1);
+        }
+        result.bookedDays[car] = booked;
+        result.idleGaps[car] = gaps;
+        result.longestIdleGaps[car] = longestGap;
+    }
+
+    public static final class Result {
+
+        private final int[] bookedDays;
+        private final int[] idleGaps;
+        private final int[] longestIdleGaps;
+
+        private Result(int cars) {
+            this.bookedDays = new int[cars];
+            this.idleGaps = new int[cars];
+            this.longestIdleGaps = new int[cars];
+        }
+
+        public int bookedDays(int car) {
+            return bookedDays[car];
+        }
+
+        public int idleGaps(int car) {
+            return idleGaps[car];
+        }
+
+        public int longestIdleGap(int car) {
+            return longestIdleGaps[car];
+        }
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+
+        private final BookedIntervals intervals;
+        private final int[] starts;
+        private final int[] ends;
+        private final int firstDay;
+        private final int lastDay;
+        private final Result result;
+        private final int fromCar;
+        private final int toCar;
+
+        private SweepTask(BookedIntervals intervals, int[] starts, int[] ends, int firstDay, int lastDay,
+                          Result result, int fromCar, int toCar) {
+            this.intervals = intervals;
+            this.starts = starts;
+            this.ends = ends;
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+            this.result = result;
+            this.fromCar = fromCar;
+            this.toCar = toCar;
+        }
+
+        @Override
+        protected void compute() {
+            if (toCar - fromCar <= PARTITION_SIZE) {
+                for (int car = fromCar; car < toCar; car++) {
+                    sweep(intervals, starts[car], ends[car], firstDay, lastDay, result, car);
+                }
+                return;
+            }
+            int middle = (fromCar + toCar) >>> 1;
+            invokeAll(new SweepTask(intervals, starts, ends, firstDay, lastDay, result, fromCar, middle),
+                    new SweepTask(intervals, starts, ends, firstDay, lastDay, result, middle, toCar));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.akif.dashboard.web;
 import com.akif.dashboard.api.DashboardService;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.FleetStatusDto;
+import com.akif.dashboard.api.dto.FleetUtilizationDto;
 import com.akif.dashboard.api.dto.MonthlyMetricsDto;
 import com.akif.dashboard.api.dto.PendingItemDto;
 import com.akif.dashboard.api.dto.RevenueAnalyticsDto;
@@ -90,6 +91,30 @@ public class DashboardController {
         return ResponseEntity.ok(metrics);
     }
 
+    @GetMapping("/utilization")
+    @Operation(summary = "Get fleet utilization", description = "Returns booked-day ratios and idle gaps per car, brand and body type for current month or specified date range")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fleet utilization retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<FleetUtilizationDto> getFleetUtilization(
+            @Parameter(description = "Start date (inclusive), defaults to the first day of the current month")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (inclusive), defaults to today")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("GET /api/admin/dashboard/utilization - startDate: {}, endDate: {}", startDate, endDate);
+
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.withDayOfMonth(1);
+        FleetUtilizationDto utilization = dashboardService.getFleetUtilization(start, end);
+        return ResponseEntity.ok(utilization);
+    }
+
     @GetMapping("/revenue")
     @Operation(summary = "Get revenue analytics", description = "Returns daily revenue, monthly revenue, and revenue breakdown")
     @ApiResponses(value = {
@@ -1,18 +1,22 @@
 package com.akif.dashboard.web;
 
 import com.akif.dashboard.api.QuickActionService;
+import com.akif.dashboard.api.dto.BulkQuickActionResultDto;
+import com.akif.dashboard.api.dto.BulkRentalActionRequest;
 import com.akif.dashboard.api.dto.QuickActionResultDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -79,4 +83,49 @@ public class QuickActionController {
         QuickActionResultDto result = quickActionService.processReturn(id);
         return ResponseEntity.ok(result);
     }
+
+    @PostMapping("/rentals/bulk/approve")
+    @Operation(summary = "Approve rentals in bulk", description = "Approves pending rental requests and returns the outcome for each rental with the updated dashboard summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals processed, see per-rental outcomes"),
+            @ApiResponse(responseCode = "400", description = "Invalid rental ID list"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkQuickActionResultDto> approveRentals(@Valid @RequestBody BulkRentalActionRequest request) {
+
+        log.info("POST /api/admin/quick-actions/rentals/bulk/approve - {} rentals", request.rentalIds().size());
+        BulkQuickActionResultDto result = quickActionService.approveRentals(request.rentalIds());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/rentals/bulk/pickup")
+    @Operation(summary = "Process pickups in bulk", description = "Processes car pickups for confirmed rentals and returns the outcome for each rental with the updated dashboard summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals processed, see per-rental outcomes"),
+            @ApiResponse(responseCode = "400", description = "Invalid rental ID list"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkQuickActionResultDto> processPickups(@Valid @RequestBody BulkRentalActionRequest request) {
+
+        log.info("POST /api/admin/quick-actions/rentals/bulk/pickup - {} rentals", request.rentalIds().size());
+        BulkQuickActionResultDto result = quickActionService.processPickups(request.rentalIds());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/rentals/bulk/return")
+    @Operation(summary = "Process returns in bulk", description = "Processes car returns for in-use rentals and returns the outcome for each rental with the updated dashboard summary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals processed, see per-rental outcomes"),
+            @ApiResponse(responseCode = "400", description = "Invalid rental ID list"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<BulkQuickActionResultDto> processReturns(@Valid @RequestBody BulkRentalActionRequest request) {
+
+        log.info("POST /api/admin/quick-actions/rentals/bulk/return - {} rentals", request.rentalIds().size());
+        BulkQuickActionResultDto result = quickActionService.processReturns(request.rentalIds());
+        return ResponseEntity.ok(result);
+    }
 }
@@ -23,6 +23,8 @@ public interface EmailNotificationService {
     void sendSeverelyLateNotification(SeverelyLateNotificationEvent event);
     
     void sendPenaltySummary(PenaltySummaryEvent event);
+
+    void sendWaitlistOffer(WaitlistSlotOfferedEvent event);
     
 
     void sendDamageReportedNotification(DamageReportedEvent event);
@@ -7,6 +7,7 @@ public enum EmailType {
     PICKUP_REMINDER,
     RETURN_REMINDER,
     CANCELLATION_CONFIRMATION,
+    WAITLIST_OFFER,
 
     DAMAGE_REPORTED,
     DAMAGE_ASSESSED,
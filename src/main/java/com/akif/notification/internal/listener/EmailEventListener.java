@@ -6,9 +6,9 @@ import com.akif.payment.api.PaymentCapturedEvent;
 import com.akif.rental.api.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
@@ -19,7 +19,7 @@ public class EmailEventListener {
 
 
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleRentalConfirmed(RentalConfirmedEvent event) {
         log.debug("Received RentalConfirmedEvent. RentalId: {}, CustomerEmail: {}", 
             event.getRentalId(), event.getCustomerEmail());
@@ -27,7 +27,7 @@ public class EmailEventListener {
     }
 
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handlePaymentCaptured(PaymentCapturedEvent event) {
         log.debug("Received PaymentCapturedEvent. PaymentId: {}, RentalId: {}, CustomerEmail: {}", 
             event.getPaymentId(), event.getRentalId(), event.getCustomerEmail());
@@ -35,7 +35,7 @@ public class EmailEventListener {
     }
 
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handlePickupReminder(PickupReminderEvent event) {
         log.debug("Received PickupReminderEvent. RentalId: {}, CustomerEmail: {}, PickupDate: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getPickupDate());
@@ -43,7 +43,7 @@ public class EmailEventListener {
     }
 
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleReturnReminder(ReturnReminderEvent event) {
         log.debug("Received ReturnReminderEvent. RentalId: {}, CustomerEmail: {}, ReturnDate: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getReturnDate());
@@ -51,7 +51,7 @@ public class EmailEventListener {
     }
 
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleRentalCancelled(RentalCancelledEvent event) {
         log.debug("Received RentalCancelledEvent. RentalId: {}, CustomerEmail: {}, RefundProcessed: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.isRefundProcessed());
@@ -60,7 +60,7 @@ public class EmailEventListener {
 
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleGracePeriodWarning(GracePeriodWarningEvent event) {
         log.debug("Received GracePeriodWarningEvent. RentalId: {}, CustomerEmail: {}, RemainingMinutes: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getRemainingGraceMinutes());
@@ -68,7 +68,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleLateReturnNotification(LateReturnNotificationEvent event) {
         log.debug("Received LateReturnNotificationEvent. RentalId: {}, CustomerEmail: {}, LateHours: {}, Penalty: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getLateHours(), event.getCurrentPenaltyAmount());
@@ -76,7 +76,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleSeverelyLateNotification(SeverelyLateNotificationEvent event) {
         log.debug("Received SeverelyLateNotificationEvent. RentalId: {}, CustomerEmail: {}, LateDays: {}, Penalty: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getLateDays(), event.getCurrentPenaltyAmount());
@@ -84,16 +84,24 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handlePenaltySummary(PenaltySummaryEvent event) {
         log.debug("Received PenaltySummaryEvent. RentalId: {}, CustomerEmail: {}, FinalPenalty: {}", 
             event.getRentalId(), event.getCustomerEmail(), event.getFinalPenaltyAmount());
         emailNotificationService.sendPenaltySummary(event);
     }
 
+    @Async("emailTaskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleWaitlistSlotOffered(WaitlistSlotOfferedEvent event) {
+        log.debug("Received WaitlistSlotOfferedEvent. WaitlistEntryId: {}, CustomerEmail: {}, HoldId: {}",
+            event.getWaitlistEntryId(), event.getCustomerEmail(), event.getHoldId());
+        emailNotificationService.sendWaitlistOffer(event);
+    }
+
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageReported(DamageReportedEvent event) {
         log.debug("Received DamageReportedEvent. DamageId: {}, RentalId: {}", 
             event.getDamageReportId(), event.getRentalId());
@@ -101,7 +109,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageAssessed(DamageAssessedEvent event) {
         log.debug("Received DamageAssessedEvent. DamageId: {}, Severity: {}, Liability: {}", 
             event.getDamageReportId(), event.getSeverity(), event.getCustomerLiability());
@@ -109,7 +117,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageCharged(DamageChargedEvent event) {
         log.debug("Received DamageChargedEvent. DamageId: {}, TransactionId: {}", 
             event.getDamageReportId(), event.getTransactionId());
@@ -117,7 +125,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageDisputed(DamageDisputedEvent event) {
         log.debug("Received DamageDisputedEvent. DamageId: {}, Reason: {}", 
             event.getDamageReportId(), event.getDisputeReason());
@@ -125,7 +133,7 @@ public class EmailEventListener {
     }
     
     @Async("emailTaskExecutor")
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleDamageResolved(DamageResolvedEvent event) {
         log.debug("Received DamageResolvedEvent. DamageId: {}, RefundAmount: {}", 
             event.getDamageReportId(), event.getRefundAmount());
@@ -361,6 +361,43 @@ public class EmailNotificationServiceImpl implements EmailNotificationService {
             event.getRentalId(), event.getCustomerEmail(), e.getMessage(), e.getSmtpErrorCode());
     }
 
+    @Override
+    @Retryable(
+        retryFor = EmailSendException.class,
+        maxAttempts = 4,
+        backoff = @Backoff(delay = 1000, multiplier = 2)
+    )
+    public void sendWaitlistOffer(WaitlistSlotOfferedEvent event) {
+        log.info("Queuing waitlist offer email. WaitlistEntryId: {}, Recipient: {}",
+            event.getWaitlistEntryId(), event.getCustomerEmail());
+
+        String body = templateService.renderWaitlistOfferEmail(event);
+        EmailMessage message = new EmailMessage(
+            event.getCustomerEmail(),
+            "Your waitlisted dates are available - " + event.getCarBrand() + " " + event.getCarModel(),
+            body,
+            EmailType.WAITLIST_OFFER,
+            event.getWaitlistEntryId()
+        );
+
+        try {
+            emailSender.send(message);
+            log.info("Waitlist offer email sent successfully. WaitlistEntryId: {}, To: {}, Timestamp: {}",
+                event.getWaitlistEntryId(), event.getCustomerEmail(), LocalDateTime.now());
+        } catch (EmailSendException e) {
+            log.warn("Email send attempt failed. WaitlistEntryId: {}, Error: {}, SMTP Code: {}",
+                event.getWaitlistEntryId(), e.getMessage(), e.getSmtpErrorCode());
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    @Recover
+    public void recoverFromWaitlistOfferFailure(EmailSendException e, WaitlistSlotOfferedEvent event) {
+        log.error("Waitlist offer email failed after all retries. WaitlistEntryId: {}, Recipient: {}, Error: {}, SMTP Code: {}",
+            event.getWaitlistEntryId(), event.getCustomerEmail(), e.getMessage(), e.getSmtpErrorCode());
+    }
+
     
     @Override
     @Retryable(
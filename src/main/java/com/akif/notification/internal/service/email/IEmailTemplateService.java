@@ -23,6 +23,8 @@ public interface IEmailTemplateService {
     String renderSeverelyLateNotificationEmail(SeverelyLateNotificationEvent event);
     
     String renderPenaltySummaryEmail(PenaltySummaryEvent event);
+
+    String renderWaitlistOfferEmail(WaitlistSlotOfferedEvent event);
     
 
     String renderDamageReportedEmail(DamageReportedEvent event);
@@ -172,6 +172,20 @@ public class EmailTemplateService implements IEmailTemplateService {
         return templateEngine.process("email/penalty-summary", context);
     }
 
+    @Override
+    public String renderWaitlistOfferEmail(WaitlistSlotOfferedEvent event) {
+        log.debug("Rendering waitlist offer email for waitlist entry ID: {}", event.getWaitlistEntryId());
+
+        Context context = new Context();
+        context.setVariable("carBrand", event.getCarBrand());
+        context.setVariable("carModel", event.getCarModel());
+        context.setVariable("startDate", event.getStartDate().format(DATE_FORMATTER));
+        context.setVariable("endDate", event.getEndDate().format(DATE_FORMATTER));
+        context.setVariable("holdExpiresAt", event.getHoldExpiresAt().format(DATE_TIME_FORMATTER));
+
+        return templateEngine.process("email/waitlist-offer", context);
+    }
+
     
     @Override
     public String renderDamageReportedEmail(DamageReportedEvent event) {
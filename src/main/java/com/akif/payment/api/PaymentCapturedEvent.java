@@ -6,6 +6,7 @@ import org.springframework.context.ApplicationEvent;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 public class PaymentCapturedEvent extends ApplicationEvent {
@@ -17,6 +18,7 @@ public class PaymentCapturedEvent extends ApplicationEvent {
     private final CurrencyType currency;
     private final String transactionId;
     private final LocalDateTime paymentDate;
+    private final UUID batchId;
     
     public PaymentCapturedEvent(
             Object source,
@@ -27,6 +29,19 @@ public class PaymentCapturedEvent extends ApplicationEvent {
             CurrencyType currency,
             String transactionId,
             LocalDateTime paymentDate) {
+        this(source, paymentId, rentalId, customerEmail, amount, currency, transactionId, paymentDate, null);
+    }
+
+    public PaymentCapturedEvent(
+            Object source,
+            Long paymentId,
+            Long rentalId,
+            String customerEmail,
+            BigDecimal amount,
+            CurrencyType currency,
+            String transactionId,
+            LocalDateTime paymentDate,
+            UUID batchId) {
         super(source);
         this.paymentId = paymentId;
         this.rentalId = rentalId;
@@ -35,5 +50,6 @@ public class PaymentCapturedEvent extends ApplicationEvent {
         this.currency = currency;
         this.transactionId = transactionId;
         this.paymentDate = paymentDate;
+        this.batchId = batchId;
     }
 }
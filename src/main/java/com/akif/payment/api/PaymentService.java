@@ -17,6 +17,8 @@ public interface PaymentService {
 
     PaymentResult refund(String transactionId, BigDecimal amount);
 
+    PaymentResult voidAuthorization(String transactionId);
+
     CheckoutSessionResult createCheckoutSession(CheckoutSessionRequest request);
 
     PaymentDto createPayment(CreatePaymentRequest request);
@@ -27,6 +29,8 @@ public interface PaymentService {
 
     PaymentDto updatePaymentStatus(Long paymentId, PaymentStatus status, String transactionId, String failureReason);
 
+    void discardPayment(Long paymentId, String failureReason);
+
     PaymentResult chargePayment(Long paymentId, String customerId);
 
     PaymentResult refundPayment(Long paymentId, BigDecimal refundAmount);
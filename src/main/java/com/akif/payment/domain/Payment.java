@@ -15,7 +15,8 @@ import java.math.BigDecimal;
                 @Index(name = "idx_payments_rental", columnList = "rental_id"),
                 @Index(name = "idx_payments_status", columnList = "status"),
                 @Index(name = "idx_payments_stripe_session", columnList = "stripe_session_id"),
-                @Index(name = "idx_payments_stripe_intent", columnList = "stripe_payment_intent_id")
+                @Index(name = "idx_payments_stripe_intent", columnList = "stripe_payment_intent_id"),
+                @Index(name = "idx_payments_create_time_id", columnList = "create_time, id")
         })
 @Getter
 @Setter
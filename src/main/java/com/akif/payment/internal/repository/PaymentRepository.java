@@ -2,8 +2,12 @@ package com.akif.payment.internal.repository;
 
 import com.akif.payment.api.PaymentStatus;
 import com.akif.payment.domain.Payment;
+import com.akif.shared.export.StreamingExportWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -46,4 +51,17 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("start") LocalDateTime start);
 
     int countByStatusAndIsDeletedFalse(PaymentStatus status);
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT p FROM Payment p
+            WHERE p.createTime >= :start
+            AND p.createTime < :end
+            AND p.isDeleted = false
+            ORDER BY p.createTime, p.id
+            """)
+    Stream<Payment> streamCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
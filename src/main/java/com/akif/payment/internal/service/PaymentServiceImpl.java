@@ -51,6 +51,12 @@ class PaymentServiceImpl implements PaymentService {
         return paymentGateway.refund(transactionId, amount);
     }
 
+    @Override
+    public PaymentResult voidAuthorization(String transactionId) {
+        log.info("Voiding authorization: transactionId={}", transactionId);
+        return paymentGateway.voidAuthorization(transactionId);
+    }
+
     @Override
     public CheckoutSessionResult createCheckoutSession(CheckoutSessionRequest request) {
         log.info("Creating checkout session for rental: rentalId={}, amount={} {}", 
@@ -126,6 +132,20 @@ class PaymentServiceImpl implements PaymentService {
         return paymentMapper.toDto(savedPayment);
     }
 
+    @Override
+    @Transactional
+    public void discardPayment(Long paymentId, String failureReason) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("Payment not found: " + paymentId));
+
+        payment.updateStatus(PaymentStatus.FAILED);
+        payment.setFailureReason(failureReason);
+        payment.softDelete();
+
+        paymentRepository.save(payment);
+        log.info("Discarded payment: ID={}, Reason={}", paymentId, failureReason);
+    }
+
     @Override
     @Transactional
     public PaymentResult chargePayment(Long paymentId, String customerId) {
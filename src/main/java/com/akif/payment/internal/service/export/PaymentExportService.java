@@ -0,0 +1,10 @@
+package com.akif.payment.internal.service.export;
+
+import com.akif.shared.export.ExportRequest;
+
+import java.io.OutputStream;
+
+public interface PaymentExportService {
+
+    long exportPayments(ExportRequest request, OutputStream out);
+}
@@ -0,0 +1,52 @@
+package com.akif.payment.internal.service.export.impl;
+
+import com.akif.payment.domain.Payment;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.payment.internal.service.export.PaymentExportService;
+import com.akif.shared.export.ExportColumn;
+import com.akif.shared.export.ExportRequest;
+import com.akif.shared.export.StreamingExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentExportServiceImpl implements PaymentExportService {
+
+    private static final List<ExportColumn<Payment>> COLUMNS = List.of(
+            ExportColumn.of("id", Payment::getId),
+            ExportColumn.of("createTime", Payment::getCreateTime),
+            ExportColumn.of("rentalId", Payment::getRentalId),
+            ExportColumn.of("userEmail", Payment::getUserEmail),
+            ExportColumn.of("carLicensePlate", Payment::getCarLicensePlate),
+            ExportColumn.of("amount", Payment::getAmount),
+            ExportColumn.of("refundedAmount", Payment::getRefundedAmount),
+            ExportColumn.of("currency", Payment::getCurrency),
+            ExportColumn.of("status", Payment::getStatus),
+            ExportColumn.of("paymentMethod", Payment::getPaymentMethod),
+            ExportColumn.of("transactionId", Payment::getTransactionId),
+            ExportColumn.of("stripePaymentIntentId", Payment::getStripePaymentIntentId),
+            ExportColumn.of("failureReason", Payment::getFailureReason)
+    );
+
+    private final PaymentRepository paymentRepository;
+    private final StreamingExportWriter exportWriter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPayments(ExportRequest request, OutputStream out) {
+        try (Stream<Payment> payments = paymentRepository.streamCreatedBetween(
+                request.startInclusive(), request.endExclusive())) {
+            long count = exportWriter.write(payments, COLUMNS, request.format(), out);
+            log.info("Exported {} payments created {} to {} as {}", count, request.from(), request.to(), request.format());
+            return count;
+        }
+    }
+}
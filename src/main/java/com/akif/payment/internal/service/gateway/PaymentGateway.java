@@ -14,6 +14,8 @@ public interface PaymentGateway {
 
     PaymentResult refund(String transactionId, BigDecimal amount);
 
+    PaymentResult voidAuthorization(String transactionId);
+
     CheckoutSessionResult createCheckoutSession(
             Long rentalId,
             BigDecimal amount,
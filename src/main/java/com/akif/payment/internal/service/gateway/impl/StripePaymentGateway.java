@@ -134,6 +134,21 @@ public class StripePaymentGateway implements PaymentGateway {
         return PaymentResult.success(transactionId, "Payment captured automatically by Stripe Checkout");
     }
 
+    @Override
+    public PaymentResult voidAuthorization(String transactionId) {
+        LocalDateTime operationTimestamp = LocalDateTime.now();
+
+        log.info("[AUDIT] Payment Operation: VOID | Transaction ID: {} | Timestamp: {}",
+                transactionId, operationTimestamp);
+
+        log.warn("Direct voidAuthorization() called - Stripe Checkout holds no separate authorization to release");
+
+        log.info("[AUDIT] Payment Operation: VOID | Status: SUCCESS | Transaction ID: {} | Timestamp: {}",
+                transactionId, LocalDateTime.now());
+
+        return PaymentResult.success(transactionId, "No authorization held outside Stripe Checkout");
+    }
+
     @Override
     public PaymentResult refund(String transactionId, BigDecimal amount) {
         LocalDateTime operationTimestamp = LocalDateTime.now();
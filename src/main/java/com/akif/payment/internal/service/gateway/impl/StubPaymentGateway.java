@@ -51,6 +51,16 @@ public class StubPaymentGateway implements PaymentGateway {
         return PaymentResult.success(refundTransactionId, "Payment refunded successfully (STUB)");
     }
 
+    @Override
+    public PaymentResult voidAuthorization(String transactionId) {
+        log.info("🚫 [STUB] Voiding authorization: transactionId={}", transactionId);
+
+        simulateApiCall();
+
+        log.info("✅ [STUB] Authorization voided. TransactionId: {}", transactionId);
+        return PaymentResult.success(transactionId, "Authorization voided successfully (STUB)");
+    }
+
     @Override
     public CheckoutSessionResult createCheckoutSession(
             Long rentalId,
@@ -0,0 +1,48 @@
+package com.akif.payment.web;
+
+import com.akif.payment.internal.service.export.PaymentExportService;
+import com.akif.shared.export.ExportRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/payments/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Payment Export", description = "Admin bulk export of payments")
+public class PaymentExportController {
+
+    private final PaymentExportService paymentExportService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export payments (Admin)",
+               description = "Stream every payment created in the date window as CSV or NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid date window"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin only")
+    })
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @Parameter(description = "Date window (yyyy-MM-dd, inclusive) and format (CSV, NDJSON)")
+            @Valid @ModelAttribute ExportRequest request) {
+
+        log.info("GET /api/admin/payments/export - from: {}, to: {}, format: {}", request.from(), request.to(), request.format());
+
+        return request.format().attachment(request.fileName("payments"),
+                out -> paymentExportService.exportPayments(request, out));
+    }
+}
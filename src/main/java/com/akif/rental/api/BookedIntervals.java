@@ -0,0 +1,78 @@
+package com.akif.rental.api;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Booked rental intervals packed into parallel primitive arrays, sorted by car and then by start
+ * day, so a report can sweep years of history without one object per rental. Days are epoch days
+ * and both ends are inclusive, matching how rentals count days.
+ */
+public final class BookedIntervals {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long[] carIds;
+    private final int[] startDays;
+    private final int[] endDays;
+    private final int size;
+
+    private BookedIntervals(long[] carIds, int[] startDays, int[] endDays, int size) {
+        this.carIds = carIds;
+        this.startDays = startDays;
+        this.endDays = endDays;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long carIdAt(int index) {
+        return carIds[index];
+    }
+
+    public int startDayAt(int index) {
+        return startDays[index];
+    }
+
+    public int endDayAt(int index) {
+        return endDays[index];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private long[] carIds = new long[INITIAL_CAPACITY];
+        private int[] startDays = new int[INITIAL_CAPACITY];
+        private int[] endDays = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends one interval. Callers must add intervals in (carId, startDate) order.
+         */
+        public Builder add(long carId, LocalDate startDate, LocalDate endDate) {
+            if (size == carIds.length) {
+                int capacity = size * 2;
+                carIds = Arrays.copyOf(carIds, capacity);
+                startDays = Arrays.copyOf(startDays, capacity);
+                endDays = Arrays.copyOf(endDays, capacity);
+            }
+            carIds[size] = carId;
+            startDays[size] = Math.toIntExact(startDate.toEpochDay());
+            endDays[size] = Math.toIntExact(endDate.toEpochDay());
+            size++;
+            return this;
+        }
+
+        public BookedIntervals build() {
+            return new BookedIntervals(carIds, startDays, endDays, size);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.akif.rental.api;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class BookingHoldChangedEvent extends ApplicationEvent {
+
+    private final Long holdId;
+    private final Long carId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final boolean active;
+    private final LocalDateTime occurredAt;
+
+    public BookingHoldChangedEvent(Object source,
+                                   Long holdId,
+                                   Long carId,
+                                   LocalDate startDate,
+                                   LocalDate endDate,
+                                   boolean active,
+                                   LocalDateTime occurredAt) {
+        super(source);
+        this.holdId = holdId;
+        this.carId = carId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.active = active;
+        this.occurredAt = occurredAt;
+    }
+}
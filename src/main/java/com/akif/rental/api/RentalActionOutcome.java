@@ -0,0 +1,19 @@
+package com.akif.rental.api;
+
+import com.akif.rental.domain.enums.RentalStatus;
+
+public record RentalActionOutcome(
+    Long rentalId,
+    boolean success,
+    RentalStatus status,
+    String errorCode,
+    String message
+) {
+    public static RentalActionOutcome succeeded(Long rentalId, RentalStatus status) {
+        return new RentalActionOutcome(rentalId, true, status, null, null);
+    }
+
+    public static RentalActionOutcome failed(Long rentalId, String errorCode, String message) {
+        return new RentalActionOutcome(rentalId, false, null, errorCode, message);
+    }
+}
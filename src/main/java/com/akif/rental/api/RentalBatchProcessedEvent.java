@@ -0,0 +1,36 @@
+package com.akif.rental.api;
+
+import com.akif.rental.domain.enums.RentalStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once after a bulk action, listing the rentals it moved. Per-rental events published by
+ * the same action carry its batch ID, so listeners that only need to know that something changed
+ * can react once here instead of once per rental.
+ */
+@Getter
+public class RentalBatchProcessedEvent extends ApplicationEvent {
+
+    private final UUID batchId;
+    private final RentalStatus newStatus;
+    private final List<Long> rentalIds;
+    private final LocalDateTime occurredAt;
+
+    public RentalBatchProcessedEvent(
+            Object source,
+            UUID batchId,
+            RentalStatus newStatus,
+            List<Long> rentalIds,
+            LocalDateTime occurredAt) {
+        super(source);
+        this.batchId = batchId;
+        this.newStatus = newStatus;
+        this.rentalIds = List.copyOf(rentalIds);
+        this.occurredAt = occurredAt;
+    }
+}
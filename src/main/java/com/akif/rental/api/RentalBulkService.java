@@ -0,0 +1,16 @@
+package com.akif.rental.api;
+
+import java.util.List;
+
+/**
+ * Applies the admin approve, pickup and return actions to many rentals at once. Every distinct ID
+ * gets one outcome, in request order; a rental that cannot move does not stop the others.
+ */
+public interface RentalBulkService {
+
+    List<RentalActionOutcome> confirmRentals(List<Long> rentalIds);
+
+    List<RentalActionOutcome> pickupRentals(List<Long> rentalIds, String pickupNotes);
+
+    List<RentalActionOutcome> returnRentals(List<Long> rentalIds, String returnNotes);
+}
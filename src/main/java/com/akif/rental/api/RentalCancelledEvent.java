@@ -3,6 +3,7 @@ package com.akif.rental.api;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
@@ -13,6 +14,9 @@ public class RentalCancelledEvent extends RentalEvent {
     private final boolean refundProcessed;
     private final BigDecimal refundAmount;
     private final String refundTransactionId;
+    private final Long carId;
+    private final LocalDate pickupDate;
+    private final LocalDate returnDate;
     
     public RentalCancelledEvent(
             Object source,
@@ -24,11 +28,31 @@ public class RentalCancelledEvent extends RentalEvent {
             boolean refundProcessed,
             BigDecimal refundAmount,
             String refundTransactionId) {
+        this(source, rentalId, customerEmail, occurredAt, cancellationDate, cancellationReason,
+                refundProcessed, refundAmount, refundTransactionId, null, null, null);
+    }
+
+    public RentalCancelledEvent(
+            Object source,
+            Long rentalId,
+            String customerEmail,
+            LocalDateTime occurredAt,
+            LocalDateTime cancellationDate,
+            String cancellationReason,
+            boolean refundProcessed,
+            BigDecimal refundAmount,
+            String refundTransactionId,
+            Long carId,
+            LocalDate pickupDate,
+            LocalDate returnDate) {
         super(source, rentalId, customerEmail, occurredAt);
         this.cancellationDate = cancellationDate;
         this.cancellationReason = cancellationReason;
         this.refundProcessed = refundProcessed;
         this.refundAmount = refundAmount;
         this.refundTransactionId = refundTransactionId;
+        this.carId = carId;
+        this.pickupDate = pickupDate;
+        this.returnDate = returnDate;
     }
 }
@@ -6,6 +6,7 @@ import lombok.Getter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Getter
 public class RentalConfirmedEvent extends RentalEvent {
@@ -17,6 +18,8 @@ public class RentalConfirmedEvent extends RentalEvent {
     private final BigDecimal totalPrice;
     private final CurrencyType currency;
     private final String pickupLocation;
+    private final Long carId;
+    private final UUID batchId;
     
     public RentalConfirmedEvent(
             Object source,
@@ -30,6 +33,41 @@ public class RentalConfirmedEvent extends RentalEvent {
             BigDecimal totalPrice,
             CurrencyType currency,
             String pickupLocation) {
+        this(source, rentalId, customerEmail, occurredAt, carBrand, carModel, pickupDate, returnDate,
+                totalPrice, currency, pickupLocation, null);
+    }
+
+    public RentalConfirmedEvent(
+            Object source,
+            Long rentalId,
+            String customerEmail,
+            LocalDateTime occurredAt,
+            String carBrand,
+            String carModel,
+            LocalDate pickupDate,
+            LocalDate returnDate,
+            BigDecimal totalPrice,
+            CurrencyType currency,
+            String pickupLocation,
+            Long carId) {
+        this(source, rentalId, customerEmail, occurredAt, carBrand, carModel, pickupDate, returnDate,
+                totalPrice, currency, pickupLocation, carId, null);
+    }
+
+    public RentalConfirmedEvent(
+            Object source,
+            Long rentalId,
+            String customerEmail,
+            LocalDateTime occurredAt,
+            String carBrand,
+            String carModel,
+            LocalDate pickupDate,
+            LocalDate returnDate,
+            BigDecimal totalPrice,
+            CurrencyType currency,
+            String pickupLocation,
+            Long carId,
+            UUID batchId) {
         super(source, rentalId, customerEmail, occurredAt);
         this.carBrand = carBrand;
         this.carModel = carModel;
@@ -38,5 +76,7 @@ public class RentalConfirmedEvent extends RentalEvent {
         this.totalPrice = totalPrice;
         this.currency = currency;
         this.pickupLocation = pickupLocation;
+        this.carId = carId;
+        this.batchId = batchId;
     }
 }
@@ -0,0 +1,31 @@
+package com.akif.rental.api;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class RentalReturnedEvent extends RentalEvent {
+
+    private final Long carId;
+    private final LocalDate pickupDate;
+    private final LocalDate returnDate;
+    private final LocalDateTime actualReturnTime;
+
+    public RentalReturnedEvent(
+            Object source,
+            Long rentalId,
+            String customerEmail,
+            LocalDateTime occurredAt,
+            Long carId,
+            LocalDate pickupDate,
+            LocalDate returnDate,
+            LocalDateTime actualReturnTime) {
+        super(source, rentalId, customerEmail, occurredAt);
+        this.carId = carId;
+        this.pickupDate = pickupDate;
+        this.returnDate = returnDate;
+        this.actualReturnTime = actualReturnTime;
+    }
+}
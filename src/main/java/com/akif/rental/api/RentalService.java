@@ -2,6 +2,8 @@ package com.akif.rental.api;
 
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.internal.dto.request.RentalRequest;
+import com.akif.rental.internal.dto.request.RentalSearchRequest;
+import com.akif.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,8 +24,14 @@ public interface RentalService {
 
     Page<RentalResponse> getMyRentals(String username, Pageable pageable);
 
+    CursorPage<RentalResponse> scrollMyRentals(String username, String cursor, int size);
+
     Page<RentalResponse> getAllRentals(Pageable pageable);
 
+    Page<RentalResponse> searchRentals(RentalSearchRequest filter, Pageable pageable);
+
+    CursorPage<RentalResponse> scrollRentals(RentalSearchRequest filter, String cursor, int size);
+
     RentalResponse getRentalById(Long id, String username);
 
     RentalSummaryDto getRentalSummaryById(Long rentalId);
@@ -31,6 +39,10 @@ public interface RentalService {
     void incrementDamageReportCount(Long rentalId);
 
 
+    /**
+     * Counts rentals in the given status, including returned and cancelled rentals that have
+     * been moved to the archive.
+     */
     int countByStatus(RentalStatus status);
 
     int countTodaysPickups();
@@ -47,7 +59,15 @@ public interface RentalService {
 
     Page<RentalResponse> findOverdueRentals(Pageable pageable);
 
+    /**
+     * Sums paid late-return penalties of live and archived rentals ending in the range.
+     */
     BigDecimal sumCollectedPenaltyRevenue(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Averages the length of live and archived returned rentals ending in the range.
+     */
     BigDecimal getAverageRentalDurationDays(LocalDate startDate, LocalDate endDate);
+
+    BookedIntervals getBookedIntervals(LocalDate startDate, LocalDate endDate);
 }
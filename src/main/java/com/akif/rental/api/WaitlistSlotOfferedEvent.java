@@ -0,0 +1,46 @@
+package com.akif.rental.api;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class WaitlistSlotOfferedEvent extends ApplicationEvent {
+
+    private final Long waitlistEntryId;
+    private final Long holdId;
+    private final String customerEmail;
+    private final Long carId;
+    private final String carBrand;
+    private final String carModel;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final LocalDateTime holdExpiresAt;
+    private final LocalDateTime occurredAt;
+
+    public WaitlistSlotOfferedEvent(Object source,
+                                    Long waitlistEntryId,
+                                    Long holdId,
+                                    String customerEmail,
+                                    Long carId,
+                                    String carBrand,
+                                    String carModel,
+                                    LocalDate startDate,
+                                    LocalDate endDate,
+                                    LocalDateTime holdExpiresAt,
+                                    LocalDateTime occurredAt) {
+        super(source);
+        this.waitlistEntryId = waitlistEntryId;
+        this.holdId = holdId;
+        this.customerEmail = customerEmail;
+        this.carId = carId;
+        this.carBrand = carBrand;
+        this.carModel = carModel;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.holdExpiresAt = holdExpiresAt;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.akif.rental.domain.enums;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+
+@Getter
+@JsonFormat(shape = JsonFormat.Shape.STRING)
+public enum WaitlistStatus {
+    WAITING("Waiting", "Waiting for the dates to free up"),
+    OFFERED("Offered", "Freed dates held for the customer"),
+    CANCELLED("Cancelled", "Customer left the waitlist"),
+    EXPIRED("Expired", "Start date passed without an offer");
+
+    private final String displayName;
+    private final String description;
+
+    WaitlistStatus(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    @JsonValue
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,24 @@
+package com.akif.rental.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A returned or cancelled rental moved out of {@code rentals} by the archiver. Rows keep their
+ * original IDs and are never modified once archived, apart from the damage report counters.
+ */
+@Entity
+@Immutable
+@Table(name = "rentals_archive",
+        indexes = {
+                @Index(name = "idx_rentals_archive_user_created", columnList = "user_id, create_time, id"),
+                @Index(name = "idx_rentals_archive_create_time_id", columnList = "create_time, id")
+        })
+@NoArgsConstructor
+@SuperBuilder
+public class ArchivedRental extends RentalRecord {
+}
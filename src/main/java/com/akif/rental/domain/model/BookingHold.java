@@ -0,0 +1,57 @@
+package com.akif.rental.domain.model;
+
+import com.akif.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "booking_holds",
+        indexes = {
+                @Index(name = "idx_booking_hold_car_expiry", columnList = "car_id, expires_at"),
+                @Index(name = "idx_booking_hold_user", columnList = "user_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class BookingHold extends BaseEntity {
+
+    @Column(name = "car_id", nullable = false)
+    private Long carId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean overlaps(LocalDate otherStart, LocalDate otherEnd) {
+        return !startDate.isAfter(otherEnd) && !endDate.isBefore(otherStart);
+    }
+
+    @Override
+    public String toString() {
+        return "BookingHold{" +
+                "id=" + getId() +
+                ", carId=" + carId +
+                ", userId=" + userId +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
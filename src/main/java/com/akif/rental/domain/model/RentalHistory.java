@@ -0,0 +1,19 @@
+package com.akif.rental.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.View;
+
+/**
+ * Read-only view over live and archived rentals, used where a customer's full history is shown.
+ */
+@Entity
+@Immutable
+@Table(name = "rental_history")
+@View(query = "select " + RentalRecord.COLUMNS + " from rentals"
+        + " union all select " + RentalRecord.COLUMNS + " from rentals_archive")
+@NoArgsConstructor
+public class RentalHistory extends RentalRecord {
+}
@@ -0,0 +1,157 @@
+package com.akif.rental.domain.model;
+
+import com.akif.shared.enums.CurrencyType;
+import com.akif.rental.domain.enums.LateReturnStatus;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Columns shared by live rentals, archived rentals and the rental history view, so all three
+ * map the same layout and read through the same mapper.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public abstract class RentalRecord extends BaseEntity {
+
+    /**
+     * Every column of the shared layout, in table order, for the native statements that copy rows
+     * between the live and archive tables or union them. Listed rather than {@code *} so a column
+     * added to one table without the other fails loudly instead of shifting values.
+     */
+    public static final String COLUMNS = "id, user_id, car_id, car_brand, car_model, car_license_plate, "
+            + "user_email, user_full_name, start_date, end_date, days, currency, daily_price, total_price, "
+            + "status, pickup_notes, return_notes, pickup_reminder_sent, return_reminder_sent, "
+            + "late_return_status, late_detected_at, actual_return_time, late_hours, penalty_amount, "
+            + "penalty_paid, has_damage_reports, damage_reports_count, "
+            + "create_time, update_time, created_by, updated_by, version, is_deleted";
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "car_id", nullable = false)
+    private Long carId;
+
+
+    @Column(name = "car_brand", length = 50, nullable = false)
+    private String carBrand;
+
+    @Column(name = "car_model", length = 50, nullable = false)
+    private String carModel;
+
+    @Column(name = "car_license_plate", length = 11, nullable = false)
+    private String carLicensePlate;
+
+
+    @Column(name = "user_email", length = 255, nullable = false)
+    private String userEmail;
+
+    @Column(name = "user_full_name", length = 255, nullable = false)
+    private String userFullName;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "days", nullable = false)
+    private Integer days;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", length = 10, nullable = false)
+    private CurrencyType currency;
+
+    @Column(name = "daily_price", nullable = false, precision = 12, scale = 2)
+    private BigDecimal dailyPrice;
+
+    @Column(name = "total_price", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private RentalStatus status = RentalStatus.REQUESTED;
+
+    @Column(name = "pickup_notes", columnDefinition = "TEXT")
+    private String pickupNotes;
+
+    @Column(name = "return_notes", columnDefinition = "TEXT")
+    private String returnNotes;
+
+    @Column(name = "pickup_reminder_sent")
+    @Builder.Default
+    private boolean pickupReminderSent = false;
+
+    @Column(name = "return_reminder_sent")
+    @Builder.Default
+    private boolean returnReminderSent = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "late_return_status", length = 20)
+    private LateReturnStatus lateReturnStatus;
+
+    @Column(name = "late_detected_at")
+    private LocalDateTime lateDetectedAt;
+
+    @Column(name = "actual_return_time")
+    private LocalDateTime actualReturnTime;
+
+    @Column(name = "late_hours")
+    private Integer lateHours;
+
+    @Column(name = "penalty_amount", precision = 12, scale = 2)
+    private BigDecimal penaltyAmount;
+
+    @Column(name = "penalty_paid")
+    @Builder.Default
+    private Boolean penaltyPaid = false;
+
+    @Column(name = "has_damage_reports")
+    @Builder.Default
+    private Boolean hasDamageReports = false;
+
+    @Column(name = "damage_reports_count")
+    @Builder.Default
+    private Integer damageReportsCount = 0;
+
+    public boolean isInProgress() {
+        return status == RentalStatus.REQUESTED ||
+                status == RentalStatus.CONFIRMED ||
+                status == RentalStatus.IN_USE;
+    }
+
+    public boolean isCompleted() {
+        return status == RentalStatus.RETURNED || status == RentalStatus.CANCELLED;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "id=" + getId() +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", days=" + days +
+                ", dailyPrice=" + dailyPrice +
+                ", totalPrice=" + totalPrice +
+                ", currency=" + currency +
+                ", status=" + status +
+                ", carId=" + carId +
+                ", carBrand='" + carBrand + '\'' +
+                ", carModel='" + carModel + '\'' +
+                ", carLicensePlate='" + carLicensePlate + '\'' +
+                ", userId=" + userId +
+                ", userEmail='" + userEmail + '\'' +
+                ", userFullName='" + userFullName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.akif.rental.domain.model;
+
+import com.akif.rental.domain.enums.WaitlistStatus;
+import com.akif.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist_entries",
+        indexes = {
+                @Index(name = "idx_waitlist_status_start", columnList = "status, start_date"),
+                @Index(name = "idx_waitlist_user", columnList = "user_id, create_time"),
+                @Index(name = "idx_waitlist_create_time", columnList = "create_time")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class WaitlistEntry extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(name = "car_id")
+    private Long carId;
+
+    @Column(name = "body_type", length = 50)
+    private String bodyType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @Column(name = "offered_car_id")
+    private Long offeredCarId;
+
+    @Column(name = "offered_hold_id")
+    private Long offeredHoldId;
+
+    @Column(name = "offered_at")
+    private LocalDateTime offeredAt;
+
+    public void markOffered(Long carId, Long holdId, LocalDateTime now) {
+        this.status = WaitlistStatus.OFFERED;
+        this.offeredCarId = carId;
+        this.offeredHoldId = holdId;
+        this.offeredAt = now;
+    }
+
+    @Override
+    public String toString() {
+        return "WaitlistEntry{" +
+                "id=" + getId() +
+                ", userId=" + userId +
+                ", carId=" + carId +
+                ", bodyType='" + bodyType + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", status=" + status +
+                '}';
+    }
+}
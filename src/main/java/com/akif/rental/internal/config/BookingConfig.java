@@ -0,0 +1,60 @@
+package com.akif.rental.internal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "booking")
+public class BookingConfig {
+
+    private LockConfig lock = new LockConfig();
+    private HoldConfig hold = new HoldConfig();
+    private BulkConfig bulk = new BulkConfig();
+    private ArchiveConfig archive = new ArchiveConfig();
+    private WaitlistConfig waitlist = new WaitlistConfig();
+
+    @Getter
+    @Setter
+    public static class LockConfig {
+        private int stripes = 256;
+        private long timeoutMillis = 500;
+        private boolean advisoryEnabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class HoldConfig {
+        private long ttlSeconds = 600;
+        private long tickMillis = 1000;
+        private int wheelSize = 512;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkConfig {
+        private int chunkSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class ArchiveConfig {
+        private boolean enabled = true;
+        private int retentionMonths = 12;
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+        private long intervalMillis = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class WaitlistConfig {
+        private long offerTtlSeconds = 3600;
+        private int maxOfferAttempts = 20;
+        private int maxAdvanceDays = 365;
+        private long loadOverlapSeconds = 300;
+    }
+}
@@ -23,12 +23,16 @@ public class PricingConfig {
 
     private BigDecimal minDailyPrice = new BigDecimal("100");
     private BigDecimal maxDailyPrice = new BigDecimal("10000");
+    private String reloadLocation;
     private SeasonConfig season = new SeasonConfig();
     private EarlyBookingConfig earlyBooking = new EarlyBookingConfig();
     private DurationConfig duration = new DurationConfig();
     private WeekendConfig weekend = new WeekendConfig();
     private DemandConfig demand = new DemandConfig();
     private StrategyConfig strategy = new StrategyConfig();
+    private QuoteCacheConfig quoteCache = new QuoteCacheConfig();
+    private QuoteTokenConfig quoteToken = new QuoteTokenConfig();
+    private SimulationConfig simulation = new SimulationConfig();
 
     @PostConstruct
     public void validate() {
@@ -114,6 +118,7 @@ public class PricingConfig {
     public static class DemandConfig {
         private DemandTier high = new DemandTier(80, new BigDecimal("1.20"));
         private DemandTier moderate = new DemandTier(50, new BigDecimal("1.10"));
+        private long rebuildIntervalMs = 3600000;
     }
 
     @Getter
@@ -134,4 +139,26 @@ public class PricingConfig {
         private boolean weekendEnabled = true;
         private boolean demandEnabled = true;
     }
+
+    @Getter
+    @Setter
+    public static class QuoteCacheConfig {
+        private long ttlSeconds = 30;
+        private long maximumSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class QuoteTokenConfig {
+        private String secret;
+        private long ttlSeconds = 900;
+    }
+
+    @Getter
+    @Setter
+    public static class SimulationConfig {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int maxHorizonDays = 92;
+        private int maxTripLengths = 10;
+    }
 }
@@ -22,9 +22,16 @@ public record RentalRequest(
     LocalDate endDate,
 
     @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
-    String notes
+    String notes,
+
+    @Size(max = 4096, message = "Quote token cannot exceed 4096 characters")
+    String quoteToken
 ){
 
+    public RentalRequest(Long carId, LocalDate startDate, LocalDate endDate, String notes) {
+        this(carId, startDate, endDate, notes, null);
+    }
+
     @AssertTrue(message = "End date must be after start date")
     public boolean isEndDateAfterStartDate() {
         if (startDate == null || endDate == null) {
@@ -0,0 +1,40 @@
+package com.akif.rental.internal.dto.request;
+
+import com.akif.rental.domain.enums.LateReturnStatus;
+import com.akif.rental.domain.enums.RentalStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Admin rental search filters. Every filter is optional; {@code from} and {@code to} select
+ * rentals whose dates overlap that window.
+ */
+public record RentalSearchRequest(
+
+    RentalStatus status,
+
+    Long carId,
+
+    @Size(max = 255, message = "User email filter cannot exceed 255 characters")
+    String userEmail,
+
+    @Size(max = 11, message = "License plate filter cannot exceed 11 characters")
+    String licensePlate,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate from,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate to,
+
+    LateReturnStatus lateReturnStatus
+) {
+
+    @AssertTrue(message = "From date must not be after to date")
+    public boolean isDateWindowValid() {
+        return from == null || to == null || !from.isAfter(to);
+    }
+}
@@ -0,0 +1,39 @@
+package com.akif.rental.internal.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+
+public record WaitlistRequest(
+
+    @Positive(message = "Car ID must be positive")
+    Long carId,
+
+    @Size(max = 50, message = "Body type cannot exceed 50 characters")
+    String bodyType,
+
+    @NotNull(message = "Start date cannot be null")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @FutureOrPresent(message = "Start date must be today or in the future")
+    LocalDate startDate,
+
+    @NotNull(message = "End date cannot be null")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate
+) {
+
+    @AssertTrue(message = "Either a car ID or a body type must be given, but not both")
+    public boolean isSingleTarget() {
+        boolean hasBodyType = bodyType != null && !bodyType.isBlank();
+        return (carId != null) != hasBodyType;
+    }
+
+    @AssertTrue(message = "End date must not be before start date")
+    public boolean isEndDateOnOrAfterStartDate() {
+        if (startDate == null || endDate == null) {
+            return true;
+        }
+        return !endDate.isBefore(startDate);
+    }
+}
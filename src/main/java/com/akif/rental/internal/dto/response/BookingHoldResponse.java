@@ -0,0 +1,21 @@
+package com.akif.rental.internal.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record BookingHoldResponse(
+
+    Long id,
+    Long carId,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime expiresAt
+) {}
@@ -0,0 +1,30 @@
+package com.akif.rental.internal.dto.response;
+
+import com.akif.rental.domain.enums.WaitlistStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record WaitlistEntryResponse(
+
+    Long id,
+    Long carId,
+    String bodyType,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    WaitlistStatus status,
+    Long offeredCarId,
+    Long offeredHoldId,
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime offeredAt,
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime createTime
+) {}
@@ -0,0 +1,23 @@
+package com.akif.rental.internal.exception;
+
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+
+public class BookingConflictException extends BaseException {
+
+    public static final String ERROR_CODE = "BOOKING_CONFLICT";
+
+    public BookingConflictException(Long carId) {
+        super(ERROR_CODE,
+                String.format("Another booking for car with id %d is in progress, please retry", carId),
+                HttpStatus.CONFLICT);
+    }
+
+    public BookingConflictException(Long carId, LocalDate startDate, LocalDate endDate) {
+        super(ERROR_CODE,
+                String.format("Car with id %d is held by another customer between %s and %s", carId, startDate, endDate),
+                HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.akif.rental.internal.exception;
+
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class BookingHoldNotFoundException extends BaseException {
+
+    public static final String ERROR_CODE = "BOOKING_HOLD_NOT_FOUND";
+
+    public BookingHoldNotFoundException(Long id) {
+        super(ERROR_CODE, "Booking hold not found with id: " + id, HttpStatus.NOT_FOUND);
+    }
+}
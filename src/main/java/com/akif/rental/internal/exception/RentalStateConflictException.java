@@ -0,0 +1,17 @@
+package com.akif.rental.internal.exception;
+
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class RentalStateConflictException extends BaseException {
+
+    public static final String ERROR_CODE = "RENTAL_STATE_CONFLICT";
+
+    public RentalStateConflictException(Long rentalId, RentalStatus expectedStatus, RentalStatus targetStatus) {
+        super(ERROR_CODE,
+                String.format("Rental with id %d is no longer %s and cannot move to %s, it was changed concurrently",
+                        rentalId, expectedStatus.name(), targetStatus.name()),
+                HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.akif.rental.internal.exception;
+
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class WaitlistEntryNotFoundException extends BaseException {
+
+    public static final String ERROR_CODE = "WAITLIST_ENTRY_NOT_FOUND";
+
+    public WaitlistEntryNotFoundException(Long id) {
+        super(ERROR_CODE, "Waitlist entry not found with id: " + id, HttpStatus.NOT_FOUND);
+    }
+}
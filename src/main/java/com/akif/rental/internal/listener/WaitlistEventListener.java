@@ -0,0 +1,61 @@
+package com.akif.rental.internal.listener;
+
+import com.akif.rental.api.BookingHoldChangedEvent;
+import com.akif.rental.api.RentalCancelledEvent;
+import com.akif.rental.internal.service.waitlist.WaitlistService;
+import com.akif.shared.event.EventPublicationConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistEventListener {
+
+    private final WaitlistService waitlistService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        log.debug("Application ready. Building waitlist index.");
+        try {
+            waitlistService.rebuildIndex();
+        } catch (Exception e) {
+            log.error("Waitlist index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRentalCancelled(RentalCancelledEvent event) {
+        if (event.getCarId() == null || event.getPickupDate() == null || event.getReturnDate() == null) {
+            return;
+        }
+
+        log.debug("Received RentalCancelledEvent for rental: {}. Offering car: {} from {} to {} to the waitlist.",
+                event.getRentalId(), event.getCarId(), event.getPickupDate(), event.getReturnDate());
+        offerFreedDates(event.getCarId(), event.getPickupDate(), event.getReturnDate());
+    }
+
+    @Async(EventPublicationConfig.DISPATCH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.active")
+    public void handleBookingHoldReleased(BookingHoldChangedEvent event) {
+        log.debug("Received BookingHoldChangedEvent for released hold: {}. Offering car: {} from {} to {} to the waitlist.",
+                event.getHoldId(), event.getCarId(), event.getStartDate(), event.getEndDate());
+        offerFreedDates(event.getCarId(), event.getStartDate(), event.getEndDate());
+    }
+
+    private void offerFreedDates(Long carId, LocalDate startDate, LocalDate endDate) {
+        try {
+            waitlistService.offerFreedDates(carId, startDate, endDate);
+        } catch (Exception e) {
+            log.error("Waitlist offer for car: {} from {} to {} failed: {}", carId, startDate, endDate, e.getMessage(), e);
+        }
+    }
+}
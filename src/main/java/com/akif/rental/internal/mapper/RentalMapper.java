@@ -1,7 +1,7 @@
 package com.akif.rental.internal.mapper;
 
 import com.akif.rental.api.RentalResponse;
-import com.akif.rental.domain.model.Rental;
+import com.akif.rental.domain.model.RentalRecord;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
@@ -19,5 +19,5 @@ public interface RentalMapper {
     @Mapping(target = "userSummary.id", source = "userId")
     @Mapping(target = "userSummary.username", source = "userEmail")
     @Mapping(target = "userSummary.email", source = "userEmail")
-    RentalResponse toDto(Rental rental);
+    RentalResponse toDto(RentalRecord rental);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.akif.rental.internal.repository;
+
+import com.akif.rental.domain.model.ArchivedRental;
+import com.akif.rental.domain.model.RentalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ArchivedRentalRepository extends JpaRepository<ArchivedRental, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO {h-schema}rentals_archive (" + RentalRecord.COLUMNS + ") " +
+            "SELECT " + RentalRecord.COLUMNS + " FROM {h-schema}rentals WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromRentals(@Param("ids") Collection<Long> ids);
+
+    // Damage can still be reported after archiving; the counters are the only columns that change
+    @Modifying
+    @Query(value = "UPDATE {h-schema}rentals_archive " +
+            "SET has_damage_reports = true, damage_reports_count = COALESCE(damage_reports_count, 0) + 1 " +
+            "WHERE id = :id AND is_deleted = false", nativeQuery = true)
+    int incrementDamageReportCount(@Param("id") Long id);
+}
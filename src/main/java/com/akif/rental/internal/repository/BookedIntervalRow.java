@@ -0,0 +1,8 @@
+package com.akif.rental.internal.repository;
+
+import java.time.LocalDate;
+
+/**
+ * The car and dates of one booked rental, read without loading the rental entity.
+ */
+public record BookedIntervalRow(Long carId, LocalDate startDate, LocalDate endDate) {}
@@ -0,0 +1,9 @@
+package com.akif.rental.internal.repository;
+
+import com.akif.car.domain.Car;
+
+/**
+ * A car loaded together with the number of confirmed or active rentals and of other customers'
+ * unexpired holds overlapping a requested window, so a booking can be validated with a single query.
+ */
+public record BookingCandidate(Car car, long overlappingRentals, long conflictingHolds) {}
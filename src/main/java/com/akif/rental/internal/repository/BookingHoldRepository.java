@@ -0,0 +1,42 @@
+package com.akif.rental.internal.repository;
+
+import com.akif.rental.domain.model.BookingHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingHoldRepository extends JpaRepository<BookingHold, Long> {
+
+    @Query("SELECT COUNT(h) FROM BookingHold h " +
+            "WHERE h.carId = :carId " +
+            "AND h.expiresAt > :now " +
+            "AND h.startDate <= :endDate AND h.endDate >= :startDate")
+    long countActiveHolds(@Param("carId") Long carId,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate,
+                          @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT h.carId FROM BookingHold h " +
+            "WHERE h.carId IN :carIds " +
+            "AND h.expiresAt > :now " +
+            "AND h.startDate <= :endDate AND h.endDate >= :startDate")
+    List<Long> findHeldCarIds(@Param("carIds") List<Long> carIds,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate,
+                              @Param("now") LocalDateTime now);
+
+    List<BookingHold> findByCarIdAndUserIdAndExpiresAtAfter(Long carId, Long userId, LocalDateTime now);
+
+    List<BookingHold> findByExpiresAtAfter(LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM BookingHold h WHERE h.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
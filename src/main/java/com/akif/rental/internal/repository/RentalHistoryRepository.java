@@ -0,0 +1,98 @@
+package com.akif.rental.internal.repository;
+
+import com.akif.rental.domain.enums.LateReturnStatus;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.RentalHistory;
+import com.akif.shared.export.StreamingExportWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface RentalHistoryRepository extends JpaRepository<RentalHistory, Long> {
+
+    Page<RentalHistory> findByUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
+
+    Optional<RentalHistory> findByIdAndIsDeletedFalse(Long id);
+
+    List<RentalHistory> findByUserIdAndIsDeletedFalseOrderByCreateTimeDescIdDesc(Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT r FROM RentalHistory r
+            WHERE r.userId = :userId
+            AND r.isDeleted = false
+            AND (r.createTime < :createTime OR (r.createTime = :createTime AND r.id < :id))
+            ORDER BY r.createTime DESC, r.id DESC
+            """)
+    List<RentalHistory> findByUserIdAfter(@Param("userId") Long userId,
+                                          @Param("createTime") LocalDateTime createTime,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT r FROM RentalHistory r
+            WHERE r.createTime >= :start
+            AND r.createTime < :end
+            AND r.isDeleted = false
+            ORDER BY r.createTime, r.id
+            """)
+    Stream<RentalHistory> streamCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.akif.rental.internal.repository.BookedIntervalRow(r.carId, r.startDate, r.endDate)
+            FROM RentalHistory r
+            WHERE r.status IN :statuses
+            AND r.startDate <= :endDate
+            AND r.endDate >= :startDate
+            AND r.isDeleted = false
+            ORDER BY r.carId, r.startDate
+            """)
+    Stream<BookedIntervalRow> streamBookedIntervals(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    @Param("statuses") List<RentalStatus> statuses);
+
+    int countByStatusAndIsDeletedFalse(RentalStatus status);
+
+    @Query("""
+            SELECT COALESCE(SUM(r.penaltyAmount), 0) FROM RentalHistory r
+            WHERE r.lateReturnStatus IN (:statuses)
+            AND r.penaltyPaid = true
+            AND (:startDate IS NULL OR r.endDate >= :startDate)
+            AND (:endDate IS NULL OR r.endDate <= :endDate)
+            AND r.isDeleted = false
+            """)
+    BigDecimal sumCollectedPenaltyAmount(@Param("statuses") List<LateReturnStatus> statuses,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    @Query("""
+            SELECT COALESCE(AVG(r.days), 0.0) FROM RentalHistory r
+            WHERE r.status = com.akif.rental.domain.enums.RentalStatus.RETURNED
+            AND (:startDate IS NULL OR r.endDate >= :startDate)
+            AND (:endDate IS NULL OR r.endDate <= :endDate)
+            AND r.isDeleted = false
+            """)
+    Double averageRentalDurationDays(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+}
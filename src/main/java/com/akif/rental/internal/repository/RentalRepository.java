@@ -3,20 +3,26 @@ package com.akif.rental.internal.repository;
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.domain.model.Rental;
 import com.akif.rental.domain.enums.LateReturnStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RentalRepository extends JpaRepository<Rental, Long> {
+public interface RentalRepository extends JpaRepository<Rental, Long>, JpaSpecificationExecutor<Rental> {
 
     Page<Rental> findByUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
 
@@ -28,6 +34,68 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
 
     Page<Rental> findByIsDeletedFalse(Pageable pageable);
 
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :toStatus, " +
+            "r.pickupNotes = :pickupNotes, " +
+            "r.returnNotes = :returnNotes, " +
+            "r.actualReturnTime = :actualReturnTime, " +
+            "r.updateTime = :now, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id = :id " +
+            "AND r.status = :fromStatus " +
+            "AND r.isDeleted = false")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("fromStatus") RentalStatus fromStatus,
+                            @Param("toStatus") RentalStatus toStatus,
+                            @Param("pickupNotes") String pickupNotes,
+                            @Param("returnNotes") String returnNotes,
+                            @Param("actualReturnTime") LocalDateTime actualReturnTime,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :toStatus, " +
+            "r.pickupNotes = COALESCE(:pickupNotes, r.pickupNotes), " +
+            "r.returnNotes = COALESCE(:returnNotes, r.returnNotes), " +
+            "r.actualReturnTime = COALESCE(:actualReturnTime, r.actualReturnTime), " +
+            "r.updateTime = :now, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id IN :ids " +
+            "AND r.status = :fromStatus " +
+            "AND r.isDeleted = false")
+    int compareAndSetStatusAll(@Param("ids") Collection<Long> ids,
+                               @Param("fromStatus") RentalStatus fromStatus,
+                               @Param("toStatus") RentalStatus toStatus,
+                               @Param("pickupNotes") String pickupNotes,
+                               @Param("returnNotes") String returnNotes,
+                               @Param("actualReturnTime") LocalDateTime actualReturnTime,
+                               @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rental r WHERE r.id IN :ids AND r.isDeleted = false ORDER BY r.id")
+    List<Rental> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r FROM Rental r " +
+            "WHERE r.carId IN :carIds " +
+            "AND r.status IN (com.akif.rental.domain.enums.RentalStatus.CONFIRMED, com.akif.rental.domain.enums.RentalStatus.IN_USE) " +
+            "AND r.isDeleted = false")
+    List<Rental> findBlockingRentalsByCarIds(@Param("carIds") Collection<Long> carIds);
+
+    @Query("SELECT c.id, c.carStatusType FROM Car c WHERE c.id IN :carIds AND c.isDeleted = false")
+    List<Object[]> findCarStatusesByIds(@Param("carIds") Collection<Long> carIds);
+
+    @Modifying
+    @Query("UPDATE Rental r SET r.penaltyAmount = :penaltyAmount, " +
+            "r.lateHours = :lateHours, " +
+            "r.penaltyPaid = :penaltyPaid, " +
+            "r.updateTime = :now, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id = :id")
+    int updatePenalty(@Param("id") Long id,
+                      @Param("penaltyAmount") BigDecimal penaltyAmount,
+                      @Param("lateHours") Integer lateHours,
+                      @Param("penaltyPaid") Boolean penaltyPaid,
+                      @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(r) FROM Rental r " +
             "WHERE r.carId = :carId " +
             "AND r.status IN (com.akif.rental.domain.enums.RentalStatus.CONFIRMED, com.akif.rental.domain.enums.RentalStatus.IN_USE) " +
@@ -37,6 +105,36 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
                                  @Param("startDate") LocalDate startDate,
                                  @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT new com.akif.rental.internal.repository.BookingCandidate(c, " +
+            "(SELECT COUNT(r) FROM Rental r " +
+            "WHERE r.carId = c.id " +
+            "AND r.status IN (com.akif.rental.domain.enums.RentalStatus.CONFIRMED, com.akif.rental.domain.enums.RentalStatus.IN_USE) " +
+            "AND r.isDeleted = false " +
+            "AND r.startDate <= :endDate AND r.endDate >= :startDate), " +
+            "(SELECT COUNT(h) FROM BookingHold h " +
+            "WHERE h.carId = c.id " +
+            "AND h.userId <> :userId " +
+            "AND h.expiresAt > :now " +
+            "AND h.startDate <= :endDate AND h.endDate >= :startDate)) " +
+            "FROM Car c " +
+            "WHERE c.id = :carId " +
+            "AND c.isDeleted = false")
+    Optional<BookingCandidate> findBookingCandidate(@Param("carId") Long carId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    @Param("userId") Long userId,
+                                                    @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.carId, COUNT(r) FROM Rental r " +
+            "WHERE r.carId IN :carIds " +
+            "AND r.status IN (com.akif.rental.domain.enums.RentalStatus.CONFIRMED, com.akif.rental.domain.enums.RentalStatus.IN_USE) " +
+            "AND r.isDeleted = false " +
+            "AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+            "GROUP BY r.carId")
+    List<Object[]> countOverlappingRentalsByCarIds(@Param("carIds") List<Long> carIds,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
     @Query("SELECT r FROM Rental r " +
             "WHERE r.startDate = :tomorrow " +
             "AND r.status = :status " +
@@ -67,6 +165,14 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             @Param("endDate") LocalDate endDate,
             @Param("statuses") List<RentalStatus> statuses);
 
+    @Query("SELECT r FROM Rental r " +
+            "WHERE r.status IN :statuses " +
+            "AND r.isDeleted = false " +
+            "AND r.endDate >= :fromDate")
+    List<Rental> findRentalsEndingOnOrAfter(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("statuses") List<RentalStatus> statuses);
+
     @Query("SELECT r FROM Rental r " +
             "WHERE r.status = com.akif.rental.domain.enums.RentalStatus.IN_USE " +
             "AND r.endDate < :currentDate " +
@@ -191,13 +297,21 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             """)
     Page<Rental> findTodaysReturns(@Param("today") LocalDate today, Pageable pageable);
 
-    @Query("""
-            SELECT COALESCE(AVG(r.days), 0.0) FROM Rental r 
-            WHERE r.status = com.akif.rental.domain.enums.RentalStatus.RETURNED 
-            AND (:startDate IS NULL OR r.endDate >= :startDate) 
-            AND (:endDate IS NULL OR r.endDate <= :endDate) 
-            AND r.isDeleted = false
-            """)
-    Double averageRentalDurationDays(@Param("startDate") LocalDate startDate,
-                                     @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+    // Native so it can skip rentals whose damage reports are still open without mapping the
+    // damage module's entity here; damage charges and disputes keep working on the live row
+    @Query(value = """
+            SELECT r.id FROM {h-schema}rentals r
+            WHERE r.status IN ('RETURNED', 'CANCELLED')
+            AND r.end_date < :cutoff
+            AND (r.penalty_amount IS NULL OR r.penalty_amount = 0 OR r.penalty_paid = true)
+            AND NOT EXISTS (SELECT 1 FROM {h-schema}penalty_waivers w WHERE w.rental_id = r.id)
+            AND NOT EXISTS (SELECT 1 FROM {h-schema}damage_reports d
+                            WHERE d.rental_id = r.id AND d.is_deleted = false AND d.status <> 'RESOLVED')
+            ORDER BY r.id
+            """, nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Rental r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,53 @@
+package com.akif.rental.internal.repository;
+
+import com.akif.rental.domain.enums.WaitlistStatus;
+import com.akif.rental.domain.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    List<WaitlistEntry> findByUserIdAndIsDeletedFalseOrderByIdDesc(Long userId);
+
+    List<WaitlistEntry> findByIdInAndStatusAndIsDeletedFalseOrderById(List<Long> ids, WaitlistStatus status);
+
+    @Query("SELECT w FROM WaitlistEntry w " +
+            "WHERE w.status = com.akif.rental.domain.enums.WaitlistStatus.WAITING " +
+            "AND w.isDeleted = false " +
+            "AND w.startDate >= :today")
+    List<WaitlistEntry> findWaitingFrom(@Param("today") LocalDate today);
+
+    @Query("SELECT w FROM WaitlistEntry w " +
+            "WHERE w.createTime >= :since " +
+            "AND w.status = com.akif.rental.domain.enums.WaitlistStatus.WAITING " +
+            "AND w.isDeleted = false " +
+            "AND w.startDate >= :today " +
+            "ORDER BY w.id")
+    List<WaitlistEntry> findWaitingCreatedSince(@Param("since") LocalDateTime since, @Param("today") LocalDate today);
+
+    @Query("SELECT w FROM WaitlistEntry w " +
+            "WHERE w.status = com.akif.rental.domain.enums.WaitlistStatus.WAITING " +
+            "AND w.isDeleted = false " +
+            "AND w.startDate < :today")
+    List<WaitlistEntry> findWaitingBefore(@Param("today") LocalDate today);
+
+    @Query("SELECT COUNT(w) > 0 FROM WaitlistEntry w " +
+            "WHERE w.userId = :userId " +
+            "AND w.status = com.akif.rental.domain.enums.WaitlistStatus.WAITING " +
+            "AND w.isDeleted = false " +
+            "AND ((:carId IS NULL AND w.carId IS NULL) OR w.carId = :carId) " +
+            "AND ((:bodyType IS NULL AND w.bodyType IS NULL) OR w.bodyType = :bodyType) " +
+            "AND w.startDate = :startDate AND w.endDate = :endDate")
+    boolean existsWaiting(@Param("userId") Long userId,
+                          @Param("carId") Long carId,
+                          @Param("bodyType") String bodyType,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,38 @@
+package com.akif.rental.internal.scheduler;
+
+import com.akif.rental.internal.service.booking.BookingHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingHoldScheduler {
+
+    private final BookingHoldService bookingHoldService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverHolds() {
+        try {
+            bookingHoldService.recoverHolds();
+        } catch (Exception e) {
+            log.error("Booking hold recovery failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${booking.hold.tick-millis:1000}")
+    public void expireHolds() {
+        try {
+            int expired = bookingHoldService.expireDueHolds();
+            if (expired > 0) {
+                log.info("Released {} expired booking holds", expired);
+            }
+        } catch (Exception e) {
+            log.error("Booking hold expiry failed: {}", e.getMessage(), e);
+        }
+    }
+}
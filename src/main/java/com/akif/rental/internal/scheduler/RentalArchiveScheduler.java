@@ -0,0 +1,30 @@
+package com.akif.rental.internal.scheduler;
+
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.service.archive.RentalArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RentalArchiveScheduler {
+
+    private final RentalArchiveService rentalArchiveService;
+    private final BookingConfig bookingConfig;
+
+    @Scheduled(fixedRateString = "${booking.archive.interval-millis:3600000}",
+            initialDelayString = "${booking.archive.interval-millis:3600000}")
+    public void archiveCompletedRentals() {
+        if (!bookingConfig.getArchive().isEnabled()) {
+            return;
+        }
+        try {
+            rentalArchiveService.archiveCompletedRentals();
+        } catch (Exception e) {
+            log.error("Rental archival failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.akif.rental.internal.scheduler;
+
+import com.akif.rental.internal.service.waitlist.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistScheduler {
+
+    private final WaitlistService waitlistService;
+
+    @Scheduled(cron = "0 5 0 * * *")
+    public void expireStaleEntries() {
+        try {
+            waitlistService.expireStaleEntries();
+            waitlistService.rebuildIndex();
+        } catch (Exception e) {
+            log.error("Waitlist maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+}
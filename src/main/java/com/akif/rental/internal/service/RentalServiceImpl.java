@@ -2,8 +2,11 @@ package com.akif.rental.internal.service;
 
 import com.akif.car.api.CarResponse;
 import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.domain.Car;
 import com.akif.car.internal.exception.CarNotAvailableException;
+import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.payment.internal.exception.PaymentFailedException;
+import com.akif.rental.api.BookedIntervals;
 import com.akif.rental.api.RentalResponse;
 import com.akif.rental.api.RentalSummaryDto;
 import com.akif.rental.domain.enums.LateReturnStatus;
@@ -11,6 +14,7 @@ import com.akif.payment.api.PaymentDto;
 import com.akif.payment.api.PaymentStatus;
 import com.akif.payment.api.CreatePaymentRequest;
 import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.internal.exception.BookingConflictException;
 import com.akif.rental.internal.exception.InvalidRentalStateException;
 import com.akif.rental.internal.exception.RentalDateOverlapException;
 import com.akif.rental.internal.exception.RentalNotFoundException;
@@ -20,27 +24,46 @@ import com.akif.payment.api.PaymentCapturedEvent;
 import com.akif.rental.api.PenaltySummaryEvent;
 import com.akif.rental.api.RentalCancelledEvent;
 import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.rental.api.RentalReturnedEvent;
 import com.akif.rental.internal.dto.request.RentalRequest;
+import com.akif.rental.internal.dto.request.RentalSearchRequest;
 import com.akif.rental.internal.mapper.RentalMapper;
 import com.akif.rental.domain.model.Rental;
+import com.akif.rental.domain.model.RentalHistory;
 import com.akif.car.api.CarService;
 import com.akif.auth.api.AuthService;
 import com.akif.auth.api.UserDto;
+import com.akif.rental.internal.service.booking.BookingLockManager;
+import com.akif.rental.internal.service.booking.GatewayCompensation;
 import com.akif.rental.internal.service.penalty.PenaltyCalculationService;
 import com.akif.rental.internal.service.penalty.PenaltyPaymentService;
+import com.akif.rental.internal.service.state.RentalStateMachine;
+import com.akif.rental.internal.service.state.RentalTransition;
+import com.akif.rental.internal.repository.BookedIntervalRow;
+import com.akif.rental.internal.repository.BookingCandidate;
+import com.akif.rental.internal.repository.ArchivedRentalRepository;
+import com.akif.rental.internal.repository.RentalHistoryRepository;
 import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.repository.RentalSpecifications;
 import com.akif.payment.api.PaymentService;
 import com.akif.rental.api.RentalService;
 import com.akif.payment.api.PaymentResult;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.quote.PriceQuoteTokenService;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingResult;
 import com.akif.shared.enums.*;
+import com.akif.shared.pagination.CursorPage;
+import com.akif.shared.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,6 +73,8 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -58,8 +83,13 @@ import java.time.temporal.ChronoUnit;
 public class RentalServiceImpl implements RentalService {
 
     private static final String STUB_PAYMENT_METHOD = "STUB_GATEWAY";
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final List<RentalStatus> BOOKED_STATUSES =
+            List.of(RentalStatus.CONFIRMED, RentalStatus.IN_USE, RentalStatus.RETURNED);
     
     private final RentalRepository rentalRepository;
+    private final RentalHistoryRepository rentalHistoryRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
 
     private final CarService carService;
     private final AuthService authService;
@@ -67,9 +97,12 @@ public class RentalServiceImpl implements RentalService {
     private final PaymentService paymentService;
     private final RentalMapper rentalMapper;
     private final DynamicPricingService dynamicPricingService;
+    private final PriceQuoteTokenService priceQuoteTokenService;
     private final ApplicationEventPublisher eventPublisher;
     private final PenaltyCalculationService penaltyCalculationService;
     private final PenaltyPaymentService penaltyPaymentService;
+    private final BookingLockManager bookingLockManager;
+    private final RentalStateMachine rentalStateMachine;
 
     @Override
     @Transactional
@@ -77,7 +110,9 @@ public class RentalServiceImpl implements RentalService {
         log.info("Creating rental request for user: {}, car: {}", username, request.carId());
         
         UserDto user = findUserByUsername(username);
-        CarResponse car = findCarById(request.carId());
+        bookingLockManager.lockOnNode(request.carId());
+        BookingCandidate candidate = findBookingCandidate(request.carId(), request.startDate(), request.endDate(), user.id());
+        Car car = candidate.car();
 
         if (!car.getCarStatusType().equals(CarStatusType.AVAILABLE)) {
             throw new CarNotAvailableException(
@@ -87,14 +122,21 @@ public class RentalServiceImpl implements RentalService {
         }
 
         validateRentalDates(request.startDate(), request.endDate());
-        checkDateOverlap(car.getId(), request.startDate(), request.endDate());
+        if (candidate.overlappingRentals() > 0) {
+            throw new RentalDateOverlapException(car.getId(), request.startDate(), request.endDate());
+        }
+        if (candidate.conflictingHolds() > 0) {
+            throw new BookingConflictException(car.getId(), request.startDate(), request.endDate());
+        }
 
-        PricingResult pricingResult = dynamicPricingService.calculatePrice(
-            request.carId(),
-            request.startDate(),
-            request.endDate(),
-            LocalDate.now()
-        );
+        PricingResult pricingResult = priceQuoteTokenService
+            .verify(request.quoteToken(), request.carId(), request.startDate(), request.endDate())
+            .orElseGet(() -> dynamicPricingService.calculatePrice(
+                car,
+                request.startDate(),
+                request.endDate(),
+                LocalDate.now()
+            ));
 
         int days = pricingResult.rentalDays();
         BigDecimal dailyPrice = pricingResult.effectiveDailyPrice();
@@ -167,6 +209,20 @@ public class RentalServiceImpl implements RentalService {
         }
     }
 
+    private Rental transitionToConfirmed(Rental rental) {
+        try {
+            return rentalStateMachine.transition(rental, RentalTransition.CONFIRM);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Overlap constraint rejected confirmation of rental: {}", rental.getId());
+            throw new RentalDateOverlapException(rental.getCarId(), rental.getStartDate(), rental.getEndDate());
+        }
+    }
+
+    private BookingCandidate findBookingCandidate(Long carId, LocalDate startDate, LocalDate endDate, Long userId) {
+        return rentalRepository.findBookingCandidate(carId, startDate, endDate, userId, LocalDateTime.now())
+                .orElseThrow(() -> new CarNotFoundException(carId));
+    }
+
     private void checkDateOverlap(Long carId, LocalDate startDate, LocalDate endDate) {
         long overlappingCount = rentalRepository.countOverlappingRentals(carId, startDate, endDate);
         if (overlappingCount > 0) {
@@ -192,19 +248,10 @@ public class RentalServiceImpl implements RentalService {
             );
         }
 
+        bookingLockManager.lockAcrossNodes(rental.getCarId());
         checkDateOverlap(rental.getCarId(), rental.getStartDate(), rental.getEndDate());
 
-        PaymentResult authResult = paymentService.authorize(
-                rental.getTotalPrice(),
-                rental.getCurrency(),
-                rental.getUserId().toString()
-        );
-
-        if (!authResult.success()) {
-            throw new PaymentFailedException(
-                    "Payment authorization failed: " + authResult.message()
-            );
-        }
+        Rental updatedRental = transitionToConfirmed(rental);
 
         PaymentDto paymentDto = paymentService.createPayment(
                 new CreatePaymentRequest(
@@ -217,6 +264,24 @@ public class RentalServiceImpl implements RentalService {
                 )
         );
 
+        carService.reserveCar(rental.getCarId());
+        rentalRepository.flush();
+        bookingLockManager.releaseNodeLocks();
+
+        GatewayCompensation compensation = GatewayCompensation.register(paymentService);
+        PaymentResult authResult = paymentService.authorize(
+                rental.getTotalPrice(),
+                rental.getCurrency(),
+                rental.getUserId().toString()
+        );
+
+        if (!authResult.success()) {
+            throw new PaymentFailedException(
+                    "Payment authorization failed: " + authResult.message()
+            );
+        }
+        compensation.authorized(authResult.transactionId());
+
         paymentService.updatePaymentStatus(
                 paymentDto.id(), 
                 PaymentStatus.AUTHORIZED, 
@@ -224,11 +289,6 @@ public class RentalServiceImpl implements RentalService {
                 null
         );
 
-        rental.updateStatus(RentalStatus.CONFIRMED);
-
-        carService.reserveCar(rental.getCarId());
-
-        Rental updatedRental = rentalRepository.save(rental);
         RentalResponse result = rentalMapper.toDto(updatedRental);
 
         RentalConfirmedEvent event = new RentalConfirmedEvent(
@@ -242,7 +302,8 @@ public class RentalServiceImpl implements RentalService {
                 updatedRental.getEndDate(),
                 updatedRental.getTotalPrice(),
                 updatedRental.getCurrency(),
-                "Main Office"
+                "Main Office",
+                updatedRental.getCarId()
         );
         eventPublisher.publishEvent(event);
         log.info("Published RentalConfirmedEvent for rental: {}", updatedRental.getId());
@@ -257,13 +318,8 @@ public class RentalServiceImpl implements RentalService {
         log.info("Processing pickup for rental: {}", rentalId);
 
         Rental rental = findRentalById(rentalId);
-
-        if (!rental.getStatus().canPickup()) {
-            throw new InvalidRentalStateException(
-                    rental.getStatus().name(),
-                    RentalStatus.CONFIRMED.name()
-            );
-        }
+        Rental updatedRental = rentalStateMachine.transition(
+                rental, RentalTransition.PICKUP, claimed -> claimed.setPickupNotes(pickupNotes));
 
         PaymentDto payment = findPaymentByRentalId(rentalId);
         if (payment.status() != PaymentStatus.AUTHORIZED) {
@@ -291,9 +347,6 @@ public class RentalServiceImpl implements RentalService {
                 null
         );
 
-        rental.updateStatus(RentalStatus.IN_USE);
-        rental.setPickupNotes(pickupNotes);
-        Rental updatedRental = rentalRepository.save(rental);
         RentalResponse result = rentalMapper.toDto(updatedRental);
 
         PaymentCapturedEvent event = new PaymentCapturedEvent(
@@ -320,31 +373,37 @@ public class RentalServiceImpl implements RentalService {
 
         Rental rental = findRentalById(rentalId);
 
-        if (!rental.getStatus().canReturn()) {
-            throw new InvalidRentalStateException(
-                    rental.getStatus().name(),
-                    RentalStatus.IN_USE.name()
-            );
-        }
-
         LocalDateTime actualReturnTime = LocalDateTime.now();
-        rental.setActualReturnTime(actualReturnTime);
+        Rental updatedRental = rentalStateMachine.transition(rental, RentalTransition.RETURN, claimed -> {
+            claimed.setActualReturnTime(actualReturnTime);
+            claimed.setReturnNotes(returnNotes);
+        });
 
-        if (rental.getLateReturnStatus() != null && 
-            rental.getLateReturnStatus() != LateReturnStatus.ON_TIME) {
+        if (updatedRental.getLateReturnStatus() != null && 
+            updatedRental.getLateReturnStatus() != LateReturnStatus.ON_TIME) {
             
             log.info("Processing late return penalty for rental: {}", rentalId);
-            processPenaltyForLateReturn(rental, actualReturnTime);
+            processPenaltyForLateReturn(updatedRental, actualReturnTime);
+            rentalStateMachine.recordPenalty(updatedRental);
         }
 
-        rental.updateStatus(RentalStatus.RETURNED);
-        rental.setReturnNotes(returnNotes);
-
-        carService.releaseCar(rental.getCarId());
+        carService.releaseCar(updatedRental.getCarId());
         
-        Rental updatedRental = rentalRepository.save(rental);
         RentalResponse result = rentalMapper.toDto(updatedRental);
 
+        RentalReturnedEvent event = new RentalReturnedEvent(
+                this,
+                updatedRental.getId(),
+                updatedRental.getUserEmail(),
+                LocalDateTime.now(),
+                updatedRental.getCarId(),
+                updatedRental.getStartDate(),
+                updatedRental.getEndDate(),
+                actualReturnTime
+        );
+        eventPublisher.publishEvent(event);
+        log.info("Published RentalReturnedEvent for rental: {}", updatedRental.getId());
+
         logRentalOperationSuccess("returned", result, "Notes: " + (returnNotes != null ? returnNotes : "None"));
         return result;
     }
@@ -363,13 +422,8 @@ public class RentalServiceImpl implements RentalService {
             );
         }
 
-        if (!rental.getStatus().canCancel()) {
-            throw new InvalidRentalStateException(
-                    "Cannot cancel rental in status: " + rental.getStatus().name()
-            );
-        }
-
         RentalStatus currentStatus = rental.getStatus();
+        Rental updatedRental = rentalStateMachine.transition(rental, RentalTransition.CANCEL);
 
         RefundInfo refundInfo = new RefundInfo(false, BigDecimal.ZERO, null);
         if (currentStatus == RentalStatus.CONFIRMED) {
@@ -378,14 +432,11 @@ public class RentalServiceImpl implements RentalService {
             refundInfo = refundPartialPayment(rental);
         }
 
-        rental.updateStatus(RentalStatus.CANCELLED);
-
         CarResponse car = carService.getCarById(rental.getCarId());
         if (car.getCarStatusType() == CarStatusType.RESERVED) {
             carService.releaseCar(rental.getCarId());
         }
 
-        Rental updatedRental = rentalRepository.save(rental);
         RentalResponse result = rentalMapper.toDto(updatedRental);
 
         RentalCancelledEvent event = new RentalCancelledEvent(
@@ -397,7 +448,10 @@ public class RentalServiceImpl implements RentalService {
                 "Cancelled by " + (currentUser.isAdmin() ? "admin" : "customer"),
                 refundInfo.refundProcessed(),
                 refundInfo.refundAmount(),
-                refundInfo.refundTransactionId()
+                refundInfo.refundTransactionId(),
+                updatedRental.getCarId(),
+                updatedRental.getStartDate(),
+                updatedRental.getEndDate()
         );
         eventPublisher.publishEvent(event);
         log.info("Published RentalCancelledEvent for rental: {}", updatedRental.getId());
@@ -477,13 +531,32 @@ public class RentalServiceImpl implements RentalService {
         log.debug("Getting rentals for user: {}", username);
 
         UserDto user = findUserByUsername(username);
-        Page<Rental> rentals = rentalRepository.findByUserIdAndIsDeletedFalse(user.id(), pageable);
+        Page<RentalHistory> rentals = rentalHistoryRepository.findByUserIdAndIsDeletedFalse(user.id(), pageable);
         Page<RentalResponse> result = rentals.map(rentalMapper::toDto);
 
         log.info("Successfully retrieved {} rentals for user: {}", result.getTotalElements(), username);
         return result;
     }
 
+    @Override
+    public CursorPage<RentalResponse> scrollMyRentals(String username, String cursor, int size) {
+        log.debug("Scrolling rentals for user: {}", username);
+
+        UserDto user = findUserByUsername(username);
+        int limit = scrollSize(size);
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<RentalHistory> rows;
+        if (cursor == null) {
+            rows = rentalHistoryRepository.findByUserIdAndIsDeletedFalseOrderByCreateTimeDescIdDesc(user.id(), window);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, 2);
+            rows = rentalHistoryRepository.findByUserIdAfter(user.id(), after.dateTimeAt(0), after.longAt(1), window);
+        }
+
+        return CursorPage.of(rows, limit, rental -> KeysetCursor.of(rental.getCreateTime(), rental.getId()))
+                .map(rentalMapper::toDto);
+    }
+
     @Override
     public Page<RentalResponse> getAllRentals(Pageable pageable) {
         log.debug("Getting all rentals");
@@ -496,11 +569,44 @@ public class RentalServiceImpl implements RentalService {
         return result;
     }
 
+    @Override
+    public Page<RentalResponse> searchRentals(RentalSearchRequest filter, Pageable pageable) {
+        log.debug("Searching rentals with filter: {}", filter);
+
+        Page<RentalResponse> result = rentalRepository.findAll(RentalSpecifications.matching(filter), pageable)
+                .map(rentalMapper::toDto);
+
+        log.info("Rental search matched {} rentals", result.getTotalElements());
+        return result;
+    }
+
+    @Override
+    public CursorPage<RentalResponse> scrollRentals(RentalSearchRequest filter, String cursor, int size) {
+        log.debug("Scrolling rentals with filter: {}", filter);
+
+        Specification<Rental> spec = RentalSpecifications.matching(filter);
+        if (cursor != null) {
+            spec = spec.and(RentalSpecifications.idBefore(KeysetCursor.decode(cursor, 1).longAt(0)));
+        }
+        int limit = scrollSize(size);
+        List<Rental> rows = rentalRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .limit(limit + 1)
+                .all());
+
+        return CursorPage.of(rows, limit, rental -> KeysetCursor.of(rental.getId())).map(rentalMapper::toDto);
+    }
+
+    private static int scrollSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+    }
+
     @Override
     public RentalResponse getRentalById(Long id, String username) {
         log.debug("Getting rental: {} for user: {}", id, username);
 
-        Rental rental = findRentalById(id);
+        RentalHistory rental = rentalHistoryRepository.findByIdAndIsDeletedFalse(id)
+                .orElseThrow(() -> new RentalNotFoundException(id));
         UserDto user = findUserByUsername(username);
 
         if (!user.isAdmin() && !rental.getUserId().equals(user.id())) {
@@ -521,10 +627,6 @@ public class RentalServiceImpl implements RentalService {
     }
 
     
-    private CarResponse findCarById(Long id) {
-        return carService.getCarById(id);
-    }
-
     private UserDto findUserByUsername(String username) {
         return authService.getUserByUsername(username);
     }
@@ -626,7 +728,8 @@ public class RentalServiceImpl implements RentalService {
     public RentalSummaryDto getRentalSummaryById(Long rentalId) {
         log.debug("Getting rental summary for cross-module access: {}", rentalId);
         
-        Rental rental = findRentalById(rentalId);
+        RentalHistory rental = rentalHistoryRepository.findByIdAndIsDeletedFalse(rentalId)
+                .orElseThrow(() -> new RentalNotFoundException(rentalId));
         
         return new RentalSummaryDto(
                 rental.getId(),
@@ -649,7 +752,14 @@ public class RentalServiceImpl implements RentalService {
     public void incrementDamageReportCount(Long rentalId) {
         log.debug("Incrementing damage report count for rental: {}", rentalId);
         
-        Rental rental = findRentalById(rentalId);
+        Rental rental = rentalRepository.findByIdAndIsDeletedFalse(rentalId).orElse(null);
+        if (rental == null) {
+            if (archivedRentalRepository.incrementDamageReportCount(rentalId) == 0) {
+                throw new RentalNotFoundException(rentalId);
+            }
+            log.info("Incremented damage report count for archived rental: {}", rentalId);
+            return;
+        }
         rental.setHasDamageReports(true);
         
         Integer currentCount = rental.getDamageReportsCount();
@@ -663,6 +773,10 @@ public class RentalServiceImpl implements RentalService {
 
     @Override
     public int countByStatus(RentalStatus status) {
+        // Only returned and cancelled rentals are ever archived, so the other statuses stay on the live table
+        if (status == RentalStatus.RETURNED || status == RentalStatus.CANCELLED) {
+            return rentalHistoryRepository.countByStatusAndIsDeletedFalse(status);
+        }
         return rentalRepository.countByStatusAndIsDeletedFalse(status);
     }
 
@@ -708,7 +822,7 @@ public class RentalServiceImpl implements RentalService {
     @Override
     public BigDecimal sumCollectedPenaltyRevenue(LocalDate startDate, LocalDate endDate) {
         log.debug("Calculating collected penalty revenue between {} and {}", startDate, endDate);
-        return rentalRepository.sumCollectedPenaltyAmount(
+        return rentalHistoryRepository.sumCollectedPenaltyAmount(
                 java.util.List.of(LateReturnStatus.LATE, LateReturnStatus.SEVERELY_LATE),
                 startDate,
                 endDate
@@ -718,8 +832,19 @@ public class RentalServiceImpl implements RentalService {
     @Override
     public BigDecimal getAverageRentalDurationDays(LocalDate startDate, LocalDate endDate) {
         log.debug("Calculating average rental duration between {} and {}", startDate, endDate);
-        Double avgDays = rentalRepository.averageRentalDurationDays(startDate, endDate);
+        Double avgDays = rentalHistoryRepository.averageRentalDurationDays(startDate, endDate);
         return BigDecimal.valueOf(avgDays != null ? avgDays : 0.0)
                 .setScale(2, RoundingMode.HALF_UP);
     }
-}
\ No newline at end of file
+
+    @Override
+    public BookedIntervals getBookedIntervals(LocalDate startDate, LocalDate endDate) {
+        log.debug("Collecting booked intervals between {} and {}", startDate, endDate);
+        BookedIntervals.Builder intervals = BookedIntervals.builder();
+        try (Stream<BookedIntervalRow> rows = rentalHistoryRepository.streamBookedIntervals(
+                startDate, endDate, BOOKED_STATUSES)) {
+            rows.forEach(row -> intervals.add(row.carId(), row.startDate(), row.endDate()));
+        }
+        return intervals.build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.akif.rental.internal.service.archive;
+
+public interface RentalArchiveService {
+
+    int archiveCompletedRentals();
+}
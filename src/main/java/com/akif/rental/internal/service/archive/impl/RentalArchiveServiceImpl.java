@@ -0,0 +1,77 @@
+package com.akif.rental.internal.service.archive.impl;
+
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.repository.ArchivedRentalRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.archive.RentalArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves returned and cancelled rentals that ended before the retention window into
+ * {@code rentals_archive}, one batch per transaction, so the live table and its indexes only
+ * hold rows the operational queries care about. Rentals with an unpaid penalty or a penalty
+ * waiver stay live. Customers still see archived rentals through the {@code rental_history} view.
+ */
+@Slf4j
+@Service
+public class RentalArchiveServiceImpl implements RentalArchiveService {
+
+    private final RentalRepository rentalRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
+    private final BookingConfig bookingConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    public RentalArchiveServiceImpl(RentalRepository rentalRepository,
+                                    ArchivedRentalRepository archivedRentalRepository,
+                                    BookingConfig bookingConfig,
+                                    PlatformTransactionManager transactionManager) {
+        this.rentalRepository = rentalRepository;
+        this.archivedRentalRepository = archivedRentalRepository;
+        this.bookingConfig = bookingConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int archiveCompletedRentals() {
+        BookingConfig.ArchiveConfig config = bookingConfig.getArchive();
+        LocalDate cutoff = LocalDate.now().minusMonths(config.getRetentionMonths());
+        int batchSize = Math.max(1, config.getBatchSize());
+
+        int archived = 0;
+        for (int batch = 0; batch < config.getMaxBatchesPerRun(); batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} rentals that ended before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDate cutoff, int batchSize) {
+        List<Long> ids = rentalRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = archivedRentalRepository.copyFromRentals(ids);
+        int deleted = rentalRepository.deleteAllByIdIn(ids);
+        if (copied != ids.size() || deleted != ids.size()) {
+            throw new IllegalStateException(String.format(
+                    "Archive batch changed underneath: %d selected, %d copied, %d deleted", ids.size(), copied, deleted));
+        }
+        log.debug("Archived rentals {} to {}", ids.get(0), ids.get(ids.size() - 1));
+        return deleted;
+    }
+}
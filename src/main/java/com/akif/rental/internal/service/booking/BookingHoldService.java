@@ -0,0 +1,20 @@
+package com.akif.rental.internal.service.booking;
+
+import com.akif.rental.internal.dto.request.BookingHoldRequest;
+import com.akif.rental.internal.dto.response.BookingHoldResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface BookingHoldService {
+
+    BookingHoldResponse placeHold(BookingHoldRequest request, String username);
+
+    void releaseHold(Long holdId, String username);
+
+    Optional<BookingHoldResponse> offerHold(Long carId, Long userId, LocalDate startDate, LocalDate endDate, long ttlSeconds);
+
+    int expireDueHolds();
+
+    int recoverHolds();
+}
@@ -0,0 +1,176 @@
+package com.akif.rental.internal.service.booking;
+
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.exception.BookingConflictException;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes booking attempts per car. Car IDs hash onto a fixed set of striped locks so attempts
+ * for the same car on this node queue up instead of racing through the overlap check; on
+ * PostgreSQL a transaction-scoped advisory lock extends that to other nodes. Locks are held until
+ * the surrounding transaction completes, and a car that stays locked past the timeout fails fast
+ * with {@link BookingConflictException} rather than piling up retries. Once a car's advisory lock
+ * is held, {@link #releaseNodeLocks} can hand its stripe back early, so cars that share the stripe
+ * are not blocked while the booking waits on the payment gateway.
+ */
+@Slf4j
+@Component
+public class BookingLockManager {
+
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x52454e54;
+
+    private final BookingConfig config;
+    private final EntityManager entityManager;
+    private final ReentrantLock[] stripes;
+    private volatile Boolean advisoryLocksSupported;
+
+    public BookingLockManager(BookingConfig config, EntityManager entityManager) {
+        this.config = config;
+        this.entityManager = entityManager;
+        int stripeCount = Integer.highestOneBit(Math.max(1, config.getLock().getStripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the car for the rest of the current transaction on this node.
+     */
+    public void lockOnNode(Long carId) {
+        lockStripe(carId);
+    }
+
+    /**
+     * Locks the car on this node and, when the database supports it, across nodes for the rest of
+     * the current transaction. A car already locked by another node fails immediately.
+     */
+    public void lockAcrossNodes(Long carId) {
+        HeldStripe stripe = lockStripe(carId);
+
+        if (!config.getLock().isAdvisoryEnabled() || !advisoryLocksSupported()) {
+            return;
+        }
+
+        Object acquired = entityManager
+                .createNativeQuery("SELECT pg_try_advisory_xact_lock(:namespace, :key)")
+                .setParameter("namespace", ADVISORY_LOCK_NAMESPACE)
+                .setParameter("key", Long.hashCode(carId))
+                .getSingleResult();
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.warn("Car {} is locked by a booking on another node", carId);
+            throw new BookingConflictException(carId);
+        }
+        stripe.advisoryHeld = true;
+    }
+
+    /**
+     * Releases the node stripes of cars whose advisory lock this transaction holds. The advisory
+     * lock keeps each car serialized on every node until the transaction completes, so the stripe
+     * is only needed around the check and claim. Call it once the claim is flushed and before any
+     * gateway call. Stripes without an advisory lock stay held until completion.
+     */
+    public void releaseNodeLocks() {
+        HeldStripes held = (HeldStripes) TransactionSynchronizationManager.getResource(this);
+        if (held != null) {
+            held.releaseAdvisoryBacked();
+        }
+    }
+
+    private HeldStripe lockStripe(Long carId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking locks must be taken inside a transaction");
+        }
+
+        ReentrantLock lock = stripeFor(carId);
+        try {
+            if (!lock.tryLock(config.getLock().getTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for booking lock on car: {}", carId);
+                throw new BookingConflictException(carId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingConflictException(carId);
+        }
+
+        HeldStripes held = (HeldStripes) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            held = new HeldStripes(this);
+            TransactionSynchronizationManager.bindResource(this, held);
+            TransactionSynchronizationManager.registerSynchronization(held);
+        }
+        HeldStripe stripe = new HeldStripe(lock);
+        held.stripes.add(stripe);
+        return stripe;
+    }
+
+    private ReentrantLock stripeFor(Long carId) {
+        int hash = Long.hashCode(carId);
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private boolean advisoryLocksSupported() {
+        Boolean supported = advisoryLocksSupported;
+        if (supported == null) {
+            supported = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            advisoryLocksSupported = supported;
+            log.info("Cross-node booking locks {}", supported ? "use PostgreSQL advisory locks" : "are not supported by this database");
+        }
+        return supported;
+    }
+
+    private static final class HeldStripe {
+        final ReentrantLock lock;
+        boolean advisoryHeld;
+
+        HeldStripe(ReentrantLock lock) {
+            this.lock = lock;
+        }
+    }
+
+    /**
+     * Stripes taken by one transaction, unlocked when it completes unless released earlier.
+     */
+    private static final class HeldStripes implements TransactionSynchronization {
+
+        private final Object key;
+        private final List<HeldStripe> stripes = new ArrayList<>();
+
+        HeldStripes(Object key) {
+            this.key = key;
+        }
+
+        void releaseAdvisoryBacked() {
+            Iterator<HeldStripe> iterator = stripes.iterator();
+            while (iterator.hasNext()) {
+                HeldStripe stripe = iterator.next();
+                if (stripe.advisoryHeld) {
+                    stripe.lock.unlock();
+                    iterator.remove();
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            stripes.forEach(stripe -> stripe.lock.unlock());
+            stripes.clear();
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.akif.rental.internal.service.booking;
+
+import com.akif.payment.api.PaymentResult;
+import com.akif.payment.api.PaymentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the payment gateway calls made inside a transaction and undoes them if it rolls back:
+ * authorizations are voided and captures refunded. A compensation that fails is logged with its
+ * transaction ID for manual follow-up.
+ */
+@Slf4j
+public final class GatewayCompensation implements TransactionSynchronization {
+
+    private record GatewayCall(String transactionId, BigDecimal capturedAmount) {}
+
+    private final PaymentService paymentService;
+    private final List<GatewayCall> calls = new ArrayList<>();
+
+    private GatewayCompensation(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    /**
+     * Starts recording for the current transaction. Outside a transaction nothing can roll back,
+     * so the calls are only recorded.
+     */
+    public static GatewayCompensation register(PaymentService paymentService) {
+        GatewayCompensation compensation = new GatewayCompensation(paymentService);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(compensation);
+        }
+        return compensation;
+    }
+
+    public void authorized(String transactionId) {
+        calls.add(new GatewayCall(transactionId, null));
+    }
+
+    public void captured(String transactionId, BigDecimal amount) {
+        calls.add(new GatewayCall(transactionId, amount));
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        if (status != STATUS_ROLLED_BACK) {
+            return;
+        }
+        for (GatewayCall call : calls) {
+            try {
+                PaymentResult result = call.capturedAmount() != null
+                        ? paymentService.refund(call.transactionId(), call.capturedAmount())
+                        : paymentService.voidAuthorization(call.transactionId());
+                if (!result.success()) {
+                    log.error("Could not undo gateway call {} of a rolled back transaction: {}",
+                            call.transactionId(), result.message());
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not undo gateway call {} of a rolled back transaction", call.transactionId(), e);
+            }
+        }
+        if (!calls.isEmpty()) {
+            log.info("Undid {} gateway calls of a rolled back transaction", calls.size());
+        }
+    }
+}
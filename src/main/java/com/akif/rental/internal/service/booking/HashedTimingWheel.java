@@ -0,0 +1,88 @@
+package com.akif.rental.internal.service.booking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel for expiring keys. Time is cut into ticks and each key sits in the bucket of
+ * its deadline tick modulo the wheel size, so scheduling and cancelling are O(1) and each advance
+ * only looks at the buckets of the ticks that passed. Keys due more than one revolution ahead share
+ * a bucket with nearer keys and are skipped until their own round comes up.
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Set<K>> buckets;
+    private final Map<K, Long> deadlineTicks = new HashMap<>();
+    private long nextTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        this.nextTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the key to expire at the first tick at or after the deadline, replacing any
+     * earlier schedule for the same key. Deadlines already in the past expire on the next advance.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), nextTick);
+        deadlineTicks.put(key, tick);
+        buckets.get((int) (tick & mask)).add(key);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Long tick = deadlineTicks.remove(key);
+        if (tick == null) {
+            return false;
+        }
+        buckets.get((int) (tick & mask)).remove(key);
+        return true;
+    }
+
+    /**
+     * Moves the wheel up to the given time and returns the keys that expired.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long currentTick = Math.floorDiv(nowMillis, tickMillis);
+        if (currentTick < nextTick) {
+            return List.of();
+        }
+
+        List<K> expired = new ArrayList<>();
+        long lastTick = Math.min(currentTick, nextTick + mask);
+        for (long tick = nextTick; tick <= lastTick; tick++) {
+            Iterator<K> keys = buckets.get((int) (tick & mask)).iterator();
+            while (keys.hasNext()) {
+                K key = keys.next();
+                if (deadlineTicks.get(key) <= currentTick) {
+                    keys.remove();
+                    deadlineTicks.remove(key);
+                    expired.add(key);
+                }
+            }
+        }
+        nextTick = currentTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return deadlineTicks.size();
+    }
+}
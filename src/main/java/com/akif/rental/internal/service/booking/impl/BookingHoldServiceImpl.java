@@ -0,0 +1,266 @@
+package com.akif.rental.internal.service.booking.impl;
+
+import com.akif.auth.api.AuthService;
+import com.akif.auth.api.UserDto;
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.exception.CarNotAvailableException;
+import com.akif.car.internal.exception.CarNotFoundException;
+import com.akif.rental.api.BookingHoldChangedEvent;
+import com.akif.rental.domain.model.BookingHold;
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.dto.request.BookingHoldRequest;
+import com.akif.rental.internal.dto.response.BookingHoldResponse;
+import com.akif.rental.internal.exception.BookingConflictException;
+import com.akif.rental.internal.exception.BookingHoldNotFoundException;
+import com.akif.rental.internal.exception.RentalDateOverlapException;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.repository.BookingCandidate;
+import com.akif.rental.internal.repository.BookingHoldRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.booking.BookingHoldService;
+import com.akif.rental.internal.service.booking.BookingLockManager;
+import com.akif.rental.internal.service.booking.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Places short-lived holds on a car's dates between choosing a car and finishing checkout. Holds
+ * live in the booking_holds table, which availability checks read with an expiry filter, so an
+ * expired hold stops blocking immediately on every node. Expiry timers are kept in a hashed timing
+ * wheel; each tick deletes just the holds that came due and announces them, with no table scan.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BookingHoldServiceImpl implements BookingHoldService {
+
+    private final BookingHoldRepository bookingHoldRepository;
+    private final RentalRepository rentalRepository;
+    private final AuthService authService;
+    private final BookingLockManager bookingLockManager;
+    private final BookingConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel<Long> expiryWheel;
+    private final Map<Long, HeldWindow> heldWindows = new ConcurrentHashMap<>();
+
+    public BookingHoldServiceImpl(BookingHoldRepository bookingHoldRepository,
+                                  RentalRepository rentalRepository,
+                                  AuthService authService,
+                                  BookingLockManager bookingLockManager,
+                                  BookingConfig config,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.bookingHoldRepository = bookingHoldRepository;
+        this.rentalRepository = rentalRepository;
+        this.authService = authService;
+        this.bookingLockManager = bookingLockManager;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.expiryWheel = new HashedTimingWheel<>(
+                config.getHold().getTickMillis(), config.getHold().getWheelSize(), System.currentTimeMillis());
+    }
+
+    private record HeldWindow(Long carId, LocalDate startDate, LocalDate endDate) {}
+
+    @Override
+    @Transactional
+    public BookingHoldResponse placeHold(BookingHoldRequest request, String username) {
+        log.info("Placing booking hold for user: {}, car: {}", username, request.carId());
+
+        UserDto user = authService.getUserByUsername(username);
+        validateHoldDates(request.startDate(), request.endDate());
+        bookingLockManager.lockAcrossNodes(request.carId());
+
+        LocalDateTime now = LocalDateTime.now();
+        BookingCandidate candidate = rentalRepository
+                .findBookingCandidate(request.carId(), request.startDate(), request.endDate(), user.id(), now)
+                .orElseThrow(() -> new CarNotFoundException(request.carId()));
+        Car car = candidate.car();
+
+        if (!car.getCarStatusType().equals(CarStatusType.AVAILABLE)) {
+            throw new CarNotAvailableException(
+                    car.getId(),
+                    "Car status is: " + car.getCarStatusType().getDisplayName()
+            );
+        }
+        if (candidate.overlappingRentals() > 0) {
+            throw new RentalDateOverlapException(car.getId(), request.startDate(), request.endDate());
+        }
+        if (candidate.conflictingHolds() > 0) {
+            throw new BookingConflictException(car.getId(), request.startDate(), request.endDate());
+        }
+
+        List<BookingHold> replaced = bookingHoldRepository
+                .findByCarIdAndUserIdAndExpiresAtAfter(car.getId(), user.id(), now);
+        if (!replaced.isEmpty()) {
+            bookingHoldRepository.deleteAllInBatch(replaced);
+            replaced.forEach(hold -> publishChange(hold.getId(), hold.getCarId(), hold.getStartDate(), hold.getEndDate(), false));
+        }
+
+        BookingHold hold = bookingHoldRepository.save(BookingHold.builder()
+                .carId(car.getId())
+                .userId(user.id())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .expiresAt(now.plusSeconds(config.getHold().getTtlSeconds()))
+                .build());
+
+        afterCommit(() -> {
+            replaced.forEach(previous -> untrack(previous.getId()));
+            track(hold);
+        });
+        publishChange(hold.getId(), hold.getCarId(), hold.getStartDate(), hold.getEndDate(), true);
+
+        log.info("Booking hold {} placed on car: {} from {} to {} until {}",
+                hold.getId(), hold.getCarId(), hold.getStartDate(), hold.getEndDate(), hold.getExpiresAt());
+        return toResponse(hold);
+    }
+
+    @Override
+    @Transactional
+    public void releaseHold(Long holdId, String username) {
+        log.info("Releasing booking hold: {} by user: {}", holdId, username);
+
+        BookingHold hold = bookingHoldRepository.findById(holdId)
+                .orElseThrow(() -> new BookingHoldNotFoundException(holdId));
+        UserDto currentUser = authService.getUserByUsername(username);
+
+        if (!currentUser.isAdmin() && !hold.getUserId().equals(currentUser.id())) {
+            throw new AccessDeniedException("You can only release your own booking holds");
+        }
+
+        bookingHoldRepository.delete(hold);
+        afterCommit(() -> untrack(holdId));
+        publishChange(hold.getId(), hold.getCarId(), hold.getStartDate(), hold.getEndDate(), false);
+    }
+
+    /**
+     * Places a hold on behalf of a customer, for example when freed dates are offered from the
+     * waitlist. Unlike {@link #placeHold}, unavailable dates are reported as an empty result rather
+     * than an exception and the customer's other holds are left alone.
+     */
+    @Override
+    @Transactional
+    public Optional<BookingHoldResponse> offerHold(Long carId, Long userId, LocalDate startDate, LocalDate endDate,
+                                                   long ttlSeconds) {
+        bookingLockManager.lockAcrossNodes(carId);
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<BookingCandidate> candidate = rentalRepository
+                .findBookingCandidate(carId, startDate, endDate, userId, now);
+        if (candidate.isEmpty()
+                || candidate.get().car().getCarStatusType() != CarStatusType.AVAILABLE
+                || candidate.get().overlappingRentals() > 0
+                || candidate.get().conflictingHolds() > 0) {
+            return Optional.empty();
+        }
+
+        BookingHold hold = bookingHoldRepository.save(BookingHold.builder()
+                .carId(carId)
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .expiresAt(now.plusSeconds(ttlSeconds))
+                .build());
+
+        afterCommit(() -> track(hold));
+        publishChange(hold.getId(), hold.getCarId(), hold.getStartDate(), hold.getEndDate(), true);
+
+        log.info("Booking hold {} offered to user: {} on car: {} from {} to {} until {}",
+                hold.getId(), userId, carId, startDate, endDate, hold.getExpiresAt());
+        return Optional.of(toResponse(hold));
+    }
+
+    @Override
+    @Transactional
+    public int expireDueHolds() {
+        List<Long> due = expiryWheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        bookingHoldRepository.deleteAllByIdInBatch(due);
+        for (Long holdId : due) {
+            HeldWindow window = heldWindows.remove(holdId);
+            if (window != null) {
+                publishChange(holdId, window.carId(), window.startDate(), window.endDate(), false);
+            }
+        }
+
+        log.debug("Expired {} booking holds, {} still pending", due.size(), expiryWheel.size());
+        return due.size();
+    }
+
+    @Override
+    @Transactional
+    public int recoverHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = bookingHoldRepository.deleteExpired(now);
+
+        List<BookingHold> active = bookingHoldRepository.findByExpiresAtAfter(now);
+        active.forEach(this::track);
+
+        log.info("Recovered {} active booking holds, purged {} expired", active.size(), purged);
+        return active.size();
+    }
+
+    private void track(BookingHold hold) {
+        heldWindows.put(hold.getId(), new HeldWindow(hold.getCarId(), hold.getStartDate(), hold.getEndDate()));
+        expiryWheel.schedule(hold.getId(), hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void untrack(Long holdId) {
+        expiryWheel.cancel(holdId);
+        heldWindows.remove(holdId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void publishChange(Long holdId, Long carId, LocalDate startDate, LocalDate endDate, boolean active) {
+        eventPublisher.publishEvent(new BookingHoldChangedEvent(
+                this, holdId, carId, startDate, endDate, active, LocalDateTime.now()));
+    }
+
+    private void validateHoldDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new RentalValidationException("Start date cannot be in the past");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new RentalValidationException("End date must be after start date");
+        }
+    }
+
+    private BookingHoldResponse toResponse(BookingHold hold) {
+        return new BookingHoldResponse(
+                hold.getId(),
+                hold.getCarId(),
+                hold.getStartDate(),
+                hold.getEndDate(),
+                hold.getExpiresAt()
+        );
+    }
+}
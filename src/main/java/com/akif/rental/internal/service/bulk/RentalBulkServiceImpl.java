@@ -0,0 +1,420 @@
+package com.akif.rental.internal.service.bulk;
+
+import com.akif.car.api.CarService;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.exception.CarCannotBeReservedException;
+import com.akif.car.internal.exception.CarNotFoundException;
+import com.akif.payment.api.CreatePaymentRequest;
+import com.akif.payment.api.PaymentCapturedEvent;
+import com.akif.payment.api.PaymentDto;
+import com.akif.payment.api.PaymentResult;
+import com.akif.payment.api.PaymentService;
+import com.akif.payment.api.PaymentStatus;
+import com.akif.payment.internal.exception.PaymentFailedException;
+import com.akif.rental.api.RentalActionOutcome;
+import com.akif.rental.api.RentalBatchProcessedEvent;
+import com.akif.rental.api.RentalBulkService;
+import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.rental.api.RentalResponse;
+import com.akif.rental.api.RentalReturnedEvent;
+import com.akif.rental.api.RentalService;
+import com.akif.rental.domain.enums.LateReturnStatus;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.exception.InvalidRentalStateException;
+import com.akif.rental.internal.exception.RentalDateOverlapException;
+import com.akif.rental.internal.exception.RentalNotFoundException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.booking.BookingLockManager;
+import com.akif.rental.internal.service.booking.GatewayCompensation;
+import com.akif.rental.internal.service.state.RentalStateMachine;
+import com.akif.rental.internal.service.state.RentalTransition;
+import com.akif.shared.exception.BaseException;
+import com.akif.shared.exception.InvalidStatusTransitionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Runs bulk admin actions in chunks, each in its own transaction. A chunk locks its rentals and
+ * checks them, then claims every rental that passed with a single UPDATE and flushes its other
+ * writes before the first gateway call, so conflicts roll back before any money moves; rentals that
+ * fail a check are reported and left alone. Gateway calls come last. A declined card undoes only
+ * that rental's claim and is reported as a failure; the calls are voided or refunded only if the
+ * chunk still rolls back, after which its rentals are retried one by one. Late returns need a
+ * penalty each, so they always go through {@link RentalService} one by one.
+ */
+@Slf4j
+@Service
+public class RentalBulkServiceImpl implements RentalBulkService {
+
+    private static final String STUB_PAYMENT_METHOD = "STUB_GATEWAY";
+    private static final String INTERNAL_ERROR = "INTERNAL_SERVER_ERROR";
+
+    private final RentalRepository rentalRepository;
+    private final RentalStateMachine rentalStateMachine;
+    private final RentalService rentalService;
+    private final PaymentService paymentService;
+    private final CarService carService;
+    private final BookingLockManager bookingLockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingConfig bookingConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    public RentalBulkServiceImpl(RentalRepository rentalRepository,
+                                 RentalStateMachine rentalStateMachine,
+                                 RentalService rentalService,
+                                 PaymentService paymentService,
+                                 CarService carService,
+                                 BookingLockManager bookingLockManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 BookingConfig bookingConfig,
+                                 PlatformTransactionManager transactionManager) {
+        this.rentalRepository = rentalRepository;
+        this.rentalStateMachine = rentalStateMachine;
+        this.rentalService = rentalService;
+        this.paymentService = paymentService;
+        this.carService = carService;
+        this.bookingLockManager = bookingLockManager;
+        this.eventPublisher = eventPublisher;
+        this.bookingConfig = bookingConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<RentalActionOutcome> confirmRentals(List<Long> rentalIds) {
+        return process(rentalIds, RentalTransition.CONFIRM, this::confirmChunk, rentalService::confirmRental);
+    }
+
+    @Override
+    public List<RentalActionOutcome> pickupRentals(List<Long> rentalIds, String pickupNotes) {
+        return process(rentalIds, RentalTransition.PICKUP,
+                (chunk, batchId) -> pickupChunk(chunk, batchId, pickupNotes),
+                id -> rentalService.pickupRental(id, pickupNotes));
+    }
+
+    @Override
+    public List<RentalActionOutcome> returnRentals(List<Long> rentalIds, String returnNotes) {
+        return process(rentalIds, RentalTransition.RETURN,
+                (chunk, batchId) -> returnChunk(chunk, batchId, returnNotes),
+                id -> rentalService.returnRental(id, returnNotes));
+    }
+
+    private List<RentalActionOutcome> process(List<Long> rentalIds,
+                                              RentalTransition transition,
+                                              ChunkAction chunkAction,
+                                              Function<Long, RentalResponse> singleAction) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(rentalIds));
+        UUID batchId = UUID.randomUUID();
+        int chunkSize = Math.max(1, bookingConfig.getBulk().getChunkSize());
+        log.info("Processing bulk {} of {} rentals in chunks of {}, batch: {}", transition, ids.size(), chunkSize, batchId);
+
+        Map<Long, RentalActionOutcome> outcomes = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            try {
+                outcomes.putAll(transactionTemplate.execute(status -> chunkAction.apply(chunk, batchId)));
+            } catch (RuntimeException e) {
+                log.warn("Bulk {} chunk of {} rentals was rolled back, retrying them one by one, batch: {}",
+                        transition, chunk.size(), batchId, e);
+            }
+        }
+
+        for (Long id : ids) {
+            if (!outcomes.containsKey(id)) {
+                outcomes.put(id, processSingle(id, singleAction));
+            }
+        }
+
+        List<Long> moved = ids.stream().filter(id -> outcomes.get(id).success()).toList();
+        if (!moved.isEmpty()) {
+            eventPublisher.publishEvent(new RentalBatchProcessedEvent(
+                    this, batchId, transition.getTarget(), moved, LocalDateTime.now()));
+        }
+        log.info("Bulk {} finished, {} of {} rentals moved, batch: {}", transition, moved.size(), ids.size(), batchId);
+        return ids.stream().map(outcomes::get).toList();
+    }
+
+    private RentalActionOutcome processSingle(Long rentalId, Function<Long, RentalResponse> singleAction) {
+        try {
+            return RentalActionOutcome.succeeded(rentalId, singleAction.apply(rentalId).status());
+        } catch (BaseException e) {
+            return failure(rentalId, e);
+        } catch (RuntimeException e) {
+            log.error("Bulk action failed for rental: {}", rentalId, e);
+            return RentalActionOutcome.failed(rentalId, INTERNAL_ERROR, e.getMessage());
+        }
+    }
+
+    private Map<Long, RentalActionOutcome> confirmChunk(List<Long> ids, UUID batchId) {
+        Map<Long, RentalActionOutcome> outcomes = new HashMap<>();
+        List<Rental> candidates = lockCandidates(ids, RentalTransition.CONFIRM, outcomes);
+        Map<Long, CarStatusType> carStatuses = findCarStatuses(candidates);
+        Map<Long, List<Rental>> blockingByCar = new HashMap<>();
+        if (!carStatuses.isEmpty()) {
+            rentalRepository.findBlockingRentalsByCarIds(carStatuses.keySet())
+                    .forEach(rental -> blockingByCar.computeIfAbsent(rental.getCarId(), carId -> new ArrayList<>()).add(rental));
+        }
+
+        Set<Long> lockedCars = new HashSet<>();
+        List<Rental> accepted = new ArrayList<>();
+        for (Rental rental : candidates) {
+            try {
+                Long carId = rental.getCarId();
+                if (lockedCars.add(carId)) {
+                    bookingLockManager.lockAcrossNodes(carId);
+                }
+                List<Rental> blocking = blockingByCar.computeIfAbsent(carId, id -> new ArrayList<>());
+                if (blocking.stream().anyMatch(other -> overlaps(other, rental))) {
+                    throw new RentalDateOverlapException(carId, rental.getStartDate(), rental.getEndDate());
+                }
+                CarStatusType carStatus = carStatuses.get(carId);
+                if (carStatus == null) {
+                    throw new CarNotFoundException(carId);
+                }
+                if (!carStatus.canBeReserved()) {
+                    throw new CarCannotBeReservedException("Car cannot be reserved, current status: " + carStatus);
+                }
+
+                blocking.add(rental);
+                carStatuses.put(carId, CarStatusType.RESERVED);
+                accepted.add(rental);
+            } catch (BaseException e) {
+                outcomes.put(rental.getId(), failure(rental.getId(), e));
+            }
+        }
+
+        rentalStateMachine.transitionAll(accepted, RentalTransition.CONFIRM, null, null, null);
+        Map<Long, PaymentDto> payments = new HashMap<>();
+        for (Rental rental : accepted) {
+            payments.put(rental.getId(), paymentService.createPayment(new CreatePaymentRequest(
+                    rental.getId(),
+                    rental.getUserEmail(),
+                    rental.getCarLicensePlate(),
+                    rental.getTotalPrice(),
+                    rental.getCurrency(),
+                    STUB_PAYMENT_METHOD)));
+            carService.reserveCar(rental.getCarId());
+        }
+        rentalRepository.flush();
+        bookingLockManager.releaseNodeLocks();
+
+        GatewayCompensation compensation = GatewayCompensation.register(paymentService);
+        Map<Long, PaymentResult> authorizations = new HashMap<>();
+        List<Rental> authorized = new ArrayList<>();
+        for (Rental rental : accepted) {
+            PaymentResult authResult = paymentService.authorize(
+                    rental.getTotalPrice(), rental.getCurrency(), rental.getUserId().toString());
+            if (!authResult.success()) {
+                PaymentFailedException declined = new PaymentFailedException("Payment authorization failed: " + authResult.message());
+                rentalStateMachine.revert(rental, RentalStatus.REQUESTED);
+                paymentService.discardPayment(payments.get(rental.getId()).id(), declined.getErrorMessage());
+                carService.releaseCar(rental.getCarId());
+                outcomes.put(rental.getId(), failure(rental.getId(), declined));
+                continue;
+            }
+            compensation.authorized(authResult.transactionId());
+            authorizations.put(rental.getId(), authResult);
+            authorized.add(rental);
+        }
+
+        List<ApplicationEvent> events = new ArrayList<>();
+        for (Rental rental : authorized) {
+            paymentService.updatePaymentStatus(
+                    payments.get(rental.getId()).id(), PaymentStatus.AUTHORIZED,
+                    authorizations.get(rental.getId()).transactionId(), null);
+
+            events.add(new RentalConfirmedEvent(
+                    this,
+                    rental.getId(),
+                    rental.getUserEmail(),
+                    LocalDateTime.now(),
+                    rental.getCarBrand(),
+                    rental.getCarModel(),
+                    rental.getStartDate(),
+                    rental.getEndDate(),
+                    rental.getTotalPrice(),
+                    rental.getCurrency(),
+                    "Main Office",
+                    rental.getCarId(),
+                    batchId));
+            outcomes.put(rental.getId(), RentalActionOutcome.succeeded(rental.getId(), rental.getStatus()));
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return outcomes;
+    }
+
+    private Map<Long, RentalActionOutcome> pickupChunk(List<Long> ids, UUID batchId, String pickupNotes) {
+        Map<Long, RentalActionOutcome> outcomes = new HashMap<>();
+        List<Rental> candidates = lockCandidates(ids, RentalTransition.PICKUP, outcomes);
+
+        List<Rental> accepted = new ArrayList<>();
+        Map<Long, PaymentDto> payments = new HashMap<>();
+        for (Rental rental : candidates) {
+            try {
+                PaymentDto payment = paymentService.getPaymentByRentalId(rental.getId())
+                        .orElseThrow(() -> new RentalNotFoundException("Payment not found for rental: " + rental.getId()));
+                if (payment.status() != PaymentStatus.AUTHORIZED) {
+                    throw new InvalidRentalStateException(
+                            "Payment must be AUTHORIZED before pickup. Current status: " + payment.status());
+                }
+
+                payments.put(rental.getId(), payment);
+                accepted.add(rental);
+            } catch (BaseException e) {
+                outcomes.put(rental.getId(), failure(rental.getId(), e));
+            }
+        }
+
+        Map<Long, String> previousNotes = new HashMap<>();
+        accepted.forEach(rental -> previousNotes.put(rental.getId(), rental.getPickupNotes()));
+        rentalStateMachine.transitionAll(accepted, RentalTransition.PICKUP, pickupNotes, null, null);
+        rentalRepository.flush();
+
+        GatewayCompensation compensation = GatewayCompensation.register(paymentService);
+        Map<Long, PaymentResult> captures = new HashMap<>();
+        List<Rental> captured = new ArrayList<>();
+        for (Rental rental : accepted) {
+            PaymentDto payment = payments.get(rental.getId());
+            PaymentResult captureResult = paymentService.capture(payment.transactionId(), payment.amount());
+            if (!captureResult.success()) {
+                rental.setPickupNotes(previousNotes.get(rental.getId()));
+                rentalStateMachine.revert(rental, RentalStatus.CONFIRMED);
+                outcomes.put(rental.getId(), failure(rental.getId(), new PaymentFailedException(
+                        payment.transactionId(), "Payment capture failed: " + captureResult.message())));
+                continue;
+            }
+            compensation.captured(captureResult.transactionId(), payment.amount());
+            captures.put(rental.getId(), captureResult);
+            captured.add(rental);
+        }
+
+        List<ApplicationEvent> events = new ArrayList<>();
+        for (Rental rental : captured) {
+            PaymentDto savedPayment = paymentService.updatePaymentStatus(
+                    payments.get(rental.getId()).id(),
+                    PaymentStatus.CAPTURED,
+                    captures.get(rental.getId()).transactionId(),
+                    null);
+
+            events.add(new PaymentCapturedEvent(
+                    this,
+                    savedPayment.id(),
+                    rental.getId(),
+                    rental.getUserEmail(),
+                    savedPayment.amount(),
+                    savedPayment.currency(),
+                    savedPayment.transactionId(),
+                    LocalDateTime.now(),
+                    batchId));
+            outcomes.put(rental.getId(), RentalActionOutcome.succeeded(rental.getId(), rental.getStatus()));
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return outcomes;
+    }
+
+    private Map<Long, RentalActionOutcome> returnChunk(List<Long> ids, UUID batchId, String returnNotes) {
+        Map<Long, RentalActionOutcome> outcomes = new HashMap<>();
+        List<Rental> candidates = lockCandidates(ids, RentalTransition.RETURN, outcomes);
+        Map<Long, CarStatusType> carStatuses = findCarStatuses(candidates);
+
+        List<Rental> accepted = new ArrayList<>();
+        for (Rental rental : candidates) {
+            if (rental.getLateReturnStatus() != null && rental.getLateReturnStatus() != LateReturnStatus.ON_TIME) {
+                continue;
+            }
+            CarStatusType carStatus = carStatuses.get(rental.getCarId());
+            if (carStatus != CarStatusType.RESERVED) {
+                outcomes.put(rental.getId(), failure(rental.getId(), new InvalidStatusTransitionException(
+                        "Car is not in RESERVED status, current status: " + carStatus)));
+                continue;
+            }
+            carStatuses.put(rental.getCarId(), CarStatusType.AVAILABLE);
+            accepted.add(rental);
+        }
+
+        LocalDateTime actualReturnTime = LocalDateTime.now();
+        List<ApplicationEvent> events = new ArrayList<>();
+        rentalStateMachine.transitionAll(accepted, RentalTransition.RETURN, null, returnNotes, actualReturnTime);
+        for (Rental rental : accepted) {
+            carService.releaseCar(rental.getCarId());
+
+            events.add(new RentalReturnedEvent(
+                    this,
+                    rental.getId(),
+                    rental.getUserEmail(),
+                    LocalDateTime.now(),
+                    rental.getCarId(),
+                    rental.getStartDate(),
+                    rental.getEndDate(),
+                    actualReturnTime));
+            outcomes.put(rental.getId(), RentalActionOutcome.succeeded(rental.getId(), rental.getStatus()));
+        }
+        events.forEach(eventPublisher::publishEvent);
+        return outcomes;
+    }
+
+    /**
+     * Locks the chunk's rentals and returns the ones the transition applies to, in ID order,
+     * recording a failure for every other ID.
+     */
+    private List<Rental> lockCandidates(List<Long> ids, RentalTransition transition, Map<Long, RentalActionOutcome> outcomes) {
+        Map<Long, Rental> found = new LinkedHashMap<>();
+        rentalRepository.findAllByIdForUpdate(ids).forEach(rental -> found.put(rental.getId(), rental));
+
+        List<Rental> candidates = new ArrayList<>();
+        for (Long id : ids) {
+            Rental rental = found.get(id);
+            if (rental == null) {
+                outcomes.put(id, failure(id, new RentalNotFoundException(id)));
+            } else if (!transition.allowsFrom(rental.getStatus())) {
+                outcomes.put(id, failure(id, new InvalidRentalStateException(
+                        rental.getStatus().name(), transition.getRequiredStatus())));
+            } else {
+                candidates.add(rental);
+            }
+        }
+        candidates.sort((a, b) -> a.getId().compareTo(b.getId()));
+        return candidates;
+    }
+
+    private Map<Long, CarStatusType> findCarStatuses(List<Rental> rentals) {
+        Set<Long> carIds = new HashSet<>();
+        rentals.forEach(rental -> carIds.add(rental.getCarId()));
+        Map<Long, CarStatusType> statuses = new HashMap<>();
+        if (!carIds.isEmpty()) {
+            rentalRepository.findCarStatusesByIds(carIds)
+                    .forEach(row -> statuses.put((Long) row[0], (CarStatusType) row[1]));
+        }
+        return statuses;
+    }
+
+    private static boolean overlaps(Rental first, Rental second) {
+        return !first.getStartDate().isAfter(second.getEndDate()) && !first.getEndDate().isBefore(second.getStartDate());
+    }
+
+    private static RentalActionOutcome failure(Long rentalId, BaseException e) {
+        return RentalActionOutcome.failed(rentalId, e.getErrorCode(), e.getErrorMessage());
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        Map<Long, RentalActionOutcome> apply(List<Long> chunk, UUID batchId);
+    }
+}
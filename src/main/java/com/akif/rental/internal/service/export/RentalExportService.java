@@ -0,0 +1,10 @@
+package com.akif.rental.internal.service.export;
+
+import com.akif.shared.export.ExportRequest;
+
+import java.io.OutputStream;
+
+public interface RentalExportService {
+
+    long exportRentals(ExportRequest request, OutputStream out);
+}
@@ -5,6 +5,7 @@ import com.akif.rental.internal.dto.penalty.PenaltyResult;
 import com.akif.rental.domain.enums.LateReturnStatus;
 import com.akif.rental.domain.model.Rental;
 import com.akif.rental.internal.service.penalty.PenaltyCalculationService;
+import com.akif.shared.money.MoneyMath;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -112,10 +113,7 @@ public class PenaltyCalculationServiceImpl implements PenaltyCalculationService
             throw new IllegalArgumentException("Hourly penalty applies only for 1-6 hours late");
         }
 
-        BigDecimal penalty = dailyRate
-            .multiply(penaltyConfig.getHourlyPenaltyRate())
-            .multiply(new BigDecimal(lateHours))
-            .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal penalty = multiplyRate(dailyRate, penaltyConfig.getHourlyPenaltyRate(), lateHours);
         
         log.debug("Hourly penalty calculated: {} hours × {}% × {} = {}",
             lateHours, penaltyConfig.getHourlyPenaltyRate(), dailyRate, penalty);
@@ -129,10 +127,7 @@ public class PenaltyCalculationServiceImpl implements PenaltyCalculationService
             throw new IllegalArgumentException("Daily penalty applies only for 1+ days late");
         }
 
-        BigDecimal penalty = dailyRate
-            .multiply(penaltyConfig.getDailyPenaltyRate())
-            .multiply(new BigDecimal(lateDays))
-            .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal penalty = multiplyRate(dailyRate, penaltyConfig.getDailyPenaltyRate(), lateDays);
         
         log.debug("Daily penalty calculated: {} days × {}% × {} = {}",
             lateDays, penaltyConfig.getDailyPenaltyRate(), dailyRate, penalty);
@@ -142,9 +137,7 @@ public class PenaltyCalculationServiceImpl implements PenaltyCalculationService
 
     @Override
     public BigDecimal applyPenaltyCap(BigDecimal penalty, BigDecimal dailyRate) {
-        BigDecimal maxPenalty = dailyRate
-            .multiply(penaltyConfig.getPenaltyCapMultiplier())
-            .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal maxPenalty = multiplyRate(dailyRate, penaltyConfig.getPenaltyCapMultiplier(), 1);
         
         if (penalty.compareTo(maxPenalty) > 0) {
             log.debug("Penalty {} exceeds cap {}. Applying cap.", penalty, maxPenalty);
@@ -153,4 +146,26 @@ public class PenaltyCalculationServiceImpl implements PenaltyCalculationService
         
         return penalty;
     }
+
+    /**
+     * {@code dailyRate × rate × units} rounded HALF_UP to minor units, computed in fixed point when
+     * the rate and amount have an exact fixed-point form and in {@code BigDecimal} otherwise.
+     */
+    private BigDecimal multiplyRate(BigDecimal dailyRate, BigDecimal rate, int units) {
+        long dailyRateMinor = MoneyMath.toMinorUnits(dailyRate);
+        long scaledRate = MoneyMath.toMultiplier(rate);
+        if (dailyRateMinor != MoneyMath.NOT_REPRESENTABLE && scaledRate != MoneyMath.NOT_REPRESENTABLE) {
+            try {
+                return MoneyMath.fromMinorUnits(
+                    MoneyMath.multiplyHalfUp(Math.multiplyExact(dailyRateMinor, units), scaledRate));
+            } catch (ArithmeticException overflow) {
+                log.debug("Penalty for daily rate {} exceeds the fixed-point range, using BigDecimal", dailyRate);
+            }
+        }
+
+        return dailyRate
+            .multiply(rate)
+            .multiply(new BigDecimal(units))
+            .setScale(2, RoundingMode.HALF_UP);
+    }
 }
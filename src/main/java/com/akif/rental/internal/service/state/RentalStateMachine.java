@@ -0,0 +1,177 @@
+package com.akif.rental.internal.service.state;
+
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.InvalidRentalStateException;
+import com.akif.rental.internal.exception.RentalStateConflictException;
+import com.akif.rental.internal.repository.RentalRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Moves rentals through their lifecycle with one conditional UPDATE per transition instead of
+ * load-modify-save. The update only matches while the row still has the status the rental was read
+ * with, so of two concurrent transitions exactly one wins and the other fails with
+ * {@link RentalStateConflictException}. The rental is detached before it is changed so flushing
+ * never writes it back; afterwards the in-memory copy matches the row for mapping and events.
+ * A transition therefore costs two statements: the caller's SELECT of the rental, which the
+ * response and events need in full, and the conditional UPDATE. Folding the read into the update
+ * would need PostgreSQL's UPDATE ... RETURNING, which has no JPQL form and no H2 equivalent
+ * under the same syntax.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentalStateMachine {
+
+    private final RentalRepository rentalRepository;
+    private final EntityManager entityManager;
+
+    public Rental transition(Rental rental, RentalTransition transition) {
+        return transition(rental, transition, changes -> { });
+    }
+
+    /**
+     * Applies the transition, writing the status together with the pickup notes, return notes and
+     * actual return time left on the rental by {@code changes}.
+     */
+    public Rental transition(Rental rental, RentalTransition transition, Consumer<Rental> changes) {
+        RentalStatus fromStatus = rental.getStatus();
+        if (!transition.allowsFrom(fromStatus)) {
+            throw new InvalidRentalStateException(fromStatus.name(), transition.getRequiredStatus());
+        }
+
+        if (entityManager.contains(rental)) {
+            entityManager.detach(rental);
+        }
+        changes.accept(rental);
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = rentalRepository.compareAndSetStatus(
+                rental.getId(),
+                fromStatus,
+                transition.getTarget(),
+                rental.getPickupNotes(),
+                rental.getReturnNotes(),
+                rental.getActualReturnTime(),
+                now
+        );
+        if (updated == 0) {
+            log.warn("Rental {} left status {} before it could move to {}", rental.getId(), fromStatus, transition.getTarget());
+            throw new RentalStateConflictException(rental.getId(), fromStatus, transition.getTarget());
+        }
+
+        rental.updateStatus(transition.getTarget());
+        rental.setUpdateTime(now);
+        if (rental.getVersion() != null) {
+            rental.setVersion(rental.getVersion() + 1);
+        }
+        return rental;
+    }
+
+    /**
+     * Applies the transition to every rental with one UPDATE per source status, writing the given
+     * pickup notes, return notes and actual return time where they are not null. The caller must
+     * hold row locks on the rentals, so an update that misses any of them means a writer bypassed
+     * the locks and the whole batch fails with {@link RentalStateConflictException}.
+     */
+    public List<Rental> transitionAll(List<Rental> rentals,
+                                      RentalTransition transition,
+                                      String pickupNotes,
+                                      String returnNotes,
+                                      LocalDateTime actualReturnTime) {
+        for (Rental rental : rentals) {
+            if (!transition.allowsFrom(rental.getStatus())) {
+                throw new InvalidRentalStateException(rental.getStatus().name(), transition.getRequiredStatus());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<RentalStatus, List<Rental>> bySourceStatus = rentals.stream()
+                .collect(Collectors.groupingBy(Rental::getStatus));
+        bySourceStatus.forEach((fromStatus, group) -> {
+            List<Long> ids = group.stream().map(Rental::getId).toList();
+            int updated = rentalRepository.compareAndSetStatusAll(
+                    ids, fromStatus, transition.getTarget(), pickupNotes, returnNotes, actualReturnTime, now);
+            if (updated != ids.size()) {
+                log.warn("Only {} of {} rentals in status {} moved to {}", updated, ids.size(), fromStatus, transition.getTarget());
+                throw new RentalStateConflictException(ids.get(0), fromStatus, transition.getTarget());
+            }
+        });
+
+        for (Rental rental : rentals) {
+            if (entityManager.contains(rental)) {
+                entityManager.detach(rental);
+            }
+            if (pickupNotes != null) {
+                rental.setPickupNotes(pickupNotes);
+            }
+            if (returnNotes != null) {
+                rental.setReturnNotes(returnNotes);
+            }
+            if (actualReturnTime != null) {
+                rental.setActualReturnTime(actualReturnTime);
+            }
+            rental.updateStatus(transition.getTarget());
+            rental.setUpdateTime(now);
+            if (rental.getVersion() != null) {
+                rental.setVersion(rental.getVersion() + 1);
+            }
+        }
+        return rentals;
+    }
+
+    /**
+     * Moves a rental claimed earlier in the current transaction back to the status it was claimed
+     * from, writing the notes and return time left on it, for a claim whose payment step failed.
+     */
+    public Rental revert(Rental rental, RentalStatus toStatus) {
+        RentalStatus fromStatus = rental.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = rentalRepository.compareAndSetStatus(
+                rental.getId(),
+                fromStatus,
+                toStatus,
+                rental.getPickupNotes(),
+                rental.getReturnNotes(),
+                rental.getActualReturnTime(),
+                now
+        );
+        if (updated == 0) {
+            throw new RentalStateConflictException(rental.getId(), fromStatus, toStatus);
+        }
+
+        rental.updateStatus(toStatus);
+        rental.setUpdateTime(now);
+        if (rental.getVersion() != null) {
+            rental.setVersion(rental.getVersion() + 1);
+        }
+        return rental;
+    }
+
+    /**
+     * Writes the penalty outcome of a late return that has already been applied.
+     */
+    public void recordPenalty(Rental rental) {
+        LocalDateTime now = LocalDateTime.now();
+        rentalRepository.updatePenalty(
+                rental.getId(),
+                rental.getPenaltyAmount(),
+                rental.getLateHours(),
+                rental.getPenaltyPaid(),
+                now
+        );
+        rental.setUpdateTime(now);
+        if (rental.getVersion() != null) {
+            rental.setVersion(rental.getVersion() + 1);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.akif.rental.internal.service.state;
+
+import com.akif.rental.domain.enums.RentalStatus;
+import lombok.Getter;
+
+import java.util.function.Predicate;
+
+@Getter
+public enum RentalTransition {
+    CONFIRM(RentalStatus.CONFIRMED, RentalStatus::canConfirm, RentalStatus.REQUESTED.name()),
+    PICKUP(RentalStatus.IN_USE, RentalStatus::canPickup, RentalStatus.CONFIRMED.name()),
+    RETURN(RentalStatus.RETURNED, RentalStatus::canReturn, RentalStatus.IN_USE.name()),
+    CANCEL(RentalStatus.CANCELLED, RentalStatus::canCancel, "REQUESTED, CONFIRMED or IN_USE");
+
+    private final RentalStatus target;
+    private final Predicate<RentalStatus> allowedFrom;
+    private final String requiredStatus;
+
+    RentalTransition(RentalStatus target, Predicate<RentalStatus> allowedFrom, String requiredStatus) {
+        this.target = target;
+        this.allowedFrom = allowedFrom;
+        this.requiredStatus = requiredStatus;
+    }
+
+    public boolean allowsFrom(RentalStatus status) {
+        return allowedFrom.test(status);
+    }
+}
@@ -0,0 +1,159 @@
+package com.akif.rental.internal.service.waitlist;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dynamic index of inclusive day intervals keyed by ID. Finding the intervals that overlap a window
+ * is split into two disjoint parts: intervals that start inside the window, read from a tree of
+ * start days, and intervals that start before it but still cover its first day, read from a segment
+ * tree over epoch days in which each interval sits on at most two nodes per level. Both parts touch
+ * only matching intervals beyond an O(log n) descent, so collecting k matches costs O(log n + k)
+ * before they are sorted by ID. Not thread-safe.
+ */
+public class DateIntervalIndex {
+
+    static final int DAY_BITS = 17;
+    static final int DAY_LIMIT = 1 << DAY_BITS;
+
+    private final TreeMap<Integer, Map<Long, Interval>> byStartDay = new TreeMap<>();
+    private final Map<Long, Interval> intervals = new HashMap<>();
+    private final Node root = new Node();
+
+    private record Interval(long id, int startDay, int endDay) {}
+
+    private static final class Node {
+        Node left;
+        Node right;
+        Map<Long, Interval> covering;
+
+        boolean isEmpty() {
+            return left == null && right == null && (covering == null || covering.isEmpty());
+        }
+    }
+
+    /**
+     * Adds the interval, replacing any interval already stored under the ID.
+     */
+    public void add(long id, int startDay, int endDay) {
+        if (startDay < 0 || endDay < startDay || endDay >= DAY_LIMIT) {
+            throw new IllegalArgumentException("Invalid day interval: " + startDay + " to " + endDay);
+        }
+        remove(id);
+
+        Interval interval = new Interval(id, startDay, endDay);
+        intervals.put(id, interval);
+        byStartDay.computeIfAbsent(startDay, day -> new LinkedHashMap<>()).put(id, interval);
+        insert(root, 0, DAY_LIMIT - 1, interval);
+    }
+
+    public boolean remove(long id) {
+        Interval interval = intervals.remove(id);
+        if (interval == null) {
+            return false;
+        }
+
+        Map<Long, Interval> sameStart = byStartDay.get(interval.startDay());
+        sameStart.remove(id);
+        if (sameStart.isEmpty()) {
+            byStartDay.remove(interval.startDay());
+        }
+        delete(root, 0, DAY_LIMIT - 1, interval);
+        return true;
+    }
+
+    public boolean contains(long id) {
+        return intervals.containsKey(id);
+    }
+
+    public int size() {
+        return intervals.size();
+    }
+
+    /**
+     * IDs of the intervals sharing at least one day with {@code [fromDay, toDay]}, in ascending order.
+     */
+    public List<Long> overlapping(int fromDay, int toDay) {
+        List<Long> ids = new ArrayList<>();
+        if (toDay < fromDay || toDay < 0 || fromDay >= DAY_LIMIT) {
+            return ids;
+        }
+        int from = Math.max(fromDay, 0);
+        int to = Math.min(toDay, DAY_LIMIT - 1);
+
+        for (Map<Long, Interval> sameStart : byStartDay.subMap(from, true, to, true).values()) {
+            ids.addAll(sameStart.keySet());
+        }
+
+        Node node = root;
+        int low = 0;
+        int high = DAY_LIMIT - 1;
+        while (node != null) {
+            if (node.covering != null) {
+                for (Interval interval : node.covering.values()) {
+                    if (interval.startDay() < from) {
+                        ids.add(interval.id());
+                    }
+                }
+            }
+            int middle = (low + high) >>> 1;
+            if (from <= middle) {
+                node = node.left;
+                high = middle;
+            } else {
+                node = node.right;
+                low = middle + 1;
+            }
+        }
+
+        ids.sort(null);
+        return ids;
+    }
+
+    private static void insert(Node node, int low, int high, Interval interval) {
+        if (interval.startDay() <= low && high <= interval.endDay()) {
+            if (node.covering == null) {
+                node.covering = new LinkedHashMap<>();
+            }
+            node.covering.put(interval.id(), interval);
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        if (interval.startDay() <= middle) {
+            if (node.left == null) {
+                node.left = new Node();
+            }
+            insert(node.left, low, middle, interval);
+        }
+        if (interval.endDay() > middle) {
+            if (node.right == null) {
+                node.right = new Node();
+            }
+            insert(node.right, middle + 1, high, interval);
+        }
+    }
+
+    private static void delete(Node node, int low, int high, Interval interval) {
+        if (interval.startDay() <= low && high <= interval.endDay()) {
+            node.covering.remove(interval.id());
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        if (interval.startDay() <= middle) {
+            delete(node.left, low, middle, interval);
+            if (node.left.isEmpty()) {
+                node.left = null;
+            }
+        }
+        if (interval.endDay() > middle) {
+            delete(node.right, middle + 1, high, interval);
+            if (node.right.isEmpty()) {
+                node.right = null;
+            }
+        }
+    }
+}
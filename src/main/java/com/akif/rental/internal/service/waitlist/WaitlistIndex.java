@@ -0,0 +1,138 @@
+package com.akif.rental.internal.service.waitlist;
+
+import com.akif.rental.domain.model.WaitlistEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory waitlist of WAITING entries, with one {@link DateIntervalIndex} per target: a single
+ * car, or a body type for customers who take any car of that class. Freed dates on a car are
+ * matched against the car's own index and its body type's index, so a lookup only touches the
+ * entries whose dates overlap. The database stays the source of truth; {@link #rebuild} reloads it.
+ * Entries created on other nodes are picked up by loading the ones created since {@link #loadedAt},
+ * less an overlap margin; an entry loaded twice replaces itself, since entries are keyed by ID.
+ */
+@Slf4j
+@Component
+public class WaitlistIndex {
+
+    private final Map<String, DateIntervalIndex> byTarget = new HashMap<>();
+    private final Map<Long, String> targetByEntry = new HashMap<>();
+    private LocalDateTime loadedAt;
+
+    public synchronized void add(WaitlistEntry entry) {
+        String target = targetOf(entry.getCarId(), entry.getBodyType());
+        remove(entry.getId());
+        byTarget.computeIfAbsent(target, key -> new DateIntervalIndex())
+                .add(entry.getId(), epochDay(entry.getStartDate()), epochDay(entry.getEndDate()));
+        targetByEntry.put(entry.getId(), target);
+    }
+
+    public synchronized void remove(Long entryId) {
+        String target = targetByEntry.remove(entryId);
+        if (target == null) {
+            return;
+        }
+        DateIntervalIndex index = byTarget.get(target);
+        index.remove(entryId);
+        if (index.size() == 0) {
+            byTarget.remove(target);
+        }
+    }
+
+    /**
+     * IDs of waiting entries for the car or its body type whose dates overlap the window, oldest
+     * entry first.
+     */
+    public synchronized List<Long> match(Long carId, String bodyType, LocalDate startDate, LocalDate endDate) {
+        int from = epochDay(startDate);
+        int to = epochDay(endDate);
+        List<Long> forCar = overlapping(carTarget(carId), from, to);
+        List<Long> forClass = bodyType == null || bodyType.isBlank()
+                ? List.of()
+                : overlapping(classTarget(bodyType), from, to);
+        return merge(forCar, forClass);
+    }
+
+    /**
+     * Replaces the index with the given entries, read by a query that started at {@code loadedAt}.
+     */
+    public synchronized void rebuild(Collection<WaitlistEntry> entries, LocalDateTime loadedAt) {
+        byTarget.clear();
+        targetByEntry.clear();
+        entries.forEach(this::add);
+        this.loadedAt = loadedAt;
+        log.info("Rebuilt waitlist index with {} entries across {} targets", targetByEntry.size(), byTarget.size());
+    }
+
+    /**
+     * Adds entries read by a query that started at {@code loadedAt}, including any already indexed.
+     */
+    public synchronized void load(Collection<WaitlistEntry> entries, LocalDateTime loadedAt) {
+        entries.forEach(this::add);
+        if (this.loadedAt == null || loadedAt.isAfter(this.loadedAt)) {
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Start time of the latest query this index was loaded from, or null before the first one.
+     */
+    public synchronized LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public synchronized int size() {
+        return targetByEntry.size();
+    }
+
+    private List<Long> overlapping(String target, int from, int to) {
+        DateIntervalIndex index = byTarget.get(target);
+        return index == null ? List.of() : index.overlapping(from, to);
+    }
+
+    private static List<Long> merge(List<Long> first, List<Long> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        if (first.isEmpty()) {
+            return second;
+        }
+        List<Long> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            if (j == second.size() || (i < first.size() && first.get(i) < second.get(j))) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static String targetOf(Long carId, String bodyType) {
+        return carId != null ? carTarget(carId) : classTarget(bodyType);
+    }
+
+    private static String carTarget(Long carId) {
+        return "car:" + carId;
+    }
+
+    private static String classTarget(String bodyType) {
+        return "class:" + bodyType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+}
@@ -0,0 +1,23 @@
+package com.akif.rental.internal.service.waitlist;
+
+import com.akif.rental.internal.dto.request.WaitlistRequest;
+import com.akif.rental.internal.dto.response.WaitlistEntryResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistService {
+
+    WaitlistEntryResponse joinWaitlist(WaitlistRequest request, String username);
+
+    List<WaitlistEntryResponse> getMyEntries(String username);
+
+    void leaveWaitlist(Long entryId, String username);
+
+    Optional<WaitlistEntryResponse> offerFreedDates(Long carId, LocalDate startDate, LocalDate endDate);
+
+    int rebuildIndex();
+
+    int expireStaleEntries();
+}
@@ -0,0 +1,256 @@
+package com.akif.rental.internal.service.waitlist.impl;
+
+import com.akif.auth.api.AuthService;
+import com.akif.auth.api.UserDto;
+import com.akif.car.api.CarResponse;
+import com.akif.car.api.CarService;
+import com.akif.rental.api.WaitlistSlotOfferedEvent;
+import com.akif.rental.domain.enums.WaitlistStatus;
+import com.akif.rental.domain.model.WaitlistEntry;
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.dto.request.WaitlistRequest;
+import com.akif.rental.internal.dto.response.BookingHoldResponse;
+import com.akif.rental.internal.dto.response.WaitlistEntryResponse;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.exception.WaitlistEntryNotFoundException;
+import com.akif.rental.internal.repository.WaitlistEntryRepository;
+import com.akif.rental.internal.service.booking.BookingHoldService;
+import com.akif.rental.internal.service.waitlist.WaitlistIndex;
+import com.akif.rental.internal.service.waitlist.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Waitlist for dates that are already booked. Entries are stored in waitlist_entries and mirrored
+ * into {@link WaitlistIndex} once committed. When dates on a car are freed, the index returns the
+ * waiting entries for that car or its body type whose dates overlap, oldest first, and the first
+ * one whose dates are now fully free gets a booking hold on the car. Each node has its own index, so
+ * entries created elsewhere are loaded before matching and every match is re-read from the database.
+ * That load goes by creation time rather than ID: IDs are drawn before commit, so a lower ID can
+ * become visible after a higher one has been loaded, while re-reading a margin of already loaded
+ * creation times catches any entry whose transaction committed within that margin.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistIndex waitlistIndex;
+    private final BookingHoldService bookingHoldService;
+    private final AuthService authService;
+    private final CarService carService;
+    private final BookingConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public WaitlistEntryResponse joinWaitlist(WaitlistRequest request, String username) {
+        log.info("Adding user: {} to the waitlist for car: {}, body type: {}", username, request.carId(), request.bodyType());
+
+        UserDto user = authService.getUserByUsername(username);
+        int maxAdvanceDays = config.getWaitlist().getMaxAdvanceDays();
+        if (request.endDate().isAfter(LocalDate.now().plusDays(maxAdvanceDays))) {
+            throw new RentalValidationException("Waitlist dates must end within " + maxAdvanceDays + " days");
+        }
+
+        Long carId = request.carId();
+        String bodyType = carId == null ? request.bodyType().trim() : null;
+        if (carId != null) {
+            carService.getCarById(carId);
+        }
+        if (waitlistEntryRepository.existsWaiting(user.id(), carId, bodyType, request.startDate(), request.endDate())) {
+            throw new RentalValidationException("You are already on the waitlist for these dates");
+        }
+
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(user.id())
+                .userEmail(user.email())
+                .carId(carId)
+                .bodyType(bodyType)
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .build());
+        afterCommit(() -> waitlistIndex.add(entry));
+
+        log.info("Waitlist entry {} created for user: {} from {} to {}",
+                entry.getId(), username, entry.getStartDate(), entry.getEndDate());
+        return toResponse(entry);
+    }
+
+    @Override
+    public List<WaitlistEntryResponse> getMyEntries(String username) {
+        UserDto user = authService.getUserByUsername(username);
+        return waitlistEntryRepository.findByUserIdAndIsDeletedFalseOrderByIdDesc(user.id()).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void leaveWaitlist(Long entryId, String username) {
+        log.info("Removing waitlist entry: {} by user: {}", entryId, username);
+
+        WaitlistEntry entry = waitlistEntryRepository.findById(entryId)
+                .filter(WaitlistEntry::isActive)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(entryId));
+        UserDto currentUser = authService.getUserByUsername(username);
+
+        if (!currentUser.isAdmin() && !entry.getUserId().equals(currentUser.id())) {
+            throw new AccessDeniedException("You can only remove your own waitlist entries");
+        }
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new RentalValidationException("Only waiting entries can be removed, this entry is " + entry.getStatus());
+        }
+
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        waitlistEntryRepository.save(entry);
+        afterCommit(() -> waitlistIndex.remove(entryId));
+    }
+
+    @Override
+    @Transactional
+    public Optional<WaitlistEntryResponse> offerFreedDates(Long carId, LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = startDate.isBefore(today) ? today : startDate;
+        if (endDate.isBefore(from)) {
+            return Optional.empty();
+        }
+
+        loadNewEntries(today);
+        CarResponse car = carService.getCarById(carId);
+        List<Long> matches = waitlistIndex.match(carId, car.getBodyType(), from, endDate);
+        if (matches.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Long> candidateIds = matches.subList(0, Math.min(matches.size(), config.getWaitlist().getMaxOfferAttempts()));
+        List<WaitlistEntry> candidates = waitlistEntryRepository
+                .findByIdInAndStatusAndIsDeletedFalseOrderById(candidateIds, WaitlistStatus.WAITING);
+        log.debug("Freed dates {} to {} on car: {} match {} waitlist entries, checking {}",
+                from, endDate, carId, matches.size(), candidates.size());
+
+        Set<Long> stale = new HashSet<>(candidateIds);
+        candidates.forEach(entry -> stale.remove(entry.getId()));
+        afterCommit(() -> stale.forEach(waitlistIndex::remove));
+
+        for (WaitlistEntry entry : candidates) {
+            if (entry.getStartDate().isBefore(today)) {
+                continue;
+            }
+            Optional<BookingHoldResponse> hold = bookingHoldService.offerHold(carId, entry.getUserId(),
+                    entry.getStartDate(), entry.getEndDate(), config.getWaitlist().getOfferTtlSeconds());
+            if (hold.isPresent()) {
+                return Optional.of(offer(entry, car, hold.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public int rebuildIndex() {
+        LocalDateTime loadedAt = LocalDateTime.now();
+        List<WaitlistEntry> waiting = waitlistEntryRepository.findWaitingFrom(loadedAt.toLocalDate());
+        waitlistIndex.rebuild(waiting, loadedAt);
+        return waiting.size();
+    }
+
+    @Override
+    @Transactional
+    public int expireStaleEntries() {
+        List<WaitlistEntry> stale = waitlistEntryRepository.findWaitingBefore(LocalDate.now());
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        stale.forEach(entry -> entry.setStatus(WaitlistStatus.EXPIRED));
+        waitlistEntryRepository.saveAll(stale);
+        afterCommit(() -> stale.forEach(entry -> waitlistIndex.remove(entry.getId())));
+
+        log.info("Expired {} waitlist entries whose start date has passed", stale.size());
+        return stale.size();
+    }
+
+    private void loadNewEntries(LocalDate today) {
+        LocalDateTime lastLoadedAt = waitlistIndex.loadedAt();
+        if (lastLoadedAt == null) {
+            rebuildIndex();
+            return;
+        }
+
+        LocalDateTime loadedAt = LocalDateTime.now();
+        LocalDateTime since = lastLoadedAt.minusSeconds(config.getWaitlist().getLoadOverlapSeconds());
+        List<WaitlistEntry> created = waitlistEntryRepository.findWaitingCreatedSince(since, today);
+        waitlistIndex.load(created, loadedAt);
+        if (!created.isEmpty()) {
+            log.debug("Loaded {} waitlist entries created since {}", created.size(), since);
+        }
+    }
+
+    private WaitlistEntryResponse offer(WaitlistEntry entry, CarResponse car, BookingHoldResponse hold) {
+        LocalDateTime now = LocalDateTime.now();
+        entry.markOffered(car.getId(), hold.id(), now);
+        waitlistEntryRepository.save(entry);
+        afterCommit(() -> waitlistIndex.remove(entry.getId()));
+
+        eventPublisher.publishEvent(new WaitlistSlotOfferedEvent(
+                this,
+                entry.getId(),
+                hold.id(),
+                entry.getUserEmail(),
+                car.getId(),
+                car.getBrand(),
+                car.getModel(),
+                entry.getStartDate(),
+                entry.getEndDate(),
+                hold.expiresAt(),
+                now
+        ));
+
+        log.info("Offered car: {} from {} to {} to waitlist entry: {} with hold: {}",
+                car.getId(), entry.getStartDate(), entry.getEndDate(), entry.getId(), hold.id());
+        return toResponse(entry);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getCarId(),
+                entry.getBodyType(),
+                entry.getStartDate(),
+                entry.getEndDate(),
+                entry.getStatus(),
+                entry.getOfferedCarId(),
+                entry.getOfferedHoldId(),
+                entry.getOfferedAt(),
+                entry.getCreateTime()
+        );
+    }
+}
@@ -2,10 +2,15 @@ package com.akif.rental.web;
 
 import com.akif.currency.api.ConversionResult;
 import com.akif.rental.api.RentalResponse;
+import com.akif.rental.internal.dto.request.BookingHoldRequest;
 import com.akif.rental.internal.dto.request.PickupRequest;
 import com.akif.rental.internal.dto.request.RentalRequest;
+import com.akif.rental.internal.dto.request.RentalSearchRequest;
 import com.akif.rental.internal.dto.request.ReturnRequest;
+import com.akif.rental.internal.dto.response.BookingHoldResponse;
+import com.akif.rental.internal.service.booking.BookingHoldService;
 import com.akif.shared.enums.CurrencyType;
+import com.akif.shared.pagination.CursorPage;
 import com.akif.rental.api.RentalService;
 import com.akif.currency.api.CurrencyConversionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +41,7 @@ public class RentalController {
 
     private final RentalService rentalService;
     private final CurrencyConversionService currencyConversionService;
+    private final BookingHoldService bookingHoldService;
 
     @PostMapping("/request")
     @Operation(summary = "Request a rental", description = "Create a new rental request")
@@ -62,6 +68,53 @@ public class RentalController {
     }
 
 
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a car", description = "Hold a car's dates for a short time while the customer completes checkout")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Booking hold placed successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BookingHoldResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid hold data"),
+            @ApiResponse(responseCode = "404", description = "Car not found"),
+            @ApiResponse(responseCode = "409", description = "Dates already booked or held by another customer")
+    })
+    public ResponseEntity<BookingHoldResponse> placeHold(
+            @Parameter(description = "Booking hold data", required = true)
+            @Valid @RequestBody BookingHoldRequest request,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("POST /api/rentals/holds - User: {}", username);
+
+        BookingHoldResponse hold = bookingHoldService.placeHold(request, username);
+
+        log.info("Booking hold placed successfully. HoldId: {}", hold.id());
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+
+    @DeleteMapping("/holds/{id}")
+    @Operation(summary = "Release hold", description = "Release a booking hold (user can release own, admin can release any)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Booking hold released successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Booking hold not found")
+    })
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "Booking hold ID", required = true)
+            @PathVariable Long id,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("DELETE /api/rentals/holds/{} - User: {}", id, username);
+
+        bookingHoldService.releaseHold(id, username);
+
+        log.info("Booking hold released successfully. HoldId: {}", id);
+        return ResponseEntity.noContent().build();
+    }
+
+
     @PostMapping("/{id}/confirm")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Confirm rental", description = "Admin confirms a rental request and authorizes payment")
@@ -193,6 +246,35 @@ public class RentalController {
     }
 
 
+    @GetMapping("/me/scroll")
+    @Operation(summary = "Scroll my rentals", description = "Get current user's rental history newest first, one cursor page at a time without a total count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPage<RentalResponse>> scrollMyRentals(
+            @Parameter(description = "Cursor from the previous page, omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Target currency for price conversion")
+            @RequestParam(required = false) CurrencyType currency,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.debug("GET /api/rentals/me/scroll - User: {}, currency: {}", username, currency);
+
+        CursorPage<RentalResponse> rentals = rentalService.scrollMyRentals(username, cursor, size);
+        if (currency != null) {
+            rentals = rentals.map(rental -> applyPriceConversion(rental, currency));
+        }
+
+        log.info("Retrieved {} rentals for user: {}", rentals.size(), username);
+        return ResponseEntity.ok(rentals);
+    }
+
     @GetMapping("/admin")
     @Operation(summary = "Get all rentals (Admin)", description = "Get all rentals (admin only) with optional currency conversion")
     @ApiResponses(value = {
@@ -218,6 +300,50 @@ public class RentalController {
     }
 
 
+    @GetMapping("/admin/search")
+    @Operation(summary = "Search rentals (Admin)", description = "Search rentals by status, car, user email, license plate, date window and late status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid search filters"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<Page<RentalResponse>> searchRentals(
+            @Parameter(description = "Search filters") @Valid @ModelAttribute RentalSearchRequest filter,
+            @Parameter(description = "Pagination information")
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        log.debug("GET /api/rentals/admin/search with filter: {}", filter);
+
+        Page<RentalResponse> rentals = rentalService.searchRentals(filter, pageable);
+
+        log.info("Retrieved {} rentals", rentals.getTotalElements());
+        return ResponseEntity.ok(rentals);
+    }
+
+    @GetMapping("/admin/search/scroll")
+    @Operation(summary = "Scroll rental search (Admin)", description = "Search rentals newest first, one cursor page at a time without a total count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rentals retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid search filters or cursor"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<CursorPage<RentalResponse>> scrollRentals(
+            @Parameter(description = "Search filters") @Valid @ModelAttribute RentalSearchRequest filter,
+            @Parameter(description = "Cursor from the previous page, omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)")
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("GET /api/rentals/admin/search/scroll with filter: {}", filter);
+
+        CursorPage<RentalResponse> rentals = rentalService.scrollRentals(filter, cursor, size);
+
+        log.info("Retrieved {} rentals", rentals.size());
+        return ResponseEntity.ok(rentals);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get rental by ID", description = "Get rental details with optional currency conversion (user can view own, admin can view any)")
     @ApiResponses(value = {
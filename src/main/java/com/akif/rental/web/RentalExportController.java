@@ -0,0 +1,46 @@
+package com.akif.rental.web;
+
+import com.akif.rental.internal.service.export.RentalExportService;
+import com.akif.shared.export.ExportRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/rentals/admin/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Rental Export", description = "Admin bulk export of rentals")
+public class RentalExportController {
+
+    private final RentalExportService rentalExportService;
+
+    @GetMapping
+    @Operation(summary = "Export rentals (Admin)",
+               description = "Stream every rental created in the date window, archived ones included, as CSV or NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid date window"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Admin only")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRentals(
+            @Parameter(description = "Date window (yyyy-MM-dd, inclusive) and format (CSV, NDJSON)")
+            @Valid @ModelAttribute ExportRequest request) {
+
+        log.info("GET /api/rentals/admin/export - from: {}, to: {}, format: {}", request.from(), request.to(), request.format());
+
+        return request.format().attachment(request.fileName("rentals"),
+                out -> rentalExportService.exportRentals(request, out));
+    }
+}
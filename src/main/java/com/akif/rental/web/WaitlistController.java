@@ -0,0 +1,89 @@
+package com.akif.rental.web;
+
+import com.akif.rental.internal.dto.request.WaitlistRequest;
+import com.akif.rental.internal.dto.response.WaitlistEntryResponse;
+import com.akif.rental.internal.service.waitlist.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rentals/waitlist")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Rental Waitlist", description = "Waitlist for sold-out cars and car classes")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    @Operation(summary = "Join waitlist",
+               description = "Wait for a car, or any car of a body type, to free up for the given dates. "
+                       + "The freed dates are held for the oldest matching entry.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Added to the waitlist",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = WaitlistEntryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid waitlist data or already waiting for these dates"),
+            @ApiResponse(responseCode = "404", description = "Car not found")
+    })
+    public ResponseEntity<WaitlistEntryResponse> joinWaitlist(
+            @Parameter(description = "Waitlist data", required = true)
+            @Valid @RequestBody WaitlistRequest request,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("POST /api/rentals/waitlist - User: {}", username);
+
+        WaitlistEntryResponse entry = waitlistService.joinWaitlist(request, username);
+
+        log.info("Waitlist entry created successfully. EntryId: {}", entry.id());
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get my waitlist entries", description = "Get current user's waitlist entries, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Waitlist entries retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<List<WaitlistEntryResponse>> getMyEntries(Authentication authentication) {
+        String username = authentication.getName();
+        log.debug("GET /api/rentals/waitlist - User: {}", username);
+
+        return ResponseEntity.ok(waitlistService.getMyEntries(username));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Leave waitlist", description = "Remove a waiting entry (user can remove own, admin can remove any)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Waitlist entry removed successfully"),
+            @ApiResponse(responseCode = "400", description = "Entry is no longer waiting"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Waitlist entry not found")
+    })
+    public ResponseEntity<Void> leaveWaitlist(
+            @Parameter(description = "Waitlist entry ID", required = true)
+            @PathVariable Long id,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info("DELETE /api/rentals/waitlist/{} - User: {}", id, username);
+
+        waitlistService.leaveWaitlist(id, username);
+        return ResponseEntity.noContent().build();
+    }
+}
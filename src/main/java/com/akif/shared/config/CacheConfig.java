@@ -29,6 +29,7 @@ public class CacheConfig {
     public static final String FLEET_STATUS_CACHE = "fleetStatus";
     public static final String MONTHLY_METRICS_CACHE = "monthlyMetrics";
     public static final String REVENUE_ANALYTICS_CACHE = "revenueAnalytics";
+    public static final String FLEET_UTILIZATION_CACHE = "fleetUtilization";
 
     private static final Map<String, Integer> CACHE_TTL_MINUTES = Map.ofEntries(
             Map.entry(EXCHANGE_RATES_CACHE, 60),
@@ -43,7 +44,8 @@ public class CacheConfig {
             Map.entry(DAILY_SUMMARY_CACHE, 5),
             Map.entry(FLEET_STATUS_CACHE, 5),
             Map.entry(MONTHLY_METRICS_CACHE, 15),
-            Map.entry(REVENUE_ANALYTICS_CACHE, 15)
+            Map.entry(REVENUE_ANALYTICS_CACHE, 15),
+            Map.entry(FLEET_UTILIZATION_CACHE, 15)
     );
 
     @Bean
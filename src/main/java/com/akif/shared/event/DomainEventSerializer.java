@@ -0,0 +1,101 @@
+package com.akif.shared.event;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializes domain events for the event publication registry. Events extend
+ * {@link ApplicationEvent} and are built through constructors taking the publishing bean as
+ * source, so they are written field by field, leaving out the transient source, and read back
+ * without calling a constructor. Jackson annotations are ignored so display-name enums such as
+ * {@code CurrencyType} round-trip by constant name. Takes precedence over the default Jackson
+ * serializer, which needs default constructors.
+ */
+@Primary
+@Component
+public class DomainEventSerializer implements EventSerializer {
+
+    private final ObjectMapper mapper;
+
+    public DomainEventSerializer() {
+        SimpleModule eventInstantiation = new SimpleModule("DomainEventInstantiation") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.addValueInstantiators(new ConstructorlessEventInstantiators());
+            }
+        };
+
+        this.mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(eventInstantiation)
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .build();
+    }
+
+    @Override
+    public Object serialize(Object event) {
+        try {
+            return mapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize event " + event.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(Object serialized, Class<T> type) {
+        try {
+            return mapper.readValue(serialized.toString(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not deserialize event " + type.getName(), e);
+        }
+    }
+
+    private static final class ConstructorlessEventInstantiators extends ValueInstantiators.Base {
+
+        private final SpringObjenesis objenesis = new SpringObjenesis();
+
+        @Override
+        public ValueInstantiator findValueInstantiator(DeserializationConfig config,
+                                                       BeanDescription beanDesc,
+                                                       ValueInstantiator defaultInstantiator) {
+            Class<?> type = beanDesc.getBeanClass();
+            if (!ApplicationEvent.class.isAssignableFrom(type)) {
+                return defaultInstantiator;
+            }
+            return new ValueInstantiator.Base(type) {
+                @Override
+                public boolean canCreateUsingDefault() {
+                    return true;
+                }
+
+                @Override
+                public Object createUsingDefault(DeserializationContext context) {
+                    return objenesis.newInstance(type);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.akif.shared.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "events")
+public class EventPublicationConfig {
+
+    public static final String DISPATCH_EXECUTOR = "domainEventTaskExecutor";
+
+    private Dispatch dispatch = new Dispatch();
+    private Relay relay = new Relay();
+
+    @Bean(DISPATCH_EXECUTOR)
+    public Executor domainEventTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatch.getCorePoolSize());
+        executor.setMaxPoolSize(dispatch.getMaxPoolSize());
+        executor.setQueueCapacity(dispatch.getQueueCapacity());
+        executor.setThreadNamePrefix("domain-event-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Getter
+    @Setter
+    public static class Dispatch {
+        private int corePoolSize = 2;
+        private int maxPoolSize = 8;
+        private int queueCapacity = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private long intervalMillis = 60000;
+        private long minAgeSeconds = 300;
+        private int batchSize = 500;
+        private boolean republishOnStartup = true;
+    }
+}
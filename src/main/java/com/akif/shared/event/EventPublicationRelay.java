@@ -0,0 +1,104 @@
+package com.akif.shared.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Redelivers event publications whose listener failed or never finished, for example because the
+ * node stopped between commit and dispatch. All of them are redelivered once on startup; after
+ * that, each run picks up publications older than the minimum age, since younger ones may still
+ * be running, and resubmits at most one batch, oldest first, so a backlog drains over several
+ * runs instead of flooding the dispatch pool.
+ * <p>
+ * Modulith's own resubmission hands listeners the stored event wrapped in a
+ * {@link PayloadApplicationEvent}, which listeners declared on {@link ApplicationEvent} subtypes
+ * silently ignore, so the stored event is passed to the target listener as is.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPublicationRelay {
+
+    private final EventPublicationRegistry publicationRegistry;
+    private final EventPublicationConfig config;
+    private final AbstractApplicationContext applicationContext;
+
+    private volatile Map<PublicationTargetIdentifier, TransactionalApplicationListener<ApplicationEvent>> listeners;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void republishOutstandingPublications() {
+        if (!config.getRelay().isRepublishOnStartup()) {
+            return;
+        }
+        int count = redeliver(null);
+        if (count > 0) {
+            log.info("Republished {} outstanding event publications on startup", count);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${events.relay.interval-millis:60000}",
+            initialDelayString = "${events.relay.interval-millis:60000}")
+    public void resubmitStalePublications() {
+        Duration minAge = Duration.ofSeconds(config.getRelay().getMinAgeSeconds());
+        int count = redeliver(minAge);
+        if (count > 0) {
+            log.info("Resubmitted {} incomplete event publications older than {}", count, minAge);
+        }
+    }
+
+    private int redeliver(Duration minAge) {
+        int batchSize = config.getRelay().getBatchSize();
+        AtomicInteger taken = new AtomicInteger();
+        Predicate<EventPublication> nextInBatch = publication -> taken.getAndIncrement() < batchSize;
+
+        publicationRegistry.processIncompletePublications(nextInBatch, this::invokeTargetListener, minAge);
+        return Math.min(taken.get(), batchSize);
+    }
+
+    private void invokeTargetListener(TargetEventPublication publication) {
+        TransactionalApplicationListener<ApplicationEvent> listener = listeners().get(publication.getTargetIdentifier());
+        if (listener == null) {
+            log.warn("No listener {} for event publication {}, leaving it incomplete",
+                    publication.getTargetIdentifier().getValue(), publication.getIdentifier());
+            return;
+        }
+
+        Object event = publication.getEvent();
+        listener.processEvent(event instanceof ApplicationEvent applicationEvent
+                ? applicationEvent
+                : new PayloadApplicationEvent<>(this, event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<PublicationTargetIdentifier, TransactionalApplicationListener<ApplicationEvent>> listeners() {
+        if (listeners == null) {
+            listeners = applicationContext.getApplicationListeners().stream()
+                    .filter(TransactionalApplicationListener.class::isInstance)
+                    .map(listener -> (TransactionalApplicationListener<ApplicationEvent>) listener)
+                    .collect(Collectors.toMap(
+                            listener -> PublicationTargetIdentifier.of(listener.getListenerId()),
+                            Function.identity(),
+                            (first, second) -> first));
+        }
+        return listeners;
+    }
+}
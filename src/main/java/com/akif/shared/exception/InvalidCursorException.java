@@ -0,0 +1,12 @@
+package com.akif.shared.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BaseException {
+
+    public static final String ERROR_CODE = "INVALID_CURSOR";
+
+    public InvalidCursorException(String cursor) {
+        super(ERROR_CODE, "Invalid pagination cursor: " + cursor, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,13 @@
+package com.akif.shared.export;
+
+import java.util.function.Function;
+
+/**
+ * One exported field: the CSV header and NDJSON key, and how to read it from a row.
+ */
+public record ExportColumn<T>(String name, Function<T, ?> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, ?> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
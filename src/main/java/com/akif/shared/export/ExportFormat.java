@@ -0,0 +1,32 @@
+package com.akif.shared.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(new MediaType("application", "x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    public ResponseEntity<StreamingResponseBody> attachment(String baseName, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment().filename(fileName(baseName)).build();
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,47 @@
+package com.akif.shared.export;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Date window and output format shared by the admin export endpoints. Both dates are inclusive.
+ */
+public record ExportRequest(
+    @NotNull(message = "From date is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate from,
+
+    @NotNull(message = "To date is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate to,
+
+    ExportFormat format
+) {
+
+    public ExportRequest {
+        if (format == null) {
+            format = ExportFormat.CSV;
+        }
+    }
+
+    @AssertTrue(message = "From date must not be after to date")
+    public boolean isDateWindowValid() {
+        return from == null || to == null || !from.isAfter(to);
+    }
+
+    public LocalDateTime startInclusive() {
+        return from.atStartOfDay();
+    }
+
+    public LocalDateTime endExclusive() {
+        return to.plusDays(1).atStartOfDay();
+    }
+
+    public String fileName(String prefix) {
+        return prefix + "-" + from + "-to-" + to;
+    }
+}
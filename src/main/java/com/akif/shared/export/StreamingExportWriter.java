@@ -0,0 +1,117 @@
+package com.akif.shared.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes a forward-only stream of entities to the response one row at a time, detaching each
+ * entity once it is written so the persistence context never holds more than the current row.
+ * Callers must run inside a read-only transaction and open the stream with a fetch-size hint
+ * of {@link #FETCH_SIZE}, otherwise the JDBC driver buffers the whole result set first.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingExportWriter {
+
+    public static final String FETCH_SIZE = "500";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public <T> long write(Stream<T> rows, List<ExportColumn<T>> columns, ExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(ExportColumn::name).toList());
+            }
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, columns.stream().map(column -> csvValue(column.value().apply(row))).toList());
+                } else {
+                    writeJsonLine(writer, row, columns);
+                }
+                entityManager.detach(row);
+                count++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private <T> void writeJsonLine(Writer writer, T row, List<ExportColumn<T>> columns) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        for (ExportColumn<T> column : columns) {
+            line.put(column.name(), jsonValue(column.value().apply(row)));
+        }
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    private static Object jsonValue(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof String text && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            // Stop spreadsheets from evaluating customer-entered text as a formula
+            return "'" + text;
+        }
+        return value.toString();
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
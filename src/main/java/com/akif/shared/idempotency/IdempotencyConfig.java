@@ -0,0 +1,24 @@
+package com.akif.shared.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfig {
+
+    private boolean enabled = true;
+    private List<String> paths = new ArrayList<>(List.of("/api/rentals/**", "/api/admin/quick-actions/**"));
+    private long ttlSeconds = 86400;
+    private long cacheMaximumSize = 10000;
+    private long waitTimeoutMillis = 10000;
+    private int maxKeyLength = 255;
+    private long cleanupIntervalMillis = 3600000;
+}
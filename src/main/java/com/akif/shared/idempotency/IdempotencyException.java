@@ -0,0 +1,33 @@
+package com.akif.shared.idempotency;
+
+import com.akif.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyException extends BaseException {
+
+    public static final String KEY_INVALID = "IDEMPOTENCY_KEY_INVALID";
+    public static final String KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    public static final String KEY_IN_PROGRESS = "IDEMPOTENCY_KEY_IN_PROGRESS";
+
+    private IdempotencyException(String errorCode, String message, HttpStatus httpStatus) {
+        super(errorCode, message, httpStatus);
+    }
+
+    public static IdempotencyException invalidKey(int maxLength) {
+        return new IdempotencyException(KEY_INVALID,
+                String.format("Idempotency-Key must be between 1 and %d characters", maxLength),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    public static IdempotencyException keyReused() {
+        return new IdempotencyException(KEY_REUSED,
+                "Idempotency-Key was already used for a different request",
+                HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    public static IdempotencyException inProgress() {
+        return new IdempotencyException(KEY_IN_PROGRESS,
+                "A request with this Idempotency-Key is still in progress, please retry",
+                HttpStatus.CONFLICT);
+    }
+}
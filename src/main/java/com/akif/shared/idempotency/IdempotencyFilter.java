@@ -0,0 +1,248 @@
+package com.akif.shared.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POSTs under the configured paths safe to retry with an {@code Idempotency-Key} header.
+ * The first request with a key runs normally and its response is stored; retries with the same
+ * key and the same request get the stored response back, and retries arriving while the first
+ * one is still running wait for it. Keys are scoped to the authenticated user, so this filter
+ * runs after authentication. Server errors are not stored, so a retry after one runs again.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String ANONYMOUS_USER = "anonymous";
+
+    private final IdempotencyStore store;
+    private final IdempotencyConfig config;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyConfig config, HandlerExceptionResolver exceptionResolver) {
+        this.store = store;
+        this.config = config;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!config.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return config.getPaths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > config.getMaxKeyLength()) {
+            reject(request, response, IdempotencyException.invalidKey(config.getMaxKeyLength()));
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String scopedKey = currentUser() + ":" + idempotencyKey;
+        String requestHash = fingerprint(request, body);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getWaitTimeoutMillis());
+
+        while (true) {
+            Optional<StoredResponse> stored = store.find(scopedKey);
+            if (stored.isPresent()) {
+                replay(request, response, stored.get(), requestHash);
+                return;
+            }
+
+            CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+            Optional<CompletableFuture<StoredResponse>> running = store.claim(scopedKey, execution);
+            if (running.isEmpty()) {
+                execute(new CachedBodyRequest(request, body), response, filterChain, scopedKey, requestHash, execution);
+                return;
+            }
+
+            StoredResponse first;
+            try {
+                first = running.get().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Timed out waiting for in-flight request with idempotency key {}", scopedKey);
+                reject(request, response, IdempotencyException.inProgress());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(request, response, IdempotencyException.inProgress());
+                return;
+            } catch (ExecutionException e) {
+                first = null;
+            }
+
+            if (first != null) {
+                replay(request, response, first, requestHash);
+                return;
+            }
+            log.debug("In-flight request with idempotency key {} did not complete, retrying", scopedKey);
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         String scopedKey,
+                         String requestHash,
+                         CompletableFuture<StoredResponse> execution) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        StoredResponse result = null;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            if (cachingResponse.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+                result = new StoredResponse(
+                        requestHash,
+                        cachingResponse.getStatus(),
+                        cachingResponse.getContentType(),
+                        new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+            }
+        } finally {
+            store.complete(scopedKey, execution, result);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletRequest request,
+                        HttpServletResponse response,
+                        StoredResponse stored,
+                        String requestHash) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            reject(request, response, IdempotencyException.keyReused());
+            return;
+        }
+
+        log.debug("Replaying stored response for {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] bytes = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(bytes.length);
+            response.getOutputStream().write(bytes);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, IdempotencyException exception) {
+        exceptionResolver.resolveException(request, response, null, exception);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : ANONYMOUS_USER;
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.akif.shared.idempotency;
+
+import com.akif.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_records",
+        indexes = {
+                @Index(name = "idx_idempotency_key", columnList = "idempotency_key", unique = true),
+                @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(name = "idempotency_key", unique = true, nullable = false, length = 400)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status_code", nullable = false)
+    private Integer statusCode;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecord{" +
+                "id=" + getId() +
+                ", idempotencyKey='" + idempotencyKey + '\'' +
+                ", statusCode=" + statusCode +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
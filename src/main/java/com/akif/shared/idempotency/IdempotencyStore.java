@@ -0,0 +1,102 @@
+package com.akif.shared.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers responses by scoped idempotency key. Recent responses sit in a bounded Caffeine cache
+ * in front of the idempotency_records table, which keeps them for the TTL across restarts and
+ * nodes. Requests still executing are tracked as futures so duplicates arriving meanwhile wait for
+ * the first execution instead of running again.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyConfig config;
+    private final Cache<String, StoredResponse> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyConfig config) {
+        this.repository = repository;
+        this.config = config;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(config.getTtlSeconds()))
+                .maximumSize(config.getCacheMaximumSize())
+                .build();
+    }
+
+    public Optional<StoredResponse> find(String key) {
+        StoredResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<StoredResponse> stored = repository.findByIdempotencyKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                .map(record -> new StoredResponse(
+                        record.getRequestHash(),
+                        record.getStatusCode(),
+                        record.getContentType(),
+                        record.getResponseBody()));
+        stored.ifPresent(response -> cache.put(key, response));
+        return stored;
+    }
+
+    /**
+     * Claims the key for execution. Returns empty when the caller now owns the key and must run the
+     * request, or the future of the execution already running for it.
+     */
+    public Optional<CompletableFuture<StoredResponse>> claim(String key, CompletableFuture<StoredResponse> execution) {
+        return Optional.ofNullable(inFlight.putIfAbsent(key, execution));
+    }
+
+    /**
+     * Ends an execution claimed with {@link #claim}, saving its response when there is one and
+     * handing it to every waiting duplicate. A null response lets the next duplicate run instead.
+     */
+    public void complete(String key, CompletableFuture<StoredResponse> execution, StoredResponse response) {
+        try {
+            if (response != null) {
+                save(key, response);
+            }
+        } finally {
+            inFlight.remove(key, execution);
+            execution.complete(response);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${idempotency.cleanup-interval-millis:3600000}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+    }
+
+    private void save(String key, StoredResponse response) {
+        cache.put(key, response);
+        try {
+            repository.save(IdempotencyRecord.builder()
+                    .idempotencyKey(key)
+                    .requestHash(response.requestHash())
+                    .statusCode(response.status())
+                    .contentType(response.contentType())
+                    .responseBody(response.body())
+                    .expiresAt(LocalDateTime.now().plusSeconds(config.getTtlSeconds()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Idempotency key {} was stored concurrently by another node", key);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.akif.shared.idempotency;
+
+/**
+ * A completed response kept for replay, together with the fingerprint of the request that
+ * produced it so a key reused for a different request can be told apart from a retry.
+ */
+public record StoredResponse(String requestHash, int status, String contentType, String body) {}
@@ -0,0 +1,78 @@
+package com.akif.shared.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point money arithmetic on {@code long}. Amounts are minor units (scale 2) and multipliers
+ * and rates are scaled by 10^6. Division rounds HALF_UP exactly like {@code BigDecimal}, and
+ * products use {@link Math#multiplyExact} so an overflow surfaces as {@link ArithmeticException}
+ * instead of a wrong price. Values that cannot be represented exactly convert to
+ * {@link #NOT_REPRESENTABLE}; callers keep a {@code BigDecimal} path for those and for overflow.
+ */
+public final class MoneyMath {
+
+    public static final int MINOR_UNIT_SCALE = 2;
+    public static final int MULTIPLIER_SCALE = 6;
+    public static final long MULTIPLIER_ONE = 1_000_000L;
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+        100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    private MoneyMath() {
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return toScaledLong(amount, MINOR_UNIT_SCALE);
+    }
+
+    public static long toMultiplier(BigDecimal multiplier) {
+        return toScaledLong(multiplier, MULTIPLIER_SCALE);
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+
+    /**
+     * Applies a multiplier to an amount in minor units, rounding the result HALF_UP to minor units.
+     */
+    public static long multiplyHalfUp(long minorUnits, long multiplier) {
+        return divideHalfUp(Math.multiplyExact(minorUnits, multiplier), MULTIPLIER_ONE);
+    }
+
+    /**
+     * Divides and rounds HALF_UP (ties away from zero), matching {@code BigDecimal.divide} with
+     * {@code RoundingMode.HALF_UP}. Division by zero throws {@link ArithmeticException}.
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    public static long powerOfTen(int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Power of ten out of long range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    private static long toScaledLong(BigDecimal value, int scale) {
+        if (value == null) {
+            return NOT_REPRESENTABLE;
+        }
+        try {
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return NOT_REPRESENTABLE;
+        }
+    }
+}
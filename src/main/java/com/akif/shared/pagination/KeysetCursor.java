@@ -0,0 +1,56 @@
+package com.akif.shared.pagination;
+
+import com.akif.shared.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * The sort key values of the last row a client has seen, carried as an opaque URL-safe token.
+ */
+public record KeysetCursor(List<String> values) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(Object... values) {
+        return new KeysetCursor(Arrays.stream(values).map(String::valueOf).toList());
+    }
+
+    public static KeysetCursor decode(String token, int expectedValues) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            List<String> values = List.of(decoded.split("\\" + SEPARATOR, -1));
+            if (values.size() != expectedValues) {
+                throw new InvalidCursorException(token);
+            }
+            return new KeysetCursor(values);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        byte[] joined = String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined);
+    }
+
+    public long longAt(int index) {
+        try {
+            return Long.parseLong(values.get(index));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(encode());
+        }
+    }
+
+    public LocalDateTime dateTimeAt(int index) {
+        try {
+            return LocalDateTime.parse(values.get(index));
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(encode());
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.akif.shared.security;
 
+import com.akif.shared.idempotency.IdempotencyConfig;
+import com.akif.shared.idempotency.IdempotencyFilter;
+import com.akif.shared.idempotency.IdempotencyStore;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,8 +19,10 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Configuration
 @EnableWebSecurity
@@ -25,13 +32,18 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorrelationIdFilter correlationIdFilter;
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyConfig idempotencyConfig;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/", "/health", "/actuator/health").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/oauth2/authorize/**").permitAll()
@@ -41,12 +53,17 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
                 .requestMatchers(HttpMethod.POST, "/api/rentals/request").hasRole("USER")
+                .requestMatchers(HttpMethod.POST, "/api/rentals/holds").hasRole("USER")
+                .requestMatchers(HttpMethod.DELETE, "/api/rentals/holds/*").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/rentals/waitlist").hasRole("USER")
+                .requestMatchers(HttpMethod.GET, "/api/rentals/waitlist").hasRole("USER")
+                .requestMatchers(HttpMethod.DELETE, "/api/rentals/waitlist/*").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/rentals/*/confirm").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/rentals/*/pickup").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/rentals/*/return").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/rentals/*/cancel").authenticated()
-                .requestMatchers(HttpMethod.GET, "/api/rentals/me").hasRole("USER")
-                .requestMatchers(HttpMethod.GET, "/api/rentals/admin").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/rentals/me", "/api/rentals/me/scroll").hasRole("USER")
+                .requestMatchers(HttpMethod.GET, "/api/rentals/admin", "/api/rentals/admin/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/rentals/*").authenticated()
 
                 .requestMatchers("/api/cars/business/**").hasRole("ADMIN")
@@ -73,8 +90,11 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/exchange-rates/refresh").hasRole("ADMIN")
 
                 .requestMatchers(HttpMethod.GET, "/api/pricing/preview").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/pricing/flexible-dates").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/pricing/strategies").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/pricing/calculate").authenticated()
+                .requestMatchers(HttpMethod.POST, "/api/pricing/reload").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/pricing/simulate").hasRole("ADMIN")
 
                 .requestMatchers("/api/admin/late-returns/**").hasRole("ADMIN")
                 .requestMatchers("/api/admin/rentals/*/penalty/**").hasRole("ADMIN")
@@ -82,7 +102,8 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .addFilterBefore(correlationIdFilter, SecurityContextHolderFilter.class)
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new IdempotencyFilter(idempotencyStore, idempotencyConfig, exceptionResolver), AuthorizationFilter.class);
         
         return http.build();
     }
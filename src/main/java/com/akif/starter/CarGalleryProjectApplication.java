@@ -11,7 +11,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @ComponentScan(basePackages = {"com.akif"})
 @EnableJpaRepositories(basePackages = {"com.akif"})
-@EntityScan(basePackages = {"com.akif"})
+@EntityScan(basePackages = {"com.akif", "org.springframework.modulith.events.jpa"})
 @EnableJpaAuditing
 @EnableCaching
 @EnableScheduling
@@ -0,0 +1,31 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Bookings made before this constraint may already overlap. List them and stop, so they can be
+-- resolved through the cancel flow (which refunds and releases the car) before the constraint is added.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('car %s: rentals %s and %s', a.car_id, a.id, b.id), E'\n' ORDER BY a.car_id, a.id, b.id)
+    INTO conflicts
+    FROM gallery.rentals a
+    JOIN gallery.rentals b
+        ON b.car_id = a.car_id
+        AND b.id > a.id
+        AND daterange(b.start_date, b.end_date, '[]') && daterange(a.start_date, a.end_date, '[]')
+    WHERE a.status IN ('CONFIRMED', 'IN_USE') AND a.is_deleted = false
+      AND b.status IN ('CONFIRMED', 'IN_USE') AND b.is_deleted = false;
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Cannot add ex_rentals_car_overlap, these confirmed or in-use rentals overlap:%', E'\n' || conflicts
+            USING HINT = 'Cancel one rental of each pair, then rerun the migration.';
+    END IF;
+END $$;
+
+ALTER TABLE gallery.rentals
+    ADD CONSTRAINT ex_rentals_car_overlap
+    EXCLUDE USING gist (
+        car_id WITH =,
+        daterange(start_date, end_date, '[]') WITH &&
+    )
+    WHERE (status IN ('CONFIRMED', 'IN_USE') AND is_deleted = false);
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS gallery.booking_holds (
+    id BIGSERIAL PRIMARY KEY,
+    car_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    create_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    version BIGINT DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT fk_booking_hold_car FOREIGN KEY (car_id) REFERENCES gallery.car(id) ON DELETE CASCADE,
+    CONSTRAINT fk_booking_hold_user FOREIGN KEY (user_id) REFERENCES gallery.users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_booking_hold_dates CHECK (end_date >= start_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_hold_car_expiry ON gallery.booking_holds(car_id, expires_at);
+CREATE INDEX IF NOT EXISTS idx_booking_hold_user ON gallery.booking_holds(user_id);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS gallery.idempotency_records (
+    id BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(400) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status_code INTEGER NOT NULL,
+    content_type VARCHAR(100),
+    response_body TEXT,
+    expires_at TIMESTAMP(6) NOT NULL,
+    create_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    version BIGINT DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT uk_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires_at ON gallery.idempotency_records(expires_at);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS gallery.event_publication (
+    id UUID NOT NULL PRIMARY KEY,
+    listener_id TEXT NOT NULL,
+    event_type TEXT NOT NULL,
+    serialized_event TEXT NOT NULL,
+    publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_publication_serialized_event_hash ON gallery.event_publication USING hash (serialized_event);
+CREATE INDEX IF NOT EXISTS idx_event_publication_completion_date ON gallery.event_publication (completion_date);
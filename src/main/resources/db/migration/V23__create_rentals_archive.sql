@@ -0,0 +1,68 @@
+-- Returned and cancelled rentals past the retention window are moved here in batches,
+-- so the operational indexes on rentals only cover rows that can still change.
+-- Columns are listed explicitly: a column added to rentals later must be added here, to the
+-- archiver's INSERT and to the rental_history view in the same migration.
+CREATE TABLE IF NOT EXISTS gallery.rentals_archive (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    car_id BIGINT NOT NULL,
+
+    car_brand VARCHAR(50) NOT NULL,
+    car_model VARCHAR(50) NOT NULL,
+    car_license_plate VARCHAR(11) NOT NULL,
+
+    user_email VARCHAR(255) NOT NULL,
+    user_full_name VARCHAR(255) NOT NULL,
+
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    days INTEGER NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    daily_price DECIMAL(12,2) NOT NULL,
+    total_price DECIMAL(12,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    pickup_notes TEXT,
+    return_notes TEXT,
+
+    pickup_reminder_sent BOOLEAN DEFAULT FALSE,
+    return_reminder_sent BOOLEAN DEFAULT FALSE,
+
+    late_return_status VARCHAR(20),
+    late_detected_at TIMESTAMP(6),
+    actual_return_time TIMESTAMP(6),
+    late_hours INTEGER,
+    penalty_amount DECIMAL(12,2),
+    penalty_paid BOOLEAN DEFAULT FALSE,
+
+    has_damage_reports BOOLEAN NOT NULL DEFAULT FALSE,
+    damage_reports_count INTEGER NOT NULL DEFAULT 0,
+
+    create_time TIMESTAMP(6) NOT NULL,
+    update_time TIMESTAMP(6) NOT NULL,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    version BIGINT DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+
+    CONSTRAINT pk_rentals_archive PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rentals_archive_user ON gallery.rentals_archive(user_id, create_time);
+
+-- Payments must survive their rental moving to the archive; the cascade would delete them
+ALTER TABLE gallery.payments DROP CONSTRAINT IF EXISTS fk_payment_rental;
+
+CREATE OR REPLACE VIEW gallery.rental_history AS
+SELECT id, user_id, car_id, car_brand, car_model, car_license_plate, user_email, user_full_name,
+       start_date, end_date, days, currency, daily_price, total_price, status, pickup_notes, return_notes,
+       pickup_reminder_sent, return_reminder_sent, late_return_status, late_detected_at, actual_return_time,
+       late_hours, penalty_amount, penalty_paid, has_damage_reports, damage_reports_count,
+       create_time, update_time, created_by, updated_by, version, is_deleted
+FROM gallery.rentals
+UNION ALL
+SELECT id, user_id, car_id, car_brand, car_model, car_license_plate, user_email, user_full_name,
+       start_date, end_date, days, currency, daily_price, total_price, status, pickup_notes, return_notes,
+       pickup_reminder_sent, return_reminder_sent, late_return_status, late_detected_at, actual_return_time,
+       late_hours, penalty_amount, penalty_paid, has_damage_reports, damage_reports_count,
+       create_time, update_time, created_by, updated_by, version, is_deleted
+FROM gallery.rentals_archive;
@@ -0,0 +1,25 @@
+-- Composite indexes for customer history and the admin rental search. Each one ends in the
+-- keyset sort column, so a cursor page is a single index range scan however deep it is.
+-- They replace the single-column indexes on the same leading column.
+DROP INDEX IF EXISTS gallery.idx_rentals_user;
+CREATE INDEX IF NOT EXISTS idx_rentals_user_created ON gallery.rentals(user_id, create_time, id);
+
+DROP INDEX IF EXISTS gallery.idx_rentals_status;
+CREATE INDEX IF NOT EXISTS idx_rentals_status_id ON gallery.rentals(status, id);
+
+DROP INDEX IF EXISTS gallery.idx_rentals_car;
+CREATE INDEX IF NOT EXISTS idx_rentals_car_id ON gallery.rentals(car_id, id);
+
+DROP INDEX IF EXISTS gallery.idx_rentals_user_email;
+CREATE INDEX IF NOT EXISTS idx_rentals_user_email_id ON gallery.rentals(user_email, id);
+
+DROP INDEX IF EXISTS gallery.idx_rentals_car_license_plate;
+CREATE INDEX IF NOT EXISTS idx_rentals_car_license_plate_id ON gallery.rentals(car_license_plate, id);
+
+-- Most rentals are never late, so only index the ones that are
+DROP INDEX IF EXISTS gallery.idx_rentals_late_status;
+CREATE INDEX IF NOT EXISTS idx_rentals_late_status_id ON gallery.rentals(late_return_status, id)
+    WHERE late_return_status IS NOT NULL;
+
+DROP INDEX IF EXISTS gallery.idx_rentals_archive_user;
+CREATE INDEX IF NOT EXISTS idx_rentals_archive_user_created ON gallery.rentals_archive(user_id, create_time, id);
@@ -0,0 +1,5 @@
+-- Range indexes for the admin exports, which stream a create_time window in (create_time, id)
+-- order. Damage exports use the existing idx_damage_reports_reported_at.
+CREATE INDEX IF NOT EXISTS idx_rentals_create_time_id ON gallery.rentals(create_time, id);
+CREATE INDEX IF NOT EXISTS idx_rentals_archive_create_time_id ON gallery.rentals_archive(create_time, id);
+CREATE INDEX IF NOT EXISTS idx_payments_create_time_id ON gallery.payments(create_time, id);
@@ -0,0 +1,29 @@
+-- Customers waiting for a sold-out car (car_id) or any car of a body type (body_type).
+-- Matching runs against an in-memory interval index rebuilt from the WAITING rows on startup.
+CREATE TABLE IF NOT EXISTS gallery.waitlist_entries (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    car_id BIGINT,
+    body_type VARCHAR(50),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    offered_car_id BIGINT,
+    offered_hold_id BIGINT,
+    offered_at TIMESTAMP(6),
+    create_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_time TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    version BIGINT DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT fk_waitlist_user FOREIGN KEY (user_id) REFERENCES gallery.users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_waitlist_car FOREIGN KEY (car_id) REFERENCES gallery.car(id) ON DELETE CASCADE,
+    CONSTRAINT chk_waitlist_target CHECK ((car_id IS NULL) <> (body_type IS NULL)),
+    CONSTRAINT chk_waitlist_dates CHECK (end_date >= start_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_waitlist_status_start ON gallery.waitlist_entries(status, start_date);
+CREATE INDEX IF NOT EXISTS idx_waitlist_user ON gallery.waitlist_entries(user_id, create_time);
+CREATE INDEX IF NOT EXISTS idx_waitlist_create_time ON gallery.waitlist_entries(create_time);
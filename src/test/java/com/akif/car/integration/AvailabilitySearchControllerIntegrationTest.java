@@ -6,6 +6,8 @@ import com.akif.car.domain.Car;
 import com.akif.car.domain.enums.CarStatusType;
 import com.akif.car.internal.dto.availability.AvailabilitySearchRequest;
 import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchCache;
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.domain.model.Rental;
 import com.akif.rental.internal.repository.RentalRepository;
@@ -60,6 +62,12 @@ class AvailabilitySearchControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AvailabilitySearchCache availabilitySearchCache;
+
+    @Autowired
+    private SimilarCarIndex similarCarIndex;
+
     private Car availableCar;
     private Car unavailableCar;
     private Car maintenanceCar;
@@ -67,6 +75,7 @@ class AvailabilitySearchControllerIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        availabilitySearchCache.invalidateAll();
         rentalRepository.deleteAll();
         carRepository.deleteAll();
         userRepository.deleteAll();
@@ -174,6 +183,7 @@ class AvailabilitySearchControllerIntegrationTest {
                 .isDeleted(false)
                 .build();
         maintenanceCar = carRepository.save(maintenanceCar);
+        similarCarIndex.rebuild();
     }
 
     @Nested
@@ -424,6 +434,7 @@ class AvailabilitySearchControllerIntegrationTest {
                     .isDeleted(false)
                     .build();
             carRepository.save(similarCar);
+            similarCarIndex.rebuild();
 
             mockMvc.perform(get("/api/cars/{id}/similar", availableCar.getId())
                             .param("startDate", LocalDate.now().plusDays(1).toString())
@@ -462,6 +473,7 @@ class AvailabilitySearchControllerIntegrationTest {
                     .isDeleted(false)
                     .build();
             carRepository.save(differentCar);
+            similarCarIndex.rebuild();
 
             mockMvc.perform(get("/api/cars/{id}/similar", differentCar.getId())
                             .param("startDate", LocalDate.now().plusDays(1).toString())
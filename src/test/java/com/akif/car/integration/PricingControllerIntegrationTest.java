@@ -3,6 +3,7 @@ package com.akif.car.integration;
 import com.akif.car.domain.Car;
 import com.akif.car.domain.enums.CarStatusType;
 import com.akif.car.internal.dto.pricing.PricingRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationRequest;
 import com.akif.car.internal.repository.CarRepository;
 import com.akif.shared.enums.CurrencyType;
 import com.akif.starter.CarGalleryProjectApplication;
@@ -22,6 +23,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -189,7 +192,9 @@ class PricingControllerIntegrationTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.basePrice").value(500))
                     .andExpect(jsonPath("$.rentalDays").value(6))
-                    .andExpect(jsonPath("$.finalPrice").isNumber());
+                    .andExpect(jsonPath("$.finalPrice").isNumber())
+                    .andExpect(jsonPath("$.quoteToken").isString())
+                    .andExpect(jsonPath("$.quoteExpiresAt").exists());
         }
 
         @Test
@@ -224,6 +229,53 @@ class PricingControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/pricing/flexible-dates")
+    class FlexibleDates {
+
+        @Test
+        @DisplayName("Should return cheapest windows without authentication")
+        void shouldReturnCheapestWindows() throws Exception {
+            LocalDate preferred = LocalDate.now().plusDays(20);
+
+            mockMvc.perform(get("/api/pricing/flexible-dates")
+                            .param("carId", testCar.getId().toString())
+                            .param("preferredStartDate", preferred.toString())
+                            .param("rentalDays", "5")
+                            .param("flexDays", "3")
+                            .param("limit", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.carId").value(testCar.getId()))
+                    .andExpect(jsonPath("$.rentalDays").value(5))
+                    .andExpect(jsonPath("$.availableStartDates").value(7))
+                    .andExpect(jsonPath("$.preferredPrice").isNumber())
+                    .andExpect(jsonPath("$.options.length()").value(3))
+                    .andExpect(jsonPath("$.options[0].finalPrice").isNumber());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for out of range flex days")
+        void shouldReturn400ForInvalidFlexDays() throws Exception {
+            mockMvc.perform(get("/api/pricing/flexible-dates")
+                            .param("carId", testCar.getId().toString())
+                            .param("preferredStartDate", LocalDate.now().plusDays(20).toString())
+                            .param("rentalDays", "5")
+                            .param("flexDays", "45"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return 404 when car not found")
+        void shouldReturn404WhenCarNotFound() throws Exception {
+            mockMvc.perform(get("/api/pricing/flexible-dates")
+                            .param("carId", "99999")
+                            .param("preferredStartDate", LocalDate.now().plusDays(20).toString())
+                            .param("rentalDays", "5"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/pricing/strategies")
     class GetEnabledStrategies {
@@ -250,6 +302,85 @@ class PricingControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/pricing/reload")
+    class ReloadConfig {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should reload pricing config and return enabled strategies for admin")
+        void shouldReloadPricingConfigForAdmin() throws Exception {
+            mockMvc.perform(post("/api/pricing/reload")
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").isArray())
+                    .andExpect(jsonPath("$[0].name").value("Season Pricing"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 403 when a non-admin reloads pricing config")
+        void shouldReturn403WhenNonAdminReloads() throws Exception {
+            mockMvc.perform(post("/api/pricing/reload")
+                            .with(csrf()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/pricing/simulate")
+    class SimulatePricing {
+
+        private PricingSimulationRequest simulationRequest() {
+            return new PricingSimulationRequest(
+                    Map.of("pricing.season.peak.multiplier", "1.35"),
+                    LocalDate.now().plusDays(1),
+                    30,
+                    List.of(3, 7)
+            );
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return fleet revenue deltas for admin")
+        void shouldSimulateForAdmin() throws Exception {
+            mockMvc.perform(post("/api/pricing/simulate")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(simulationRequest())))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cars").value(1))
+                    .andExpect(jsonPath("$.totals.length()").value(1))
+                    .andExpect(jsonPath("$.totals[0].quotes").value(60))
+                    .andExpect(jsonPath("$.byTripLength.length()").value(2));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("Should return 400 for an unknown pricing override")
+        void shouldReturn400ForUnknownOverride() throws Exception {
+            PricingSimulationRequest request = new PricingSimulationRequest(
+                    Map.of("pricing.season.peak.bogus", "1.35"), LocalDate.now().plusDays(1), 30, List.of(3));
+
+            mockMvc.perform(post("/api/pricing/simulate")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 403 when a non-admin runs a simulation")
+        void shouldReturn403WhenNonAdminSimulates() throws Exception {
+            mockMvc.perform(post("/api/pricing/simulate")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(simulationRequest())))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("Security Tests")
     class SecurityTests {
@@ -0,0 +1,179 @@
+package com.akif.car.unit.availability;
+
+import com.akif.car.internal.config.AvailabilityConfig;
+import com.akif.car.internal.dto.availability.AvailabilitySearchRequest;
+import com.akif.car.internal.dto.availability.AvailabilitySearchResponse;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchCache;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AvailabilitySearchCache Unit Tests")
+class AvailabilitySearchCacheTest {
+
+    private AvailabilitySearchCache cache;
+    private AtomicInteger loads;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AvailabilitySearchCache(new AvailabilityConfig());
+        loads = new AtomicInteger();
+        today = LocalDate.now();
+    }
+
+    private AvailabilitySearchKey key(int startOffset, int endOffset) {
+        AvailabilitySearchRequest request = AvailabilitySearchRequest.builder()
+                .startDate(today.plusDays(startOffset))
+                .endDate(today.plusDays(endOffset))
+                .build();
+        return AvailabilitySearchKey.of(request, today);
+    }
+
+    private AvailabilitySearchResponse load(AvailabilitySearchKey key) {
+        return cache.get(key, () -> {
+            loads.incrementAndGet();
+            return new AvailabilitySearchResponse(List.of(), 0L, 0, 0, 20,
+                    key.startDate(), key.endDate(), 1);
+        });
+    }
+
+    @Nested
+    @DisplayName("Key Normalization")
+    class KeyNormalization {
+
+        @Test
+        @DisplayName("Should treat requests differing only in case, whitespace and defaults as equal")
+        void shouldNormalizeEquivalentRequests() {
+            AvailabilitySearchRequest first = AvailabilitySearchRequest.builder()
+                    .startDate(today.plusDays(1))
+                    .endDate(today.plusDays(3))
+                    .brand(" Toyota ")
+                    .minPrice(new BigDecimal("500.00"))
+                    .build();
+            AvailabilitySearchRequest second = AvailabilitySearchRequest.builder()
+                    .startDate(today.plusDays(1))
+                    .endDate(today.plusDays(3))
+                    .brand("toyota")
+                    .minPrice(new BigDecimal("500"))
+                    .sortBy("price")
+                    .sortDirection("ASC")
+                    .page(0)
+                    .size(20)
+                    .build();
+
+            assertThat(AvailabilitySearchKey.of(first, today)).isEqualTo(AvailabilitySearchKey.of(second, today));
+        }
+    }
+
+    @Nested
+    @DisplayName("Window Eviction")
+    class WindowEviction {
+
+        @Test
+        @DisplayName("Should serve repeated searches from cache")
+        void shouldServeRepeatedSearchesFromCache() {
+            AvailabilitySearchKey key = key(5, 10);
+
+            load(key);
+            load(key);
+
+            assertThat(loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should evict only entries whose window overlaps the changed dates")
+        void shouldEvictOnlyOverlappingEntries() {
+            AvailabilitySearchKey overlapping = key(5, 10);
+            AvailabilitySearchKey containing = key(1, 30);
+            AvailabilitySearchKey unrelated = key(40, 45);
+            load(overlapping);
+            load(containing);
+            load(unrelated);
+
+            cache.evictOverlapping(today.plusDays(8), today.plusDays(12));
+
+            assertThat(cache.size()).isEqualTo(1);
+            load(unrelated);
+            assertThat(loads.get()).isEqualTo(3);
+            load(overlapping);
+            load(containing);
+            assertThat(loads.get()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should not cache a result loaded while an eviction happened")
+        void shouldNotCacheResultLoadedDuringEviction() {
+            AvailabilitySearchKey key = key(5, 10);
+
+            cache.get(key, () -> {
+                cache.evictOverlapping(today.plusDays(5), today.plusDays(6));
+                return new AvailabilitySearchResponse(List.of(), 0L, 0, 0, 20,
+                        key.startDate(), key.endDate(), 1);
+            });
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep a result loaded while an eviction of other dates happened")
+        void shouldCacheResultLoadedDuringUnrelatedEviction() {
+            AvailabilitySearchKey key = key(5, 10);
+
+            cache.get(key, () -> {
+                cache.evictOverlapping(today.plusDays(20), today.plusDays(25));
+                return new AvailabilitySearchResponse(List.of(), 0L, 0, 0, 20,
+                        key.startDate(), key.endDate(), 1);
+            });
+
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should still evict a cached search whose window started before today")
+        void shouldEvictSearchStartedInThePast() {
+            AvailabilitySearchKey started = key(-1, 3);
+            load(started);
+
+            cache.evictOverlapping(today.plusDays(40), today.plusDays(45));
+            cache.evictOverlapping(today.plusDays(1), today.plusDays(2));
+
+            assertThat(cache.size()).isZero();
+            load(started);
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should index a search stored again after its previous entry was evicted")
+        void shouldIndexSearchStoredAgainAfterEviction() {
+            AvailabilitySearchKey key = key(5, 10);
+            load(key);
+            cache.evictOverlapping(today.plusDays(6), today.plusDays(7));
+            load(key);
+
+            cache.evictOverlapping(today.plusDays(6), today.plusDays(7));
+
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should clear every entry on full invalidation")
+        void shouldClearEveryEntryOnInvalidateAll() {
+            load(key(5, 10));
+            load(key(40, 45));
+
+            cache.invalidateAll();
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.akif.car.api.DayAvailabilityDto;
 import com.akif.car.domain.Car;
 import com.akif.car.domain.enums.AvailabilityStatus;
 import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.config.AvailabilityConfig;
 import com.akif.car.internal.dto.availability.*;
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingResult;
 import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.availability.cache.AvailabilitySearchCache;
 import com.akif.car.internal.service.availability.impl.CarAvailabilityServiceImpl;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
 import com.akif.currency.api.ConversionResult;
@@ -17,6 +19,7 @@ import com.akif.currency.domain.RateSource;
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.domain.model.Rental;
 import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.repository.BookingHoldRepository;
 import com.akif.rental.internal.repository.RentalRepository;
 import com.akif.auth.domain.User;
 import com.akif.shared.enums.CurrencyType;
@@ -27,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -36,7 +40,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,12 +62,18 @@ class CarAvailabilityServiceImplTest {
     @Mock
     private RentalRepository rentalRepository;
 
+    @Mock
+    private BookingHoldRepository bookingHoldRepository;
+
     @Mock
     private DynamicPricingService dynamicPricingService;
 
     @Mock
     private CurrencyConversionService currencyConversionService;
 
+    @Spy
+    private AvailabilitySearchCache availabilitySearchCache = new AvailabilitySearchCache(new AvailabilityConfig());
+
     @InjectMocks
     private CarAvailabilityServiceImpl carAvailabilityService;
 
@@ -116,11 +130,11 @@ class CarAvailabilityServiceImplTest {
             when(carRepository.findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
 
             AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
 
@@ -134,8 +148,10 @@ class CarAvailabilityServiceImplTest {
             verify(carRepository).findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
-            verify(dynamicPricingService).calculatePrice(anyLong(), any(LocalDate.class), 
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class));
+            verify(dynamicPricingService).calculatePrices(eq(List.of(testCar)), any(LocalDate.class), 
+                    any(LocalDate.class), any(LocalDate.class));
+            verify(dynamicPricingService, never()).calculatePrice(anyLong(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class));
         }
 
@@ -153,11 +169,11 @@ class CarAvailabilityServiceImplTest {
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     eq("Toyota"), eq("Corolla"), isNull(), isNull(), eq("Sedan"), isNull(),
                     eq(new BigDecimal("400")), eq(new BigDecimal("600")), isNull(), isNull(), 
-                    any(Pageable.class)))
+                    any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
 
             AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
 
@@ -168,7 +184,7 @@ class CarAvailabilityServiceImplTest {
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     eq("Toyota"), eq("Corolla"), isNull(), isNull(), eq("Sedan"), isNull(),
                     eq(new BigDecimal("400")), eq(new BigDecimal("600")), isNull(), isNull(), 
-                    any(Pageable.class));
+                    any(LocalDateTime.class), any(Pageable.class));
         }
 
         @Test
@@ -189,11 +205,11 @@ class CarAvailabilityServiceImplTest {
             when(carRepository.findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
             when(currencyConversionService.convert(any(BigDecimal.class), 
                     eq(CurrencyType.TRY), eq(CurrencyType.USD)))
                     .thenReturn(dailyConversion, totalConversion);
@@ -213,6 +229,7 @@ class CarAvailabilityServiceImplTest {
         @Test
         @DisplayName("Should respect pagination parameters")
         void shouldRespectPaginationParameters() {
+            searchRequest.setSortBy("productionYear");
             searchRequest.setPage(1);
             searchRequest.setSize(10);
             Page<Car> carPage = new PageImpl<>(List.of(testCar), 
@@ -221,11 +238,11 @@ class CarAvailabilityServiceImplTest {
             when(carRepository.findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
 
             AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
 
@@ -234,6 +251,113 @@ class CarAvailabilityServiceImplTest {
             assertThat(result.totalPages()).isEqualTo(3);
             assertThat(result.totalElements()).isEqualTo(25);
         }
+
+        @Test
+        @DisplayName("Should order by effective price instead of base price")
+        void shouldOrderByEffectivePrice() {
+            Car cheapBase = Car.builder().id(2L).brand("Fiat").model("Egea").price(new BigDecimal("400"))
+                    .currencyType(CurrencyType.TRY).carStatusType(CarStatusType.AVAILABLE).build();
+            Car expensiveBase = Car.builder().id(3L).brand("BMW").model("320i").price(new BigDecimal("450"))
+                    .currencyType(CurrencyType.TRY).carStatusType(CarStatusType.AVAILABLE).build();
+
+            when(carRepository.findAvailableCarsForDateRange(
+                    any(LocalDate.class), any(LocalDate.class), anyList(),
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), eq(Pageable.unpaged())))
+                    .thenReturn(new PageImpl<>(List.of(testCar, cheapBase, expensiveBase)));
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class),
+                    any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(Map.of(
+                            1L, pricingResult,
+                            2L, priced("400", "2400"),
+                            3L, priced("450", "2025")));
+
+            AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
+
+            assertThat(result.cars()).extracting(AvailableCarDto::id).containsExactly(3L, 1L, 2L);
+            assertThat(result.totalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should page through effective price order in descending direction")
+        void shouldPageThroughEffectivePriceOrder() {
+            List<Car> cars = new ArrayList<>();
+            Map<Long, PricingResult> prices = new HashMap<>();
+            for (long id = 1; id <= 25; id++) {
+                cars.add(Car.builder().id(id).brand("Brand" + id).model("Model").price(new BigDecimal("100"))
+                        .currencyType(CurrencyType.TRY).carStatusType(CarStatusType.AVAILABLE).build());
+                prices.put(id, priced("100", String.valueOf(1000 + (id * 7) % 25)));
+            }
+            searchRequest.setSortDirection("desc");
+            searchRequest.setPage(1);
+            searchRequest.setSize(10);
+
+            when(carRepository.findAvailableCarsForDateRange(
+                    any(LocalDate.class), any(LocalDate.class), anyList(),
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), eq(Pageable.unpaged())))
+                    .thenReturn(new PageImpl<>(cars));
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class),
+                    any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(prices);
+
+            AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
+
+            assertThat(result.cars()).hasSize(10);
+            assertThat(result.cars()).extracting(AvailableCarDto::totalPrice)
+                    .isSortedAccordingTo(Comparator.reverseOrder());
+            assertThat(result.cars().get(0).totalPrice()).isEqualByComparingTo("1014");
+            assertThat(result.currentPage()).isEqualTo(1);
+            assertThat(result.totalPages()).isEqualTo(3);
+            assertThat(result.totalElements()).isEqualTo(25);
+        }
+
+        @Test
+        @DisplayName("Should return an empty page when the price-sorted offset overflows int")
+        void shouldReturnEmptyPageWhenPriceSortedOffsetOverflows() {
+            Car other = Car.builder().id(2L).brand("Fiat").model("Egea").price(new BigDecimal("400"))
+                    .currencyType(CurrencyType.TRY).carStatusType(CarStatusType.AVAILABLE).build();
+            searchRequest.setPage(Integer.MAX_VALUE / 50);
+            searchRequest.setSize(100);
+
+            when(carRepository.findAvailableCarsForDateRange(
+                    any(LocalDate.class), any(LocalDate.class), anyList(),
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), eq(Pageable.unpaged())))
+                    .thenReturn(new PageImpl<>(List.of(testCar, other)));
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class),
+                    any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(Map.of(1L, pricingResult, 2L, priced("400", "2400")));
+
+            AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
+
+            assertThat(result.cars()).isEmpty();
+            assertThat(result.totalElements()).isEqualTo(2);
+            assertThat(result.totalPages()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should serve identical searches from cache")
+        void shouldServeIdenticalSearchesFromCache() {
+            Page<Car> carPage = new PageImpl<>(List.of(testCar));
+            when(carRepository.findAvailableCarsForDateRange(
+                    any(LocalDate.class), any(LocalDate.class), anyList(),
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(carPage);
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
+                    any(LocalDate.class), any(LocalDate.class)))
+                    .thenReturn(Map.of(1L, pricingResult));
+
+            AvailabilitySearchResponse first = carAvailabilityService.searchAvailableCars(searchRequest);
+            AvailabilitySearchResponse second = carAvailabilityService.searchAvailableCars(searchRequest);
+
+            assertThat(second).isSameAs(first);
+            verify(carRepository, times(1)).findAvailableCarsForDateRange(
+                    any(LocalDate.class), any(LocalDate.class), anyList(),
+                    isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class));
+        }
     }
 
     @Nested
@@ -251,7 +375,7 @@ class CarAvailabilityServiceImplTest {
 
             verify(carRepository, never()).findAvailableCarsForDateRange(
                     any(), any(), any(), any(), any(), any(), any(), any(), any(), 
-                    any(), any(), any(), any(), any());
+                    any(), any(), any(), any(), any(), any());
         }
 
         @Test
@@ -348,6 +472,22 @@ class CarAvailabilityServiceImplTest {
             verify(rentalRepository).countOverlappingRentals(1L, startDate, endDate);
         }
 
+        @Test
+        @DisplayName("Should return false when another customer holds the dates")
+        void shouldReturnFalseWhenCarIsHeld() {
+            LocalDate startDate = LocalDate.now().plusDays(1);
+            LocalDate endDate = LocalDate.now().plusDays(5);
+
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            when(rentalRepository.countOverlappingRentals(1L, startDate, endDate)).thenReturn(0L);
+            when(bookingHoldRepository.countActiveHolds(eq(1L), eq(startDate), eq(endDate), any(LocalDateTime.class)))
+                    .thenReturn(1L);
+
+            boolean result = carAvailabilityService.isCarAvailable(1L, startDate, endDate);
+
+            assertThat(result).isFalse();
+        }
+
         @Test
         @DisplayName("Should throw exception when car not found")
         void shouldThrowExceptionWhenCarNotFound() {
@@ -488,11 +628,11 @@ class CarAvailabilityServiceImplTest {
             when(carRepository.findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
 
             AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
 
@@ -504,8 +644,8 @@ class CarAvailabilityServiceImplTest {
             assertThat(carDto.appliedDiscounts()).isNotEmpty();
             assertThat(carDto.appliedDiscounts()).contains("Early booking discount");
 
-            verify(dynamicPricingService).calculatePrice(
-                    eq(1L), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class));
+            verify(dynamicPricingService).calculatePrices(
+                    eq(List.of(testCar)), any(LocalDate.class), any(LocalDate.class), any(LocalDate.class));
         }
 
         @Test
@@ -515,22 +655,32 @@ class CarAvailabilityServiceImplTest {
             when(carRepository.findAvailableCarsForDateRange(
                     any(LocalDate.class), any(LocalDate.class), anyList(),
                     isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
-                    isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                    isNull(), isNull(), isNull(), isNull(), any(LocalDateTime.class), any(Pageable.class)))
                     .thenReturn(carPage);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
+            when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class), 
                     any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+                    .thenReturn(Map.of(1L, pricingResult));
 
             AvailabilitySearchResponse result = carAvailabilityService.searchAvailableCars(searchRequest);
 
             assertThat(result.cars().get(0).dailyRate()).isEqualTo(pricingResult.effectiveDailyPrice());
             assertThat(result.cars().get(0).totalPrice()).isEqualTo(pricingResult.finalPrice());
 
-            verify(dynamicPricingService).calculatePrice(
-                    eq(testCar.getId()), 
+            verify(dynamicPricingService).calculatePrices(
+                    eq(List.of(testCar)), 
                     eq(searchRequest.getStartDate()), 
                     eq(searchRequest.getEndDate()), 
                     any(LocalDate.class));
         }
     }
+
+    private PricingResult priced(String basePrice, String finalPrice) {
+        return PricingResult.builder()
+                .basePrice(new BigDecimal(basePrice))
+                .rentalDays(5)
+                .appliedModifiers(List.of())
+                .combinedMultiplier(BigDecimal.ONE)
+                .finalPrice(new BigDecimal(finalPrice))
+                .build();
+    }
 }
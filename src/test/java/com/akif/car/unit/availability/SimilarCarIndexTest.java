@@ -0,0 +1,123 @@
+package com.akif.car.unit.availability;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
+import com.akif.shared.enums.CurrencyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SimilarCarIndex Unit Tests")
+class SimilarCarIndexTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    private SimilarCarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SimilarCarIndex(carRepository);
+    }
+
+    @Test
+    @DisplayName("Should return neighbours ordered by distance and excluding the query car")
+    void shouldReturnNeighboursOrderedByDistance() {
+        index.rebuild(List.of(
+                car(1L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(2L, "Toyota", "Sedan", "1050", 2020, CarStatusType.AVAILABLE),
+                car(3L, "Honda", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(4L, "Fiat", "Hatchback", "300", 2012, CarStatusType.AVAILABLE)));
+
+        List<SimilarCarIndex.Neighbor> neighbors = index.findNearest(1L, 3);
+
+        assertThat(neighbors).extracting(SimilarCarIndex.Neighbor::carId).containsExactly(2L, 3L, 4L);
+        assertThat(neighbors.get(0).similarityScore()).isGreaterThan(neighbors.get(2).similarityScore());
+    }
+
+    @Test
+    @DisplayName("Should give identical cars a perfect score")
+    void shouldGiveIdenticalCarsPerfectScore() {
+        index.rebuild(List.of(
+                car(1L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(2L, "toyota ", "SEDAN", "1000", 2020, CarStatusType.AVAILABLE),
+                car(3L, "Fiat", "Hatchback", "300", 2012, CarStatusType.AVAILABLE)));
+
+        SimilarCarIndex.Neighbor nearest = index.findNearest(1L, 1).get(0);
+
+        assertThat(nearest.carId()).isEqualTo(2L);
+        assertThat(nearest.distance()).isZero();
+        assertThat(nearest.similarityScore()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should skip cars in a blocking status")
+    void shouldSkipBlockedCars() {
+        index.rebuild(List.of(
+                car(1L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(2L, "Toyota", "Sedan", "1000", 2020, CarStatusType.MAINTENANCE),
+                car(3L, "Honda", "Sedan", "1000", 2020, CarStatusType.RESERVED)));
+
+        assertThat(index.findNearest(1L, 5)).extracting(SimilarCarIndex.Neighbor::carId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should apply upserts and removals to subsequent lookups")
+    void shouldApplyUpsertsAndRemovals() {
+        index.rebuild(List.of(
+                car(1L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(2L, "Fiat", "Hatchback", "300", 2012, CarStatusType.AVAILABLE)));
+
+        index.upsert(car(3L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE));
+        assertThat(index.findNearest(1L, 1)).extracting(SimilarCarIndex.Neighbor::carId).containsExactly(3L);
+
+        index.remove(3L);
+        assertThat(index.contains(3L)).isFalse();
+        assertThat(index.findNearest(1L, 1)).extracting(SimilarCarIndex.Neighbor::carId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should load the active fleet from the repository on rebuild")
+    void shouldLoadFleetOnRebuild() {
+        when(carRepository.findByIsDeletedFalse(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(
+                car(1L, "Toyota", "Sedan", "1000", 2020, CarStatusType.AVAILABLE),
+                car(2L, "Honda", "Sedan", "900", 2019, CarStatusType.AVAILABLE))));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findNearest(99L, 5)).isEmpty();
+    }
+
+    private Car car(Long id, String brand, String bodyType, String price, int year, CarStatusType status) {
+        return Car.builder()
+                .id(id)
+                .licensePlate("34IDX" + id)
+                .brand(brand)
+                .model("Model")
+                .productionYear(year)
+                .bodyType(bodyType)
+                .fuelType("Gasoline")
+                .transmissionType("Automatic")
+                .seats(5)
+                .price(new BigDecimal(price))
+                .currencyType(CurrencyType.TRY)
+                .carStatusType(status)
+                .isDeleted(false)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.internal.repository.CarRepository;
 import com.akif.car.internal.service.availability.CarAvailabilityService;
 import com.akif.car.internal.service.availability.impl.SimilarCarServiceImpl;
+import com.akif.car.internal.service.availability.similarity.SimilarCarIndex;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
 import com.akif.shared.enums.CurrencyType;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,17 +17,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +35,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
 @DisplayName("SimilarCarServiceImpl Unit Tests")
 class SimilarCarServiceImplTest {
 
@@ -47,13 +48,15 @@ class SimilarCarServiceImplTest {
     @Mock
     private DynamicPricingService dynamicPricingService;
 
-    @InjectMocks
+    private SimilarCarIndex similarCarIndex;
+
     private SimilarCarServiceImpl similarCarService;
 
     private Car referenceCar;
     private Car similarCar1;
     private Car similarCar2;
     private Car similarCar3;
+    private Car hatchback;
     private PricingResult pricingResult;
     private LocalDate startDate;
     private LocalDate endDate;
@@ -119,6 +122,19 @@ class SimilarCarServiceImplTest {
                 .isDeleted(false)
                 .build();
 
+        hatchback = Car.builder()
+                .id(5L)
+                .licensePlate("34MNO345")
+                .brand("Fiat")
+                .model("Panda")
+                .productionYear(2015)
+                .bodyType("Hatchback")
+                .price(new BigDecimal("400"))
+                .currencyType(CurrencyType.TRY)
+                .carStatusType(CarStatusType.AVAILABLE)
+                .isDeleted(false)
+                .build();
+
         pricingResult = PricingResult.builder()
                 .basePrice(new BigDecimal("500"))
                 .rentalDays(5)
@@ -126,6 +142,36 @@ class SimilarCarServiceImplTest {
                 .combinedMultiplier(new BigDecimal("0.9"))
                 .finalPrice(new BigDecimal("2250"))
                 .build();
+
+        similarCarIndex = new SimilarCarIndex(carRepository);
+        similarCarService = new SimilarCarServiceImpl(
+                carRepository, carAvailabilityService, dynamicPricingService, similarCarIndex);
+    }
+
+    private void indexFleet(Car... cars) {
+        similarCarIndex.rebuild(List.of(cars));
+        lenient().when(carRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>();
+            ((Iterable<Long>) invocation.getArgument(0)).forEach(ids::add);
+            return Arrays.stream(cars).filter(car -> ids.contains(car.getId())).toList();
+        });
+    }
+
+    private void allCarsAvailable() {
+        when(carAvailabilityService.filterAvailableCars(anyList(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private void priceEveryCar() {
+        when(dynamicPricingService.calculatePrices(anyList(), any(LocalDate.class),
+                any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    Map<Long, PricingResult> results = new HashMap<>();
+                    for (Car car : (List<Car>) invocation.getArgument(0)) {
+                        results.put(car.getId(), pricingResult);
+                    }
+                    return results;
+                });
     }
 
     @Nested
@@ -135,9 +181,9 @@ class SimilarCarServiceImplTest {
         @Test
         @DisplayName("Should return max 5 similar cars when more available")
         void shouldReturnMax5SimilarCarsWhenMoreAvailable() {
-            List<Car> manyCars = new ArrayList<>();
+            List<Car> fleet = new ArrayList<>(List.of(referenceCar));
             for (int i = 0; i < 10; i++) {
-                Car car = Car.builder()
+                fleet.add(Car.builder()
                         .id((long) (i + 10))
                         .licensePlate("34TEST" + i)
                         .brand("Toyota")
@@ -147,222 +193,127 @@ class SimilarCarServiceImplTest {
                         .currencyType(CurrencyType.TRY)
                         .carStatusType(CarStatusType.AVAILABLE)
                         .isDeleted(false)
-                        .build();
-                manyCars.add(car);
+                        .build());
             }
-
-            Page<Car> carPage = new PageImpl<>(manyCars);
+            indexFleet(fleet.toArray(Car[]::new));
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+            allCarsAvailable();
+            priceEveryCar();
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
             assertThat(result).hasSize(5);
+            assertThat(result).extracting(SimilarCarDto::id).doesNotContain(1L);
             verify(carRepository).findByIdAndIsDeletedFalse(1L);
-            verify(carRepository).findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class));
         }
 
         @Test
-        @DisplayName("Should filter by same body type")
-        void shouldFilterBySameBodyType() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1, similarCar2));
+        @DisplayName("Should rank nearest neighbours ahead of dissimilar cars")
+        void shouldRankNearestNeighboursFirst() {
+            indexFleet(referenceCar, hatchback, similarCar3, similarCar1, similarCar2);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    eq("Sedan"), any(BigDecimal.class), any(BigDecimal.class), 
-                    eq(1L), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+            allCarsAvailable();
+            priceEveryCar();
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
-            assertThat(result).isNotEmpty();
-            assertThat(result).allMatch(car -> car.similarityReasons().contains("Same body type"));
-            verify(carRepository).findSimilarCars(
-                    eq("Sedan"), any(BigDecimal.class), any(BigDecimal.class), 
-                    eq(1L), anyList(), any(Pageable.class));
-        }
-
-        @Test
-        @DisplayName("Should calculate similarity score correctly")
-        void shouldCalculateSimilarityScoreCorrectly() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1, similarCar2, similarCar3));
-
-            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
-
-            List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
-
-            assertThat(result).isNotEmpty();
-
-            SimilarCarDto car1 = result.stream()
-                    .filter(c -> c.id().equals(2L))
-                    .findFirst()
-                    .orElseThrow();
-            assertThat(car1.similarityScore()).isEqualTo(100);
-            assertThat(car1.similarityReasons()).containsExactlyInAnyOrder(
+            assertThat(result).extracting(SimilarCarDto::id).containsExactly(2L, 3L, 4L, 5L);
+            assertThat(result.get(0).similarityReasons()).containsExactlyInAnyOrder(
                     "Same brand", "Same body type", "Similar price");
-
-            SimilarCarDto car2 = result.stream()
-                    .filter(c -> c.id().equals(3L))
-                    .findFirst()
-                    .orElseThrow();
-            assertThat(car2.similarityScore()).isEqualTo(70);
-            assertThat(car2.similarityReasons()).containsExactlyInAnyOrder(
+            assertThat(result.get(1).similarityReasons()).containsExactlyInAnyOrder(
                     "Same body type", "Similar price");
-
-            SimilarCarDto car3 = result.stream()
-                    .filter(c -> c.id().equals(4L))
-                    .findFirst()
-                    .orElseThrow();
-            assertThat(car3.similarityScore()).isEqualTo(70);
+            assertThat(result.get(3).similarityReasons()).isEmpty();
         }
 
         @Test
-        @DisplayName("Should include similarity reasons for each car")
-        void shouldIncludeSimilarityReasonsForEachCar() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1));
+        @DisplayName("Should sort results by similarity score descending")
+        void shouldSortResultsBySimilarityScoreDescending() {
+            indexFleet(referenceCar, similarCar3, hatchback, similarCar2, similarCar1);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+            allCarsAvailable();
+            priceEveryCar();
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).similarityReasons()).isNotEmpty();
-            assertThat(result.get(0).similarityReasons()).contains("Same brand", "Same body type", "Similar price");
+            assertThat(result).hasSize(4);
+            assertThat(result.get(0).id()).isEqualTo(2L);
+            assertThat(result).extracting(SimilarCarDto::similarityScore)
+                    .allMatch(score -> score >= 0 && score <= 100);
+
+            for (int i = 0; i < result.size() - 1; i++) {
+                assertThat(result.get(i).similarityScore())
+                        .isGreaterThanOrEqualTo(result.get(i + 1).similarityScore());
+            }
         }
 
         @Test
         @DisplayName("Should return empty list when no similar cars available")
         void shouldReturnEmptyListWhenNoSimilarCarsAvailable() {
-            Page<Car> emptyPage = new PageImpl<>(List.of());
+            indexFleet(referenceCar);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(emptyPage);
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
             assertThat(result).isEmpty();
             verify(carRepository).findByIdAndIsDeletedFalse(1L);
-            verify(carRepository).findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class));
+            verify(dynamicPricingService, never()).calculatePrices(anyList(), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should exclude unavailable cars from results")
         void shouldExcludeUnavailableCarsFromResults() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1, similarCar2, similarCar3));
+            indexFleet(referenceCar, similarCar1, similarCar2, similarCar3);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-
-            when(carAvailabilityService.isCarAvailable(eq(2L), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(carAvailabilityService.isCarAvailable(eq(3L), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(false);
-            when(carAvailabilityService.isCarAvailable(eq(4L), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(false);
-            
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+            when(carAvailabilityService.filterAvailableCars(anyList(), any(LocalDate.class), any(LocalDate.class)))
+                    .thenAnswer(invocation -> ((List<Car>) invocation.getArgument(0)).stream()
+                            .filter(car -> car.getId().equals(2L))
+                            .toList());
+            priceEveryCar();
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).id()).isEqualTo(2L);
-            verify(carAvailabilityService, times(3)).isCarAvailable(
-                    anyLong(), any(LocalDate.class), any(LocalDate.class));
+            verify(carAvailabilityService).filterAvailableCars(anyList(), eq(startDate), eq(endDate));
+            verify(carAvailabilityService, never()).isCarAvailable(anyLong(), any(), any());
         }
 
         @Test
-        @DisplayName("Should sort results by similarity score descending")
-        void shouldSortResultsBySimilarityScoreDescending() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar3, similarCar2, similarCar1));
+        @DisplayName("Should widen the neighbour search when the nearest cars are booked")
+        void shouldWidenSearchWhenNearestCarsAreBooked() {
+            indexFleet(referenceCar, similarCar1, similarCar2, similarCar3, hatchback);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
-
-            List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
+            when(carAvailabilityService.filterAvailableCars(anyList(), any(LocalDate.class), any(LocalDate.class)))
+                    .thenAnswer(invocation -> ((List<Car>) invocation.getArgument(0)).stream()
+                            .filter(car -> car.getId().equals(5L))
+                            .toList());
+            priceEveryCar();
 
-            assertThat(result).hasSize(3);
-            assertThat(result.get(0).id()).isEqualTo(2L);
-            assertThat(result.get(0).similarityScore()).isEqualTo(100);
+            List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 1);
 
-            for (int i = 0; i < result.size() - 1; i++) {
-                assertThat(result.get(i).similarityScore())
-                        .isGreaterThanOrEqualTo(result.get(i + 1).similarityScore());
-            }
+            assertThat(result).extracting(SimilarCarDto::id).containsExactly(5L);
+            verify(carAvailabilityService, times(2)).filterAvailableCars(anyList(), any(), any());
         }
 
         @Test
-        @DisplayName("Should calculate price range correctly (±20%)")
-        void shouldCalculatePriceRangeCorrectly() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1));
+        @DisplayName("Should index the reference car when it is missing from the index")
+        void shouldIndexReferenceCarWhenMissing() {
+            indexFleet(similarCar1, similarCar2);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    eq("Sedan"), any(BigDecimal.class), any(BigDecimal.class), 
-                    eq(1L), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
-
-            similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
-
-            verify(carRepository).findSimilarCars(
-                    eq("Sedan"), any(BigDecimal.class), any(BigDecimal.class), 
-                    eq(1L), anyList(), any(Pageable.class));
+            allCarsAvailable();
+            priceEveryCar();
+
+            List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
+
+            assertThat(similarCarIndex.contains(1L)).isTrue();
+            assertThat(result).extracting(SimilarCarDto::id).containsExactlyInAnyOrder(2L, 3L);
         }
 
         @Test
@@ -374,25 +325,17 @@ class SimilarCarServiceImplTest {
                     .isInstanceOf(CarNotFoundException.class);
 
             verify(carRepository).findByIdAndIsDeletedFalse(999L);
-            verify(carRepository, never()).findSimilarCars(
-                    anyString(), any(), any(), anyLong(), anyList(), any());
+            verify(carRepository, never()).findAllById(anyIterable());
         }
 
         @Test
         @DisplayName("Should include pricing information for each similar car")
         void shouldIncludePricingInformationForEachSimilarCar() {
-            Page<Car> carPage = new PageImpl<>(List.of(similarCar1));
+            indexFleet(referenceCar, similarCar1);
 
             when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(referenceCar));
-            when(carRepository.findSimilarCars(
-                    anyString(), any(BigDecimal.class), any(BigDecimal.class), 
-                    anyLong(), anyList(), any(Pageable.class)))
-                    .thenReturn(carPage);
-            when(carAvailabilityService.isCarAvailable(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(true);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(LocalDate.class), 
-                    any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(pricingResult);
+            allCarsAvailable();
+            priceEveryCar();
 
             List<SimilarCarDto> result = similarCarService.findSimilarAvailableCars(1L, startDate, endDate, 5);
 
@@ -404,8 +347,8 @@ class SimilarCarServiceImplTest {
             assertThat(car.dailyRate()).isEqualTo(pricingResult.effectiveDailyPrice());
             assertThat(car.totalPrice()).isEqualTo(pricingResult.finalPrice());
 
-            verify(dynamicPricingService).calculatePrice(
-                    eq(2L), eq(startDate), eq(endDate), any(LocalDate.class));
+            verify(dynamicPricingService).calculatePrices(
+                    eq(List.of(similarCar1)), eq(startDate), eq(endDate), any(LocalDate.class));
         }
     }
 }
@@ -0,0 +1,49 @@
+package com.akif.car.unit.availability;
+
+import com.akif.car.internal.service.availability.ranking.TopNSelector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopNSelector Unit Tests")
+class TopNSelectorTest {
+
+    @Test
+    @DisplayName("Should match a full sort for every page")
+    void shouldMatchFullSortForEveryPage() {
+        List<Integer> values = new ArrayList<>(IntStream.range(0, 1000).boxed().toList());
+        Collections.shuffle(values, new Random(42));
+        List<Integer> sorted = values.stream().sorted().toList();
+
+        for (int page = 0; page < 11; page++) {
+            int from = Math.min(page * 100, sorted.size());
+            int to = Math.min(from + 100, sorted.size());
+
+            assertThat(TopNSelector.select(values, Comparator.naturalOrder(), page * 100, 100))
+                    .containsExactlyElementsOf(sorted.subList(from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return partial last page")
+    void shouldReturnPartialLastPage() {
+        List<Integer> result = TopNSelector.select(List.of(5, 3, 9, 1, 7), Comparator.reverseOrder(), 3, 3);
+
+        assertThat(result).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("Should return empty list when offset is past the end")
+    void shouldReturnEmptyWhenOffsetPastEnd() {
+        assertThat(TopNSelector.select(List.of(1, 2, 3), Comparator.naturalOrder(), 3, 10)).isEmpty();
+        assertThat(TopNSelector.select(List.<Integer>of(), Comparator.naturalOrder(), 0, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,215 @@
+package com.akif.car.unit.pricing;
+
+import com.akif.car.domain.Car;
+import com.akif.car.internal.dto.pricing.PriceModifier;
+import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.impl.DynamicPricingServiceImpl;
+import com.akif.car.internal.service.pricing.strategy.SeasonPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.WeekendPricingStrategy;
+import com.akif.rental.internal.config.PricingConfig;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.From;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the fixed-point pricing kernel gives exactly the results of the original
+ * {@code BigDecimal} arithmetic, including scale, for arbitrary prices, multipliers and windows.
+ */
+@Label("Fixed-Point Pricing Property Tests")
+class FixedPointPricingPropertyTest {
+
+
+    private static Arbitrary<BigDecimal> decimals(String min, String max, int maxScale) {
+        return Arbitraries.integers().between(0, maxScale).flatMap(scale -> Arbitraries.longs()
+                .between(new BigDecimal(min).setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact(),
+                        new BigDecimal(max).setScale(scale, RoundingMode.FLOOR).unscaledValue().longValueExact())
+                .map(unscaled -> BigDecimal.valueOf(unscaled, scale)));
+    }
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Property
+    @Label("Quote results match BigDecimal pricing")
+    void quoteMatchesBigDecimalPricing(@ForAll("prices") BigDecimal basePrice,
+                                       @ForAll @IntRange(min = 1, max = 365) int rentalDays,
+                                       @ForAll @Size(max = 5) List<@From("multipliers") BigDecimal> multipliers,
+                                       @ForAll("prices") BigDecimal minDailyPrice,
+                                       @ForAll("prices") BigDecimal maxDailyPrice) {
+        PricingConfig config = new PricingConfig();
+        config.setMinDailyPrice(minDailyPrice.min(maxDailyPrice));
+        config.setMaxDailyPrice(minDailyPrice.max(maxDailyPrice));
+
+        List<PricingStrategy> strategies = new ArrayList<>();
+        List<PriceModifier> modifiers = new ArrayList<>();
+        for (int i = 0; i < multipliers.size(); i++) {
+            PriceModifier modifier = new PriceModifier("Strategy " + i, multipliers.get(i), "Fixed", false);
+            modifiers.add(modifier);
+            strategies.add(new FixedStrategy(modifier, i));
+        }
+
+        DynamicPricingServiceImpl service = new DynamicPricingServiceImpl(
+                strategies, null, config, new PriceQuoteCache(new PricingConfig()));
+        Car car = Car.builder().id(1L).price(basePrice).bodyType("SUV").build();
+
+        PricingResult actual = service.calculateWindowPrices(car, List.of(TODAY.plusDays(10)), rentalDays, TODAY).get(0);
+
+        assertThat(actual).isEqualTo(legacyResult(config, basePrice, rentalDays, modifiers));
+    }
+
+    @Property
+    @Label("Season multipliers match BigDecimal weighting")
+    void seasonMatchesBigDecimalWeighting(@ForAll("multipliers") BigDecimal peakMultiplier,
+                                          @ForAll("multipliers") BigDecimal offpeakMultiplier,
+                                          @ForAll @IntRange(min = 0, max = 700) int startOffset,
+                                          @ForAll @IntRange(min = 1, max = 120) int rentalDays) {
+        PricingConfig config = new PricingConfig();
+        config.getSeason().getPeak().setMultiplier(peakMultiplier);
+        config.getSeason().getOffpeak().setMultiplier(offpeakMultiplier);
+        PricingStrategy strategy = new SeasonPricingStrategy(config, new PricingCalendar(config)).compile();
+
+        PricingContext context = context(startOffset, rentalDays);
+        PricingConfig.SeasonPeriod peak = config.getSeason().getPeak();
+        PricingConfig.SeasonPeriod offpeak = config.getSeason().getOffpeak();
+        int peakDays = 0;
+        int offpeakDays = 0;
+        for (LocalDate day = context.startDate(); !day.isAfter(context.endDate()); day = day.plusDays(1)) {
+            peakDays += PricingCalendar.isDateInSeason(day, peak.getStart(), peak.getEnd()) ? 1 : 0;
+            offpeakDays += PricingCalendar.isDateInSeason(day, offpeak.getStart(), offpeak.getEnd()) ? 1 : 0;
+        }
+
+        PriceModifier actual = strategy.calculate(context);
+
+        if (peakDays == 0 && offpeakDays == 0) {
+            assertThat(actual.multiplier()).isEqualTo(BigDecimal.ONE);
+            return;
+        }
+        BigDecimal expected = peakMultiplier.multiply(BigDecimal.valueOf(peakDays))
+                .add(offpeakMultiplier.multiply(BigDecimal.valueOf(offpeakDays)))
+                .add(BigDecimal.ONE.multiply(BigDecimal.valueOf(rentalDays - peakDays - offpeakDays)))
+                .divide(BigDecimal.valueOf(rentalDays), 4, RoundingMode.HALF_UP);
+        if (expected.compareTo(BigDecimal.ONE) == 0) {
+            assertThat(actual.multiplier()).isEqualTo(BigDecimal.ONE);
+            return;
+        }
+        assertModifier(actual, expected, expected.compareTo(BigDecimal.ONE) < 0);
+    }
+
+    @Property
+    @Label("Weekend multipliers match BigDecimal weighting")
+    void weekendMatchesBigDecimalWeighting(@ForAll("multipliers") BigDecimal weekendMultiplier,
+                                           @ForAll @IntRange(min = 0, max = 700) int startOffset,
+                                           @ForAll @IntRange(min = 1, max = 120) int rentalDays) {
+        PricingConfig config = new PricingConfig();
+        config.getWeekend().setMultiplier(weekendMultiplier);
+        PricingStrategy strategy = new WeekendPricingStrategy(config, new PricingCalendar(config)).compile();
+
+        PricingContext context = context(startOffset, rentalDays);
+        int weekendDays = 0;
+        for (LocalDate day = context.startDate(); !day.isAfter(context.endDate()); day = day.plusDays(1)) {
+            weekendDays += config.getWeekend().getDays().contains(day.getDayOfWeek()) ? 1 : 0;
+        }
+
+        PriceModifier actual = strategy.calculate(context);
+
+        BigDecimal expected = weekendMultiplier.multiply(BigDecimal.valueOf(weekendDays))
+                .add(BigDecimal.ONE.multiply(BigDecimal.valueOf(rentalDays - weekendDays)))
+                .divide(BigDecimal.valueOf(rentalDays), 4, RoundingMode.HALF_UP);
+        if (weekendDays == 0 || expected.compareTo(BigDecimal.ONE) <= 0) {
+            assertThat(actual.multiplier()).isEqualTo(BigDecimal.ONE);
+            return;
+        }
+        assertModifier(actual, expected, false);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> prices() {
+        return decimals("1", "20000", 2);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> multipliers() {
+        return decimals("0.5", "2", 8);
+    }
+
+    private static PricingContext context(int startOffset, int rentalDays) {
+        LocalDate startDate = TODAY.plusDays(startOffset);
+        LocalDate endDate = startDate.plusDays(rentalDays - 1L);
+        return new PricingContext(1L, new BigDecimal("100"), startDate, endDate, TODAY, rentalDays,
+                (int) ChronoUnit.DAYS.between(TODAY, startDate), "SUV");
+    }
+
+    private static void assertModifier(PriceModifier actual, BigDecimal expectedMultiplier, boolean expectedDiscount) {
+        assertThat(actual.multiplier()).isEqualTo(expectedMultiplier);
+        assertThat(actual.isDiscount()).isEqualTo(expectedDiscount);
+        assertThat(BigDecimal.valueOf(actual.scaledMultiplier(), 6)).isEqualByComparingTo(expectedMultiplier);
+    }
+
+    private static PricingResult legacyResult(PricingConfig config, BigDecimal basePrice, int rentalDays,
+                                              List<PriceModifier> modifiers) {
+        BigDecimal combinedMultiplier = BigDecimal.ONE;
+        for (PriceModifier modifier : modifiers) {
+            combinedMultiplier = combinedMultiplier.multiply(modifier.multiplier());
+        }
+
+        BigDecimal calculatedPrice = basePrice.multiply(BigDecimal.valueOf(rentalDays))
+                .multiply(combinedMultiplier)
+                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal dailyPrice = calculatedPrice.divide(BigDecimal.valueOf(rentalDays), 2, RoundingMode.HALF_UP);
+
+        BigDecimal finalPrice = calculatedPrice;
+        if (dailyPrice.compareTo(config.getMinDailyPrice()) < 0) {
+            finalPrice = config.getMinDailyPrice().multiply(BigDecimal.valueOf(rentalDays));
+        } else if (dailyPrice.compareTo(config.getMaxDailyPrice()) > 0) {
+            finalPrice = config.getMaxDailyPrice().multiply(BigDecimal.valueOf(rentalDays));
+        }
+
+        return PricingResult.builder()
+                .basePrice(basePrice)
+                .rentalDays(rentalDays)
+                .appliedModifiers(modifiers)
+                .combinedMultiplier(combinedMultiplier)
+                .finalPrice(finalPrice)
+                .build();
+    }
+
+    private record FixedStrategy(PriceModifier modifier, int order) implements PricingStrategy {
+
+        @Override
+        public PriceModifier calculate(PricingContext context) {
+            return modifier;
+        }
+
+        @Override
+        public String getStrategyName() {
+            return modifier.strategyName();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+}
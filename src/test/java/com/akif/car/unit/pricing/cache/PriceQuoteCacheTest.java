@@ -0,0 +1,143 @@
+package com.akif.car.unit.pricing.cache;
+
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteKey;
+import com.akif.rental.internal.config.PricingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriceQuoteCache Unit Tests")
+class PriceQuoteCacheTest {
+
+    private PriceQuoteCache cache;
+    private AtomicInteger loads;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PriceQuoteCache(new PricingConfig());
+        loads = new AtomicInteger();
+        today = LocalDate.now();
+    }
+
+    private PriceQuoteKey key(long carId, int startOffset, int endOffset) {
+        return new PriceQuoteKey(carId, today.plusDays(startOffset), today.plusDays(endOffset), today);
+    }
+
+    private PricingResult load(PriceQuoteKey key) {
+        return cache.get(key, () -> {
+            loads.incrementAndGet();
+            return quote("1000");
+        });
+    }
+
+    private static PricingResult quote(String finalPrice) {
+        BigDecimal price = new BigDecimal(finalPrice);
+        return new PricingResult(price, price, List.of(), BigDecimal.ONE, price, price, BigDecimal.ZERO, 1);
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("Should serve repeated quotes from cache")
+        void shouldServeRepeatedQuotesFromCache() {
+            load(key(1L, 5, 8));
+            load(key(1L, 5, 8));
+
+            assertThat(loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should only load missing quotes in a batch")
+        void shouldOnlyLoadMissingQuotesInBatch() {
+            load(key(1L, 5, 8));
+            List<PriceQuoteKey> requested = List.of(key(1L, 5, 8), key(2L, 5, 8), key(3L, 5, 8));
+
+            Map<PriceQuoteKey, PricingResult> results = cache.getAll(requested, missing -> {
+                assertThat(missing).containsExactly(key(2L, 5, 8), key(3L, 5, 8));
+                Map<PriceQuoteKey, PricingResult> loaded = new LinkedHashMap<>();
+                missing.forEach(key -> loaded.put(key, quote("2000")));
+                return loaded;
+            });
+
+            assertThat(results).containsOnlyKeys(requested);
+            assertThat(results.get(key(1L, 5, 8)).finalPrice()).isEqualByComparingTo("1000");
+            assertThat(cache.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should not store a quote loaded while an invalidation happened")
+        void shouldNotStoreQuoteLoadedDuringInvalidation() {
+            cache.get(key(1L, 5, 8), () -> {
+                cache.evictCar(1L);
+                return quote("1000");
+            });
+
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("Should evict every quote of a car and nothing else")
+        void shouldEvictQuotesOfCar() {
+            load(key(1L, 5, 8));
+            load(key(1L, 20, 25));
+            load(key(2L, 5, 8));
+
+            cache.evictCar(1L);
+
+            assertThat(cache.size()).isEqualTo(1);
+            load(key(2L, 5, 8));
+            assertThat(loads.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should evict only the car's quotes overlapping a rental window")
+        void shouldEvictOverlappingQuotesOfCar() {
+            load(key(1L, 1, 30));
+            load(key(1L, 5, 8));
+            load(key(1L, 20, 25));
+            load(key(2L, 5, 8));
+
+            cache.evictOverlapping(1L, today.plusDays(7), today.plusDays(10));
+
+            load(key(1L, 20, 25));
+            load(key(2L, 5, 8));
+            assertThat(loads.get()).isEqualTo(4);
+
+            load(key(1L, 1, 30));
+            load(key(1L, 5, 8));
+            assertThat(loads.get()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Should evict overlapping quotes of every car when the car is unknown")
+        void shouldEvictOverlappingQuotesOfAllCars() {
+            load(key(1L, 5, 8));
+            load(key(2L, 6, 9));
+            load(key(3L, 20, 25));
+
+            cache.evictOverlapping(null, today.plusDays(8), today.plusDays(8));
+
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.akif.car.unit.pricing.calendar;
+
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.rental.internal.config.PricingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PricingCalendar Unit Tests")
+class PricingCalendarTest {
+
+    private PricingConfig config;
+    private PricingCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfig();
+        calendar = new PricingCalendar(config);
+    }
+
+    @Nested
+    @DisplayName("Range Counts")
+    class RangeCounts {
+
+        @Test
+        @DisplayName("Should match day-by-day counting for random ranges inside the calendar")
+        void shouldMatchDayByDayCounting() {
+            LocalDate origin = LocalDate.of(2023, 12, 1);
+            calendar.rebuild(origin);
+
+            assertMatchesDayByDay(origin, 700, new Random(31));
+        }
+
+        @Test
+        @DisplayName("Should match day-by-day counting for ranges outside the calendar")
+        void shouldMatchDayByDayCountingOutsideCalendar() {
+            calendar.rebuild(LocalDate.of(2023, 12, 1));
+
+            assertMatchesDayByDay(LocalDate.of(2015, 1, 1), 400, new Random(7));
+        }
+
+        @Test
+        @DisplayName("Should count the leap day in a wrap-around off-peak season")
+        void shouldCountLeapDay() {
+            calendar.rebuild(LocalDate.of(2024, 1, 1));
+
+            assertThat(calendar.countOffpeakDays(LocalDate.of(2024, 2, 27), LocalDate.of(2024, 3, 1))).isEqualTo(2);
+            assertThat(calendar.countPeakDays(LocalDate.of(2024, 5, 30), LocalDate.of(2024, 6, 2))).isEqualTo(2);
+            assertThat(calendar.countWeekendDays(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7))).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should build around today on first lookup in the booking horizon")
+        void shouldBuildAroundTodayOnFirstLookup() {
+            LocalDate start = LocalDate.now().plusDays(10);
+            LocalDate end = start.plusDays(13);
+
+            assertThat(calendar.countWeekendDays(start, end)).isEqualTo(6);
+            assertThat(calendar.countPeakDays(start, end)).isEqualTo(countInSeason(start, end, config.getSeason().getPeak()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Changes")
+    class ConfigurationChanges {
+
+        @Test
+        @DisplayName("Should rebuild when season boundaries change")
+        void shouldRebuildWhenSeasonChanges() {
+            calendar.rebuild(LocalDate.of(2024, 1, 1));
+            LocalDate start = LocalDate.of(2024, 5, 1);
+            LocalDate end = LocalDate.of(2024, 5, 31);
+            assertThat(calendar.countPeakDays(start, end)).isZero();
+
+            config.getSeason().getPeak().setStart(MonthDay.of(5, 15));
+
+            assertThat(calendar.countPeakDays(start, end)).isEqualTo(17);
+        }
+
+        @Test
+        @DisplayName("Should rebuild when weekend days change")
+        void shouldRebuildWhenWeekendDaysChange() {
+            calendar.rebuild(LocalDate.of(2024, 1, 1));
+            LocalDate start = LocalDate.of(2024, 1, 1);
+            LocalDate end = LocalDate.of(2024, 1, 14);
+            assertThat(calendar.countWeekendDays(start, end)).isEqualTo(6);
+
+            config.getWeekend().setDays(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+            assertThat(calendar.countWeekendDays(start, end)).isEqualTo(4);
+        }
+    }
+
+    private void assertMatchesDayByDay(LocalDate origin, int spanDays, Random random) {
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = origin.plusDays(random.nextInt(spanDays));
+            LocalDate end = start.plusDays(random.nextInt(45));
+
+            assertThat(calendar.countPeakDays(start, end))
+                .isEqualTo(countInSeason(start, end, config.getSeason().getPeak()));
+            assertThat(calendar.countOffpeakDays(start, end))
+                .isEqualTo(countInSeason(start, end, config.getSeason().getOffpeak()));
+            assertThat(calendar.countWeekendDays(start, end))
+                .isEqualTo(countWeekendDays(start, end));
+        }
+    }
+
+    private static int countInSeason(LocalDate start, LocalDate end, PricingConfig.SeasonPeriod period) {
+        int count = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (PricingCalendar.isDateInSeason(day, period.getStart(), period.getEnd())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countWeekendDays(LocalDate start, LocalDate end) {
+        int count = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (config.getWeekend().getDays().contains(day.getDayOfWeek())) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
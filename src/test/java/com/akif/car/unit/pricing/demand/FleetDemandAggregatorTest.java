@@ -0,0 +1,189 @@
+package com.akif.car.unit.pricing.demand;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FleetDemandAggregator Unit Tests")
+class FleetDemandAggregatorTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    private FleetDemandAggregator aggregator;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new FleetDemandAggregator(carRepository, rentalRepository);
+        today = LocalDate.now();
+
+        aggregator.rebuild(
+                List.of(car(1L, "SUV"), car(2L, "SUV"), car(3L, "Sedan"), car(4L, "Sedan")),
+                List.of(rental(10L, 1L, 10, 19)),
+                today);
+    }
+
+    private static Car car(Long id, String bodyType) {
+        return Car.builder().id(id).bodyType(bodyType).carStatusType(CarStatusType.AVAILABLE).build();
+    }
+
+    private Rental rental(Long id, Long carId, int startOffset, int endOffset) {
+        Rental rental = new Rental();
+        rental.setId(id);
+        rental.setCarId(carId);
+        rental.setStartDate(today.plusDays(startOffset));
+        rental.setEndDate(today.plusDays(endOffset));
+        return rental;
+    }
+
+    private int occupancy(String bodyType, int startOffset, int endOffset) {
+        return aggregator.occupancyPercent(bodyType, today.plusDays(startOffset), today.plusDays(endOffset));
+    }
+
+    @Nested
+    @DisplayName("Occupancy")
+    class Occupancy {
+
+        @Test
+        @DisplayName("Should compute occupancy per body type")
+        void shouldComputeOccupancyPerBodyType() {
+            assertThat(occupancy("SUV", 10, 19)).isEqualTo(50);
+            assertThat(occupancy("suv", 10, 19)).isEqualTo(50);
+            assertThat(occupancy("Sedan", 10, 19)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should average booked days over the window")
+        void shouldAverageBookedDaysOverWindow() {
+            assertThat(occupancy("SUV", 15, 24)).isEqualTo(25);
+            assertThat(occupancy("SUV", 30, 40)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the whole fleet for an unknown body type")
+        void shouldFallBackToFleetForUnknownBodyType() {
+            assertThat(occupancy("Coupe", 10, 19)).isEqualTo(25);
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("Should record and release bookings")
+        void shouldRecordAndReleaseBookings() {
+            aggregator.recordBooking(11L, 2L, today.plusDays(10), today.plusDays(19));
+            assertThat(occupancy("SUV", 10, 19)).isEqualTo(100);
+
+            aggregator.releaseBooking(11L, null);
+            assertThat(occupancy("SUV", 10, 19)).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("Should ignore a booking recorded twice")
+        void shouldIgnoreDuplicateBooking() {
+            aggregator.recordBooking(10L, 1L, today.plusDays(10), today.plusDays(19));
+
+            assertThat(occupancy("SUV", 10, 19)).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("Should release only the days after an early return")
+        void shouldReleaseDaysAfterEarlyReturn() {
+            aggregator.releaseBooking(10L, today.plusDays(15));
+
+            assertThat(occupancy("SUV", 10, 14)).isEqualTo(50);
+            assertThat(occupancy("SUV", 15, 19)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should drop a sold car from the fleet size")
+        void shouldDropSoldCarFromFleetSize() {
+            Car sold = car(3L, "Sedan");
+            sold.setCarStatusType(CarStatusType.SOLD);
+            when(carRepository.findByIdAndIsDeletedFalse(3L)).thenReturn(Optional.of(sold));
+
+            aggregator.refreshCar(3L);
+            aggregator.recordBooking(12L, 4L, today.plusDays(10), today.plusDays(19));
+
+            assertThat(occupancy("Sedan", 10, 19)).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("Should keep events that arrive while a rebuild is loading")
+        void shouldReplayEventsArrivingDuringRebuild() {
+            when(carRepository.findByIsDeletedFalse(Pageable.unpaged()))
+                    .thenReturn(new PageImpl<>(List.of(car(1L, "SUV"), car(2L, "SUV"))));
+            when(rentalRepository.findRentalsEndingOnOrAfter(any(), any())).thenAnswer(invocation -> {
+                aggregator.recordBooking(11L, 2L, today.plusDays(10), today.plusDays(19));
+                return List.of(rental(10L, 1L, 10, 19));
+            });
+
+            aggregator.rebuild();
+
+            assertThat(occupancy("SUV", 10, 19)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Should serve consistent reads while cars of new body types are added")
+        void shouldServeReadsWhileCategoriesGrow() throws Exception {
+            when(carRepository.findByIdAndIsDeletedFalse(anyLong()))
+                    .thenAnswer(invocation -> {
+                        Long id = invocation.getArgument(0);
+                        return Optional.of(car(id, "Type-" + id));
+                    });
+            AtomicBoolean writing = new AtomicBoolean(true);
+
+            CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+                int id = 100;
+                while (writing.get()) {
+                    occupancy("Type-" + id, 0, 30);
+                    id = id == 600 ? 100 : id + 1;
+                }
+            });
+            for (long id = 100; id <= 600; id++) {
+                aggregator.refreshCar(id);
+                aggregator.recordBooking(id, id, today.plusDays(1), today.plusDays(5));
+            }
+            writing.set(false);
+
+            reader.get(10, TimeUnit.SECONDS);
+            assertThat(occupancy("Type-600", 1, 5)).isEqualTo(100);
+        }
+    }
+}
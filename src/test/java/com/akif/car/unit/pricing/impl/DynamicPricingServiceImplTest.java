@@ -7,8 +7,17 @@ import com.akif.car.internal.dto.pricing.PricingResult;
 import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.internal.repository.CarRepository;
 import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
 import com.akif.car.internal.service.pricing.impl.DynamicPricingServiceImpl;
+import com.akif.car.internal.service.pricing.strategy.DemandPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.DurationDiscountStrategy;
+import com.akif.car.internal.service.pricing.strategy.EarlyBookingStrategy;
+import com.akif.car.internal.service.pricing.strategy.SeasonPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.WeekendPricingStrategy;
 import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.repository.RentalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,17 +25,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DynamicPricingServiceImpl Unit Tests")
@@ -45,6 +59,9 @@ class DynamicPricingServiceImplTest {
     @Mock
     private PricingStrategy strategy2;
 
+    @Spy
+    private PriceQuoteCache priceQuoteCache = new PriceQuoteCache(new PricingConfig());
+
     @InjectMocks
     private DynamicPricingServiceImpl service;
 
@@ -57,6 +74,8 @@ class DynamicPricingServiceImplTest {
             .price(new BigDecimal("500"))
             .bodyType("SUV")
             .build();
+        when(strategy1.compile()).thenReturn(strategy1);
+        when(strategy2.compile()).thenReturn(strategy2);
     }
 
     @Nested
@@ -74,7 +93,7 @@ class DynamicPricingServiceImplTest {
             when(strategy1.calculate(any(PricingContext.class)))
                 .thenReturn(PriceModifier.discount("Test", new BigDecimal("0.90"), "10% discount"));
 
-            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config);
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
 
             PricingResult result = service.calculatePrice(
                 1L,
@@ -106,7 +125,7 @@ class DynamicPricingServiceImplTest {
             when(strategy2.calculate(any(PricingContext.class)))
                 .thenReturn(PriceModifier.surcharge("Strategy2", new BigDecimal("1.20"), "20% surcharge"));
 
-            service = new DynamicPricingServiceImpl(List.of(strategy1, strategy2), carRepository, config);
+            service = new DynamicPricingServiceImpl(List.of(strategy1, strategy2), carRepository, config, priceQuoteCache);
 
             PricingResult result = service.calculatePrice(
                 1L,
@@ -131,7 +150,7 @@ class DynamicPricingServiceImplTest {
             when(strategy2.calculate(any(PricingContext.class)))
                 .thenReturn(PriceModifier.discount("Strategy2", new BigDecimal("0.85"), "15% discount"));
 
-            service = new DynamicPricingServiceImpl(List.of(strategy1, strategy2), carRepository, config);
+            service = new DynamicPricingServiceImpl(List.of(strategy1, strategy2), carRepository, config, priceQuoteCache);
 
             PricingResult result = service.calculatePrice(
                 1L,
@@ -158,6 +177,172 @@ class DynamicPricingServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Price Calculation")
+    class BatchPriceCalculation {
+
+        @Test
+        @DisplayName("Should run each strategy once for the whole batch")
+        void shouldRunEachStrategyOnceForWholeBatch() {
+            Car secondCar = Car.builder()
+                .id(2L)
+                .price(new BigDecimal("1000"))
+                .bodyType("Sedan")
+                .build();
+
+            when(config.getMinDailyPrice()).thenReturn(new BigDecimal("100"));
+            when(config.getMaxDailyPrice()).thenReturn(new BigDecimal("10000"));
+            when(strategy1.isEnabled()).thenReturn(true);
+            when(strategy1.getOrder()).thenReturn(1);
+            when(strategy1.calculateBatch(anyList())).thenReturn(List.of(
+                PriceModifier.discount("Test", new BigDecimal("0.90"), "10% discount"),
+                PriceModifier.surcharge("Test", new BigDecimal("1.20"), "20% surcharge")
+            ));
+
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
+
+            Map<Long, PricingResult> results = service.calculatePrices(
+                List.of(testCar, secondCar),
+                LocalDate.now().plusDays(10),
+                LocalDate.now().plusDays(15),
+                LocalDate.now()
+            );
+
+            assertThat(results).containsOnlyKeys(1L, 2L);
+            assertThat(results.get(1L).finalPrice()).isEqualByComparingTo(new BigDecimal("2700.00"));
+            assertThat(results.get(2L).finalPrice()).isEqualByComparingTo(new BigDecimal("7200.00"));
+            verify(strategy1, times(1)).calculateBatch(anyList());
+            verify(strategy1, never()).calculate(any(PricingContext.class));
+            verifyNoInteractions(carRepository);
+        }
+
+        @Test
+        @DisplayName("Should return empty map for empty batch")
+        void shouldReturnEmptyMapForEmptyBatch() {
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
+
+            Map<Long, PricingResult> results = service.calculatePrices(
+                List.of(),
+                LocalDate.now().plusDays(10),
+                LocalDate.now().plusDays(15),
+                LocalDate.now()
+            );
+
+            assertThat(results).isEmpty();
+            verifyNoInteractions(strategy1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quote Caching")
+    class QuoteCaching {
+
+        @BeforeEach
+        void setUpStrategy() {
+            when(config.getMinDailyPrice()).thenReturn(new BigDecimal("100"));
+            when(config.getMaxDailyPrice()).thenReturn(new BigDecimal("10000"));
+            when(strategy1.isEnabled()).thenReturn(true);
+            when(strategy1.getOrder()).thenReturn(1);
+            when(strategy1.calculate(any())).thenReturn(PriceModifier.neutral("Test", "No change"));
+            when(strategy1.calculateBatch(anyList())).thenAnswer(invocation -> {
+                List<PricingContext> contexts = invocation.getArgument(0);
+                return contexts.stream().map(context -> PriceModifier.neutral("Test", "No change")).toList();
+            });
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
+        }
+
+        @Test
+        @DisplayName("Should reuse a quote for the same car, window and booking date")
+        void shouldReuseQuote() {
+            LocalDate start = LocalDate.now().plusDays(10);
+            LocalDate end = LocalDate.now().plusDays(12);
+
+            PricingResult first = service.calculatePrice(1L, start, end, LocalDate.now());
+            PricingResult second = service.calculatePrice(1L, start, end, LocalDate.now());
+
+            assertThat(second).isSameAs(first);
+            verify(strategy1, times(1)).calculate(any());
+            verify(carRepository, times(1)).findByIdAndIsDeletedFalse(1L);
+        }
+
+        @Test
+        @DisplayName("Should recalculate after the car's quotes are evicted")
+        void shouldRecalculateAfterEviction() {
+            LocalDate start = LocalDate.now().plusDays(10);
+            LocalDate end = LocalDate.now().plusDays(12);
+
+            service.calculatePrice(1L, start, end, LocalDate.now());
+            priceQuoteCache.evictCar(1L);
+            service.calculatePrice(1L, start, end, LocalDate.now());
+
+            verify(strategy1, times(2)).calculate(any());
+        }
+
+        @Test
+        @DisplayName("Should only batch-price cars without a cached quote")
+        void shouldBatchPriceOnlyUncachedCars() {
+            LocalDate start = LocalDate.now().plusDays(10);
+            LocalDate end = LocalDate.now().plusDays(12);
+            Car secondCar = Car.builder().id(2L).price(new BigDecimal("1000")).bodyType("Sedan").build();
+
+            PricingResult single = service.calculatePrice(1L, start, end, LocalDate.now());
+            Map<Long, PricingResult> results = service.calculatePrices(List.of(testCar, secondCar), start, end, LocalDate.now());
+
+            assertThat(results).containsOnlyKeys(1L, 2L);
+            assertThat(results.get(1L)).isSameAs(single);
+            verify(strategy1).calculateBatch(argThat(contexts -> contexts.size() == 1 && contexts.get(0).carId() == 2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Window Price Calculation")
+    class WindowPriceCalculation {
+
+        @Test
+        @DisplayName("Should produce results identical to single-window pricing with real strategies")
+        void shouldMatchSingleWindowPricingWithRealStrategies() {
+            PricingConfig realConfig = new PricingConfig();
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            FleetDemandAggregator fleetDemandAggregator = new FleetDemandAggregator(carRepository, mock(RentalRepository.class));
+            fleetDemandAggregator.rebuild(List.of(testCar), List.of(), LocalDate.of(2024, 4, 1));
+            fleetDemandAggregator.recordBooking(100L, 1L, LocalDate.of(2024, 5, 20), LocalDate.of(2024, 6, 10));
+
+            PricingCalendar pricingCalendar = new PricingCalendar(realConfig);
+            service = new DynamicPricingServiceImpl(List.of(
+                new SeasonPricingStrategy(realConfig, pricingCalendar),
+                new EarlyBookingStrategy(realConfig),
+                new DurationDiscountStrategy(realConfig),
+                new WeekendPricingStrategy(realConfig, pricingCalendar),
+                new DemandPricingStrategy(realConfig, fleetDemandAggregator)
+            ), carRepository, realConfig, new PriceQuoteCache(realConfig));
+
+            LocalDate bookingDate = LocalDate.of(2024, 4, 1);
+            List<LocalDate> startDates = new ArrayList<>();
+            for (int offset = 0; offset < 120; offset++) {
+                startDates.add(LocalDate.of(2024, 5, 1).plusDays(offset));
+            }
+
+            List<PricingResult> windowResults = service.calculateWindowPrices(testCar, startDates, 9, bookingDate);
+
+            assertThat(windowResults).hasSize(startDates.size());
+            for (int i = 0; i < startDates.size(); i++) {
+                PricingResult single = service.calculatePrice(1L, startDates.get(i), startDates.get(i).plusDays(8), bookingDate);
+                assertThat(windowResults.get(i)).isEqualTo(single);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return empty list when no start dates are given")
+        void shouldReturnEmptyListForNoStartDates() {
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
+
+            assertThat(service.calculateWindowPrices(testCar, List.of(), 5, LocalDate.now())).isEmpty();
+            verifyNoInteractions(strategy1);
+        }
+    }
+
     @Nested
     @DisplayName("Price Cap Enforcement")
     class PriceCapEnforcement {
@@ -174,7 +359,7 @@ class DynamicPricingServiceImplTest {
             when(strategy1.calculate(any(PricingContext.class)))
                 .thenReturn(PriceModifier.discount("Test", new BigDecimal("0.10"), "90% discount"));
 
-            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config);
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
 
             PricingResult result = service.calculatePrice(
                 1L,
@@ -202,7 +387,7 @@ class DynamicPricingServiceImplTest {
             when(strategy1.calculate(any(PricingContext.class)))
                 .thenReturn(PriceModifier.neutral("Test", "No discount"));
 
-            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config);
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
 
             PricingResult result = service.previewPrice(
                 1L,
@@ -214,4 +399,55 @@ class DynamicPricingServiceImplTest {
             assertThat(result.basePrice()).isEqualByComparingTo(new BigDecimal("500"));
         }
     }
+
+    @Nested
+    @DisplayName("Strategy Pipeline")
+    class StrategyPipeline {
+
+        @Test
+        @DisplayName("Should compile enabled strategies once and reuse them across quotes")
+        void shouldCompileEnabledStrategiesOnce() {
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            when(config.getMinDailyPrice()).thenReturn(new BigDecimal("100"));
+            when(config.getMaxDailyPrice()).thenReturn(new BigDecimal("10000"));
+            when(strategy1.isEnabled()).thenReturn(true);
+            when(strategy1.getOrder()).thenReturn(1);
+            when(strategy1.calculate(any(PricingContext.class)))
+                .thenReturn(PriceModifier.neutral("Test", "No discount"));
+
+            service = new DynamicPricingServiceImpl(List.of(strategy1), carRepository, config, priceQuoteCache);
+
+            service.calculatePrice(1L, LocalDate.now().plusDays(10), LocalDate.now().plusDays(15), LocalDate.now());
+            service.calculatePrice(1L, LocalDate.now().plusDays(20), LocalDate.now().plusDays(25), LocalDate.now());
+
+            verify(strategy1, times(1)).isEnabled();
+            verify(strategy1, times(1)).compile();
+            verify(strategy1, times(2)).calculate(any(PricingContext.class));
+        }
+
+        @Test
+        @DisplayName("Should pick up enablement and caps only after reload")
+        void shouldPickUpChangesOnlyAfterReload() {
+            when(strategy1.isEnabled()).thenReturn(true);
+            when(strategy1.getOrder()).thenReturn(2);
+            when(strategy2.isEnabled()).thenReturn(false);
+
+            service = new DynamicPricingServiceImpl(List.of(strategy1, strategy2), carRepository, config, priceQuoteCache);
+            assertThat(service.getEnabledStrategies()).containsExactly(strategy1);
+
+            when(strategy2.isEnabled()).thenReturn(true);
+            when(strategy2.getOrder()).thenReturn(1);
+            assertThat(service.getEnabledStrategies()).containsExactly(strategy1);
+
+            PricingConfig reloaded = new PricingConfig();
+            PricingCalendar calendar = new PricingCalendar(reloaded);
+            when(strategy1.forConfig(reloaded, calendar)).thenReturn(strategy1);
+            when(strategy2.forConfig(reloaded, calendar)).thenReturn(strategy2);
+            service.publish(reloaded, calendar);
+
+            assertThat(service.getEnabledStrategies()).containsExactly(strategy2, strategy1);
+            assertThat(service.getActiveConfig()).isSameAs(reloaded);
+            verify(strategy2, times(1)).compile();
+        }
+    }
 }
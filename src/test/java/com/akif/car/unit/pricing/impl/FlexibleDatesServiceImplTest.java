@@ -0,0 +1,193 @@
+package com.akif.car.unit.pricing.impl;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.dto.pricing.FlexibleDateOption;
+import com.akif.car.internal.dto.pricing.FlexibleDatesResponse;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.exception.CarNotFoundException;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.impl.FlexibleDatesServiceImpl;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.repository.RentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlexibleDatesServiceImpl Unit Tests")
+class FlexibleDatesServiceImplTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private DynamicPricingService dynamicPricingService;
+
+    @InjectMocks
+    private FlexibleDatesServiceImpl service;
+
+    private Car testCar;
+    private LocalDate preferred;
+
+    @BeforeEach
+    void setUp() {
+        testCar = Car.builder()
+            .id(1L)
+            .price(new BigDecimal("500"))
+            .carStatusType(CarStatusType.AVAILABLE)
+            .build();
+        preferred = LocalDate.now().plusDays(30);
+    }
+
+    @Nested
+    @DisplayName("Window Search")
+    class WindowSearch {
+
+        @Test
+        @DisplayName("Should skip start dates whose window overlaps an existing rental")
+        void shouldSkipOccupiedStartDates() {
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            when(rentalRepository.findOverlappingRentalsForCar(eq(1L), any(), any(), anyList()))
+                .thenReturn(List.of(rental(preferred.plusDays(2), preferred.plusDays(3))));
+            when(dynamicPricingService.calculateWindowPrices(eq(testCar), anyList(), eq(3), any()))
+                .thenAnswer(invocation -> flatPrices(invocation.getArgument(1)));
+
+            FlexibleDatesResponse response = service.findCheapestWindows(1L, preferred, 3, 3, 20);
+
+            assertThat(response.options())
+                .extracting(FlexibleDateOption::startDate)
+                .containsExactlyInAnyOrder(preferred.minusDays(3), preferred.minusDays(2), preferred.minusDays(1));
+            assertThat(response.availableStartDates()).isEqualTo(3);
+            assertThat(response.preferredPrice()).isNull();
+            assertThat(response.options()).allSatisfy(option -> assertThat(option.savingsVsPreferred()).isNull());
+        }
+
+        @Test
+        @DisplayName("Should order options by final price and report savings against the preferred window")
+        void shouldOrderByPriceAndReportSavings() {
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            when(rentalRepository.findOverlappingRentalsForCar(eq(1L), any(), any(), anyList())).thenReturn(List.of());
+            when(dynamicPricingService.calculateWindowPrices(eq(testCar), anyList(), eq(2), any()))
+                .thenAnswer(invocation -> {
+                    List<LocalDate> starts = invocation.getArgument(1);
+                    return starts.stream()
+                        .map(start -> priced(start.equals(preferred.plusDays(1)) ? "800" : "1000"))
+                        .toList();
+                });
+
+            FlexibleDatesResponse response = service.findCheapestWindows(1L, preferred, 2, 1, 2);
+
+            assertThat(response.availableStartDates()).isEqualTo(3);
+            assertThat(response.preferredPrice()).isEqualByComparingTo("1000");
+            assertThat(response.options()).hasSize(2);
+
+            FlexibleDateOption cheapest = response.options().get(0);
+            assertThat(cheapest.startDate()).isEqualTo(preferred.plusDays(1));
+            assertThat(cheapest.endDate()).isEqualTo(preferred.plusDays(2));
+            assertThat(cheapest.savingsVsPreferred()).isEqualByComparingTo("200");
+            assertThat(response.options().get(1).startDate()).isEqualTo(preferred.minusDays(1));
+        }
+
+        @Test
+        @DisplayName("Should clamp the search window to today")
+        void shouldClampSearchWindowToToday() {
+            LocalDate nearPreferred = LocalDate.now().plusDays(1);
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+            when(rentalRepository.findOverlappingRentalsForCar(eq(1L), any(), any(), anyList())).thenReturn(List.of());
+            when(dynamicPricingService.calculateWindowPrices(eq(testCar), anyList(), eq(1), any()))
+                .thenAnswer(invocation -> flatPrices(invocation.getArgument(1)));
+
+            FlexibleDatesResponse response = service.findCheapestWindows(1L, nearPreferred, 1, 5, 20);
+
+            assertThat(response.searchStartDate()).isEqualTo(LocalDate.now());
+            assertThat(response.availableStartDates()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Should return no options for a car in a blocking status")
+        void shouldReturnNoOptionsForBlockedCar() {
+            testCar.setCarStatusType(CarStatusType.MAINTENANCE);
+            when(carRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCar));
+
+            FlexibleDatesResponse response = service.findCheapestWindows(1L, preferred, 3, 3, 5);
+
+            assertThat(response.options()).isEmpty();
+            assertThat(response.availableStartDates()).isZero();
+            verifyNoInteractions(rentalRepository, dynamicPricingService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject out of range parameters")
+        void shouldRejectOutOfRangeParameters() {
+            assertThatThrownBy(() -> service.findCheapestWindows(1L, preferred, 0, 3, 5))
+                .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.findCheapestWindows(1L, preferred, 3, 31, 5))
+                .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.findCheapestWindows(1L, preferred, 3, 3, 21))
+                .isInstanceOf(RentalValidationException.class);
+            verifyNoInteractions(carRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a search window entirely in the past")
+        void shouldRejectPastSearchWindow() {
+            assertThatThrownBy(() -> service.findCheapestWindows(1L, LocalDate.now().minusDays(10), 3, 2, 5))
+                .isInstanceOf(RentalValidationException.class)
+                .hasMessageContaining("past");
+        }
+
+        @Test
+        @DisplayName("Should throw when car not found")
+        void shouldThrowWhenCarNotFound() {
+            when(carRepository.findByIdAndIsDeletedFalse(99L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.findCheapestWindows(99L, preferred, 3, 3, 5))
+                .isInstanceOf(CarNotFoundException.class);
+        }
+    }
+
+    private static List<PricingResult> flatPrices(List<LocalDate> startDates) {
+        return startDates.stream().map(start -> priced("1000")).toList();
+    }
+
+    private static PricingResult priced(String finalPrice) {
+        BigDecimal price = new BigDecimal(finalPrice);
+        return new PricingResult(price, price, List.of(), BigDecimal.ONE, price, price, BigDecimal.ZERO, 1);
+    }
+
+    private static Rental rental(LocalDate startDate, LocalDate endDate) {
+        return Rental.builder()
+            .carId(1L)
+            .startDate(startDate)
+            .endDate(endDate)
+            .status(RentalStatus.CONFIRMED)
+            .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.akif.car.unit.pricing.impl;
+
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.dto.pricing.PricingSimulationRequest;
+import com.akif.car.internal.dto.pricing.PricingSimulationResponse;
+import com.akif.car.internal.dto.pricing.RevenueDelta;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.pricing.PricingStrategy;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
+import com.akif.car.internal.service.pricing.impl.DynamicPricingServiceImpl;
+import com.akif.car.internal.service.pricing.impl.PricingSimulationServiceImpl;
+import com.akif.car.internal.service.pricing.reload.PricingConfigReloader;
+import com.akif.car.internal.service.pricing.strategy.DemandPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.DurationDiscountStrategy;
+import com.akif.car.internal.service.pricing.strategy.EarlyBookingStrategy;
+import com.akif.car.internal.service.pricing.strategy.SeasonPricingStrategy;
+import com.akif.car.internal.service.pricing.strategy.WeekendPricingStrategy;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.exception.RentalValidationException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.shared.enums.CurrencyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PricingSimulationServiceImpl Unit Tests")
+class PricingSimulationServiceImplTest {
+
+    @Mock
+    private CarRepository carRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    private PricingConfig config;
+    private List<PricingStrategy> strategies;
+    private DynamicPricingServiceImpl live;
+    private PricingSimulationServiceImpl service;
+    private LocalDate peakStart;
+    private Car suv;
+    private Car sedan;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfig();
+        PricingCalendar calendar = new PricingCalendar(config);
+        FleetDemandAggregator aggregator = new FleetDemandAggregator(carRepository, rentalRepository);
+        strategies = List.of(
+                new SeasonPricingStrategy(config, calendar),
+                new EarlyBookingStrategy(config),
+                new DurationDiscountStrategy(config),
+                new WeekendPricingStrategy(config, calendar),
+                new DemandPricingStrategy(config, aggregator)
+        );
+
+        live = new DynamicPricingServiceImpl(strategies, carRepository, config, new PriceQuoteCache(new PricingConfig()));
+        PricingConfigReloader reloader = new PricingConfigReloader(config, new MockEnvironment(), new DefaultResourceLoader(),
+                live, new PriceQuoteCache(new PricingConfig()));
+        service = new PricingSimulationServiceImpl(strategies, carRepository, config, live, reloader);
+
+        suv = Car.builder().id(1L).price(new BigDecimal("500")).currencyType(CurrencyType.TRY).bodyType("SUV")
+                .carStatusType(CarStatusType.AVAILABLE).build();
+        sedan = Car.builder().id(2L).price(new BigDecimal("300")).currencyType(CurrencyType.TRY).bodyType("Sedan")
+                .carStatusType(CarStatusType.RENTED).build();
+        Car sold = Car.builder().id(3L).price(new BigDecimal("400")).currencyType(CurrencyType.TRY).bodyType("SUV")
+                .carStatusType(CarStatusType.SOLD).build();
+        lenient().when(carRepository.findByIsDeletedFalse(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(suv, sedan, sold)));
+
+        peakStart = LocalDate.of(LocalDate.now().getYear() + 1, Month.JUNE, 1);
+    }
+
+    private PricingSimulationRequest request(Map<String, String> overrides, int horizonDays, List<Integer> tripLengths) {
+        return new PricingSimulationRequest(overrides, peakStart, horizonDays, tripLengths);
+    }
+
+    @Nested
+    @DisplayName("Revenue Deltas")
+    class RevenueDeltas {
+
+        @Test
+        @DisplayName("Should report higher candidate revenue for a raised peak multiplier without touching live config")
+        void shouldReportPeakMultiplierDelta() {
+            PricingSimulationResponse response = service.simulate(
+                    request(Map.of("pricing.season.peak.multiplier", "1.35"), 30, List.of(7, 3, 7)));
+
+            assertThat(response.cars()).isEqualTo(2);
+            assertThat(response.tripLengths()).containsExactly(3, 7);
+            assertThat(response.endDate()).isEqualTo(peakStart.plusDays(29));
+
+            assertThat(response.totals()).hasSize(1);
+            RevenueDelta total = response.totals().get(0);
+            assertThat(total.currency()).isEqualTo(CurrencyType.TRY);
+            assertThat(total.quotes()).isEqualTo(2 * 30 * 2);
+            assertThat(total.candidateRevenue()).isGreaterThan(total.baselineRevenue());
+            assertThat(total.revenueDelta()).isEqualByComparingTo(total.candidateRevenue().subtract(total.baselineRevenue()));
+            assertThat(total.deltaPercent()).isPositive();
+
+            assertThat(response.byTripLength()).extracting(RevenueDelta::group).containsExactly("3", "7");
+            assertThat(response.byBodyType()).extracting(RevenueDelta::group).containsExactly("SUV", "Sedan");
+            assertThat(response.byBodyType().stream().mapToLong(RevenueDelta::quotes).sum()).isEqualTo(total.quotes());
+
+            assertThat(config.getSeason().getPeak().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.25"));
+        }
+
+        @Test
+        @DisplayName("Should report no delta without overrides")
+        void shouldReportNoDeltaWithoutOverrides() {
+            PricingSimulationResponse response = service.simulate(request(null, 10, List.of(5)));
+
+            assertThat(response.totals().get(0).revenueDelta()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(response.totals().get(0).deltaPercent()).isEqualByComparingTo(BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("Should price the baseline exactly like the live pricing service")
+        void shouldMatchLivePricing() {
+            when(carRepository.findByIsDeletedFalse(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(suv)));
+
+            List<LocalDate> startDates = peakStart.minusDays(5).datesUntil(peakStart.plusDays(15)).toList();
+            BigDecimal expected = live.calculateWindowPrices(suv, startDates, 4, LocalDate.now()).stream()
+                    .map(PricingResult::finalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            PricingSimulationResponse response = service.simulate(new PricingSimulationRequest(
+                    Map.of("pricing.weekend.multiplier", "1.30"), peakStart.minusDays(5), 20, List.of(4)));
+
+            assertThat(response.totals().get(0).baselineRevenue()).isEqualByComparingTo(expected);
+            assertThat(response.totals().get(0).candidateRevenue()).isGreaterThan(expected);
+        }
+
+        @Test
+        @DisplayName("Should report revenue per currency instead of summing across currencies")
+        void shouldReportRevenuePerCurrency() {
+            Car usdSuv = Car.builder().id(4L).price(new BigDecimal("100")).currencyType(CurrencyType.USD).bodyType("SUV")
+                    .carStatusType(CarStatusType.AVAILABLE).build();
+            when(carRepository.findByIsDeletedFalse(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(suv, sedan, usdSuv)));
+
+            BigDecimal expectedUsd = live.calculateWindowPrices(usdSuv, peakStart.datesUntil(peakStart.plusDays(10)).toList(),
+                            5, LocalDate.now()).stream()
+                    .map(PricingResult::finalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            PricingSimulationResponse response = service.simulate(request(null, 10, List.of(5)));
+
+            assertThat(response.totals()).extracting(RevenueDelta::currency).containsExactly(CurrencyType.TRY, CurrencyType.USD);
+            assertThat(response.totals()).extracting(RevenueDelta::quotes).containsExactly(20L, 10L);
+            assertThat(response.totals().get(1).baselineRevenue()).isEqualByComparingTo(expectedUsd);
+
+            assertThat(response.byTripLength()).extracting(RevenueDelta::group, RevenueDelta::currency)
+                    .containsExactly(tuple("5", CurrencyType.TRY), tuple("5", CurrencyType.USD));
+            assertThat(response.byBodyType()).extracting(RevenueDelta::group, RevenueDelta::currency)
+                    .containsExactly(tuple("SUV", CurrencyType.TRY), tuple("SUV", CurrencyType.USD), tuple("Sedan", CurrencyType.TRY));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("Should reject a horizon over the configured limit")
+        void shouldRejectLongHorizon() {
+            assertThatThrownBy(() -> service.simulate(request(Map.of(), 93, List.of(3))))
+                    .isInstanceOf(RentalValidationException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown or non-pricing overrides")
+        void shouldRejectInvalidOverrides() {
+            assertThatThrownBy(() -> service.simulate(request(Map.of("pricing.season.peak.bogus", "1.3"), 7, List.of(3))))
+                    .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.simulate(request(Map.of("server.port", "1"), 7, List.of(3))))
+                    .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.simulate(request(Map.of("pricing.weekend.multiplier", "abc"), 7, List.of(3))))
+                    .isInstanceOf(RentalValidationException.class);
+        }
+    }
+}
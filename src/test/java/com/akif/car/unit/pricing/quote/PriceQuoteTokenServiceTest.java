@@ -0,0 +1,135 @@
+package com.akif.car.unit.pricing.quote;
+
+import com.akif.car.internal.dto.pricing.PriceModifier;
+import com.akif.car.internal.dto.pricing.PricingResult;
+import com.akif.car.internal.service.pricing.quote.PriceQuoteTokenService;
+import com.akif.rental.internal.config.PricingConfig;
+import com.akif.rental.internal.exception.RentalValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PriceQuoteTokenService Unit Tests")
+class PriceQuoteTokenServiceTest {
+
+    private PricingConfig config;
+    private PriceQuoteTokenService service;
+    private PricingResult result;
+    private LocalDate start;
+    private LocalDate end;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfig();
+        config.getQuoteToken().setSecret("test-quote-secret-for-unit-tests-only");
+        service = new PriceQuoteTokenService(config);
+
+        start = LocalDate.now().plusDays(10);
+        end = start.plusDays(4);
+        result = PricingResult.builder()
+                .basePrice(new BigDecimal("500.00"))
+                .rentalDays(5)
+                .appliedModifiers(List.of(
+                        PriceModifier.surcharge("Season Pricing", new BigDecimal("1.2500"), "Peak season (5/5 days)"),
+                        PriceModifier.discount("Early Booking", new BigDecimal("0.95"), "Early booking discount (7-13 days advance)"),
+                        PriceModifier.neutral("Demand Pricing", "Normal demand")
+                ))
+                .combinedMultiplier(new BigDecimal("1.187500"))
+                .finalPrice(new BigDecimal("2968.75"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Verification")
+    class Verification {
+
+        @Test
+        @DisplayName("Should restore the quoted result from a valid token")
+        void shouldRestoreQuotedResult() {
+            String token = service.issue(1L, start, end, result).token();
+
+            assertThat(service.verify(token, 1L, start, end)).contains(result);
+        }
+
+        @Test
+        @DisplayName("Should return empty for a missing token")
+        void shouldReturnEmptyForMissingToken() {
+            assertThat(service.verify(null, 1L, start, end)).isEmpty();
+            assertThat(service.verify(" ", 1L, start, end)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return empty for an expired token")
+        void shouldReturnEmptyForExpiredToken() {
+            config.getQuoteToken().setTtlSeconds(-1);
+            String token = service.issue(1L, start, end, result).token();
+
+            assertThat(service.verify(token, 1L, start, end)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a token issued for another car or window")
+        void shouldRejectMismatchingToken() {
+            String token = service.issue(1L, start, end, result).token();
+
+            assertThatThrownBy(() -> service.verify(token, 2L, start, end))
+                    .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.verify(token, 1L, start, end.plusDays(1)))
+                    .isInstanceOf(RentalValidationException.class);
+        }
+
+        @Test
+        @DisplayName("Should reject a tampered or foreign token")
+        void shouldRejectTamperedToken() {
+            String token = service.issue(1L, start, end, result).token();
+            String payload = token.substring(0, token.indexOf('.'));
+            String signature = token.substring(token.indexOf('.') + 1);
+            String tampered = payload.substring(0, payload.length() - 2)
+                    + (payload.endsWith("A") ? "B" : "A") + payload.charAt(payload.length() - 1) + "." + signature;
+
+            PricingConfig otherConfig = new PricingConfig();
+            otherConfig.getQuoteToken().setSecret("another-quote-secret-for-unit-tests-only");
+            String foreign = new PriceQuoteTokenService(otherConfig).issue(1L, start, end, result).token();
+
+            assertThatThrownBy(() -> service.verify(tampered, 1L, start, end))
+                    .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.verify(foreign, 1L, start, end))
+                    .isInstanceOf(RentalValidationException.class);
+            assertThatThrownBy(() -> service.verify("not-a-token", 1L, start, end))
+                    .isInstanceOf(RentalValidationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Configuration {
+
+        @Test
+        @DisplayName("Should refuse to start without a sufficiently long secret")
+        void shouldRejectMissingOrShortSecret() {
+            PricingConfig missing = new PricingConfig();
+            PricingConfig blank = new PricingConfig();
+            blank.getQuoteToken().setSecret("   ");
+            PricingConfig tooShort = new PricingConfig();
+            tooShort.getQuoteToken().setSecret("short-secret");
+
+            assertThatThrownBy(() -> new PriceQuoteTokenService(missing))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("must be set");
+            assertThatThrownBy(() -> new PriceQuoteTokenService(blank))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("must be set");
+            assertThatThrownBy(() -> new PriceQuoteTokenService(tooShort))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("at least 32 characters");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.akif.car.unit.pricing.reload;
+
+import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.cache.PriceQuoteCache;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
+import com.akif.car.internal.service.pricing.reload.PricingConfigReloader;
+import com.akif.rental.internal.config.PricingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PricingConfigReloader Unit Tests")
+class PricingConfigReloaderTest {
+
+    @Mock
+    private DynamicPricingService dynamicPricingService;
+
+    @Mock
+    private PriceQuoteCache priceQuoteCache;
+
+    @TempDir
+    Path tempDir;
+
+    private PricingConfig config;
+    private MockEnvironment environment;
+    private PricingConfigReloader reloader;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfig();
+        environment = new MockEnvironment()
+                .withProperty("pricing.weekend.multiplier", "1.30")
+                .withProperty("pricing.strategy.demand-enabled", "false");
+        reloader = new PricingConfigReloader(config, environment, new DefaultResourceLoader(),
+                dynamicPricingService, priceQuoteCache);
+    }
+
+    @Test
+    @DisplayName("Should rebind pricing config from the environment and recompile")
+    void shouldRebindFromEnvironmentAndRecompile() {
+        reloader.reload();
+
+        PricingConfig published = publishedConfig();
+        assertThat(published.getWeekend().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.30"));
+        assertThat(published.getStrategy().isDemandEnabled()).isFalse();
+        assertThat(published.getSeason().getPeak().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.25"));
+
+        InOrder order = inOrder(dynamicPricingService, priceQuoteCache);
+        order.verify(dynamicPricingService).publish(eq(published), any(PricingCalendar.class));
+        order.verify(priceQuoteCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should publish a new config and calendar without writing into the shared config")
+    void shouldLeaveSharedConfigUntouched() {
+        reloader.reload();
+
+        ArgumentCaptor<PricingCalendar> calendar = ArgumentCaptor.forClass(PricingCalendar.class);
+        verify(dynamicPricingService).publish(any(PricingConfig.class), calendar.capture());
+        assertThat(publishedConfig()).isNotSameAs(config);
+        assertThat(config.getWeekend().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.15"));
+        assertThat(config.getStrategy().isDemandEnabled()).isTrue();
+
+        LocalDate friday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
+        assertThat(calendar.getValue().countWeekendDays(friday, friday.plusDays(6))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should prefer values from the reload location over the environment")
+    void shouldPreferReloadLocation() throws IOException {
+        Path file = tempDir.resolve("pricing.properties");
+        Files.writeString(file, "pricing.weekend.multiplier=1.40\npricing.duration.tier1.days=5\n");
+        config.setReloadLocation(file.toUri().toString());
+
+        reloader.reload();
+
+        PricingConfig published = publishedConfig();
+        assertThat(published.getWeekend().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.40"));
+        assertThat(published.getDuration().getTier1().getDays()).isEqualTo(5);
+        assertThat(published.getStrategy().isDemandEnabled()).isFalse();
+        assertThat(published.getReloadLocation()).isEqualTo(file.toUri().toString());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the environment when the reload location is missing")
+    void shouldFallBackWhenReloadLocationMissing() {
+        config.setReloadLocation(tempDir.resolve("missing.properties").toUri().toString());
+
+        reloader.reload();
+
+        assertThat(publishedConfig().getWeekend().getMultiplier()).isEqualByComparingTo(new BigDecimal("1.30"));
+    }
+
+    private PricingConfig publishedConfig() {
+        ArgumentCaptor<PricingConfig> published = ArgumentCaptor.forClass(PricingConfig.class);
+        verify(dynamicPricingService).publish(published.capture(), any(PricingCalendar.class));
+        return published.getValue();
+    }
+}
@@ -2,9 +2,9 @@ package com.akif.car.unit.pricing.strategy;
 
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.demand.FleetDemandAggregator;
 import com.akif.car.internal.service.pricing.strategy.DemandPricingStrategy;
 import com.akif.rental.internal.config.PricingConfig;
-import com.akif.rental.internal.repository.RentalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,11 +16,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +34,7 @@ class DemandPricingStrategyTest {
     private PricingConfig config;
 
     @Mock
-    private RentalRepository rentalRepository;
+    private FleetDemandAggregator fleetDemandAggregator;
 
     @InjectMocks
     private DemandPricingStrategy strategy;
@@ -77,11 +80,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(9L);
+            )).thenReturn(90);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -106,11 +109,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(9L);
+            )).thenReturn(81);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -136,11 +139,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(6L);
+            )).thenReturn(60);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -164,11 +167,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(5L);
+            )).thenReturn(50);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -189,11 +192,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(8L);
+            )).thenReturn(80);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -219,11 +222,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(3L);
+            )).thenReturn(30);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -234,8 +237,8 @@ class DemandPricingStrategyTest {
         }
 
         @Test
-        @DisplayName("Should apply no surcharge when no overlapping rentals")
-        void shouldApplyNoSurchargeWhenNoOverlappingRentals() {
+        @DisplayName("Should apply no surcharge when nothing is booked")
+        void shouldApplyNoSurchargeWhenNothingBooked() {
             PricingContext context = new PricingContext(
                 1L,
                 new BigDecimal("500"),
@@ -247,11 +250,11 @@ class DemandPricingStrategyTest {
                 "SUV"
             );
 
-            when(rentalRepository.countOverlappingRentals(
-                eq(1L),
+            when(fleetDemandAggregator.occupancyPercent(
+                eq("SUV"),
                 any(LocalDate.class),
                 any(LocalDate.class)
-            )).thenReturn(0L);
+            )).thenReturn(0);
 
             PriceModifier result = strategy.calculate(context);
 
@@ -291,4 +294,56 @@ class DemandPricingStrategyTest {
             assertThat(strategy.isEnabled()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("Batch Pricing")
+    class BatchPricing {
+
+        @Test
+        @DisplayName("Should read occupancy once per body type in the batch")
+        void shouldReadOccupancyOncePerBodyType() {
+            LocalDate start = LocalDate.now().plusDays(10);
+            LocalDate end = LocalDate.now().plusDays(15);
+            List<PricingContext> contexts = List.of(
+                new PricingContext(1L, new BigDecimal("500"), start, end, LocalDate.now(), 6, 10, "SUV"),
+                new PricingContext(2L, new BigDecimal("500"), start, end, LocalDate.now(), 6, 10, "Sedan"),
+                new PricingContext(3L, new BigDecimal("500"), start, end, LocalDate.now(), 6, 10, "SUV")
+            );
+
+            when(fleetDemandAggregator.occupancyPercent("SUV", start, end)).thenReturn(90);
+            when(fleetDemandAggregator.occupancyPercent("Sedan", start, end)).thenReturn(20);
+
+            List<PriceModifier> result = strategy.calculateBatch(contexts);
+
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0).multiplier()).isEqualByComparingTo(new BigDecimal("1.20"));
+            assertThat(result.get(1).multiplier()).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(result.get(2).multiplier()).isEqualByComparingTo(new BigDecimal("1.20"));
+            verify(fleetDemandAggregator, times(1)).occupancyPercent("SUV", start, end);
+        }
+    }
+
+    @Nested
+    @DisplayName("Window Pricing")
+    class WindowPricing {
+
+        @Test
+        @DisplayName("Should price each window from its own fleet occupancy")
+        void shouldPriceEachWindowFromItsOccupancy() {
+            LocalDate base = LocalDate.now().plusDays(10);
+            List<PricingContext> windows = List.of(
+                new PricingContext(1L, new BigDecimal("500"), base, base.plusDays(2), LocalDate.now(), 3, 10, "SUV"),
+                new PricingContext(1L, new BigDecimal("500"), base.plusDays(5), base.plusDays(7), LocalDate.now(), 3, 15, "SUV")
+            );
+
+            when(fleetDemandAggregator.occupancyPercent("SUV", base, base.plusDays(2))).thenReturn(10);
+            when(fleetDemandAggregator.occupancyPercent("SUV", base.plusDays(5), base.plusDays(7))).thenReturn(60);
+
+            List<PriceModifier> result = strategy.calculateWindows(windows);
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).multiplier()).isEqualByComparingTo(BigDecimal.ONE);
+            assertThat(result.get(1).multiplier()).isEqualByComparingTo(new BigDecimal("1.10"));
+        }
+    }
 }
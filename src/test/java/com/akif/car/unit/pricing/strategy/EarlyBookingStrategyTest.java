@@ -2,6 +2,7 @@ package com.akif.car.unit.pricing.strategy;
 
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.PricingStrategy;
 import com.akif.car.internal.service.pricing.strategy.EarlyBookingStrategy;
 import com.akif.rental.internal.config.PricingConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -193,6 +194,39 @@ class EarlyBookingStrategyTest {
         }
     }
 
+    @Nested
+    @DisplayName("Compiled Rules")
+    class CompiledRules {
+
+        @Test
+        @DisplayName("Should keep tiers in the compiled stage and leave the strategy reading live config")
+        void shouldKeepTiersInCompiledStage() {
+            PricingContext context = new PricingContext(
+                1L,
+                new BigDecimal("500"),
+                LocalDate.now().plusDays(35),
+                LocalDate.now().plusDays(40),
+                LocalDate.now(),
+                5,
+                35,
+                "SUV"
+            );
+            PricingStrategy stage = strategy.compile();
+
+            earlyBookingConfig.setTier1(new PricingConfig.Tier(30, new BigDecimal("0.80")));
+            PriceModifier compiled = stage.calculate(context);
+
+            PricingStrategy recompiledStage = strategy.compile();
+            PriceModifier recompiled = recompiledStage.calculate(context);
+
+            assertThat(compiled.multiplier()).isEqualByComparingTo(new BigDecimal("0.85"));
+            assertThat(recompiled.multiplier()).isEqualByComparingTo(new BigDecimal("0.80"));
+            assertThat(stage.calculate(context).multiplier()).isEqualByComparingTo(new BigDecimal("0.85"));
+            assertThat(recompiledStage.calculate(context)).isSameAs(recompiled);
+            assertThat(strategy.calculate(context).multiplier()).isEqualByComparingTo(new BigDecimal("0.80"));
+        }
+    }
+
     @Nested
     @DisplayName("Strategy Metadata")
     class StrategyMetadata {
@@ -2,6 +2,7 @@ package com.akif.car.unit.pricing.strategy;
 
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
 import com.akif.car.internal.service.pricing.strategy.SeasonPricingStrategy;
 import com.akif.rental.internal.config.PricingConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,13 +10,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
@@ -27,7 +29,6 @@ class SeasonPricingStrategyTest {
     @Mock
     private PricingConfig config;
 
-    @InjectMocks
     private SeasonPricingStrategy strategy;
 
     private PricingConfig.SeasonConfig seasonConfig;
@@ -53,6 +54,9 @@ class SeasonPricingStrategyTest {
         
         lenient().when(config.getSeason()).thenReturn(seasonConfig);
         lenient().when(config.getStrategy()).thenReturn(strategyConfig);
+        lenient().when(config.getWeekend()).thenReturn(new PricingConfig.WeekendConfig());
+
+        strategy = new SeasonPricingStrategy(config, new PricingCalendar(config));
     }
 
     @Nested
@@ -283,4 +287,28 @@ class SeasonPricingStrategyTest {
             assertThat(strategy.isEnabled()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("Window Pricing")
+    class WindowPricing {
+
+        @Test
+        @DisplayName("Should match single-window pricing for every window across season boundaries")
+        void shouldMatchSingleWindowPricing() {
+            LocalDate firstStart = LocalDate.of(2024, 5, 20);
+            List<PricingContext> windows = new ArrayList<>();
+            for (int offset = 0; offset < 200; offset++) {
+                LocalDate start = firstStart.plusDays(offset);
+                windows.add(new PricingContext(1L, new BigDecimal("500"), start, start.plusDays(9),
+                    LocalDate.of(2024, 5, 1), 10, offset + 19, "SUV"));
+            }
+
+            List<PriceModifier> result = strategy.calculateWindows(windows);
+
+            assertThat(result).hasSize(windows.size());
+            for (int i = 0; i < windows.size(); i++) {
+                assertThat(result.get(i)).isEqualTo(strategy.calculate(windows.get(i)));
+            }
+        }
+    }
 }
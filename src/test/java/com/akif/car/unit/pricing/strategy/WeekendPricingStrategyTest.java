@@ -2,19 +2,20 @@ package com.akif.car.unit.pricing.strategy;
 
 import com.akif.car.internal.dto.pricing.PriceModifier;
 import com.akif.car.internal.dto.pricing.PricingContext;
+import com.akif.car.internal.service.pricing.calendar.PricingCalendar;
 import com.akif.car.internal.service.pricing.strategy.WeekendPricingStrategy;
 import com.akif.rental.internal.config.PricingConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,7 +28,6 @@ class WeekendPricingStrategyTest {
     @Mock
     private PricingConfig config;
 
-    @InjectMocks
     private WeekendPricingStrategy strategy;
 
     @BeforeEach
@@ -40,6 +40,9 @@ class WeekendPricingStrategyTest {
         
         lenient().when(config.getWeekend()).thenReturn(weekendConfig);
         lenient().when(config.getStrategy()).thenReturn(strategyConfig);
+        lenient().when(config.getSeason()).thenReturn(new PricingConfig.SeasonConfig());
+
+        strategy = new WeekendPricingStrategy(config, new PricingCalendar(config));
     }
 
     @Test
@@ -147,4 +150,23 @@ class WeekendPricingStrategyTest {
         
         assertThat(strategy.isEnabled()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should match single-window pricing for every sliding window")
+    void shouldMatchSingleWindowPricingForSlidingWindows() {
+        LocalDate firstStart = LocalDate.of(2024, 1, 1);
+        List<PricingContext> windows = new ArrayList<>();
+        for (int offset = 0; offset < 21; offset++) {
+            LocalDate start = firstStart.plusDays(offset);
+            windows.add(new PricingContext(1L, new BigDecimal("500"), start, start.plusDays(3),
+                LocalDate.of(2023, 12, 20), 4, offset + 12, "SUV"));
+        }
+
+        List<PriceModifier> result = strategy.calculateWindows(windows);
+
+        assertThat(result).hasSize(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            assertThat(result.get(i)).isEqualTo(strategy.calculate(windows.get(i)));
+        }
+    }
+}
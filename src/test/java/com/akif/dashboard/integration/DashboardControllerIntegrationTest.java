@@ -342,6 +342,56 @@ class DashboardControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Fleet Utilization Tests")
+    class FleetUtilizationTests {
+
+        @Test
+        @DisplayName("Should return booked days and idle gaps for the requested range")
+        void shouldReturnFleetUtilizationForRange() throws Exception {
+            LocalDate startDate = LocalDate.now().plusDays(10);
+            LocalDate endDate = startDate.plusDays(9);
+            createTestRental(RentalStatus.CONFIRMED, startDate.plusDays(2), startDate.plusDays(4));
+            createTestRental(RentalStatus.RETURNED, startDate.plusDays(4), startDate.plusDays(5));
+            createTestRental(RentalStatus.CANCELLED, startDate.plusDays(7), startDate.plusDays(9));
+
+            mockMvc.perform(get("/api/admin/dashboard/utilization")
+                            .header("Authorization", adminToken)
+                            .param("startDate", startDate.toString())
+                            .param("endDate", endDate.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalDays").value(10))
+                    .andExpect(jsonPath("$.totalCars").value(1))
+                    .andExpect(jsonPath("$.bookedCarDays").value(4))
+                    .andExpect(jsonPath("$.utilizationRate").value(40.0))
+                    .andExpect(jsonPath("$.cars[0].licensePlate").value("34DSH001"))
+                    .andExpect(jsonPath("$.cars[0].idleDays").value(6))
+                    .andExpect(jsonPath("$.cars[0].idleGaps").value(2))
+                    .andExpect(jsonPath("$.cars[0].longestIdleGapDays").value(4))
+                    .andExpect(jsonPath("$.brands[0].segment").value("Toyota"))
+                    .andExpect(jsonPath("$.brands[0].bookedDays").value(4));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when end date is before start date")
+        void shouldReturn400WhenRangeIsInverted() throws Exception {
+            mockMvc.perform(get("/api/admin/dashboard/utilization")
+                            .header("Authorization", adminToken)
+                            .param("startDate", LocalDate.now().toString())
+                            .param("endDate", LocalDate.now().minusDays(1).toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value("INVALID_REPORT_RANGE"));
+        }
+
+        @Test
+        @DisplayName("Should return 403 when user tries to access fleet utilization")
+        void shouldReturn403WhenUserTriesToAccessFleetUtilization() throws Exception {
+            mockMvc.perform(get("/api/admin/dashboard/utilization")
+                            .header("Authorization", userToken))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("Pending Items Pagination Tests")
     class PendingItemsPaginationTests {
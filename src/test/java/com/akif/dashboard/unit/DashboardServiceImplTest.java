@@ -3,11 +3,13 @@ package com.akif.dashboard.unit;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.DailyRevenueDto;
 import com.akif.dashboard.api.dto.FleetStatusDto;
+import com.akif.dashboard.api.dto.FleetUtilizationDto;
 import com.akif.dashboard.api.dto.MonthlyMetricsDto;
 import com.akif.dashboard.api.dto.MonthlyRevenueDto;
 import com.akif.dashboard.api.dto.PendingItemDto;
 import com.akif.dashboard.api.dto.RevenueAnalyticsDto;
 import com.akif.dashboard.api.dto.RevenueBreakdownDto;
+import com.akif.dashboard.internal.exception.InvalidReportRangeException;
 import com.akif.dashboard.internal.service.DashboardQueryService;
 import com.akif.dashboard.internal.service.DashboardServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -372,6 +377,47 @@ class DashboardServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Fleet Utilization Operations")
+    class FleetUtilizationOperations {
+
+        @Test
+        @DisplayName("getFleetUtilization - should delegate to queryService with the given range")
+        void shouldDelegateToQueryService() {
+            LocalDate startDate = LocalDate.of(2026, 1, 1);
+            LocalDate endDate = LocalDate.of(2026, 1, 31);
+            FleetUtilizationDto utilization = new FleetUtilizationDto(
+                startDate, endDate, 31, 0, 0, BigDecimal.ZERO,
+                List.of(), List.of(), List.of(), LocalDateTime.now()
+            );
+            when(queryService.fetchFleetUtilization(startDate, endDate)).thenReturn(utilization);
+
+            FleetUtilizationDto result = dashboardService.getFleetUtilization(startDate, endDate);
+
+            assertThat(result).isEqualTo(utilization);
+            verify(queryService).fetchFleetUtilization(startDate, endDate);
+        }
+
+        @Test
+        @DisplayName("getFleetUtilization - should reject an end date before the start date")
+        void shouldRejectInvertedRange() {
+            assertThatThrownBy(() -> dashboardService.getFleetUtilization(
+                    LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 31)))
+                .isInstanceOf(InvalidReportRangeException.class);
+
+            verify(queryService, never()).fetchFleetUtilization(any(), any());
+        }
+
+        @Test
+        @DisplayName("getFleetUtilization - should reject ranges longer than ten years")
+        void shouldRejectOversizedRange() {
+            LocalDate startDate = LocalDate.of(2010, 1, 1);
+
+            assertThatThrownBy(() -> dashboardService.getFleetUtilization(startDate, startDate.plusYears(11)))
+                .isInstanceOf(InvalidReportRangeException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Pending Items Operations (Real-time, No Cache)")
     class PendingItemsOperations {
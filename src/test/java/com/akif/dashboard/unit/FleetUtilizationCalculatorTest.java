@@ -0,0 +1,118 @@
+package com.akif.dashboard.unit;
+
+import com.akif.dashboard.internal.service.utilization.FleetUtilizationCalculator;
+import com.akif.rental.api.BookedIntervals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FleetUtilizationCalculator Unit Tests")
+class FleetUtilizationCalculatorTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 3, 1);
+    private static final LocalDate LAST = LocalDate.of(2026, 3, 31);
+
+    private final FleetUtilizationCalculator calculator = new FleetUtilizationCalculator();
+
+    @Test
+    @DisplayName("Should merge overlapping rentals and clip them to the window")
+    void shouldMergeOverlapsAndClipToWindow() {
+        BookedIntervals intervals = BookedIntervals.builder()
+                .add(1, FIRST.minusDays(5), FIRST.plusDays(1))
+                .add(1, FIRST.plusDays(10), FIRST.plusDays(14))
+                .add(1, FIRST.plusDays(12), FIRST.plusDays(16))
+                .add(1, FIRST.plusDays(13), FIRST.plusDays(14))
+                .add(1, LAST.minusDays(1), LAST.plusDays(7))
+                .build();
+
+        FleetUtilizationCalculator.Result result = calculate(new long[]{1}, intervals);
+
+        assertThat(result.bookedDays(0)).isEqualTo(2 + 7 + 2);
+        assertThat(result.idleGaps(0)).isEqualTo(2);
+        assertThat(result.longestIdleGap(0)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should treat a car without rentals as one idle gap and skip cars outside the fleet")
+    void shouldHandleIdleAndUnknownCars() {
+        BookedIntervals intervals = BookedIntervals.builder()
+                .add(2, FIRST, LAST)
+                .add(3, FIRST, FIRST)
+                .add(7, FIRST, LAST)
+                .build();
+
+        FleetUtilizationCalculator.Result result = calculate(new long[]{1, 3, 9}, intervals);
+
+        assertThat(result.bookedDays(0)).isZero();
+        assertThat(result.idleGaps(0)).isEqualTo(1);
+        assertThat(result.longestIdleGap(0)).isEqualTo(31);
+        assertThat(result.bookedDays(1)).isEqualTo(1);
+        assertThat(result.longestIdleGap(1)).isEqualTo(30);
+        assertThat(result.bookedDays(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should match a day-by-day count across many partitions")
+    void shouldMatchBruteForceAcrossPartitions() {
+        Random random = new Random(49);
+        long[] carIds = LongStream.rangeClosed(1, 1000).map(id -> id * 3).toArray();
+        record Interval(long carId, LocalDate start, LocalDate end) {}
+        List<Interval> rentals = new ArrayList<>();
+        for (int i = 0; i < 8000; i++) {
+            long carId = (random.nextInt(1100) + 1) * 3L - random.nextInt(2);
+            LocalDate start = FIRST.minusDays(10).plusDays(random.nextInt(50));
+            rentals.add(new Interval(carId, start, start.plusDays(random.nextInt(6))));
+        }
+        rentals.sort(Comparator.comparingLong(Interval::carId).thenComparing(Interval::start));
+        BookedIntervals.Builder builder = BookedIntervals.builder();
+        rentals.forEach(rental -> builder.add(rental.carId(), rental.start(), rental.end()));
+
+        FleetUtilizationCalculator.Result result = calculate(carIds, builder.build());
+
+        for (int car = 0; car < carIds.length; car++) {
+            boolean[] booked = new boolean[31];
+            for (Interval rental : rentals) {
+                if (rental.carId() != carIds[car]) {
+                    continue;
+                }
+                for (LocalDate day = rental.start(); !day.isAfter(rental.end()); day = day.plusDays(1)) {
+                    if (!day.isBefore(FIRST) && !day.isAfter(LAST)) {
+                        booked[day.getDayOfMonth() - 1] = true;
+                    }
+                }
+            }
+            int bookedDays = 0;
+            int gaps = 0;
+            int longestGap = 0;
+            int run = 0;
+            for (int day = 0; day < booked.length; day++) {
+                if (booked[day]) {
+                    bookedDays++;
+                    run = 0;
+                } else {
+                    if (run == 0) {
+                        gaps++;
+                    }
+                    run++;
+                    longestGap = Math.max(longestGap, run);
+                }
+            }
+            assertThat(result.bookedDays(car)).as("booked days of car %d", carIds[car]).isEqualTo(bookedDays);
+            assertThat(result.idleGaps(car)).as("idle gaps of car %d", carIds[car]).isEqualTo(gaps);
+            assertThat(result.longestIdleGap(car)).as("longest gap of car %d", carIds[car]).isEqualTo(longestGap);
+        }
+    }
+
+    private FleetUtilizationCalculator.Result calculate(long[] carIds, BookedIntervals intervals) {
+        return calculator.calculate(carIds, intervals,
+                Math.toIntExact(FIRST.toEpochDay()), Math.toIntExact(LAST.toEpochDay()));
+    }
+}
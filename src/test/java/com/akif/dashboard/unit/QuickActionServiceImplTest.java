@@ -1,9 +1,12 @@
 package com.akif.dashboard.unit;
 
+import com.akif.dashboard.api.dto.BulkQuickActionResultDto;
 import com.akif.dashboard.api.dto.DailySummaryDto;
 import com.akif.dashboard.api.dto.QuickActionResultDto;
 import com.akif.dashboard.internal.service.DashboardQueryService;
 import com.akif.dashboard.internal.service.QuickActionServiceImpl;
+import com.akif.rental.api.RentalActionOutcome;
+import com.akif.rental.api.RentalBulkService;
 import com.akif.rental.api.RentalResponse;
 import com.akif.rental.api.RentalService;
 import com.akif.rental.domain.enums.RentalStatus;
@@ -17,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +36,9 @@ class QuickActionServiceImplTest {
     @Mock
     private RentalService rentalService;
 
+    @Mock
+    private RentalBulkService rentalBulkService;
+
     @Mock
     private DashboardQueryService dashboardQueryService;
 
@@ -174,6 +181,50 @@ class QuickActionServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk Action Tests")
+    class BulkActionTests {
+
+        @Test
+        @DisplayName("Should report per-rental outcomes for bulk approval")
+        void shouldReportOutcomesForBulkApproval() {
+            List<Long> rentalIds = List.of(1L, 2L, 3L);
+            when(rentalBulkService.confirmRentals(rentalIds)).thenReturn(List.of(
+                RentalActionOutcome.succeeded(1L, RentalStatus.CONFIRMED),
+                RentalActionOutcome.failed(2L, "RENTAL_NOT_FOUND", "Rental not found"),
+                RentalActionOutcome.succeeded(3L, RentalStatus.CONFIRMED)
+            ));
+            when(dashboardQueryService.fetchDailySummary()).thenReturn(testSummary);
+
+            BulkQuickActionResultDto result = quickActionService.approveRentals(rentalIds);
+
+            assertThat(result.requested()).isEqualTo(3);
+            assertThat(result.succeeded()).isEqualTo(2);
+            assertThat(result.failed()).isEqualTo(1);
+            assertThat(result.results()).extracting(RentalActionOutcome::rentalId).containsExactly(1L, 2L, 3L);
+            assertThat(result.updatedSummary()).isEqualTo(testSummary);
+
+            verify(dashboardQueryService).fetchDailySummary();
+        }
+
+        @Test
+        @DisplayName("Should pass quick action notes to bulk pickup and return")
+        void shouldPassNotesToBulkPickupAndReturn() {
+            List<Long> rentalIds = List.of(1L);
+            when(rentalBulkService.pickupRentals(eq(rentalIds), anyString()))
+                .thenReturn(List.of(RentalActionOutcome.succeeded(1L, RentalStatus.IN_USE)));
+            when(rentalBulkService.returnRentals(eq(rentalIds), anyString()))
+                .thenReturn(List.of(RentalActionOutcome.succeeded(1L, RentalStatus.RETURNED)));
+            when(dashboardQueryService.fetchDailySummary()).thenReturn(testSummary);
+
+            assertThat(quickActionService.processPickups(rentalIds).succeeded()).isEqualTo(1);
+            assertThat(quickActionService.processReturns(rentalIds).succeeded()).isEqualTo(1);
+
+            verify(rentalBulkService).pickupRentals(rentalIds, "Processed via dashboard quick action");
+            verify(rentalBulkService).returnRentals(rentalIds, "Processed via dashboard quick action");
+        }
+    }
+
     @Nested
     @DisplayName("Updated Summary Tests")
     class UpdatedSummaryTests {
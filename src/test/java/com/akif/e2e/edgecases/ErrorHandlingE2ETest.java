@@ -26,6 +26,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -221,19 +225,28 @@ class ErrorHandlingE2ETest extends E2ETestBase {
     class PaymentFailureTests {
 
         @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         @DisplayName("Should keep rental in REQUESTED state when payment authorization fails")
         void shouldKeepRentalRequestedWhenPaymentFails() throws Exception {
-            User testUser = TestDataBuilder.createTestUser();
-            testUser = userRepository.save(testUser);
-            String userToken = generateUserToken(testUser);
+            User testUser = userRepository.save(TestDataBuilder.createTestUser());
+            User testAdmin = userRepository.save(TestDataBuilder.createTestAdmin());
+            Car testCar = carRepository.save(TestDataBuilder.createAvailableCar());
+            try {
+                assertRentalStaysRequestedWhenPaymentFails(testUser, testAdmin, testCar);
+            } finally {
+                Long carId = testCar.getId();
+                rentalRepository.deleteAll(rentalRepository.findAll().stream()
+                        .filter(rental -> carId.equals(rental.getCarId()))
+                        .toList());
+                carRepository.deleteById(carId);
+                userRepository.deleteAllById(List.of(testUser.getId(), testAdmin.getId()));
+            }
+        }
 
-            User testAdmin = TestDataBuilder.createTestAdmin();
-            testAdmin = userRepository.save(testAdmin);
+        private void assertRentalStaysRequestedWhenPaymentFails(User testUser, User testAdmin, Car testCar) throws Exception {
+            String userToken = generateUserToken(testUser);
             String adminToken = generateAdminToken(testAdmin);
 
-            Car testCar = TestDataBuilder.createAvailableCar();
-            testCar = carRepository.save(testCar);
-
             RentalRequest rentalRequest = TestDataBuilder.createRentalRequest(testCar.getId());
             Long rentalId = createAndGetRentalId(rentalRequest, userToken);
 
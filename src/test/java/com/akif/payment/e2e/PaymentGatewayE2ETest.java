@@ -13,6 +13,7 @@ import com.akif.payment.internal.repository.PaymentRepository;
 import com.akif.payment.internal.service.gateway.PaymentGateway;
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.internal.dto.request.RentalRequest;
+import com.akif.rental.internal.repository.RentalRepository;
 import com.akif.starter.CarGalleryProjectApplication;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +22,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +48,9 @@ class PaymentGatewayE2ETest extends E2ETestBase {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private RentalRepository rentalRepository;
+
     @MockitoSpyBean
     private PaymentGateway paymentGateway;
 
@@ -223,19 +231,28 @@ class PaymentGatewayE2ETest extends E2ETestBase {
     class PaymentFailureHandlingTests {
 
         @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         @DisplayName("Should keep rental in REQUESTED state when payment authorization fails")
         void shouldKeepRentalRequestedOnAuthorizationFailure() throws Exception {
-            User testUser = TestDataBuilder.createTestUser();
-            testUser = userRepository.save(testUser);
-            String userToken = generateUserToken(testUser);
+            User testUser = userRepository.save(TestDataBuilder.createTestUser());
+            User testAdmin = userRepository.save(TestDataBuilder.createTestAdmin());
+            Car testCar = carRepository.save(TestDataBuilder.createAvailableCar());
+            try {
+                assertRentalStaysRequestedOnAuthorizationFailure(testUser, testAdmin, testCar);
+            } finally {
+                Long carId = testCar.getId();
+                rentalRepository.deleteAll(rentalRepository.findAll().stream()
+                        .filter(rental -> carId.equals(rental.getCarId()))
+                        .toList());
+                carRepository.deleteById(carId);
+                userRepository.deleteAllById(List.of(testUser.getId(), testAdmin.getId()));
+            }
+        }
 
-            User testAdmin = TestDataBuilder.createTestAdmin();
-            testAdmin = userRepository.save(testAdmin);
+        private void assertRentalStaysRequestedOnAuthorizationFailure(User testUser, User testAdmin, Car testCar) throws Exception {
+            String userToken = generateUserToken(testUser);
             String adminToken = generateAdminToken(testAdmin);
 
-            Car testCar = TestDataBuilder.createAvailableCar();
-            testCar = carRepository.save(testCar);
-
             RentalRequest rentalRequest = TestDataBuilder.createRentalRequest(testCar.getId());
             Long rentalId = createAndGetRentalId(rentalRequest, userToken);
 
@@ -253,6 +270,7 @@ class PaymentGatewayE2ETest extends E2ETestBase {
                             .content(objectMapper.writeValueAsString(rentalRequest)))
                     .andExpect(status().isCreated());
 
+            assertThat(rentalRepository.findById(rentalId).orElseThrow().getStatus()).isEqualTo(RentalStatus.REQUESTED);
             paymentRepository.findByRentalIdAndIsDeletedFalse(rentalId).ifPresent(payment -> assertThat(payment.getStatus()).isNotEqualTo(PaymentStatus.AUTHORIZED));
 
         }
@@ -0,0 +1,175 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.exception.CarCannotBeReservedException;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.rental.api.RentalService;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.BookingConflictException;
+import com.akif.rental.internal.exception.RentalDateOverlapException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Booking Concurrency Stress Tests")
+class BookingConcurrencyStressTest extends E2ETestBase {
+
+    private static final int CARS = 4;
+    private static final int REQUESTS_PER_CAR = 500;
+    private static final int CONFIRMS_PER_CAR = 50;
+    private static final int THREADS = 32;
+
+    private static final Set<Class<? extends Exception>> EXPECTED_REJECTIONS = Set.of(
+            BookingConflictException.class,
+            RentalDateOverlapException.class,
+            CarCannotBeReservedException.class
+    );
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private User user;
+    private List<Car> cars;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("booking-stress-user", Role.USER));
+        cars = new ArrayList<>();
+        for (int i = 0; i < CARS; i++) {
+            cars.add(carRepository.save(TestDataBuilder.createAvailableCar()));
+        }
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        paymentRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteAllById(cars.stream().map(Car::getId).toList());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should confirm at most one overlapping rental per car under thousands of parallel attempts")
+    void shouldNeverDoubleBookUnderContention() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+
+        List<Callable<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < CARS * REQUESTS_PER_CAR; i++) {
+            Long carId = cars.get(i % CARS).getId();
+            LocalDate startDate = start.plusDays(i % 5);
+            requests.add(() -> rentalService.requestRental(
+                    TestDataBuilder.createRentalRequest(carId, startDate, startDate.plusDays(3)),
+                    user.getUsername()).id());
+        }
+        Map<String, AtomicInteger> requestOutcomes = new ConcurrentHashMap<>();
+        List<Long> rentalIds = run(requests, requestOutcomes);
+
+        assertThat(requestOutcomes.keySet()).allSatisfy(outcome ->
+                assertThat(outcome).isIn("OK", BookingConflictException.class.getSimpleName()));
+        assertThat(rentalIds).hasSizeGreaterThan(CARS * CONFIRMS_PER_CAR);
+
+        Map<Long, List<Long>> rentalIdsByCar = rentalRepository.findAllById(rentalIds).stream()
+                .collect(Collectors.groupingBy(Rental::getCarId,
+                        Collectors.mapping(Rental::getId, Collectors.toList())));
+        List<Callable<Long>> confirms = new ArrayList<>();
+        for (List<Long> ids : rentalIdsByCar.values()) {
+            for (Long rentalId : ids.subList(0, Math.min(CONFIRMS_PER_CAR, ids.size()))) {
+                confirms.add(() -> rentalService.confirmRental(rentalId).id());
+            }
+        }
+        Map<String, AtomicInteger> confirmOutcomes = new ConcurrentHashMap<>();
+        run(confirms, confirmOutcomes);
+
+        Set<String> expected = EXPECTED_REJECTIONS.stream().map(Class::getSimpleName).collect(Collectors.toSet());
+        assertThat(confirmOutcomes.keySet()).allSatisfy(outcome ->
+                assertThat(outcome).isIn(concat("OK", expected)));
+
+        Map<Long, List<Rental>> confirmedByCar = rentalRepository.findAll().stream()
+                .filter(rental -> rental.getStatus() == RentalStatus.CONFIRMED)
+                .collect(Collectors.groupingBy(Rental::getCarId));
+        assertThat(confirmedByCar).hasSize(CARS);
+        confirmedByCar.values().forEach(confirmed -> assertThat(confirmed).hasSize(1));
+        assertThat(confirmOutcomes.get("OK")).hasValue(CARS);
+    }
+
+    private static Set<String> concat(String first, Set<String> rest) {
+        Set<String> all = new HashSet<>(rest);
+        all.add(first);
+        return all;
+    }
+
+    private List<Long> run(List<Callable<Long>> tasks, Map<String, AtomicInteger> outcomes) throws InterruptedException {
+        List<Callable<Long>> recording = tasks.stream().<Callable<Long>>map(task -> () -> {
+            try {
+                Long id = task.call();
+                outcomes.computeIfAbsent("OK", key -> new AtomicInteger()).incrementAndGet();
+                return id;
+            } catch (Exception e) {
+                outcomes.computeIfAbsent(e.getClass().getSimpleName(), key -> new AtomicInteger()).incrementAndGet();
+                return null;
+            }
+        }).toList();
+
+        List<Long> ids = new ArrayList<>();
+        for (Future<Long> future : executor.invokeAll(recording, 2, TimeUnit.MINUTES)) {
+            try {
+                Long id = future.get();
+                if (id != null) {
+                    ids.add(id);
+                }
+            } catch (Exception e) {
+                outcomes.computeIfAbsent("Timeout", key -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,154 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.car.internal.service.availability.CarAvailabilityService;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.dto.request.BookingHoldRequest;
+import com.akif.rental.internal.dto.response.BookingHoldResponse;
+import com.akif.rental.internal.repository.BookingHoldRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Booking Hold Integration Tests")
+class BookingHoldIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private BookingHoldRepository bookingHoldRepository;
+
+    @Autowired
+    private CarAvailabilityService carAvailabilityService;
+
+    @Autowired
+    private BookingConfig bookingConfig;
+
+    private User holder;
+    private User competitor;
+    private Car car;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long defaultTtlSeconds;
+
+    @BeforeEach
+    void setUpData() {
+        holder = userRepository.save(TestDataBuilder.createTestUser("hold-owner", Role.USER));
+        competitor = userRepository.save(TestDataBuilder.createTestUser("hold-competitor", Role.USER));
+        car = carRepository.save(TestDataBuilder.createAvailableCar());
+        startDate = LocalDate.now().plusDays(20);
+        endDate = startDate.plusDays(3);
+        defaultTtlSeconds = bookingConfig.getHold().getTtlSeconds();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingConfig.getHold().setTtlSeconds(defaultTtlSeconds);
+        bookingHoldRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteById(car.getId());
+        userRepository.deleteAllById(List.of(holder.getId(), competitor.getId()));
+    }
+
+    @Test
+    @DisplayName("Should block other customers from the held dates but not the holder")
+    void shouldBlockOthersButNotHolder() throws Exception {
+        placeHold(holder).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.carId").value(car.getId()))
+                .andExpect(jsonPath("$.expiresAt").exists());
+
+        assertThat(carAvailabilityService.isCarAvailable(car.getId(), startDate.plusDays(1), endDate.plusDays(2))).isFalse();
+        assertThat(carAvailabilityService.isCarAvailable(car.getId(), endDate.plusDays(1), endDate.plusDays(4))).isTrue();
+
+        requestRental(competitor, startDate.plusDays(1), endDate.plusDays(2))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("BOOKING_CONFLICT"));
+        placeHold(competitor).andExpect(status().isConflict());
+
+        requestRental(holder, startDate, endDate).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should free the dates when the holder releases the hold")
+    void shouldFreeDatesOnRelease() throws Exception {
+        Long holdId = readHold(placeHold(holder).andExpect(status().isCreated()).andReturn()).id();
+
+        mockMvc.perform(delete("/api/rentals/holds/{id}", holdId)
+                        .header("Authorization", "Bearer " + generateUserToken(competitor)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/rentals/holds/{id}", holdId)
+                        .header("Authorization", "Bearer " + generateUserToken(holder)))
+                .andExpect(status().isNoContent());
+
+        assertThat(bookingHoldRepository.count()).isZero();
+        requestRental(competitor, startDate, endDate).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Should release an expired hold from the timing wheel")
+    void shouldReleaseExpiredHold() throws Exception {
+        bookingConfig.getHold().setTtlSeconds(1);
+        placeHold(holder).andExpect(status().isCreated());
+        assertThat(bookingHoldRepository.count()).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(bookingHoldRepository.count()).isZero());
+
+        assertThat(carAvailabilityService.isCarAvailable(car.getId(), startDate, endDate)).isTrue();
+        requestRental(competitor, startDate, endDate).andExpect(status().isCreated());
+    }
+
+    private ResultActions placeHold(User user) throws Exception {
+        return mockMvc.perform(post("/api/rentals/holds")
+                .header("Authorization", "Bearer " + generateUserToken(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingHoldRequest(car.getId(), startDate, endDate))));
+    }
+
+    private ResultActions requestRental(User user, LocalDate from, LocalDate to) throws Exception {
+        return mockMvc.perform(post("/api/rentals/request")
+                .header("Authorization", "Bearer " + generateUserToken(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TestDataBuilder.createRentalRequest(car.getId(), from, to))));
+    }
+
+    private BookingHoldResponse readHold(MvcResult result) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), BookingHoldResponse.class);
+    }
+}
@@ -0,0 +1,229 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.damage.domain.enums.DamageCategory;
+import com.akif.damage.domain.enums.DamageSeverity;
+import com.akif.damage.domain.enums.DamageStatus;
+import com.akif.damage.domain.model.DamageReport;
+import com.akif.damage.internal.dto.damage.request.DamageDisputeRequest;
+import com.akif.damage.internal.dto.damage.request.DamageReportRequest;
+import com.akif.damage.internal.repository.DamageReportRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.rental.api.RentalService;
+import com.akif.rental.domain.enums.LateReturnStatus;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.ArchivedRental;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.repository.ArchivedRentalRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.archive.RentalArchiveService;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Rental Archive Integration Tests")
+class RentalArchiveIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private ArchivedRentalRepository archivedRentalRepository;
+
+    @Autowired
+    private RentalArchiveService rentalArchiveService;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private DamageReportRepository damageReportRepository;
+
+    @Autowired
+    private BookingConfig bookingConfig;
+
+    private User user;
+    private User admin;
+    private Car car;
+    private int originalBatchSize;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("archive-user", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("archive-admin", Role.ADMIN));
+        car = carRepository.save(TestDataBuilder.createAvailableCar("34ARCH01", new BigDecimal("500.00")));
+        originalBatchSize = bookingConfig.getArchive().getBatchSize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingConfig.getArchive().setBatchSize(originalBatchSize);
+        damageReportRepository.deleteAll();
+        archivedRentalRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteById(car.getId());
+        userRepository.deleteAllById(List.of(user.getId(), admin.getId()));
+    }
+
+    @Test
+    @DisplayName("Should move only settled rentals past retention to the archive in batches")
+    void shouldArchiveSettledRentalsPastRetention() {
+        LocalDate longAgo = LocalDate.now().minusYears(2);
+        Long returned = saveRental(longAgo, RentalStatus.RETURNED).getId();
+        Long cancelled = saveRental(longAgo.plusDays(10), RentalStatus.CANCELLED).getId();
+        Long recent = saveRental(LocalDate.now().minusDays(20), RentalStatus.RETURNED).getId();
+        Long inUse = saveRental(longAgo.plusDays(20), RentalStatus.IN_USE).getId();
+        Rental unpaid = TestDataBuilder.createRental(car, user, longAgo.plusDays(30), longAgo.plusDays(33), RentalStatus.RETURNED);
+        unpaid.setPenaltyAmount(new BigDecimal("150.00"));
+        unpaid.setPenaltyPaid(false);
+        Long unpaidPenalty = rentalRepository.save(unpaid).getId();
+        bookingConfig.getArchive().setBatchSize(1);
+
+        int archived = rentalArchiveService.archiveCompletedRentals();
+
+        assertThat(archived).isEqualTo(2);
+        assertThat(archivedRentalRepository.findAll())
+                .extracting(ArchivedRental::getId)
+                .containsExactlyInAnyOrder(returned, cancelled);
+        assertThat(rentalRepository.findAll())
+                .extracting(Rental::getId)
+                .containsExactlyInAnyOrder(recent, inUse, unpaidPenalty);
+        assertThat(archivedRentalRepository.findById(returned).orElseThrow().getTotalPrice())
+                .isEqualByComparingTo("1500.00");
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep archived rentals in the customer's history")
+    void shouldKeepArchivedRentalsInHistory() throws Exception {
+        LocalDate longAgo = LocalDate.now().minusYears(2);
+        Long archivedId = saveRental(longAgo, RentalStatus.RETURNED).getId();
+        Long liveId = saveRental(LocalDate.now().plusDays(5), RentalStatus.REQUESTED).getId();
+        rentalArchiveService.archiveCompletedRentals();
+        String token = generateUserToken(user);
+
+        mockMvc.perform(get("/api/rentals/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(containsInAnyOrder(archivedId.intValue(), liveId.intValue())));
+
+        mockMvc.perform(get("/api/rentals/{id}", archivedId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Returned"));
+        assertThat(rentalRepository.findById(archivedId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep rentals with open damage reports out of the archive until resolved")
+    void shouldNotArchiveRentalsWithOpenDamageReports() throws Exception {
+        Long rentalId = saveRental(LocalDate.now().minusYears(2), RentalStatus.RETURNED).getId();
+        Long damageId = reportDamage(rentalId);
+
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isZero();
+        assertThat(rentalRepository.findById(rentalId)).isPresent();
+
+        DamageReport report = damageReportRepository.findById(damageId).orElseThrow();
+        report.setStatus(DamageStatus.RESOLVED);
+        damageReportRepository.save(report);
+
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isEqualTo(1);
+        assertThat(archivedRentalRepository.findById(rentalId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should keep archived rentals in the dashboard aggregates")
+    void shouldKeepArchivedRentalsInAggregates() {
+        LocalDate longAgo = LocalDate.now().minusYears(2);
+        Rental late = TestDataBuilder.createRental(car, user, longAgo, longAgo.plusDays(3), RentalStatus.RETURNED);
+        late.setLateReturnStatus(LateReturnStatus.LATE);
+        late.setPenaltyAmount(new BigDecimal("120.00"));
+        late.setPenaltyPaid(true);
+        rentalRepository.save(late);
+        saveRental(longAgo.plusDays(10), RentalStatus.CANCELLED);
+        LocalDate from = longAgo.minusDays(1);
+        LocalDate to = LocalDate.now();
+
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isEqualTo(2);
+        assertThat(rentalRepository.count()).isZero();
+
+        assertThat(rentalService.countByStatus(RentalStatus.RETURNED)).isEqualTo(1);
+        assertThat(rentalService.countByStatus(RentalStatus.CANCELLED)).isEqualTo(1);
+        assertThat(rentalService.sumCollectedPenaltyRevenue(from, to)).isEqualByComparingTo("120.00");
+        assertThat(rentalService.getAverageRentalDurationDays(from, to)).isEqualByComparingTo("3.00");
+    }
+
+    @Test
+    @DisplayName("Should report and dispute damage on an archived rental")
+    void shouldReportAndDisputeDamageOnArchivedRental() throws Exception {
+        Long rentalId = saveRental(LocalDate.now().minusYears(2), RentalStatus.RETURNED).getId();
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isEqualTo(1);
+
+        Long damageId = reportDamage(rentalId);
+
+        ArchivedRental archived = archivedRentalRepository.findById(rentalId).orElseThrow();
+        assertThat(archived.getHasDamageReports()).isTrue();
+        assertThat(archived.getDamageReportsCount()).isEqualTo(1);
+
+        DamageReport report = damageReportRepository.findById(damageId).orElseThrow();
+        report.setCustomerLiability(new BigDecimal("750.00"));
+        report.setStatus(DamageStatus.CHARGED);
+        damageReportRepository.save(report);
+
+        mockMvc.perform(post("/api/damages/{id}/dispute", damageId)
+                        .header("Authorization", "Bearer " + generateUserToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DamageDisputeRequest("Damage was already there", null))))
+                .andExpect(status().isCreated());
+
+        assertThat(damageReportRepository.findById(damageId).orElseThrow().getStatus()).isEqualTo(DamageStatus.DISPUTED);
+    }
+
+    private Long reportDamage(Long rentalId) throws Exception {
+        DamageReportRequest request = new DamageReportRequest(
+                "Scratch on rear bumper", "Rear bumper", DamageSeverity.MINOR, DamageCategory.SCRATCH);
+        String body = mockMvc.perform(post("/api/admin/damages")
+                        .header("Authorization", "Bearer " + generateAdminToken(admin))
+                        .param("rentalId", rentalId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private Rental saveRental(LocalDate start, RentalStatus status) {
+        return rentalRepository.save(TestDataBuilder.createRental(car, user, start, start.plusDays(3), status));
+    }
+}
@@ -0,0 +1,259 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.domain.enums.CarStatusType;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.payment.api.PaymentCapturedEvent;
+import com.akif.payment.api.PaymentResult;
+import com.akif.payment.api.PaymentService;
+import com.akif.payment.api.PaymentStatus;
+import com.akif.payment.domain.Payment;
+import com.akif.payment.internal.exception.PaymentFailedException;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.rental.api.RentalBatchProcessedEvent;
+import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.InvalidRentalStateException;
+import com.akif.rental.internal.exception.RentalDateOverlapException;
+import com.akif.rental.internal.exception.RentalNotFoundException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Bulk Rental Action Integration Tests")
+class RentalBulkActionIntegrationTest extends E2ETestBase {
+
+    private static final Long MISSING_RENTAL_ID = 945_999L;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoSpyBean
+    private PaymentService paymentService;
+
+    private User user;
+    private User admin;
+    private Car firstCar;
+    private Car secondCar;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("bulk-user", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("bulk-admin", Role.ADMIN));
+        firstCar = carRepository.save(TestDataBuilder.createAvailableCar("34BULK01", new BigDecimal("500.00")));
+        secondCar = carRepository.save(TestDataBuilder.createAvailableCar("34BULK02", new BigDecimal("500.00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteAllById(List.of(firstCar.getId(), secondCar.getId()));
+        userRepository.deleteAllById(List.of(user.getId(), admin.getId()));
+    }
+
+    @Test
+    @DisplayName("Should approve valid rentals and report a failure for each invalid one")
+    void shouldReportPerRentalOutcomesForBulkApproval() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        Long first = saveRental(firstCar, start, RentalStatus.REQUESTED);
+        Long second = saveRental(secondCar, start, RentalStatus.REQUESTED);
+        Long overlapping = saveRental(firstCar, start.plusDays(1), RentalStatus.REQUESTED);
+        Long alreadyConfirmed = saveRental(secondCar, start.plusDays(30), RentalStatus.CONFIRMED);
+
+        bulk("approve", List.of(first, second, overlapping, alreadyConfirmed, MISSING_RENTAL_ID, first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(5))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].rentalId").value(first))
+                .andExpect(jsonPath("$.results[0].status").value("Confirmed"))
+                .andExpect(jsonPath("$.results[1].success").value(true))
+                .andExpect(jsonPath("$.results[2].errorCode").value(RentalDateOverlapException.ERROR_CODE))
+                .andExpect(jsonPath("$.results[3].errorCode").value(InvalidRentalStateException.ERROR_CODE))
+                .andExpect(jsonPath("$.results[4].errorCode").value(RentalNotFoundException.ERROR_CODE))
+                .andExpect(jsonPath("$.updatedSummary").exists());
+
+        assertThat(rentalRepository.findById(first).orElseThrow().getStatus()).isEqualTo(RentalStatus.CONFIRMED);
+        assertThat(rentalRepository.findById(overlapping).orElseThrow().getStatus()).isEqualTo(RentalStatus.REQUESTED);
+        assertThat(paymentRepository.count()).isEqualTo(2);
+        assertThat(carRepository.findById(firstCar.getId()).orElseThrow().getCarStatusType())
+                .isEqualTo(CarStatusType.RESERVED);
+
+        assertThat(eventCaptor.getEventsOfType(RentalConfirmedEvent.class))
+                .hasSize(2)
+                .allSatisfy(event -> assertThat(event.getBatchId()).isNotNull());
+        assertThat(eventCaptor.getEventsOfType(RentalBatchProcessedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getRentalIds()).containsExactly(first, second));
+    }
+
+    @Test
+    @DisplayName("Should carry rentals through bulk pickup and return")
+    void shouldCarryRentalsThroughBulkPickupAndReturn() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        List<Long> ids = List.of(
+                saveRental(firstCar, start, RentalStatus.REQUESTED),
+                saveRental(secondCar, start, RentalStatus.REQUESTED));
+
+        bulk("approve", ids).andExpect(jsonPath("$.succeeded").value(2));
+        bulk("pickup", ids)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("In Use"));
+        bulk("return", ids)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].status").value("Returned"));
+
+        Map<Long, Rental> rentals = Map.of(
+                ids.get(0), rentalRepository.findById(ids.get(0)).orElseThrow(),
+                ids.get(1), rentalRepository.findById(ids.get(1)).orElseThrow());
+        assertThat(rentals.values()).allSatisfy(rental -> {
+            assertThat(rental.getStatus()).isEqualTo(RentalStatus.RETURNED);
+            assertThat(rental.getPickupNotes()).isEqualTo("Processed via dashboard quick action");
+            assertThat(rental.getActualReturnTime()).isNotNull();
+        });
+        assertThat(carRepository.findById(secondCar.getId()).orElseThrow().getCarStatusType())
+                .isEqualTo(CarStatusType.AVAILABLE);
+        assertThat(eventCaptor.getEventsOfType(PaymentCapturedEvent.class)).hasSize(2);
+        assertThat(eventCaptor.getEventsOfType(RentalBatchProcessedEvent.class)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should refund chunk captures and retry one by one when a chunk fails after the gateway")
+    void shouldNotDoubleCaptureWhenChunkRollsBackAfterGatewayCalls() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        List<Long> ids = List.of(
+                saveRental(firstCar, start, RentalStatus.REQUESTED),
+                saveRental(secondCar, start, RentalStatus.REQUESTED));
+        bulk("approve", ids).andExpect(jsonPath("$.succeeded").value(2));
+        List<String> authorizations = ids.stream().map(id -> paymentFor(id).getTransactionId()).toList();
+
+        doThrow(new DataIntegrityViolationException("Forced failure after the gateway calls"))
+                .doCallRealMethod()
+                .when(paymentService).updatePaymentStatus(anyLong(), eq(PaymentStatus.CAPTURED), any(), any());
+
+        bulk("pickup", ids)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("In Use"));
+
+        for (String transactionId : authorizations) {
+            verify(paymentService, times(2)).capture(eq(transactionId), any());
+            verify(paymentService, times(1)).refund(eq(transactionId), any());
+        }
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(rentalRepository.findById(id).orElseThrow().getStatus()).isEqualTo(RentalStatus.IN_USE);
+            assertThat(paymentFor(id).getStatus()).isEqualTo(PaymentStatus.CAPTURED);
+        });
+        assertThat(eventCaptor.getEventsOfType(PaymentCapturedEvent.class)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should undo only the declined rental's claim and keep the rest of the chunk")
+    void shouldReportDeclinedAuthorizationWithoutAbortingChunk() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        Long declined = saveRental(firstCar, start, RentalStatus.REQUESTED);
+        Long approved = saveRental(secondCar, start, RentalStatus.REQUESTED);
+
+        doReturn(new PaymentResult(false, null, "Card declined"))
+                .doCallRealMethod()
+                .when(paymentService).authorize(any(), any(), any());
+
+        bulk("approve", List.of(declined, approved))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].errorCode").value(PaymentFailedException.ERROR_CODE))
+                .andExpect(jsonPath("$.results[1].status").value("Confirmed"));
+
+        verify(paymentService, times(2)).authorize(any(), any(), any());
+        verify(paymentService, never()).voidAuthorization(any());
+        assertThat(rentalRepository.findById(declined).orElseThrow().getStatus()).isEqualTo(RentalStatus.REQUESTED);
+        assertThat(paymentRepository.findByRentalIdAndIsDeletedFalse(declined)).isEmpty();
+        assertThat(carRepository.findById(firstCar.getId()).orElseThrow().getCarStatusType())
+                .isEqualTo(CarStatusType.AVAILABLE);
+        assertThat(paymentFor(approved).getStatus()).isEqualTo(PaymentStatus.AUTHORIZED);
+        assertThat(eventCaptor.getEventsOfType(RentalConfirmedEvent.class)).hasSize(1);
+
+        bulk("approve", List.of(declined)).andExpect(jsonPath("$.succeeded").value(1));
+        assertThat(paymentFor(declined).getStatus()).isEqualTo(PaymentStatus.AUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty rental ID list")
+    void shouldRejectEmptyRentalIdList() throws Exception {
+        bulk("approve", List.of()).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should forbid bulk actions for non-admin users")
+    void shouldForbidBulkActionsForUsers() throws Exception {
+        mockMvc.perform(post("/api/admin/quick-actions/rentals/bulk/approve")
+                        .header("Authorization", "Bearer " + generateUserToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("rentalIds", List.of(1L)))))
+                .andExpect(status().isForbidden());
+    }
+
+    private Payment paymentFor(Long rentalId) {
+        return paymentRepository.findByRentalIdAndIsDeletedFalse(rentalId).orElseThrow();
+    }
+
+    private Long saveRental(Car car, LocalDate start, RentalStatus status) {
+        return rentalRepository.save(TestDataBuilder.createRental(car, user, start, start.plusDays(3), status)).getId();
+    }
+
+    private ResultActions bulk(String action, List<Long> rentalIds) throws Exception {
+        return mockMvc.perform(post("/api/admin/quick-actions/rentals/bulk/{action}", action)
+                .header("Authorization", "Bearer " + generateAdminToken(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("rentalIds", rentalIds))));
+    }
+}
@@ -0,0 +1,216 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.internal.repository.ArchivedRentalRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.archive.RentalArchiveService;
+import com.akif.shared.enums.Role;
+import com.akif.shared.exception.InvalidCursorException;
+import com.akif.starter.CarGalleryProjectApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Rental Keyset Pagination Integration Tests")
+class RentalKeysetPaginationIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private ArchivedRentalRepository archivedRentalRepository;
+
+    @Autowired
+    private RentalArchiveService rentalArchiveService;
+
+    private User user;
+    private User otherUser;
+    private User admin;
+    private Car firstCar;
+    private Car secondCar;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("keyset-user", Role.USER));
+        otherUser = userRepository.save(TestDataBuilder.createTestUser("keyset-other", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("keyset-admin", Role.ADMIN));
+        firstCar = carRepository.save(TestDataBuilder.createAvailableCar("34KEY01", new BigDecimal("500.00")));
+        secondCar = carRepository.save(TestDataBuilder.createAvailableCar("34KEY02", new BigDecimal("500.00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedRentalRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteAllById(List.of(firstCar.getId(), secondCar.getId()));
+        userRepository.deleteAllById(List.of(user.getId(), otherUser.getId(), admin.getId()));
+    }
+
+    @Test
+    @DisplayName("Should scroll the whole customer history, archived rentals included, without repeats")
+    void shouldScrollCustomerHistoryAcrossPages() throws Exception {
+        LocalDate longAgo = LocalDate.now().minusYears(2);
+        List<Long> expected = new ArrayList<>();
+        expected.add(saveRental(firstCar, user, longAgo, RentalStatus.RETURNED));
+        expected.add(saveRental(secondCar, user, longAgo.plusDays(10), RentalStatus.CANCELLED));
+        for (int i = 0; i < 3; i++) {
+            expected.add(saveRental(firstCar, user, LocalDate.now().plusDays(10L * i), RentalStatus.REQUESTED));
+        }
+        saveRental(secondCar, otherUser, LocalDate.now().plusDays(5), RentalStatus.REQUESTED);
+        assertThat(rentalArchiveService.archiveCompletedRentals()).isEqualTo(2);
+        String token = generateUserToken(user);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/rentals/me/scroll").param("size", "2")
+                    .header("Authorization", "Bearer " + token);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("content").forEach(rental -> seen.add(rental.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected.stream().sorted(Comparator.reverseOrder()).toList());
+    }
+
+    @Test
+    @DisplayName("Should apply only the given admin search filters")
+    void shouldFilterAdminSearch() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        Long confirmedFirstCar = saveRental(firstCar, user, start, RentalStatus.CONFIRMED);
+        Long requestedFirstCar = saveRental(firstCar, otherUser, start.plusDays(10), RentalStatus.REQUESTED);
+        Long confirmedSecondCar = saveRental(secondCar, otherUser, start.plusDays(40), RentalStatus.CONFIRMED);
+        String token = generateAdminToken(admin);
+
+        mockMvc.perform(get("/api/rentals/admin/search")
+                        .param("licensePlate", firstCar.getLicensePlate())
+                        .param("sort", "id,asc")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(contains(
+                        confirmedFirstCar.intValue(), requestedFirstCar.intValue())));
+
+        mockMvc.perform(get("/api/rentals/admin/search")
+                        .param("status", "CONFIRMED")
+                        .param("userEmail", otherUser.getEmail())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(confirmedSecondCar));
+
+        mockMvc.perform(get("/api/rentals/admin/search/scroll")
+                        .param("carId", firstCar.getId().toString())
+                        .param("from", start.plusDays(11).toString())
+                        .param("to", start.plusDays(12).toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.content[*].id").value(contains(requestedFirstCar.intValue())));
+    }
+
+    @Test
+    @DisplayName("Should page the admin search by cursor newest first")
+    void shouldScrollAdminSearch() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(10);
+        Long oldest = saveRental(firstCar, user, start, RentalStatus.REQUESTED);
+        Long middle = saveRental(firstCar, user, start.plusDays(10), RentalStatus.REQUESTED);
+        Long newest = saveRental(firstCar, user, start.plusDays(20), RentalStatus.REQUESTED);
+        String token = generateAdminToken(admin);
+
+        String body = mockMvc.perform(get("/api/rentals/admin/search/scroll")
+                        .param("carId", firstCar.getId().toString())
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[*].id").value(contains(newest.intValue(), middle.intValue())))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/rentals/admin/search/scroll")
+                        .param("carId", firstCar.getId().toString())
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(body).get("nextCursor").asText())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.content[*].id").value(contains(oldest.intValue())));
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered cursor and an inverted date window")
+    void shouldRejectInvalidCursorAndDateWindow() throws Exception {
+        String token = generateAdminToken(admin);
+
+        mockMvc.perform(get("/api/rentals/admin/search/scroll")
+                        .param("cursor", "not-a-cursor!")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(InvalidCursorException.ERROR_CODE));
+
+        mockMvc.perform(get("/api/rentals/me/scroll")
+                        .param("cursor", "MTIz")
+                        .header("Authorization", "Bearer " + generateUserToken(user)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(InvalidCursorException.ERROR_CODE));
+
+        mockMvc.perform(get("/api/rentals/admin/search")
+                        .param("from", LocalDate.now().plusDays(5).toString())
+                        .param("to", LocalDate.now().toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should forbid the admin search for non-admin users")
+    void shouldForbidAdminSearchForUsers() throws Exception {
+        mockMvc.perform(get("/api/rentals/admin/search/scroll")
+                        .header("Authorization", "Bearer " + generateUserToken(user)))
+                .andExpect(status().isForbidden());
+    }
+
+    private Long saveRental(Car car, User owner, LocalDate start, RentalStatus status) {
+        return rentalRepository.save(TestDataBuilder.createRental(car, owner, start, start.plusDays(3), status)).getId();
+    }
+}
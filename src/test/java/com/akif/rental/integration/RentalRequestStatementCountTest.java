@@ -0,0 +1,116 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.rental.api.RentalResponse;
+import com.akif.rental.api.RentalService;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.RentalDateOverlapException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.starter.CarGalleryProjectApplication;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@DisplayName("Rental Request Statement Count Tests")
+class RentalRequestStatementCountTest extends E2ETestBase {
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User user;
+    private Car car;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser());
+        car = carRepository.save(TestDataBuilder.createAvailableCar());
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private void startCounting() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should create a rental request with at most three SQL statements")
+    void shouldCreateRentalWithAtMostThreeStatements() {
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        startCounting();
+
+        RentalResponse response = rentalService.requestRental(
+                TestDataBuilder.createRentalRequest(car.getId(), startDate, startDate.plusDays(3)), user.getUsername());
+
+        assertThat(response.id()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject an overlapping request without a separate overlap query")
+    void shouldRejectOverlapWithinCandidateQuery() {
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        rentalRepository.save(Rental.builder()
+                .userId(user.getId())
+                .carId(car.getId())
+                .carBrand(car.getBrand())
+                .carModel(car.getModel())
+                .carLicensePlate(car.getLicensePlate())
+                .userEmail(user.getEmail())
+                .userFullName("Existing Renter")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(5))
+                .days(6)
+                .dailyPrice(car.getPrice())
+                .totalPrice(car.getPrice().multiply(BigDecimal.valueOf(6)))
+                .currency(car.getCurrencyType())
+                .status(RentalStatus.CONFIRMED)
+                .build());
+        startCounting();
+
+        assertThatThrownBy(() -> rentalService.requestRental(
+                TestDataBuilder.createRentalRequest(car.getId(), startDate.plusDays(2), startDate.plusDays(8)), user.getUsername()))
+                .isInstanceOf(RentalDateOverlapException.class);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
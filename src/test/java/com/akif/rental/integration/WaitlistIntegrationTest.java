@@ -0,0 +1,272 @@
+package com.akif.rental.integration;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.enums.WaitlistStatus;
+import com.akif.rental.domain.model.BookingHold;
+import com.akif.rental.domain.model.WaitlistEntry;
+import com.akif.rental.internal.dto.request.WaitlistRequest;
+import com.akif.rental.internal.repository.BookingHoldRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.repository.WaitlistEntryRepository;
+import com.akif.rental.internal.service.waitlist.WaitlistService;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Waitlist Integration Tests")
+class WaitlistIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private BookingHoldRepository bookingHoldRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    private User booker;
+    private User firstWaiter;
+    private User secondWaiter;
+    private User admin;
+    private Car car;
+    private LocalDate start;
+
+    @BeforeEach
+    void setUpData() {
+        booker = userRepository.save(TestDataBuilder.createTestUser("wait-booker", Role.USER));
+        firstWaiter = userRepository.save(TestDataBuilder.createTestUser("wait-first", Role.USER));
+        secondWaiter = userRepository.save(TestDataBuilder.createTestUser("wait-second", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("wait-admin", Role.ADMIN));
+        car = carRepository.save(TestDataBuilder.createAvailableCar("34WAIT01", new BigDecimal("500.00")));
+        start = LocalDate.now().plusDays(30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitlistEntryRepository.deleteAll();
+        bookingHoldRepository.deleteAll();
+        paymentRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteById(car.getId());
+        userRepository.deleteAllById(List.of(booker.getId(), firstWaiter.getId(), secondWaiter.getId(), admin.getId()));
+        waitlistService.rebuildIndex();
+    }
+
+    @Test
+    @DisplayName("Should hold cancelled dates for the oldest overlapping entry, by car or body type")
+    void shouldOfferCancelledDatesToOldestEntry() throws Exception {
+        Long rentalId = bookAndConfirm(start, start.plusDays(4));
+        Long classEntry = join(firstWaiter, null, "sedan", start.plusDays(1), start.plusDays(2));
+        Long carEntry = join(secondWaiter, car.getId(), null, start, start.plusDays(3));
+        Long laterEntry = join(secondWaiter, car.getId(), null, start.plusDays(10), start.plusDays(12));
+
+        mockMvc.perform(post("/api/rentals/{id}/cancel", rentalId)
+                        .header("Authorization", "Bearer " + generateUserToken(booker)))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(statusOf(classEntry)).isEqualTo(WaitlistStatus.OFFERED));
+        WaitlistEntry offered = waitlistEntryRepository.findById(classEntry).orElseThrow();
+        BookingHold hold = bookingHoldRepository.findById(offered.getOfferedHoldId()).orElseThrow();
+        assertThat(hold.getCarId()).isEqualTo(car.getId());
+        assertThat(hold.getUserId()).isEqualTo(firstWaiter.getId());
+        assertThat(hold.getStartDate()).isEqualTo(start.plusDays(1));
+        assertThat(hold.getEndDate()).isEqualTo(start.plusDays(2));
+        assertThat(statusOf(carEntry)).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(statusOf(laterEntry)).isEqualTo(WaitlistStatus.WAITING);
+
+        mockMvc.perform(get("/api/rentals/waitlist")
+                        .header("Authorization", "Bearer " + generateUserToken(firstWaiter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(classEntry))
+                .andExpect(jsonPath("$[0].status").value("Offered"))
+                .andExpect(jsonPath("$[0].offeredCarId").value(car.getId()));
+    }
+
+    @Test
+    @DisplayName("Should skip entries that are still blocked and pass a released offer to the next entry")
+    void shouldSkipBlockedEntriesAndPassReleasedOffersOn() throws Exception {
+        rentalRepository.save(TestDataBuilder.createRental(car, booker, start.plusDays(5), start.plusDays(6), RentalStatus.CONFIRMED));
+        Long rentalId = bookAndConfirm(start, start.plusDays(3));
+        Long blockedEntry = join(firstWaiter, car.getId(), null, start.plusDays(2), start.plusDays(5));
+        Long carEntry = join(secondWaiter, car.getId(), null, start.plusDays(1), start.plusDays(3));
+        Long classEntry = join(firstWaiter, null, "Sedan", start, start.plusDays(1));
+
+        mockMvc.perform(post("/api/rentals/{id}/cancel", rentalId)
+                        .header("Authorization", "Bearer " + generateUserToken(booker)))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(statusOf(carEntry)).isEqualTo(WaitlistStatus.OFFERED));
+        assertThat(statusOf(blockedEntry)).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(statusOf(classEntry)).isEqualTo(WaitlistStatus.WAITING);
+
+        Long holdId = waitlistEntryRepository.findById(carEntry).orElseThrow().getOfferedHoldId();
+        mockMvc.perform(delete("/api/rentals/holds/{id}", holdId)
+                        .header("Authorization", "Bearer " + generateUserToken(secondWaiter)))
+                .andExpect(status().isNoContent());
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(statusOf(classEntry)).isEqualTo(WaitlistStatus.OFFERED));
+        assertThat(statusOf(blockedEntry)).isEqualTo(WaitlistStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("Should offer freed dates to entries that were created on another node")
+    void shouldOfferToEntriesMissingFromLocalIndex() throws Exception {
+        Long rentalId = bookAndConfirm(start, start.plusDays(2));
+        waitlistService.rebuildIndex();
+        Long remoteEntry = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(firstWaiter.getId())
+                .userEmail(firstWaiter.getEmail())
+                .carId(car.getId())
+                .startDate(start)
+                .endDate(start.plusDays(1))
+                .build()).getId();
+
+        mockMvc.perform(post("/api/rentals/{id}/cancel", rentalId)
+                        .header("Authorization", "Bearer " + generateUserToken(booker)))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(statusOf(remoteEntry)).isEqualTo(WaitlistStatus.OFFERED));
+    }
+
+    @Test
+    @DisplayName("Should offer freed dates to an entry that committed after a higher ID was loaded")
+    void shouldOfferToEntriesCommittedOutOfIdOrder() throws Exception {
+        Long rentalId = bookAndConfirm(start, start.plusDays(2));
+        waitlistService.rebuildIndex();
+        WaitlistEntry lateCommit = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(firstWaiter.getId())
+                .userEmail(firstWaiter.getEmail())
+                .carId(car.getId())
+                .startDate(start)
+                .endDate(start.plusDays(1))
+                .status(WaitlistStatus.CANCELLED)
+                .build());
+        waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(secondWaiter.getId())
+                .userEmail(secondWaiter.getEmail())
+                .bodyType("Limousine")
+                .startDate(start)
+                .endDate(start.plusDays(1))
+                .build());
+        waitlistService.offerFreedDates(car.getId(), start.plusDays(60), start.plusDays(61));
+
+        lateCommit.setStatus(WaitlistStatus.WAITING);
+        waitlistEntryRepository.save(lateCommit);
+        mockMvc.perform(post("/api/rentals/{id}/cancel", rentalId)
+                        .header("Authorization", "Bearer " + generateUserToken(booker)))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(statusOf(lateCommit.getId())).isEqualTo(WaitlistStatus.OFFERED));
+    }
+
+    @Test
+    @DisplayName("Should validate entries and only let the owner remove them")
+    void shouldValidateAndRemoveEntries() throws Exception {
+        joinRequest(firstWaiter, car.getId(), "Sedan", start, start.plusDays(1))
+                .andExpect(status().isBadRequest());
+        joinRequest(firstWaiter, null, null, start, start.plusDays(1))
+                .andExpect(status().isBadRequest());
+        joinRequest(firstWaiter, car.getId(), null, start, start.plusDays(400))
+                .andExpect(status().isBadRequest());
+
+        Long entryId = join(firstWaiter, car.getId(), null, start, start.plusDays(1));
+        joinRequest(firstWaiter, car.getId(), null, start, start.plusDays(1))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/rentals/waitlist/{id}", entryId)
+                        .header("Authorization", "Bearer " + generateUserToken(secondWaiter)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/rentals/waitlist/{id}", entryId)
+                        .header("Authorization", "Bearer " + generateUserToken(firstWaiter)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/rentals/waitlist/{id}", entryId)
+                        .header("Authorization", "Bearer " + generateUserToken(firstWaiter)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(statusOf(entryId)).isEqualTo(WaitlistStatus.CANCELLED);
+        assertThat(waitlistService.offerFreedDates(car.getId(), start, start.plusDays(1))).isEmpty();
+    }
+
+    private Long bookAndConfirm(LocalDate from, LocalDate to) throws Exception {
+        String body = mockMvc.perform(post("/api/rentals/request")
+                        .header("Authorization", "Bearer " + generateUserToken(booker))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TestDataBuilder.createRentalRequest(car.getId(), from, to))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long rentalId = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(post("/api/rentals/{id}/confirm", rentalId)
+                        .header("Authorization", "Bearer " + generateAdminToken(admin)))
+                .andExpect(status().isOk());
+        return rentalId;
+    }
+
+    private Long join(User user, Long carId, String bodyType, LocalDate from, LocalDate to) throws Exception {
+        String body = joinRequest(user, carId, bodyType, from, to)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("Waiting"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private ResultActions joinRequest(User user, Long carId, String bodyType, LocalDate from, LocalDate to) throws Exception {
+        return mockMvc.perform(post("/api/rentals/waitlist")
+                .header("Authorization", "Bearer " + generateUserToken(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new WaitlistRequest(carId, bodyType, from, to))));
+    }
+
+    private WaitlistStatus statusOf(Long entryId) {
+        return waitlistEntryRepository.findById(entryId).orElseThrow().getStatus();
+    }
+}
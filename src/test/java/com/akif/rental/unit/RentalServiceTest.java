@@ -4,22 +4,31 @@ import com.akif.auth.api.AuthService;
 import com.akif.auth.api.UserDto;
 import com.akif.car.api.CarResponse;
 import com.akif.car.api.CarService;
+import com.akif.car.domain.Car;
 import com.akif.car.domain.enums.CarStatusType;
 import com.akif.car.internal.dto.pricing.PricingResult;
 import com.akif.car.internal.exception.CarNotAvailableException;
+import com.akif.car.internal.exception.CarNotFoundException;
 import com.akif.car.internal.service.pricing.DynamicPricingService;
+import com.akif.car.internal.service.pricing.quote.PriceQuoteTokenService;
 import com.akif.payment.api.*;
 import com.akif.payment.internal.exception.PaymentFailedException;
 import com.akif.rental.api.RentalResponse;
 import com.akif.rental.domain.enums.RentalStatus;
 import com.akif.rental.domain.model.Rental;
+import com.akif.rental.domain.model.RentalHistory;
 import com.akif.rental.internal.dto.request.RentalRequest;
 import com.akif.rental.internal.exception.*;
 import com.akif.rental.internal.mapper.RentalMapper;
+import com.akif.rental.internal.repository.BookingCandidate;
+import com.akif.rental.internal.repository.RentalHistoryRepository;
 import com.akif.rental.internal.repository.RentalRepository;
 import com.akif.rental.internal.service.RentalServiceImpl;
+import com.akif.rental.internal.service.booking.BookingLockManager;
 import com.akif.rental.internal.service.penalty.PenaltyCalculationService;
 import com.akif.rental.internal.service.penalty.PenaltyPaymentService;
+import com.akif.rental.internal.service.state.RentalStateMachine;
+import com.akif.rental.internal.service.state.RentalTransition;
 import com.akif.shared.enums.CurrencyType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,15 +36,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -59,6 +72,9 @@ class RentalServiceTest {
     @Mock
     private RentalRepository rentalRepository;
 
+    @Mock
+    private RentalHistoryRepository rentalHistoryRepository;
+
     @Mock
     private CarService carService;
 
@@ -74,6 +90,9 @@ class RentalServiceTest {
     @Mock
     private DynamicPricingService dynamicPricingService;
 
+    @Mock
+    private PriceQuoteTokenService priceQuoteTokenService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -83,11 +102,18 @@ class RentalServiceTest {
     @Mock
     private PenaltyPaymentService penaltyPaymentService;
 
+    @Mock
+    private BookingLockManager bookingLockManager;
+
+    @Mock
+    private RentalStateMachine rentalStateMachine;
+
     @InjectMocks
     private RentalServiceImpl rentalService;
 
     private UserDto testUser;
     private CarResponse testCar;
+    private Car testCarEntity;
     private RentalRequest rentalRequest;
     private Rental testRental;
     private RentalResponse testRentalResponse;
@@ -105,6 +131,16 @@ class RentalServiceTest {
                 true
         );
 
+        testCarEntity = Car.builder()
+                .id(1L)
+                .licensePlate("34ABC123")
+                .brand("Toyota")
+                .model("Corolla")
+                .price(new BigDecimal("500.00"))
+                .currencyType(CurrencyType.TRY)
+                .carStatusType(CarStatusType.AVAILABLE)
+                .build();
+
         testCar = CarResponse.builder()
                 .id(1L)
                 .licensePlate("34ABC123")
@@ -183,9 +219,9 @@ class RentalServiceTest {
         @DisplayName("Should successfully create rental request")
         void shouldSuccessfullyCreateRentalRequest() {
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(carService.getCarById(1L)).thenReturn(testCar);
-            when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(0L);
-            when(dynamicPricingService.calculatePrice(anyLong(), any(), any(), any())).thenReturn(testPricingResult);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 0L, 0L)));
+            when(dynamicPricingService.calculatePrice(any(Car.class), any(), any(), any())).thenReturn(testPricingResult);
             when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
             when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
 
@@ -193,20 +229,67 @@ class RentalServiceTest {
 
             assertThat(result).isNotNull();
             verify(authService).getUserByUsername("testuser");
-            verify(carService).getCarById(1L);
+            verify(rentalRepository).findBookingCandidate(eq(1L), eq(rentalRequest.startDate()), eq(rentalRequest.endDate()), eq(testUser.id()), any(LocalDateTime.class));
+            verify(rentalRepository, never()).countOverlappingRentals(anyLong(), any(), any());
+            verifyNoInteractions(carService);
             verify(rentalRepository).save(any(Rental.class));
+            verify(bookingLockManager).lockOnNode(1L);
+        }
+
+        @Test
+        @DisplayName("Should use a valid quote token instead of repricing")
+        void shouldUseQuoteTokenInsteadOfRepricing() {
+            RentalRequest quotedRequest = new RentalRequest(
+                    1L,
+                    LocalDate.now().plusDays(1),
+                    LocalDate.now().plusDays(5),
+                    null,
+                    "signed-quote"
+            );
+
+            when(authService.getUserByUsername("testuser")).thenReturn(testUser);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 0L, 0L)));
+            when(priceQuoteTokenService.verify("signed-quote", 1L, quotedRequest.startDate(), quotedRequest.endDate()))
+                    .thenReturn(Optional.of(testPricingResult));
+            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
+            when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
+
+            rentalService.requestRental(quotedRequest, "testuser");
+
+            ArgumentCaptor<Rental> captor = ArgumentCaptor.forClass(Rental.class);
+            verify(rentalRepository).save(captor.capture());
+            assertThat(captor.getValue().getTotalPrice()).isEqualByComparingTo("2500.00");
+            verifyNoInteractions(dynamicPricingService);
+        }
+
+        @Test
+        @DisplayName("Should reprice when the quote token is missing or expired")
+        void shouldRepriceWithoutUsableQuoteToken() {
+            when(authService.getUserByUsername("testuser")).thenReturn(testUser);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 0L, 0L)));
+            when(priceQuoteTokenService.verify(any(), anyLong(), any(), any())).thenReturn(Optional.empty());
+            when(dynamicPricingService.calculatePrice(any(Car.class), any(), any(), any())).thenReturn(testPricingResult);
+            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
+            when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
+
+            rentalService.requestRental(rentalRequest, "testuser");
+
+            verify(dynamicPricingService).calculatePrice(eq(testCarEntity), any(), any(), any());
         }
 
         @Test
         @DisplayName("Should throw exception when car is not available")
         void shouldThrowExceptionWhenCarNotAvailable() {
-            CarResponse reservedCar = CarResponse.builder()
+            Car reservedCar = Car.builder()
                     .id(1L)
                     .carStatusType(CarStatusType.RESERVED)
                     .build();
 
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(carService.getCarById(1L)).thenReturn(reservedCar);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(reservedCar, 0L, 0L)));
 
             assertThatThrownBy(() -> rentalService.requestRental(rentalRequest, "testuser"))
                     .isInstanceOf(CarNotAvailableException.class);
@@ -218,8 +301,8 @@ class RentalServiceTest {
         @DisplayName("Should throw exception when date overlap exists")
         void shouldThrowExceptionWhenDateOverlapExists() {
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(carService.getCarById(1L)).thenReturn(testCar);
-            when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(1L);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 1L, 0L)));
 
             assertThatThrownBy(() -> rentalService.requestRental(rentalRequest, "testuser"))
                     .isInstanceOf(RentalDateOverlapException.class);
@@ -227,6 +310,31 @@ class RentalServiceTest {
             verify(rentalRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("Should throw exception when another customer holds the dates")
+        void shouldThrowExceptionWhenDatesAreHeld() {
+            when(authService.getUserByUsername("testuser")).thenReturn(testUser);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 0L, 1L)));
+
+            assertThatThrownBy(() -> rentalService.requestRental(rentalRequest, "testuser"))
+                    .isInstanceOf(BookingConflictException.class);
+
+            verify(rentalRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when car does not exist")
+        void shouldThrowExceptionWhenCarDoesNotExist() {
+            when(authService.getUserByUsername("testuser")).thenReturn(testUser);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any())).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> rentalService.requestRental(rentalRequest, "testuser"))
+                    .isInstanceOf(CarNotFoundException.class);
+
+            verify(rentalRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should throw exception when start date is in past")
         void shouldThrowExceptionWhenStartDateIsInPast() {
@@ -238,7 +346,8 @@ class RentalServiceTest {
             );
 
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(carService.getCarById(1L)).thenReturn(testCar);
+            when(rentalRepository.findBookingCandidate(eq(1L), any(), any(), any(), any()))
+                    .thenReturn(Optional.of(new BookingCandidate(testCarEntity, 0L, 0L)));
 
             assertThatThrownBy(() -> rentalService.requestRental(pastRequest, "testuser"))
                     .isInstanceOf(RentalValidationException.class)
@@ -262,16 +371,95 @@ class RentalServiceTest {
             when(paymentService.createPayment(any())).thenReturn(paymentDto);
             when(paymentService.updatePaymentStatus(anyLong(), any(), any(), any())).thenReturn(paymentDto);
             when(carService.reserveCar(anyLong())).thenReturn(testCar);
-            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CONFIRM)).thenReturn(testRental);
             when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
 
             RentalResponse result = rentalService.confirmRental(1L);
 
             assertThat(result).isNotNull();
-            verify(paymentService).authorize(any(), any(), any());
+            InOrder inOrder = inOrder(rentalStateMachine, carService, rentalRepository, bookingLockManager, paymentService);
+            inOrder.verify(rentalStateMachine).transition(testRental, RentalTransition.CONFIRM);
+            inOrder.verify(carService).reserveCar(1L);
+            inOrder.verify(rentalRepository).flush();
+            inOrder.verify(bookingLockManager).releaseNodeLocks();
+            inOrder.verify(paymentService).authorize(any(), any(), any());
+            verify(rentalRepository, never()).save(any(Rental.class));
             verify(paymentService).createPayment(any());
-            verify(carService).reserveCar(1L);
             verify(eventPublisher).publishEvent(any());
+            verify(bookingLockManager).lockAcrossNodes(1L);
+        }
+
+        @Test
+        @DisplayName("Should fail fast without touching payment when the car is locked by another booking")
+        void shouldFailFastWhenCarIsLocked() {
+            when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            doThrow(new BookingConflictException(1L)).when(bookingLockManager).lockAcrossNodes(1L);
+
+            assertThatThrownBy(() -> rentalService.confirmRental(1L))
+                    .isInstanceOf(BookingConflictException.class);
+
+            verifyNoInteractions(paymentService);
+            verify(rentalRepository, never()).countOverlappingRentals(anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should report an overlap when the database rejects the confirmation")
+        void shouldReportOverlapWhenConstraintRejectsConfirmation() {
+            when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(0L);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CONFIRM))
+                    .thenThrow(new DataIntegrityViolationException("ex_rentals_car_overlap"));
+
+            assertThatThrownBy(() -> rentalService.confirmRental(1L))
+                    .isInstanceOf(RentalDateOverlapException.class);
+
+            verifyNoInteractions(paymentService);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("Should fail with a conflict before authorizing when the rental was confirmed concurrently")
+        void shouldFailWithConflictWhenConfirmedConcurrently() {
+            when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(0L);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CONFIRM))
+                    .thenThrow(new RentalStateConflictException(1L, RentalStatus.REQUESTED, RentalStatus.CONFIRMED));
+
+            assertThatThrownBy(() -> rentalService.confirmRental(1L))
+                    .isInstanceOf(RentalStateConflictException.class);
+
+            verifyNoInteractions(paymentService);
+            verify(carService, never()).reserveCar(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should void the authorization when the confirmation rolls back after authorizing")
+        void shouldVoidAuthorizationWhenConfirmationRollsBack() {
+            PaymentResult successResult = new PaymentResult(true, "TXN-123", "Success");
+
+            when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(0L);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CONFIRM)).thenReturn(testRental);
+            when(paymentService.createPayment(any())).thenReturn(createTestPaymentDto());
+            when(paymentService.authorize(any(), any(), any())).thenReturn(successResult);
+            when(paymentService.updatePaymentStatus(anyLong(), any(), any(), any()))
+                    .thenThrow(new DataIntegrityViolationException("payments"));
+            when(paymentService.voidAuthorization("TXN-123")).thenReturn(new PaymentResult(true, "TXN-123", "Voided"));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThatThrownBy(() -> rentalService.confirmRental(1L))
+                        .isInstanceOf(DataIntegrityViolationException.class);
+                verify(paymentService, never()).voidAuthorization(any());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            verify(paymentService).voidAuthorization("TXN-123");
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -281,12 +469,16 @@ class RentalServiceTest {
 
             when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
             when(rentalRepository.countOverlappingRentals(anyLong(), any(), any())).thenReturn(0L);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CONFIRM)).thenReturn(testRental);
+            when(paymentService.createPayment(any())).thenReturn(createTestPaymentDto());
             when(paymentService.authorize(any(), any(), any())).thenReturn(failedResult);
 
             assertThatThrownBy(() -> rentalService.confirmRental(1L))
                     .isInstanceOf(PaymentFailedException.class);
 
-            verify(carService, never()).reserveCar(anyLong());
+            verify(paymentService, never()).updatePaymentStatus(anyLong(), any(), any(), any());
+            verify(paymentService, never()).voidAuthorization(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -299,8 +491,8 @@ class RentalServiceTest {
         void shouldSuccessfullyCancelRequestedRentalWithoutRefund() {
             when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
+            when(rentalStateMachine.transition(testRental, RentalTransition.CANCEL)).thenReturn(testRental);
             when(carService.getCarById(1L)).thenReturn(testCar);
-            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
             when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
 
             RentalResponse result = rentalService.cancelRental(1L, "testuser");
@@ -320,6 +512,8 @@ class RentalServiceTest {
 
             assertThatThrownBy(() -> rentalService.cancelRental(1L, "otheruser"))
                     .isInstanceOf(AccessDeniedException.class);
+
+            verifyNoInteractions(rentalStateMachine);
         }
     }
 
@@ -335,10 +529,10 @@ class RentalServiceTest {
             PaymentResult captureResult = new PaymentResult(true, "TXN-123", "Captured");
 
             when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalStateMachine.transition(eq(testRental), eq(RentalTransition.PICKUP), any())).thenReturn(testRental);
             when(paymentService.getPaymentByRentalId(1L)).thenReturn(Optional.of(paymentDto));
             when(paymentService.capture(any(), any())).thenReturn(captureResult);
             when(paymentService.updatePaymentStatus(anyLong(), any(), any(), any())).thenReturn(paymentDto);
-            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
             when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
 
             RentalResponse result = rentalService.pickupRental(1L, "Pickup notes");
@@ -348,20 +542,36 @@ class RentalServiceTest {
             verify(eventPublisher).publishEvent(any());
         }
 
+        @Test
+        @DisplayName("Should not capture payment when the rental was picked up concurrently")
+        void shouldNotCapturePaymentWhenPickedUpConcurrently() {
+            testRental.updateStatus(RentalStatus.CONFIRMED);
+
+            when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalStateMachine.transition(eq(testRental), eq(RentalTransition.PICKUP), any()))
+                    .thenThrow(new RentalStateConflictException(1L, RentalStatus.CONFIRMED, RentalStatus.IN_USE));
+
+            assertThatThrownBy(() -> rentalService.pickupRental(1L, "Pickup notes"))
+                    .isInstanceOf(RentalStateConflictException.class);
+
+            verifyNoInteractions(paymentService);
+        }
+
         @Test
         @DisplayName("Should successfully process return")
         void shouldSuccessfullyProcessReturn() {
             testRental.updateStatus(RentalStatus.IN_USE);
 
             when(rentalRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testRental));
+            when(rentalStateMachine.transition(eq(testRental), eq(RentalTransition.RETURN), any())).thenReturn(testRental);
             when(carService.releaseCar(1L)).thenReturn(testCar);
-            when(rentalRepository.save(any(Rental.class))).thenReturn(testRental);
             when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
 
             RentalResponse result = rentalService.returnRental(1L, "Return notes");
 
             assertThat(result).isNotNull();
             verify(carService).releaseCar(1L);
+            verify(rentalStateMachine, never()).recordPenalty(any());
         }
     }
 
@@ -373,11 +583,14 @@ class RentalServiceTest {
         @DisplayName("Should return user's rentals")
         void shouldReturnUsersRentals() {
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Rental> rentalsPage = new PageImpl<>(List.of(testRental));
+            RentalHistory archivedRental = new RentalHistory();
+            archivedRental.setUserId(testUser.id());
+            archivedRental.setStatus(RentalStatus.RETURNED);
+            Page<RentalHistory> rentalsPage = new PageImpl<>(List.of(archivedRental));
 
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(rentalRepository.findByUserIdAndIsDeletedFalse(testUser.id(), pageable)).thenReturn(rentalsPage);
-            when(rentalMapper.toDto(any(Rental.class))).thenReturn(testRentalResponse);
+            when(rentalHistoryRepository.findByUserIdAndIsDeletedFalse(testUser.id(), pageable)).thenReturn(rentalsPage);
+            when(rentalMapper.toDto(any(RentalHistory.class))).thenReturn(testRentalResponse);
 
             Page<RentalResponse> result = rentalService.getMyRentals("testuser", pageable);
 
@@ -389,10 +602,10 @@ class RentalServiceTest {
         @DisplayName("Should return empty page when user has no rentals")
         void shouldReturnEmptyPageWhenUserHasNoRentals() {
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Rental> emptyPage = Page.empty();
+            Page<RentalHistory> emptyPage = Page.empty();
 
             when(authService.getUserByUsername("testuser")).thenReturn(testUser);
-            when(rentalRepository.findByUserIdAndIsDeletedFalse(testUser.id(), pageable)).thenReturn(emptyPage);
+            when(rentalHistoryRepository.findByUserIdAndIsDeletedFalse(testUser.id(), pageable)).thenReturn(emptyPage);
 
             Page<RentalResponse> result = rentalService.getMyRentals("testuser", pageable);
 
@@ -0,0 +1,229 @@
+package com.akif.rental.unit.booking;
+
+import com.akif.rental.internal.config.BookingConfig;
+import com.akif.rental.internal.exception.BookingConflictException;
+import com.akif.rental.internal.service.booking.BookingLockManager;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BookingLockManager Unit Tests")
+class BookingLockManagerTest {
+
+    private BookingLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        BookingConfig config = new BookingConfig();
+        config.getLock().setTimeoutMillis(50);
+        config.getLock().setAdvisoryEnabled(false);
+        lockManager = new BookingLockManager(config, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void completeTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private CompletableFuture<Void> holdLockInOtherTransaction(Long carId, CountDownLatch locked, CountDownLatch release) {
+        return CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                lockManager.lockOnNode(carId);
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                completeTransaction();
+            }
+        });
+    }
+
+    @Nested
+    @DisplayName("Locking")
+    class Locking {
+
+        @Test
+        @DisplayName("Should fail fast when the car is locked by another transaction")
+        void shouldFailFastWhenCarIsLocked() throws Exception {
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = holdLockInOtherTransaction(1L, locked, release);
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThatThrownBy(() -> lockManager.lockOnNode(1L))
+                        .isInstanceOf(BookingConflictException.class);
+                lockManager.lockOnNode(2L);
+            } finally {
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+                completeTransaction();
+            }
+        }
+
+        @Test
+        @DisplayName("Should release the lock when the transaction completes")
+        void shouldReleaseLockAfterCompletion() throws Exception {
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = holdLockInOtherTransaction(1L, locked, release);
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+
+            TransactionSynchronizationManager.initSynchronization();
+            lockManager.lockOnNode(1L);
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+            completeTransaction();
+        }
+
+        @Test
+        @DisplayName("Should refuse to lock outside a transaction")
+        void shouldRefuseToLockOutsideTransaction() {
+            assertThatThrownBy(() -> lockManager.lockOnNode(1L))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should keep stripes until completion when advisory locks are not available")
+        void shouldKeepStripesWithoutAdvisoryLocks() throws Exception {
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    lockManager.lockAcrossNodes(1L);
+                    lockManager.releaseNodeLocks();
+                    locked.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    completeTransaction();
+                }
+            });
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThatThrownBy(() -> lockManager.lockOnNode(1L))
+                        .isInstanceOf(BookingConflictException.class);
+            } finally {
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+                completeTransaction();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Advisory locks")
+    class AdvisoryLocks {
+
+        private EntityManager entityManager;
+        private BookingLockManager advisoryLockManager;
+
+        @BeforeEach
+        void setUp() {
+            SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+            when(sessionFactory.getJdbcServices().getDialect()).thenReturn(mock(PostgreSQLDialect.class));
+            entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+            when(entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+
+            BookingConfig config = new BookingConfig();
+            config.getLock().setTimeoutMillis(50);
+            config.getLock().setAdvisoryEnabled(true);
+            advisoryLockManager = new BookingLockManager(config, entityManager);
+        }
+
+        private void advisoryLockResult(boolean acquired) {
+            when(entityManager.createNativeQuery(anyString())
+                    .setParameter(anyString(), any())
+                    .setParameter(anyString(), any())
+                    .getSingleResult())
+                    .thenReturn(acquired);
+        }
+
+        private boolean lockableFromOtherTransaction(Long carId) throws Exception {
+            return CompletableFuture.supplyAsync(() -> {
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                    advisoryLockManager.lockOnNode(carId);
+                    return true;
+                } catch (BookingConflictException e) {
+                    return false;
+                } finally {
+                    completeTransaction();
+                }
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("Should fail when another node holds the car's advisory lock")
+        void shouldFailWhenAdvisoryLockIsHeldElsewhere() throws Exception {
+            advisoryLockResult(false);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThatThrownBy(() -> advisoryLockManager.lockAcrossNodes(1L))
+                        .isInstanceOf(BookingConflictException.class);
+                advisoryLockManager.releaseNodeLocks();
+                assertThat(lockableFromOtherTransaction(1L)).isFalse();
+            } finally {
+                completeTransaction();
+            }
+            assertThat(lockableFromOtherTransaction(1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should hand the stripe back once the advisory lock covers the car")
+        void shouldReleaseStripeOnceAdvisoryLockIsHeld() throws Exception {
+            advisoryLockResult(true);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                advisoryLockManager.lockAcrossNodes(1L);
+                advisoryLockManager.lockOnNode(2L);
+                assertThat(lockableFromOtherTransaction(1L)).isFalse();
+
+                advisoryLockManager.releaseNodeLocks();
+                assertThat(lockableFromOtherTransaction(1L)).isTrue();
+                assertThat(lockableFromOtherTransaction(2L)).isFalse();
+            } finally {
+                completeTransaction();
+            }
+            assertThat(lockableFromOtherTransaction(2L)).isTrue();
+        }
+    }
+}
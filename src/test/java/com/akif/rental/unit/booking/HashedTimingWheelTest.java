@@ -0,0 +1,81 @@
+package com.akif.rental.unit.booking;
+
+import com.akif.rental.internal.service.booking.HashedTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HashedTimingWheel Unit Tests")
+class HashedTimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final long START = 1_000_000;
+
+    private HashedTimingWheel<Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(TICK, 8, START);
+    }
+
+    @Test
+    @DisplayName("Should expire keys only once their deadline tick has passed")
+    void shouldExpireKeysAtTheirDeadline() {
+        wheel.schedule(1L, START + 250);
+        wheel.schedule(2L, START + 500);
+
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly(1L);
+        assertThat(wheel.advance(START + 400)).isEmpty();
+        assertThat(wheel.advance(START + 500)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep keys due in a later revolution of the wheel")
+    void shouldKeepKeysDueInLaterRounds() {
+        wheel.schedule(1L, START + 100);
+        wheel.schedule(2L, START + 100 + 8 * TICK);
+
+        assertThat(wheel.advance(START + 100)).containsExactly(1L);
+        assertThat(wheel.advance(START + 100 + 7 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 100 + 8 * TICK)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should expire everything due when the wheel falls behind by more than a revolution")
+    void shouldCatchUpAfterLongPause() {
+        for (long key = 0; key < 20; key++) {
+            wheel.schedule(key, START + key * TICK);
+        }
+        wheel.schedule(99L, START + 100 * TICK);
+
+        assertThat(wheel.advance(START + 50 * TICK)).hasSize(20).doesNotContain(99L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not expire cancelled or rescheduled keys at the old deadline")
+    void shouldHonourCancelAndReschedule() {
+        wheel.schedule(1L, START + 200);
+        wheel.schedule(2L, START + 200);
+
+        assertThat(wheel.cancel(1L)).isTrue();
+        assertThat(wheel.cancel(1L)).isFalse();
+        wheel.schedule(2L, START + 600);
+
+        assertThat(wheel.advance(START + 300)).isEmpty();
+        assertThat(wheel.advance(START + 600)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should expire keys scheduled in the past on the next advance")
+    void shouldExpirePastDeadlinesImmediately() {
+        wheel.advance(START + 500);
+        wheel.schedule(1L, START);
+
+        assertThat(wheel.advance(START + 600)).containsExactly(1L);
+    }
+}
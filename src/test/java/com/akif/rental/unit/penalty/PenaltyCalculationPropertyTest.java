@@ -0,0 +1,83 @@
+package com.akif.rental.unit.penalty;
+
+import com.akif.rental.internal.config.PenaltyConfig;
+import com.akif.rental.internal.service.penalty.impl.PenaltyCalculationServiceImpl;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that fixed-point penalty arithmetic gives exactly the results of the original
+ * {@code BigDecimal} formulas for arbitrary daily rates and penalty settings.
+ */
+@Label("Penalty Calculation Property Tests")
+class PenaltyCalculationPropertyTest {
+
+    @Property
+    @Label("Hourly penalty matches BigDecimal arithmetic")
+    void hourlyPenaltyMatchesBigDecimal(@ForAll("dailyRates") BigDecimal dailyRate,
+                                        @ForAll("rates") BigDecimal hourlyRate,
+                                        @ForAll @IntRange(min = 1, max = 6) int lateHours) {
+        PenaltyConfig config = new PenaltyConfig();
+        config.setHourlyPenaltyRate(hourlyRate);
+
+        assertThat(new PenaltyCalculationServiceImpl(config).calculateHourlyPenalty(dailyRate, lateHours))
+                .isEqualTo(legacy(dailyRate, hourlyRate, lateHours));
+    }
+
+    @Property
+    @Label("Daily penalty matches BigDecimal arithmetic")
+    void dailyPenaltyMatchesBigDecimal(@ForAll("dailyRates") BigDecimal dailyRate,
+                                       @ForAll("rates") BigDecimal dailyPenaltyRate,
+                                       @ForAll @IntRange(min = 1, max = 400) int lateDays) {
+        PenaltyConfig config = new PenaltyConfig();
+        config.setDailyPenaltyRate(dailyPenaltyRate);
+
+        assertThat(new PenaltyCalculationServiceImpl(config).calculateDailyPenalty(dailyRate, lateDays))
+                .isEqualTo(legacy(dailyRate, dailyPenaltyRate, lateDays));
+    }
+
+    @Property
+    @Label("Penalty cap matches BigDecimal arithmetic")
+    void penaltyCapMatchesBigDecimal(@ForAll("dailyRates") BigDecimal dailyRate,
+                                     @ForAll("rates") BigDecimal capMultiplier,
+                                     @ForAll("dailyRates") BigDecimal penalty) {
+        PenaltyConfig config = new PenaltyConfig();
+        config.setPenaltyCapMultiplier(capMultiplier);
+
+        BigDecimal maxPenalty = legacy(dailyRate, capMultiplier, 1);
+        BigDecimal expected = penalty.compareTo(maxPenalty) > 0 ? maxPenalty : penalty;
+
+        assertThat(new PenaltyCalculationServiceImpl(config).applyPenaltyCap(penalty, dailyRate)).isEqualTo(expected);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> dailyRates() {
+        return decimals("0", "50000", 3);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return decimals("0.01", "10", 8);
+    }
+
+
+    private static Arbitrary<BigDecimal> decimals(String min, String max, int maxScale) {
+        return Arbitraries.integers().between(0, maxScale).flatMap(scale -> Arbitraries.longs()
+                .between(new BigDecimal(min).setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact(),
+                        new BigDecimal(max).setScale(scale, RoundingMode.FLOOR).unscaledValue().longValueExact())
+                .map(unscaled -> BigDecimal.valueOf(unscaled, scale)));
+    }
+    private static BigDecimal legacy(BigDecimal dailyRate, BigDecimal rate, int units) {
+        return dailyRate.multiply(rate).multiply(new BigDecimal(units)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
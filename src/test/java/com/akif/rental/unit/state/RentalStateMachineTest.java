@@ -0,0 +1,110 @@
+package com.akif.rental.unit.state;
+
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.exception.InvalidRentalStateException;
+import com.akif.rental.internal.exception.RentalStateConflictException;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.state.RentalStateMachine;
+import com.akif.rental.internal.service.state.RentalTransition;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RentalStateMachine Unit Tests")
+class RentalStateMachineTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private RentalStateMachine stateMachine;
+
+    private Rental rental;
+
+    @BeforeEach
+    void setUp() {
+        rental = Rental.builder()
+                .id(1L)
+                .carId(10L)
+                .status(RentalStatus.CONFIRMED)
+                .version(3L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should move the rental with a single conditional update on its current status")
+    void shouldMoveRentalWithConditionalUpdate() {
+        when(entityManager.contains(rental)).thenReturn(true);
+        when(rentalRepository.compareAndSetStatus(eq(1L), eq(RentalStatus.CONFIRMED), eq(RentalStatus.IN_USE),
+                eq("Full tank"), isNull(), isNull(), any(LocalDateTime.class))).thenReturn(1);
+
+        Rental result = stateMachine.transition(rental, RentalTransition.PICKUP, r -> r.setPickupNotes("Full tank"));
+
+        assertThat(result.getStatus()).isEqualTo(RentalStatus.IN_USE);
+        assertThat(result.getPickupNotes()).isEqualTo("Full tank");
+        assertThat(result.getVersion()).isEqualTo(4L);
+        assertThat(result.getUpdateTime()).isNotNull();
+        verify(rentalRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should detach the rental before changing it so it is never flushed")
+    void shouldDetachBeforeChanging() {
+        when(entityManager.contains(rental)).thenReturn(true);
+        when(rentalRepository.compareAndSetStatus(anyLong(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+        stateMachine.transition(rental, RentalTransition.CANCEL);
+
+        InOrder order = inOrder(entityManager, rentalRepository);
+        order.verify(entityManager).detach(rental);
+        order.verify(rentalRepository).compareAndSetStatus(
+                eq(1L), eq(RentalStatus.CONFIRMED), eq(RentalStatus.CANCELLED), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail with a conflict when the status changed since the rental was read")
+    void shouldFailWithConflictWhenStatusChanged() {
+        when(rentalRepository.compareAndSetStatus(anyLong(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> stateMachine.transition(rental, RentalTransition.PICKUP))
+                .isInstanceOf(RentalStateConflictException.class)
+                .hasMessageContaining("CONFIRMED");
+
+        assertThat(rental.getStatus()).isEqualTo(RentalStatus.CONFIRMED);
+        assertThat(rental.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should reject a transition not allowed from the current status without updating")
+    void shouldRejectDisallowedTransition() {
+        assertThatThrownBy(() -> stateMachine.transition(rental, RentalTransition.RETURN))
+                .isInstanceOf(InvalidRentalStateException.class)
+                .hasMessage("Invalid rental state. Current: CONFIRMED, Required: IN_USE");
+
+        verify(rentalRepository, never()).compareAndSetStatus(any(), any(), any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,97 @@
+package com.akif.rental.unit.waitlist;
+
+import com.akif.rental.internal.service.waitlist.DateIntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DateIntervalIndex Unit Tests")
+class DateIntervalIndexTest {
+
+    private static final int DAY = 20_000;
+
+    private DateIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DateIntervalIndex();
+    }
+
+    @Test
+    @DisplayName("Should find intervals starting inside the window and those covering its first day, each once")
+    void shouldFindOverlappingIntervalsOnce() {
+        index.add(5, DAY - 10, DAY + 2);
+        index.add(3, DAY, DAY + 4);
+        index.add(9, DAY + 4, DAY + 4);
+        index.add(1, DAY + 5, DAY + 8);
+        index.add(7, DAY - 10, DAY - 1);
+
+        assertThat(index.overlapping(DAY, DAY + 4)).containsExactly(3L, 5L, 9L);
+        assertThat(index.overlapping(DAY + 3, DAY + 3)).containsExactly(3L);
+        assertThat(index.overlapping(DAY - 1, DAY - 1)).containsExactly(5L, 7L);
+        assertThat(index.overlapping(DAY + 9, DAY + 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should forget removed intervals and replace intervals added again under the same ID")
+    void shouldRemoveAndReplaceIntervals() {
+        index.add(1, DAY, DAY + 3);
+        index.add(2, DAY + 1, DAY + 1);
+
+        assertThat(index.remove(2)).isTrue();
+        assertThat(index.remove(2)).isFalse();
+        index.add(1, DAY + 10, DAY + 12);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.overlapping(DAY, DAY + 5)).isEmpty();
+        assertThat(index.overlapping(DAY + 12, DAY + 20)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted intervals")
+    void shouldRejectInvertedIntervals() {
+        assertThatThrownBy(() -> index.add(1, DAY, DAY - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan after random adds and removes")
+    void shouldMatchLinearScan() {
+        Random random = new Random(50);
+        Map<Long, int[]> expected = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            long id = random.nextInt(3_000);
+            if (random.nextInt(4) == 0) {
+                assertThat(index.remove(id)).isEqualTo(expected.remove(id) != null);
+            } else {
+                int start = DAY + random.nextInt(400);
+                int end = start + random.nextInt(30);
+                index.add(id, start, end);
+                expected.put(id, new int[]{start, end});
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        for (int query = 0; query < 500; query++) {
+            int from = DAY - 20 + random.nextInt(460);
+            int to = from + random.nextInt(20);
+            List<Long> scanned = new ArrayList<>();
+            expected.forEach((id, interval) -> {
+                if (interval[0] <= to && interval[1] >= from) {
+                    scanned.add(id);
+                }
+            });
+            scanned.sort(null);
+            assertThat(index.overlapping(from, to)).as("window %d to %d", from, to).isEqualTo(scanned);
+        }
+    }
+}
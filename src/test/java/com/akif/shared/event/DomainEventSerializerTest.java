@@ -0,0 +1,67 @@
+package com.akif.shared.event;
+
+import com.akif.car.api.CarUpdatedEvent;
+import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.shared.enums.CurrencyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DomainEventSerializer Unit Tests")
+class DomainEventSerializerTest {
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+
+    @Test
+    @DisplayName("Should round-trip a rental event without its source")
+    void shouldRoundTripRentalEvent() {
+        RentalConfirmedEvent event = new RentalConfirmedEvent(
+                this,
+                7L,
+                "customer@example.com",
+                LocalDateTime.of(2026, 5, 1, 10, 30),
+                "Toyota",
+                "Corolla",
+                LocalDate.of(2026, 6, 1),
+                LocalDate.of(2026, 6, 5),
+                new BigDecimal("2000.00"),
+                CurrencyType.TRY,
+                "Main Office",
+                3L
+        );
+
+        Object serialized = serializer.serialize(event);
+        RentalConfirmedEvent restored = serializer.deserialize(serialized, RentalConfirmedEvent.class);
+
+        assertThat(serialized.toString()).doesNotContain("source").contains("\"currency\":\"TRY\"");
+        assertThat(restored).usingRecursiveComparison()
+                .ignoringFields("source")
+                .isEqualTo(event);
+        assertThat(restored.getTimestamp()).isEqualTo(event.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Should round-trip an event with a nested enum")
+    void shouldRoundTripEventWithNestedEnum() {
+        CarUpdatedEvent event = new CarUpdatedEvent(this, 3L, CarUpdatedEvent.ChangeType.PRICE_CHANGED, LocalDateTime.now());
+
+        CarUpdatedEvent restored = serializer.deserialize(serializer.serialize(event), CarUpdatedEvent.class);
+
+        assertThat(restored.getCarId()).isEqualTo(3L);
+        assertThat(restored.getChangeType()).isEqualTo(CarUpdatedEvent.ChangeType.PRICE_CHANGED);
+        assertThat(restored.getOccurredAt()).isEqualTo(event.getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("Should serialize the same event to the same string so completion can match it")
+    void shouldSerializeDeterministically() {
+        CarUpdatedEvent event = new CarUpdatedEvent(this, 3L, CarUpdatedEvent.ChangeType.PRICE_CHANGED, LocalDateTime.now());
+
+        assertThat(serializer.serialize(event)).isEqualTo(serializer.serialize(event));
+    }
+}
@@ -0,0 +1,146 @@
+package com.akif.shared.event;
+
+import com.akif.notification.internal.dto.EmailMessage;
+import com.akif.notification.internal.service.email.IEmailSender;
+import com.akif.rental.api.RentalConfirmedEvent;
+import com.akif.shared.enums.CurrencyType;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Event Publication Registry Integration Tests")
+class EventPublicationIntegrationTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventPublicationRegistry publicationRegistry;
+
+    @Autowired
+    private EventPublicationRelay relay;
+
+    @Autowired
+    private EventPublicationConfig config;
+
+    @MockitoSpyBean
+    private IEmailSender emailSender;
+
+    private final long defaultMinAgeSeconds = 300;
+
+    @AfterEach
+    void tearDown() {
+        config.getRelay().setMinAgeSeconds(defaultMinAgeSeconds);
+    }
+
+    @Test
+    @DisplayName("Should not dispatch or store an event published in a rolled back transaction")
+    void shouldDropEventOnRollback() throws InterruptedException {
+        RentalConfirmedEvent event = confirmedEvent(944_001L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            status.setRollbackOnly();
+        });
+
+        TimeUnit.MILLISECONDS.sleep(500);
+        verify(emailSender, never()).send(argThat(message -> event.getRentalId().equals(message.referenceId())));
+        assertThat(incompletePublicationsOf(event)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should dispatch after commit and clear the publication once the listener completes")
+    void shouldDispatchAfterCommit() {
+        RentalConfirmedEvent event = confirmedEvent(944_002L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(event);
+            verify(emailSender, never()).send(any(EmailMessage.class));
+        });
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(emailSender, times(1)).send(argThat(message -> event.getRentalId().equals(message.referenceId())));
+            assertThat(incompletePublicationsOf(event)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep a failed publication and redeliver it from the relay")
+    void shouldRedeliverFailedPublication() {
+        RentalConfirmedEvent event = confirmedEvent(944_003L);
+        doThrow(new IllegalStateException("Mail relay unavailable"))
+                .doCallRealMethod()
+                .when(emailSender).send(argThat(message -> event.getRentalId().equals(message.referenceId())));
+
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(emailSender, times(1)).send(argThat(message -> event.getRentalId().equals(message.referenceId())));
+            assertThat(incompletePublicationsOf(event)).hasSize(1);
+        });
+
+        config.getRelay().setMinAgeSeconds(0);
+        relay.resubmitStalePublications();
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(emailSender, times(2)).send(argThat(message -> event.getRentalId().equals(message.referenceId())));
+            assertThat(incompletePublicationsOf(event)).isEmpty();
+        });
+    }
+
+    private List<TargetEventPublication> incompletePublicationsOf(RentalConfirmedEvent event) {
+        return publicationRegistry.findIncompletePublications().stream()
+                .filter(publication -> publication.getEvent() instanceof RentalConfirmedEvent confirmed
+                        && event.getRentalId().equals(confirmed.getRentalId()))
+                .filter(publication -> publication.getTargetIdentifier().getValue().contains("EmailEventListener"))
+                .toList();
+    }
+
+    private static RentalConfirmedEvent confirmedEvent(Long rentalId) {
+        return new RentalConfirmedEvent(
+                EventPublicationIntegrationTest.class,
+                rentalId,
+                "outbox-" + rentalId + "@example.com",
+                LocalDateTime.now(),
+                "Toyota",
+                "Corolla",
+                LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(5),
+                new BigDecimal("2000.00"),
+                CurrencyType.TRY,
+                "Istanbul Airport",
+                null
+        );
+    }
+}
@@ -0,0 +1,210 @@
+package com.akif.shared.export;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.damage.domain.enums.DamageSeverity;
+import com.akif.damage.domain.model.DamageReport;
+import com.akif.damage.internal.repository.DamageReportRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.payment.api.PaymentStatus;
+import com.akif.payment.domain.Payment;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.rental.domain.enums.RentalStatus;
+import com.akif.rental.domain.model.Rental;
+import com.akif.rental.internal.repository.ArchivedRentalRepository;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.rental.internal.service.archive.RentalArchiveService;
+import com.akif.shared.enums.CurrencyType;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Streaming Export Integration Tests")
+class StreamingExportIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private ArchivedRentalRepository archivedRentalRepository;
+
+    @Autowired
+    private RentalArchiveService rentalArchiveService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private DamageReportRepository damageReportRepository;
+
+    private User user;
+    private User admin;
+    private Car car;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("export-user", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("export-admin", Role.ADMIN));
+        car = carRepository.save(TestDataBuilder.createAvailableCar("34EXP01", new BigDecimal("500.00")));
+        today = LocalDate.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        damageReportRepository.deleteAll();
+        paymentRepository.deleteAll();
+        archivedRentalRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteById(car.getId());
+        userRepository.deleteAllById(List.of(user.getId(), admin.getId()));
+    }
+
+    @Test
+    @DisplayName("Should stream live and archived rentals as CSV")
+    void shouldExportRentalsAsCsv() throws Exception {
+        LocalDate longAgo = today.minusYears(2);
+        Long archivedId = saveRental(longAgo, RentalStatus.RETURNED).getId();
+        Long liveId = saveRental(today.plusDays(5), RentalStatus.REQUESTED).getId();
+        rentalArchiveService.archiveCompletedRentals();
+
+        MvcResult result = export("/api/rentals/admin/export", "CSV");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("rentals-" + today + "-to-" + today + ".csv");
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,createTime,userId,userEmail");
+        assertThat(lines.get(1)).startsWith(archivedId + ",").contains(",RETURNED,");
+        assertThat(lines.get(2)).startsWith(liveId + ",").contains("34EXP01", ",1500.00,", ",REQUESTED,");
+    }
+
+    @Test
+    @DisplayName("Should stream payments and damages as NDJSON")
+    void shouldExportPaymentsAndDamagesAsNdjson() throws Exception {
+        Rental rental = saveRental(today.minusDays(5), RentalStatus.RETURNED);
+        paymentRepository.save(Payment.builder()
+                .rentalId(rental.getId())
+                .userEmail(user.getEmail())
+                .carLicensePlate(car.getLicensePlate())
+                .amount(new BigDecimal("1500.00"))
+                .currency(CurrencyType.TRY)
+                .status(PaymentStatus.CAPTURED)
+                .build());
+        damageReportRepository.save(DamageReport.builder()
+                .rentalId(rental.getId())
+                .carId(car.getId())
+                .carBrand(car.getBrand())
+                .carModel(car.getModel())
+                .carLicensePlate(car.getLicensePlate())
+                .rentalStartDate(rental.getStartDate())
+                .rentalEndDate(rental.getEndDate())
+                .customerEmail(user.getEmail())
+                .customerFullName(user.getUsername())
+                .customerUserId(user.getId())
+                .description("Scratch on the rear bumper, \"deep\"")
+                .severity(DamageSeverity.MINOR)
+                .reportedBy(admin.getId())
+                .reportedAt(LocalDateTime.now())
+                .build());
+
+        String payments = export("/api/admin/payments/export", "NDJSON").getResponse().getContentAsString();
+        List<String> paymentLines = payments.lines().toList();
+        assertThat(paymentLines).hasSize(1);
+        JsonNode payment = objectMapper.readTree(paymentLines.get(0));
+        assertThat(payment.get("rentalId").asLong()).isEqualTo(rental.getId());
+        assertThat(payment.get("status").asText()).isEqualTo("CAPTURED");
+        assertThat(payment.get("amount").decimalValue()).isEqualByComparingTo("1500.00");
+
+        String damages = export("/api/admin/damages/export", "NDJSON").getResponse().getContentAsString();
+        JsonNode damage = objectMapper.readTree(damages.lines().findFirst().orElseThrow());
+        assertThat(damage.get("description").asText()).isEqualTo("Scratch on the rear bumper, \"deep\"");
+        assertThat(damage.get("severity").asText()).isEqualTo("MINOR");
+        assertThat(damage.get("status").asText()).isEqualTo("REPORTED");
+    }
+
+    @Test
+    @DisplayName("Should reject a missing or inverted date window")
+    void shouldRejectInvalidDateWindow() throws Exception {
+        String token = generateAdminToken(admin);
+
+        mockMvc.perform(get("/api/admin/payments/export")
+                        .param("to", today.toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/rentals/admin/export")
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should forbid exports for non-admin users")
+    void shouldForbidExportsForUsers() throws Exception {
+        String token = generateUserToken(user);
+        for (String path : List.of("/api/rentals/admin/export", "/api/admin/payments/export", "/api/admin/damages/export")) {
+            mockMvc.perform(get(path)
+                            .param("from", today.toString())
+                            .param("to", today.toString())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    private Rental saveRental(LocalDate start, RentalStatus status) {
+        return rentalRepository.save(TestDataBuilder.createRental(car, user, start, start.plusDays(3), status));
+    }
+
+    private MvcResult export(String path, String format) throws Exception {
+        MvcResult started = mockMvc.perform(get(path)
+                        .param("from", today.toString())
+                        .param("to", today.toString())
+                        .param("format", format)
+                        .header("Authorization", "Bearer " + generateAdminToken(admin)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(content().contentType(ExportFormat.valueOf(format).getMediaType()))
+                .andReturn();
+    }
+}
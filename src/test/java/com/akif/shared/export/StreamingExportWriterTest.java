@@ -0,0 +1,91 @@
+package com.akif.shared.export;
+
+import com.akif.shared.enums.CurrencyType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamingExportWriter Unit Tests")
+class StreamingExportWriterTest {
+
+    private record Row(Long id, String note, BigDecimal amount, CurrencyType currency, LocalDate date) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            ExportColumn.of("id", Row::id),
+            ExportColumn.of("note", Row::note),
+            ExportColumn.of("amount", Row::amount),
+            ExportColumn.of("currency", Row::currency),
+            ExportColumn.of("date", Row::date)
+    );
+
+    @Mock
+    private EntityManager entityManager;
+
+    private StreamingExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new StreamingExportWriter(new ObjectMapper(), entityManager);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote values that need it")
+    void shouldWriteCsv() {
+        Row plain = new Row(1L, "ok", new BigDecimal("1E+3"), CurrencyType.USD, LocalDate.of(2026, 3, 1));
+        Row quoted = new Row(2L, "said \"hi\", left", null, CurrencyType.TRY, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = writer.write(Stream.of(plain, quoted), COLUMNS, ExportFormat.CSV, out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,note,amount,currency,date\r\n"
+                        + "1,ok,1000,USD,2026-03-01\r\n"
+                        + "2,\"said \"\"hi\"\", left\",,TRY,\r\n");
+        verify(entityManager).detach(plain);
+        verify(entityManager).detach(quoted);
+    }
+
+    @Test
+    @DisplayName("Should stop spreadsheets from evaluating text as a formula")
+    void shouldNeutraliseFormulaText() {
+        Row row = new Row(1L, "=HYPERLINK(\"x\")", new BigDecimal("-5.00"), null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(Stream.of(row), COLUMNS, ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .endsWith("1,\"'=HYPERLINK(\"\"x\"\")\",-5.00,,\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with enum names")
+    void shouldWriteNdjson() {
+        Row first = new Row(1L, "a", new BigDecimal("12.50"), CurrencyType.EUR, LocalDate.of(2026, 3, 1));
+        Row second = new Row(2L, null, null, null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(Stream.of(first, second), COLUMNS, ExportFormat.NDJSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"note\":\"a\",\"amount\":12.50,\"currency\":\"EUR\",\"date\":\"2026-03-01\"}\n"
+                        + "{\"id\":2,\"note\":null,\"amount\":null,\"currency\":null,\"date\":null}\n");
+    }
+}
@@ -0,0 +1,168 @@
+package com.akif.shared.idempotency;
+
+import com.akif.auth.domain.User;
+import com.akif.auth.internal.repository.UserRepository;
+import com.akif.car.domain.Car;
+import com.akif.car.internal.repository.CarRepository;
+import com.akif.e2e.infrastructure.E2ETestBase;
+import com.akif.e2e.infrastructure.TestDataBuilder;
+import com.akif.payment.internal.repository.PaymentRepository;
+import com.akif.rental.api.RentalResponse;
+import com.akif.rental.internal.dto.request.RentalRequest;
+import com.akif.rental.internal.repository.RentalRepository;
+import com.akif.shared.enums.Role;
+import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = CarGalleryProjectApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Idempotency-Key Integration Tests")
+class IdempotencyIntegrationTest extends E2ETestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private User user;
+    private User admin;
+    private Car car;
+    private RentalRequest rentalRequest;
+
+    @BeforeEach
+    void setUpData() {
+        user = userRepository.save(TestDataBuilder.createTestUser("idempotent-user", Role.USER));
+        admin = userRepository.save(TestDataBuilder.createTestUser("idempotent-admin", Role.ADMIN));
+        car = carRepository.save(TestDataBuilder.createAvailableCar());
+        LocalDate startDate = LocalDate.now().plusDays(15);
+        rentalRequest = TestDataBuilder.createRentalRequest(car.getId(), startDate, startDate.plusDays(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+        paymentRepository.deleteAll();
+        rentalRepository.deleteAll();
+        carRepository.deleteById(car.getId());
+        userRepository.deleteAllById(List.of(user.getId(), admin.getId()));
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response for a retried rental request")
+    void shouldReplayRetriedRentalRequest() throws Exception {
+        RentalResponse first = readRental(requestRental("retry-1", rentalRequest)
+                .andExpect(status().isCreated())
+                .andReturn());
+
+        RentalResponse replayed = readRental(requestRental("retry-1", rentalRequest)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn());
+
+        assertThat(replayed.id()).isEqualTo(first.id());
+        assertThat(rentalRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectKeyReusedForDifferentRequest() throws Exception {
+        requestRental("reused", rentalRequest).andExpect(status().isCreated());
+
+        RentalRequest other = TestDataBuilder.createRentalRequest(
+                car.getId(), rentalRequest.startDate().plusDays(10), rentalRequest.endDate().plusDays(10));
+        requestRental("reused", other)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value(IdempotencyException.KEY_REUSED));
+
+        assertThat(rentalRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run concurrent duplicates once and hand every caller the same response")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<MvcResult>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                duplicates.add(() -> requestRental("burst", rentalRequest).andReturn());
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (Future<MvcResult> result : executor.invokeAll(duplicates)) {
+                assertThat(result.get().getResponse().getStatus()).isEqualTo(201);
+                ids.add(readRental(result.get()).id());
+            }
+
+            assertThat(ids).containsOnly(ids.get(0));
+            assertThat(rentalRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay a quick-action approval instead of failing on the changed state")
+    void shouldReplayQuickActionApproval() throws Exception {
+        Long rentalId = readRental(requestRental("approve-request", rentalRequest).andReturn()).id();
+
+        approve(rentalId, "approve-1").andExpect(status().isOk())
+                .andExpect(jsonPath("$.newStatus").value("CONFIRMED"));
+        approve(rentalId, "approve-1").andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.newStatus").value("CONFIRMED"));
+
+        approve(rentalId, "approve-2").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions requestRental(String key, RentalRequest request) throws Exception {
+        return mockMvc.perform(post("/api/rentals/request")
+                .header("Authorization", "Bearer " + generateUserToken(user))
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions approve(Long rentalId, String key) throws Exception {
+        return mockMvc.perform(post("/api/admin/quick-actions/rentals/{id}/approve", rentalId)
+                .header("Authorization", "Bearer " + generateAdminToken(admin))
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key));
+    }
+
+    private RentalResponse readRental(MvcResult result) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), RentalResponse.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.akif.shared.money;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Label("MoneyMath Property Tests")
+class MoneyMathPropertyTest {
+
+    @Property
+    @Label("divideHalfUp rounds like BigDecimal HALF_UP")
+    void divideHalfUpMatchesBigDecimal(@ForAll @LongRange(min = -1_000_000_000_000_000L, max = 1_000_000_000_000_000L) long dividend,
+                                       @ForAll("divisors") long divisor) {
+        long expected = BigDecimal.valueOf(dividend)
+                .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+
+        assertThat(MoneyMath.divideHalfUp(dividend, divisor)).isEqualTo(expected);
+    }
+
+    @Property
+    @Label("multiplyHalfUp applies a multiplier like BigDecimal setScale(2, HALF_UP)")
+    void multiplyHalfUpMatchesBigDecimal(@ForAll @LongRange(min = -100_000_000_000L, max = 100_000_000_000L) long minorUnits,
+                                         @ForAll @LongRange(min = 0, max = 10_000_000L) long multiplier) {
+        BigDecimal expected = BigDecimal.valueOf(minorUnits, 2)
+                .multiply(BigDecimal.valueOf(multiplier, 6))
+                .setScale(2, RoundingMode.HALF_UP);
+
+        assertThat(MoneyMath.fromMinorUnits(MoneyMath.multiplyHalfUp(minorUnits, multiplier))).isEqualTo(expected);
+    }
+
+    @Property
+    @Label("Conversions are exact or report NOT_REPRESENTABLE")
+    void conversionsAreExact(@ForAll @LongRange(min = -10_000_000_000L, max = 10_000_000_000L) long unscaled,
+                             @ForAll @IntRange(min = -2, max = 9) int scale) {
+        BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+
+        long minorUnits = MoneyMath.toMinorUnits(value);
+        if (value.stripTrailingZeros().scale() <= 2) {
+            assertThat(MoneyMath.fromMinorUnits(minorUnits)).isEqualByComparingTo(value);
+        } else {
+            assertThat(minorUnits).isEqualTo(MoneyMath.NOT_REPRESENTABLE);
+        }
+
+        long multiplier = MoneyMath.toMultiplier(value);
+        if (value.stripTrailingZeros().scale() <= 6) {
+            assertThat(BigDecimal.valueOf(multiplier, 6)).isEqualByComparingTo(value);
+        } else {
+            assertThat(multiplier).isEqualTo(MoneyMath.NOT_REPRESENTABLE);
+        }
+    }
+
+    @Provide
+    Arbitrary<Long> divisors() {
+        return Arbitraries.oneOf(
+                Arbitraries.longs().between(1, 1_000),
+                Arbitraries.longs().between(-1_000, -1),
+                Arbitraries.of(100L, 10_000L, 1_000_000L, 1_000_000_000_000L)
+        );
+    }
+}
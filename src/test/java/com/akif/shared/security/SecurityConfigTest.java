@@ -8,6 +8,7 @@ import com.akif.auth.domain.User;
 import com.akif.car.internal.repository.CarRepository;
 import com.akif.auth.internal.repository.UserRepository;
 import com.akif.starter.CarGalleryProjectApplication;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -120,6 +121,12 @@ public class SecurityConfigTest {
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        carRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
     @Nested
     @DisplayName("Public Endpoint Access Tests")
     class PublicEndpointTests {